@@ -39,6 +39,7 @@ import com.github.mikephil.charting.components.YAxis.AxisDependency;
 import com.github.mikephil.charting.data.Entry;
 import com.github.mikephil.charting.data.LineData;
 import com.github.mikephil.charting.data.LineDataSet;
+import com.github.mikephil.charting.data.StreamingLineDataSet;
 import com.github.mikephil.charting.highlight.Highlight;
 import com.github.mikephil.charting.interfaces.datasets.ILineDataSet;
 import com.github.mikephil.charting.listener.OnChartValueSelectedListener;
@@ -126,7 +127,10 @@ public class RealtimeLineChartActivity extends DemoBase implements
                 data.addDataSet(set);
             }
 
-            data.addEntry(new Entry(set.getEntryCount(), (float) (Math.random() * 40) + 30f), 0);
+            // the DataSet only keeps its newest entries, so the x-value can't be derived from the count
+            float x = set.getEntryCount() == 0 ? 0f : set.getXMax() + 1f;
+
+            data.addEntry(new Entry(x, (float) (Math.random() * 40) + 30f), 0);
             data.notifyDataChanged();
 
             // let the chart know it's data has changed
@@ -137,7 +141,7 @@ public class RealtimeLineChartActivity extends DemoBase implements
             // chart.setVisibleYRange(30, AxisDependency.LEFT);
 
             // move to the latest entry
-            chart.moveViewToX(data.getEntryCount());
+            chart.moveViewToLatest();
 
             // this automatically refreshes the chart (calls invalidate())
             // chart.moveViewTo(data.getXValCount()-7, 55f,
@@ -147,7 +151,8 @@ public class RealtimeLineChartActivity extends DemoBase implements
 
     private LineDataSet createSet() {
 
-        LineDataSet set = new LineDataSet(null, "Dynamic Data");
+        // fixed capacity, the oldest entries are dropped once it is reached
+        LineDataSet set = new StreamingLineDataSet(1000, "Dynamic Data");
         set.setAxisDependency(AxisDependency.LEFT);
         set.setColor(ColorTemplate.getHoloBlue());
         set.setCircleColor(Color.WHITE);
@@ -19,8 +19,17 @@ plugins {
 
 android {
     namespace = "com.github.mikephil.charting"
+
+    testOptions {
+        unitTests {
+            // 数据类会调用 Color、Log 等 Android 方法，单元测试中使用默认返回值
+            isReturnDefaultValues = true
+        }
+    }
 }
 
 dependencies {
     implementation(libs.androidx.annotation)
+
+    testImplementation(libs.junit)
 }
@@ -30,8 +30,11 @@ public abstract class AbstractBuffer<T> {
     /** index in the buffer */
     protected int index = 0;
 
-    /** float-buffer that holds the data points to draw, order: x,y,x,y,... */
-    public final float[] buffer;
+    /**
+     * float-buffer that holds the data points to draw, order: x,y,x,y,... The array is replaced
+     * by a larger one if a feed needs more room than it provides, do not hold on to it.
+     */
+    public float[] buffer;
 
     /** animation phase x-axis */
     protected float phaseX = 1f;
@@ -42,8 +45,8 @@ public abstract class AbstractBuffer<T> {
     /** indicates from which x-index the visible data begins */
     protected int mFrom = 0;
 
-    /** indicates to which x-index the visible data ranges */
-    protected int mTo = 0;
+    /** indicates to which x-index (inclusive) the visible data ranges */
+    protected int mTo = Integer.MAX_VALUE;
 
     /**
      * Initialization with buffer-size.
@@ -69,6 +72,35 @@ public abstract class AbstractBuffer<T> {
         mTo = to;
     }
 
+    /**
+     * Returns the x-index the visible data begins at, as set by limitFrom(...).
+     *
+     * @return
+     */
+    public int getFrom() {
+        return mFrom;
+    }
+
+    /**
+     * Returns the x-index the visible data ranges to, as set by limitTo(...).
+     *
+     * @return
+     */
+    public int getTo() {
+        return mTo;
+    }
+
+    /**
+     * Makes sure the buffer array can hold at least the given number of floats. The array only
+     * grows, its content is not preserved.
+     *
+     * @param size
+     */
+    protected void ensureCapacity(int size) {
+        if (buffer.length < size)
+            buffer = new float[size];
+    }
+
     /**
      * Resets the buffer index to 0 and makes the buffer reusable.
      */
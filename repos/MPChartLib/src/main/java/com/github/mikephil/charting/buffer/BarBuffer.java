@@ -29,6 +29,9 @@ public class BarBuffer extends AbstractBuffer<IBarDataSet> {
     /** width of the bar on the x-axis, in values (not pixels) */
     protected float mBarWidth = 1f;
 
+    /** number of floats written to the buffer by the last feed */
+    protected int mSize = 0;
+
     public BarBuffer(int size, int dataSetCount, boolean containsStacks) {
         super(size);
         this.mDataSetCount = dataSetCount;
@@ -47,6 +50,41 @@ public class BarBuffer extends AbstractBuffer<IBarDataSet> {
         this.mInverted = inverted;
     }
 
+    /**
+     * Returns the number of floats written to the buffer by the last feed. The buffer array
+     * itself may be larger.
+     *
+     * @return
+     */
+    @Override
+    public int size() {
+        return mSize;
+    }
+
+    /**
+     * Returns the (exclusive) index of the last entry to feed, taking the x-limits and the
+     * animation phase into account, and makes sure the buffer can hold all bars from the
+     * limited start index up to it.
+     *
+     * @param data
+     * @param plainBars true if every entry results in exactly one bar
+     * @return
+     */
+    protected int prepareFeed(IBarDataSet data, boolean plainBars) {
+
+        final int entryCount = data.getEntryCount();
+
+        int to = (int) Math.ceil(entryCount * phaseX);
+
+        if (mTo < to - 1)
+            to = mTo + 1;
+
+        int barsPerEntry = plainBars ? 1 : Math.max(1, data.getStackSize());
+        ensureCapacity(Math.max(0, to - mFrom) * 4 * barsPerEntry);
+
+        return to;
+    }
+
     protected void addBar(float left, float top, float right, float bottom) {
 
         buffer[index++] = left;
@@ -58,19 +96,34 @@ public class BarBuffer extends AbstractBuffer<IBarDataSet> {
     @Override
     public void feed(IBarDataSet data) {
 
-        float size = data.getEntryCount() * phaseX;
         float barWidthHalf = mBarWidth / 2f;
 
-        for (int i = 0; i < size; i++) {
+        // bars that are not stacked only need their x- and y-value, no need to look up the Entry
+        final boolean plainBars = !mContainsStacks || !data.isStacked();
+
+        // only the entries within the limits are fed, the buffer is sized to that window
+        final int to = prepareFeed(data, plainBars);
 
-            BarEntry e = data.getEntryForIndex(i);
+        for (int i = mFrom; i < to; i++) {
 
-            if(e == null)
-                continue;
+            BarEntry e = null;
+            float x, y;
+            float[] vals;
 
-            float x = e.getX();
-            float y = e.getY();
-            float[] vals = e.getYVals();
+            if (plainBars) {
+                x = data.getEntryXForIndex(i);
+                y = data.getEntryYForIndex(i);
+                vals = null;
+            } else {
+                e = data.getEntryForIndex(i);
+
+                if (e == null)
+                    continue;
+
+                x = e.getX();
+                y = e.getY();
+                vals = e.getYVals();
+            }
 
             if (!mContainsStacks || vals == null) {
 
@@ -140,6 +193,7 @@ public class BarBuffer extends AbstractBuffer<IBarDataSet> {
             }
         }
 
+        mSize = index;
         reset();
     }
 }
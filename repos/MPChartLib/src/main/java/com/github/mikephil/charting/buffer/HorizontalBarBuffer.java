@@ -28,19 +28,34 @@ public class HorizontalBarBuffer extends BarBuffer {
     @Override
     public void feed(IBarDataSet data) {
 
-        float size = data.getEntryCount() * phaseX;
         float barWidthHalf = mBarWidth / 2f;
 
-        for (int i = 0; i < size; i++) {
+        // bars that are not stacked only need their x- and y-value, no need to look up the Entry
+        final boolean plainBars = !mContainsStacks || !data.isStacked();
 
-            BarEntry e = data.getEntryForIndex(i);
+        // only the entries within the limits are fed, the buffer is sized to that window
+        final int to = prepareFeed(data, plainBars);
 
-            if(e == null)
-                continue;
+        for (int i = mFrom; i < to; i++) {
 
-            float x = e.getX();
-            float y = e.getY();
-            float[] vals = e.getYVals();
+            BarEntry e = null;
+            float x, y;
+            float[] vals;
+
+            if (plainBars) {
+                x = data.getEntryXForIndex(i);
+                y = data.getEntryYForIndex(i);
+                vals = null;
+            } else {
+                e = data.getEntryForIndex(i);
+
+                if (e == null)
+                    continue;
+
+                x = e.getX();
+                y = e.getY();
+                vals = e.getYVals();
+            }
 
             if (!mContainsStacks || vals == null) {
 
@@ -104,6 +119,7 @@ public class HorizontalBarBuffer extends BarBuffer {
             }
         }
 
+        mSize = index;
         reset();
     }
 }
@@ -46,6 +46,8 @@ import com.github.mikephil.charting.listener.BarLineChartTouchListener;
 import com.github.mikephil.charting.listener.OnDrawListener;
 import com.github.mikephil.charting.renderer.XAxisRenderer;
 import com.github.mikephil.charting.renderer.YAxisRenderer;
+import com.github.mikephil.charting.utils.ChartMetrics.Phase;
+import com.github.mikephil.charting.utils.LayerCache;
 import com.github.mikephil.charting.utils.MPPointD;
 import com.github.mikephil.charting.utils.MPPointF;
 import com.github.mikephil.charting.utils.Transformer;
@@ -72,6 +74,24 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
      */
     protected boolean mAutoScaleMinMaxEnabled = false;
 
+    /**
+     * visible x-range and data version the y-range of the data was last auto scaled for
+     */
+    protected float mAutoScaleFromX = Float.NaN;
+    protected float mAutoScaleToX = Float.NaN;
+    protected long mAutoScaleVersion = -1;
+
+    /**
+     * label, legend and extra space the offsets were last calculated with during auto scaling
+     */
+    protected float[] mOffsetKey = new float[10];
+    private float[] mOffsetKeyBuffer = new float[10];
+
+    /**
+     * flag that indicates if the viewport follows the highest x-value whenever the data changes
+     */
+    protected boolean mFollowLatestEnabled = false;
+
     /**
      * flag that indicates if pinch-zoom is enabled. if true, both x and y axis
      * can be scaled with 2 fingers, if false, x and y axis can be scaled
@@ -200,6 +220,42 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
     private long totalTime = 0;
     private long drawCycles = 0;
 
+    /**
+     * number of frames that rendered the data and all static layers
+     */
+    private long mLayerRenderCount = 0;
+
+    /**
+     * number of frames that were composed from the cached layers
+     */
+    private long mLayerComposeCount = 0;
+
+    /**
+     * flag that indicates if the static layers are cached in offscreen bitmaps
+     */
+    protected boolean mLayerCacheEnabled = false;
+
+    /**
+     * layer below the highlights: grid background, axis lines, grid lines, limit lines and data
+     */
+    protected LayerCache mBackLayer = new LayerCache();
+
+    /**
+     * layer above the highlights: extras, limit lines, axis labels, values, legend and description
+     */
+    protected LayerCache mFrontLayer = new LayerCache();
+
+    /**
+     * true if anything but the highlight changed since the layers were rendered
+     */
+    protected boolean mLayersDirty = true;
+
+    /**
+     * viewport, size and axis ranges the cached layers were rendered with
+     */
+    protected float[] mLayerKey = new float[21];
+    private float[] mLayerKeyBuffer = new float[21];
+
     @Override
     protected void onDraw(Canvas canvas) {
         super.onDraw(canvas);
@@ -207,15 +263,70 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
         if (mData == null)
             return;
 
-        long starttime = System.currentTimeMillis();
+        boolean composed = false;
 
-        // execute all drawing commands
-        drawGridBackground(canvas);
+        beginFrameMetrics();
 
         if (mAutoScaleMinMaxEnabled) {
+            long start = startPhase();
             autoScale();
+            endPhase(Phase.AUTO_SCALE, start);
+        }
+
+        if (mLayerCacheEnabled) {
+
+            composed = !updateLayerKey() && !mLayersDirty
+                    && mBackLayer.isValid() && mFrontLayer.isValid();
+
+            if (!composed)
+                renderLayers();
         }
 
+        if (mLayerCacheEnabled && mBackLayer.isValid() && mFrontLayer.isValid()) {
+
+            mBackLayer.draw(canvas);
+            drawHighlights(canvas);
+            mFrontLayer.draw(canvas);
+
+        } else {
+
+            composed = false;
+            computeAxes();
+
+            drawBackLayer(canvas);
+            drawHighlights(canvas);
+            drawFrontLayer(canvas);
+        }
+
+        long start = startPhase();
+        drawMarkers(canvas);
+        endPhase(Phase.MARKERS, start);
+
+        if (composed)
+            mLayerComposeCount++;
+        else
+            mLayerRenderCount++;
+
+        mMetrics.setComposed(composed);
+        endFrameMetrics();
+
+        if (mLogEnabled) {
+            long drawtime = mMetrics.getFrameNanos() / 1000000L;
+            totalTime += drawtime;
+            drawCycles += 1;
+            long average = totalTime / drawCycles;
+            Log.i(LOG_TAG, "Drawtime: " + drawtime + " ms, average: " + average + " ms, cycles: "
+                    + drawCycles + (composed ? ", composed from cached layers" : ""));
+        }
+    }
+
+    /**
+     * Computes the axis labels and ranges of all enabled axes.
+     */
+    protected void computeAxes() {
+
+        long start = startPhase();
+
         if (mAxisLeft.isEnabled())
             mAxisRendererLeft.computeAxis(mAxisLeft.mAxisMinimum, mAxisLeft.mAxisMaximum, mAxisLeft.isInverted());
 
@@ -225,6 +336,43 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
         if (mXAxis.isEnabled())
             mXAxisRenderer.computeAxis(mXAxis.mAxisMinimum, mXAxis.mAxisMaximum, false);
 
+        endPhase(Phase.COMPUTE_AXIS, start);
+    }
+
+    /**
+     * Renders the back and front layer into their offscreen bitmaps.
+     */
+    protected void renderLayers() {
+
+        Canvas back = mBackLayer.beginRender(getWidth(), getHeight());
+        Canvas front = mFrontLayer.beginRender(getWidth(), getHeight());
+
+        if (back == null || front == null)
+            return;
+
+        computeAxes();
+
+        drawBackLayer(back);
+        mBackLayer.validate();
+
+        drawFrontLayer(front);
+        mFrontLayer.validate();
+
+        mLayersDirty = false;
+    }
+
+    /**
+     * Draws everything below the highlights: grid background, axis lines, grid lines,
+     * limit lines and the data.
+     *
+     * @param canvas
+     */
+    protected void drawBackLayer(Canvas canvas) {
+
+        long start = startPhase();
+
+        drawGridBackground(canvas);
+
         mXAxisRenderer.renderAxisLine(canvas);
         mAxisRendererLeft.renderAxisLine(canvas);
         mAxisRendererRight.renderAxisLine(canvas);
@@ -247,6 +395,8 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
         if (mAxisRight.isEnabled() && mAxisRight.isDrawLimitLinesBehindDataEnabled())
             mAxisRendererRight.renderLimitLines(canvas);
 
+        endPhase(Phase.AXES, start);
+
         int clipRestoreCount = canvas.save();
 
         if (isClipDataToContentEnabled()) {
@@ -254,7 +404,9 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
             canvas.clipRect(mViewPortHandler.getContentRect());
         }
 
-        mRenderer.drawData(canvas);
+        drawRendererData(canvas);
+
+        start = startPhase();
 
         if (!mXAxis.isDrawGridLinesBehindDataEnabled())
             mXAxisRenderer.renderGridLines(canvas);
@@ -265,15 +417,52 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
         if (!mAxisRight.isDrawGridLinesBehindDataEnabled())
             mAxisRendererRight.renderGridLines(canvas);
 
+        // Removes clipping rectangle
+        canvas.restoreToCount(clipRestoreCount);
+
+        endPhase(Phase.AXES, start);
+    }
+
+    /**
+     * Draws the highlighted values, if any.
+     *
+     * @param canvas
+     */
+    protected void drawHighlights(Canvas canvas) {
+
         // if highlighting is enabled
-        if (valuesToHighlight())
-            mRenderer.drawHighlighted(canvas, mIndicesToHighlight);
+        if (!valuesToHighlight())
+            return;
+
+        long start = startPhase();
+
+        int clipRestoreCount = canvas.save();
+
+        if (isClipDataToContentEnabled())
+            canvas.clipRect(mViewPortHandler.getContentRect());
+
+        mRenderer.drawHighlighted(canvas, mIndicesToHighlight);
 
-        // Removes clipping rectangle
         canvas.restoreToCount(clipRestoreCount);
 
+        endPhase(Phase.HIGHLIGHTS, start);
+    }
+
+    /**
+     * Draws everything above the highlights except the markers: extras, limit lines,
+     * axis labels, values, legend and description.
+     *
+     * @param canvas
+     */
+    protected void drawFrontLayer(Canvas canvas) {
+
+        long start = startPhase();
+
         mRenderer.drawExtras(canvas);
 
+        endPhase(Phase.EXTRAS, start);
+        start = startPhase();
+
         if (mXAxis.isEnabled() && !mXAxis.isDrawLimitLinesBehindDataEnabled())
             mXAxisRenderer.renderLimitLines(canvas);
 
@@ -287,8 +476,11 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
         mAxisRendererLeft.renderAxisLabels(canvas);
         mAxisRendererRight.renderAxisLabels(canvas);
 
+        endPhase(Phase.AXES, start);
+        start = startPhase();
+
         if (isClipValuesToContentEnabled()) {
-            clipRestoreCount = canvas.save();
+            int clipRestoreCount = canvas.save();
             canvas.clipRect(mViewPortHandler.getContentRect());
 
             mRenderer.drawValues(canvas);
@@ -298,20 +490,145 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
             mRenderer.drawValues(canvas);
         }
 
+        endPhase(Phase.DRAW_VALUES, start);
+        start = startPhase();
+
         mLegendRenderer.renderLegend(canvas);
 
+        endPhase(Phase.LEGEND, start);
+        start = startPhase();
+
         drawDescription(canvas);
 
-        drawMarkers(canvas);
+        endPhase(Phase.DESCRIPTION, start);
+    }
 
-        if (mLogEnabled) {
-            long drawtime = (System.currentTimeMillis() - starttime);
-            totalTime += drawtime;
-            drawCycles += 1;
-            long average = totalTime / drawCycles;
-            Log.i(LOG_TAG, "Drawtime: " + drawtime + " ms, average: " + average + " ms, cycles: "
-                    + drawCycles);
+    /**
+     * Captures the touch matrix, content rect, view size and axis ranges the layers depend on.
+     * Returns true if any of them changed since the last call.
+     *
+     * @return
+     */
+    protected boolean updateLayerKey() {
+
+        float[] key = mLayerKeyBuffer;
+
+        mViewPortHandler.getMatrixTouch().getValues(key);
+
+        RectF content = mViewPortHandler.getContentRect();
+        key[9] = content.left;
+        key[10] = content.top;
+        key[11] = content.right;
+        key[12] = content.bottom;
+        key[13] = getWidth();
+        key[14] = getHeight();
+        key[15] = mXAxis.mAxisMinimum;
+        key[16] = mXAxis.mAxisMaximum;
+        key[17] = mAxisLeft.mAxisMinimum;
+        key[18] = mAxisLeft.mAxisMaximum;
+        key[19] = mAxisRight.mAxisMinimum;
+        key[20] = mAxisRight.mAxisMaximum;
+
+        boolean changed = false;
+
+        for (int i = 0; i < key.length; i++) {
+            if (Float.compare(key[i], mLayerKey[i]) != 0) {
+                changed = true;
+                break;
+            }
         }
+
+        if (changed) {
+            mLayerKeyBuffer = mLayerKey;
+            mLayerKey = key;
+        }
+
+        return changed;
+    }
+
+    /**
+     * Every regular invalidate() outdates the cached layers. Only highlight changes, see
+     * invalidateHighlight(), recompose the cached layers.
+     */
+    @Override
+    public void invalidate() {
+        mLayersDirty = true;
+        super.invalidate();
+    }
+
+    @Override
+    protected void invalidateHighlight() {
+        super.invalidate();
+    }
+
+    @Override
+    protected void releaseBitmaps() {
+        super.releaseBitmaps();
+        releaseLayers();
+    }
+
+    /**
+     * Marks the cached layers as outdated without requesting a redraw.
+     */
+    public void invalidateLayers() {
+        mLayersDirty = true;
+    }
+
+    /**
+     * If enabled, grid, axes, data, values, legend and description are rendered into two
+     * offscreen bitmaps (below and above the highlights) that are reused until the data,
+     * the viewport or the style changes. Highlighting a value then only draws the highlight
+     * and marker on top of the cached layers. Costs two bitmaps of the chart size.
+     * Default: false
+     *
+     * @param enabled
+     */
+    public void setLayerCacheEnabled(boolean enabled) {
+
+        mLayerCacheEnabled = enabled;
+
+        if (!enabled)
+            releaseLayers();
+
+        invalidate();
+    }
+
+    /**
+     * Returns true if the static layers are cached in offscreen bitmaps.
+     *
+     * @return
+     */
+    public boolean isLayerCacheEnabled() {
+        return mLayerCacheEnabled;
+    }
+
+    /**
+     * Returns the bitmaps of the cached layers to the BitmapPool.
+     */
+    public void releaseLayers() {
+        mBackLayer.release();
+        mFrontLayer.release();
+        mLayersDirty = true;
+    }
+
+    /**
+     * Returns the number of frames that rendered the data and all static layers since the
+     * last call to resetTracking().
+     *
+     * @return
+     */
+    public long getLayerRenderCount() {
+        return mLayerRenderCount;
+    }
+
+    /**
+     * Returns the number of frames that were composed from the cached layers, without
+     * rendering the data, since the last call to resetTracking().
+     *
+     * @return
+     */
+    public long getLayerComposeCount() {
+        return mLayerComposeCount;
     }
 
     /**
@@ -320,6 +637,8 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
     public void resetTracking() {
         totalTime = 0;
         drawCycles = 0;
+        mLayerRenderCount = 0;
+        mLayerComposeCount = 0;
     }
 
     protected void prepareValuePxMatrix() {
@@ -369,6 +688,29 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
             mLegendRenderer.computeLegend(mData);
 
         calculateOffsets();
+
+        mLayersDirty = true;
+
+        // start over with the next auto scaling
+        mAutoScaleVersion = -1;
+        mOffsetKey[0] = Float.NaN;
+
+        if (mFollowLatestEnabled)
+            moveViewToLatest();
+    }
+
+    /**
+     * Moves the viewport so that its right edge shows the highest x-value of the data, keeping
+     * the current zoom level. Used by the follow mode, see setFollowLatestEnabled(...).
+     */
+    public void moveViewToLatest() {
+
+        if (mData == null)
+            return;
+
+        final float visibleRange = mXAxis.mAxisRange / mViewPortHandler.getScaleX();
+
+        moveViewToX(Math.max(mXAxis.mAxisMinimum, mXAxis.mAxisMaximum - visibleRange));
     }
 
     /**
@@ -378,8 +720,18 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
 
         final float fromX = getLowestVisibleX();
         final float toX = getHighestVisibleX();
+        final long version = mData.getVersion();
+
+        // the y-range of the visible entries only changes with the window or the data, the
+        // DataSets answer it from their min/max index in O(log n)
+        if (fromX != mAutoScaleFromX || toX != mAutoScaleToX || version != mAutoScaleVersion) {
 
-        mData.calcMinMaxY(fromX, toX);
+            mData.calcMinMaxY(fromX, toX);
+
+            mAutoScaleFromX = fromX;
+            mAutoScaleToX = toX;
+            mAutoScaleVersion = mData.getVersion();
+        }
 
         mXAxis.calculate(mData.getXMin(), mData.getXMax());
 
@@ -393,7 +745,67 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
             mAxisRight.calculate(mData.getYMin(AxisDependency.RIGHT),
                     mData.getYMax(AxisDependency.RIGHT));
 
-        calculateOffsets();
+        // the offsets only move if the labels need a different amount of space, otherwise the
+        // new axis ranges only need to go into the matrices
+        if (updateOffsetKey()) {
+            calculateOffsets();
+        } else {
+            prepareOffsetMatrix();
+            prepareValuePxMatrix();
+        }
+    }
+
+    /**
+     * Writes the space the axis labels need into the given array: left axis, right axis and
+     * x-axis, in this order.
+     *
+     * @param out
+     */
+    protected void getLabelSpace(float[] out) {
+
+        out[0] = mAxisLeft.needsOffset()
+                ? mAxisLeft.getRequiredWidthSpace(mAxisRendererLeft.getPaintAxisLabels()) : 0f;
+        out[1] = mAxisRight.needsOffset()
+                ? mAxisRight.getRequiredWidthSpace(mAxisRendererRight.getPaintAxisLabels()) : 0f;
+        out[2] = mXAxis.isEnabled() && mXAxis.isDrawLabelsEnabled()
+                ? mXAxis.mLabelRotatedHeight + mXAxis.getYOffset() : 0f;
+    }
+
+    /**
+     * Captures the label space, legend size and extra offsets that calculateOffsets() depends
+     * on. Returns true if any of them changed since the last call.
+     *
+     * @return
+     */
+    protected boolean updateOffsetKey() {
+
+        float[] key = mOffsetKeyBuffer;
+
+        getLabelSpace(key);
+
+        key[3] = getExtraLeftOffset();
+        key[4] = getExtraTopOffset();
+        key[5] = getExtraRightOffset();
+        key[6] = getExtraBottomOffset();
+        key[7] = mMinOffset;
+        key[8] = mLegend != null && mLegend.isEnabled() ? mLegend.mNeededWidth : -1f;
+        key[9] = mLegend != null && mLegend.isEnabled() ? mLegend.mNeededHeight : -1f;
+
+        boolean changed = false;
+
+        for (int i = 0; i < key.length; i++) {
+            if (Float.compare(key[i], mOffsetKey[i]) != 0) {
+                changed = true;
+                break;
+            }
+        }
+
+        if (changed) {
+            mOffsetKeyBuffer = mOffsetKey;
+            mOffsetKey = key;
+        }
+
+        return changed;
     }
 
     @Override
@@ -1635,6 +2047,26 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
         return mAutoScaleMinMaxEnabled;
     }
 
+    /**
+     * Sets a flag that indicates if the viewport follows the newest data. If enabled, every
+     * call to notifyDataSetChanged() moves the viewport to the highest x-value at the current
+     * zoom level, which suits realtime data (e.g. a StreamingLineDataSet) together with
+     * setVisibleXRangeMaximum(...).
+     *
+     * @param enabled
+     */
+    public void setFollowLatestEnabled(boolean enabled) {
+        mFollowLatestEnabled = enabled;
+    }
+
+    /**
+     * @return true if the viewport follows the highest x-value when the data changes.
+     * @default false
+     */
+    public boolean isFollowLatestEnabled() {
+        return mFollowLatestEnabled;
+    }
+
     @Override
     public void setPaint(Paint p, int which) {
         super.setPaint(p, which);
@@ -1677,6 +2109,8 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
         //Superclass transforms chart.
         super.onSizeChanged(w, h, oldw, oldh);
 
+        releaseLayers();
+
         if (mKeepPositionOnRotation) {
 
             //Restoring old position of chart.
@@ -58,9 +58,13 @@ import com.github.mikephil.charting.interfaces.dataprovider.ChartInterface;
 import com.github.mikephil.charting.interfaces.datasets.IDataSet;
 import com.github.mikephil.charting.listener.ChartTouchListener;
 import com.github.mikephil.charting.listener.OnChartGestureListener;
+import com.github.mikephil.charting.listener.OnChartMetricsListener;
 import com.github.mikephil.charting.listener.OnChartValueSelectedListener;
+import com.github.mikephil.charting.renderer.CombinedChartRenderer;
 import com.github.mikephil.charting.renderer.DataRenderer;
 import com.github.mikephil.charting.renderer.LegendRenderer;
+import com.github.mikephil.charting.utils.BitmapPool;
+import com.github.mikephil.charting.utils.ChartMetrics;
 import com.github.mikephil.charting.utils.MPPointF;
 import com.github.mikephil.charting.utils.Utils;
 import com.github.mikephil.charting.utils.ViewPortHandler;
@@ -70,6 +74,11 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.util.ArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Baseclass of all Chart-Views.
@@ -155,6 +164,17 @@ public abstract class Chart<T extends ChartData<? extends IDataSet<? extends Ent
 
     protected ChartTouchListener mChartTouchListener;
 
+    /**
+     * listener that receives the metrics of every drawn frame
+     */
+    private OnChartMetricsListener mMetricsListener;
+
+    /**
+     * metrics of the frame that is currently drawn. The frame time is always measured, the
+     * phases, renderers and entries only while a metrics listener is set.
+     */
+    protected ChartMetrics mMetrics = new ChartMetrics();
+
     /**
      * text that is displayed when the chart is empty
      */
@@ -297,6 +317,9 @@ public abstract class Chart<T extends ChartData<? extends IDataSet<? extends Ent
      */
     public void setData(T data) {
 
+        // data that is still being prepared by setDataAsync(...) is outdated now
+        mDataGeneration.incrementAndGet();
+
         mData = data;
         mOffsetsCalculated = false;
 
@@ -319,11 +342,99 @@ public abstract class Chart<T extends ChartData<? extends IDataSet<? extends Ent
             Log.i(LOG_TAG, "Data is set.");
     }
 
+    /**
+     * counts the data objects set to the chart, data prepared by setDataAsync(...) is only
+     * swapped in if no other data was set in the meantime
+     */
+    private final AtomicInteger mDataGeneration = new AtomicInteger();
+
+    /**
+     * executor the data of setDataAsync(T) is prepared on
+     */
+    private static ExecutorService sDataExecutor;
+
+    private static synchronized Executor getDataExecutor() {
+
+        if (sDataExecutor == null) {
+            sDataExecutor = Executors.newSingleThreadExecutor(new ThreadFactory() {
+                @Override
+                public Thread newThread(Runnable r) {
+                    Thread thread = new Thread(r, "MPAndroidChart-data");
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+        }
+
+        return sDataExecutor;
+    }
+
+    /**
+     * Same as setDataAsync(T, Executor), the data is prepared on a background thread shared
+     * by all charts.
+     *
+     * @param data
+     */
+    public void setDataAsync(T data) {
+        setDataAsync(data, getDataExecutor());
+    }
+
+    /**
+     * Sets a new data object for the chart without blocking the UI thread with the
+     * calculations that depend on the data only. The min and max values and the indices of
+     * all DataSets are prepared (see ChartData.prepare()) on the given executor, then the
+     * data is set with setData(...) on the UI thread and the chart is refreshed. If another
+     * data object is set (synchronously or asynchronously) or the chart is cleared before the
+     * preparation finished, the prepared data is dropped. The data must not be modified and
+     * must not be the data currently shown by the chart until it was set.
+     *
+     * @param data
+     * @param executor
+     */
+    public void setDataAsync(final T data, Executor executor) {
+
+        final int generation = mDataGeneration.incrementAndGet();
+
+        if (data == null) {
+            setData(null);
+            invalidate();
+            return;
+        }
+
+        executor.execute(new Runnable() {
+            @Override
+            public void run() {
+
+                // skip the work if newer data was set in the meantime
+                if (generation != mDataGeneration.get())
+                    return;
+
+                data.prepare();
+
+                post(new Runnable() {
+                    @Override
+                    public void run() {
+
+                        if (generation != mDataGeneration.get())
+                            return;
+
+                        setData(data);
+                        invalidate();
+
+                        if (mLogEnabled)
+                            Log.i(LOG_TAG, "Prepared data is set.");
+                    }
+                });
+            }
+        });
+    }
+
     /**
      * Clears the chart from all data (sets it to null) and refreshes it (by
      * calling invalidate()).
      */
     public void clear() {
+        mDataGeneration.incrementAndGet();
         mData = null;
         mOffsetsCalculated = false;
         mIndicesToHighlight = null;
@@ -576,6 +687,14 @@ public abstract class Chart<T extends ChartData<? extends IDataSet<? extends Ent
         setLastHighlighted(highs);
 
         // redraw the chart
+        invalidateHighlight();
+    }
+
+    /**
+     * Redraws the chart after only the highlighted values changed. Charts that cache their
+     * static layers recompose them instead of rendering the data again.
+     */
+    protected void invalidateHighlight() {
         invalidate();
     }
 
@@ -735,7 +854,7 @@ public abstract class Chart<T extends ChartData<? extends IDataSet<? extends Ent
         }
 
         // redraw the chart
-        invalidate();
+        invalidateHighlight();
     }
 
     /**
@@ -1060,6 +1179,100 @@ public abstract class Chart<T extends ChartData<? extends IDataSet<? extends Ent
         this.mGestureListener = l;
     }
 
+    /**
+     * Sets a listener that receives nanosecond timings per draw phase, pooled object allocations
+     * and drawn entry counts after every frame. Set null to stop collecting metrics.
+     *
+     * @param l
+     */
+    public void setOnChartMetricsListener(OnChartMetricsListener l) {
+        this.mMetricsListener = l;
+
+        if (l == null && mRenderer != null)
+            mRenderer.setMetrics(null);
+    }
+
+    public OnChartMetricsListener getOnChartMetricsListener() {
+        return mMetricsListener;
+    }
+
+    /**
+     * Starts timing a frame, the renderers only report to the metrics if a metrics listener
+     * is set.
+     */
+    protected void beginFrameMetrics() {
+
+        if (mMetricsListener != null && mRenderer != null)
+            mRenderer.setMetrics(mMetrics);
+
+        mMetrics.beginFrame();
+    }
+
+    /**
+     * Finishes the metrics of the current frame and reports them to the metrics listener, if
+     * one is set.
+     */
+    protected void endFrameMetrics() {
+
+        mMetrics.endFrame();
+
+        if (mMetricsListener != null)
+            mMetricsListener.onFrameDrawn(this, mMetrics);
+    }
+
+    /**
+     * Returns the duration of the last frame drawn by onDraw(...) in nanoseconds.
+     *
+     * @return
+     */
+    public long getLastDrawTimeNanos() {
+        return mMetrics.getFrameNanos();
+    }
+
+    /**
+     * Returns the start time of a timed draw phase, 0 if no metrics are collected.
+     *
+     * @return
+     */
+    protected long startPhase() {
+        return mMetricsListener == null ? 0L : System.nanoTime();
+    }
+
+    /**
+     * Adds the time since the given start time to the given phase, if metrics are collected.
+     *
+     * @param phase
+     * @param start
+     */
+    protected void endPhase(ChartMetrics.Phase phase, long start) {
+
+        if (mMetricsListener != null)
+            mMetrics.addPhaseTime(phase, System.nanoTime() - start);
+    }
+
+    /**
+     * Draws the data with the renderer and reports its duration, if metrics are collected.
+     *
+     * @param canvas
+     */
+    protected void drawRendererData(Canvas canvas) {
+
+        if (mMetricsListener == null) {
+            mRenderer.drawData(canvas);
+            return;
+        }
+
+        long start = System.nanoTime();
+        mRenderer.drawData(canvas);
+        long nanos = System.nanoTime() - start;
+
+        mMetrics.addPhaseTime(ChartMetrics.Phase.DRAW_DATA, nanos);
+
+        // combined charts report the time of each of their renderers themselves
+        if (!(mRenderer instanceof CombinedChartRenderer))
+            mMetrics.addRendererTime(mRenderer, nanos);
+    }
+
     /**
      * Returns the custom gesture listener.
      *
@@ -1689,6 +1902,22 @@ public abstract class Chart<T extends ChartData<? extends IDataSet<? extends Ent
         return saveToGallery(fileName, "", "MPAndroidChart-Library Save", Bitmap.CompressFormat.PNG, 40);
     }
 
+    /**
+     * Saves the current state of the chart to the given file without blocking the calling
+     * thread with the encoding. The chart is drawn into a bitmap right away, the bitmap is then
+     * compressed and written on the render thread of the HeadlessChartRenderer. The listener
+     * is notified on the main thread and may be null.
+     *
+     * @param file     the file to write, replaced if it exists
+     * @param format   e.g. Bitmap.CompressFormat.PNG
+     * @param quality  e.g. 50, min = 0, max = 100
+     * @param listener
+     */
+    public void saveToFileAsync(File file, Bitmap.CompressFormat format, int quality,
+                                HeadlessChartRenderer.OnExportedListener listener) {
+        HeadlessChartRenderer.exportAsync(getChartBitmap(), true, file, format, quality, listener);
+    }
+
     /**
      * tasks to be done after the view is setup
      */
@@ -1789,16 +2018,34 @@ public abstract class Chart<T extends ChartData<? extends IDataSet<? extends Ent
             setLayerType(View.LAYER_TYPE_SOFTWARE, null);
     }
 
+    @Override
+    protected void onAttachedToWindow() {
+        super.onAttachedToWindow();
+
+        BitmapPool.getInstance().attach();
+    }
+
     @Override
     protected void onDetachedFromWindow() {
         super.onDetachedFromWindow();
 
         //Log.i(LOG_TAG, "Detaching...");
 
+        // return the bitmaps of the renderers to the pool, the last detached chart clears it
+        releaseBitmaps();
+        BitmapPool.getInstance().detach();
+
         if (mUnbind)
             unbindDrawables(this);
     }
 
+    /**
+     * Releases the offscreen bitmaps held by the chart and its renderers. Called when the chart
+     * is detached from its window and after a chart was rendered by the HeadlessChartRenderer.
+     */
+    protected void releaseBitmaps() {
+    }
+
     /**
      * unbind flag
      */
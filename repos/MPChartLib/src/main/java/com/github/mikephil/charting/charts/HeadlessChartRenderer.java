@@ -0,0 +1,386 @@
+/*
+ * Copyright 2021 The Cashbook Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.mikephil.charting.charts;
+
+import android.content.Context;
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.drawable.Drawable;
+import android.os.Handler;
+import android.os.HandlerThread;
+import android.os.Looper;
+import android.os.Process;
+import android.util.Log;
+import android.view.View;
+
+import com.github.mikephil.charting.data.ChartData;
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.interfaces.datasets.IDataSet;
+import com.github.mikephil.charting.utils.BitmapPool;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Renders charts into bitmaps without showing them, e.g. for report images or share
+ * thumbnails. A chart is created and styled by a ChartFactory, gets its data and size, and runs
+ * through the same layout and drawing as a chart on screen, only into an offscreen bitmap.
+ * <p/>
+ * The asynchronous methods do all of this, including the encoding of exported images, on a
+ * single background thread shared by all callers, so batches are rendered one after the other.
+ * The thread has a Looper, which the touch handling of the charts needs to be created. Results
+ * are delivered on the main thread. Animations are not run, charts are rendered in their final
+ * state.
+ */
+public class HeadlessChartRenderer {
+
+    private static final String LOG_TAG = "MPAndroidChart";
+
+    /**
+     * Creates the chart to render, including all of its styling.
+     *
+     * @param <T> the type of data the chart displays
+     */
+    public interface ChartFactory<T extends ChartData<? extends IDataSet<? extends Entry>>> {
+
+        /**
+         * Creates and styles a new chart, called on the thread the chart is rendered on. The
+         * data is set afterwards.
+         *
+         * @param context
+         * @return
+         */
+        Chart<T> createChart(Context context);
+    }
+
+    public interface OnRenderedListener {
+
+        /**
+         * Called on the main thread with the rendered bitmap, which now belongs to the
+         * listener.
+         *
+         * @param bitmap
+         */
+        void onRendered(Bitmap bitmap);
+
+        void onRenderFailed(Exception e);
+    }
+
+    public interface OnExportedListener {
+
+        /**
+         * Called on the main thread once the image was written to the given file.
+         *
+         * @param file
+         */
+        void onExported(File file);
+
+        void onExportFailed(Exception e);
+    }
+
+    private static HandlerThread sRenderThread;
+    private static Handler sRenderHandler;
+    private static Handler sMainHandler;
+
+    private HeadlessChartRenderer() {
+    }
+
+    private static synchronized Handler getRenderHandler() {
+
+        if (sRenderHandler == null) {
+            sRenderThread = new HandlerThread("MPAndroidChart-render",
+                    Process.THREAD_PRIORITY_BACKGROUND);
+            sRenderThread.start();
+            sRenderHandler = new Handler(sRenderThread.getLooper());
+        }
+
+        return sRenderHandler;
+    }
+
+    private static synchronized Handler getMainHandler() {
+
+        if (sMainHandler == null)
+            sMainHandler = new Handler(Looper.getMainLooper());
+
+        return sMainHandler;
+    }
+
+    /**
+     * Lays out the given chart with the given size and draws it into a new bitmap. The chart
+     * must not be attached to a window, and this must be called on the thread that created it.
+     * The background of the chart is drawn if it has one, otherwise the bitmap is filled white.
+     *
+     * @param chart
+     * @param width
+     * @param height
+     * @param config
+     * @return
+     */
+    public static Bitmap render(Chart<?> chart, int width, int height, Bitmap.Config config) {
+
+        if (width <= 0 || height <= 0)
+            throw new IllegalArgumentException("Invalid size: " + width + "x" + height);
+
+        // sets the dimensions of the viewport and recalculates the chart (see onSizeChanged)
+        chart.measure(View.MeasureSpec.makeMeasureSpec(width, View.MeasureSpec.EXACTLY),
+                View.MeasureSpec.makeMeasureSpec(height, View.MeasureSpec.EXACTLY));
+        chart.layout(0, 0, width, height);
+
+        Bitmap bitmap = Bitmap.createBitmap(width, height, config);
+        Canvas canvas = new Canvas(bitmap);
+
+        Drawable background = chart.getBackground();
+
+        if (background != null) {
+            background.setBounds(0, 0, width, height);
+            background.draw(canvas);
+        } else {
+            canvas.drawColor(Color.WHITE);
+        }
+
+        chart.draw(canvas);
+
+        return bitmap;
+    }
+
+    /**
+     * Creates a chart with the given factory, sets the given data and renders it into a new
+     * ARGB_8888 bitmap of the given size on the calling thread, which needs a Looper. The
+     * bitmaps held by the chart are released afterwards, and recycled if no chart on screen
+     * uses the BitmapPool, as offscreen charts are never attached to it.
+     *
+     * @param context
+     * @param factory
+     * @param data
+     * @param width
+     * @param height
+     * @return
+     */
+    public static <T extends ChartData<? extends IDataSet<? extends Entry>>> Bitmap render(
+            Context context, ChartFactory<T> factory, T data, int width, int height) {
+
+        Chart<T> chart = factory.createChart(context);
+        chart.setData(data);
+
+        try {
+            return render(chart, width, height, Bitmap.Config.ARGB_8888);
+        } finally {
+            chart.releaseBitmaps();
+            BitmapPool.getInstance().clearIfDetached();
+        }
+    }
+
+    /**
+     * Same as render(Context, ChartFactory, T, int, int), but on the render thread. The
+     * listener is notified on the main thread.
+     *
+     * @param context
+     * @param factory
+     * @param data     must not be modified until the listener was notified
+     * @param width
+     * @param height
+     * @param listener
+     */
+    public static <T extends ChartData<? extends IDataSet<? extends Entry>>> void renderAsync(
+            final Context context, final ChartFactory<T> factory, final T data,
+            final int width, final int height, final OnRenderedListener listener) {
+
+        getRenderHandler().post(new Runnable() {
+            @Override
+            public void run() {
+
+                try {
+                    final Bitmap bitmap = render(context, factory, data, width, height);
+
+                    getMainHandler().post(new Runnable() {
+                        @Override
+                        public void run() {
+                            listener.onRendered(bitmap);
+                        }
+                    });
+
+                } catch (Throwable t) {
+                    // includes running out of memory for the bitmap
+                    notifyRenderFailed(listener, asException(t));
+                }
+            }
+        });
+    }
+
+    /**
+     * Renders a chart like renderAsync(...) and writes it to the given file on the render
+     * thread. The bitmap is recycled after writing. The listener is notified on the main
+     * thread and may be null.
+     *
+     * @param context
+     * @param factory
+     * @param data     must not be modified until the listener was notified
+     * @param width
+     * @param height
+     * @param file     the file to write, replaced if it exists
+     * @param format   e.g. Bitmap.CompressFormat.PNG
+     * @param quality  e.g. 50, min = 0, max = 100
+     * @param listener
+     */
+    public static <T extends ChartData<? extends IDataSet<? extends Entry>>> void exportAsync(
+            final Context context, final ChartFactory<T> factory, final T data,
+            final int width, final int height, final File file,
+            final Bitmap.CompressFormat format, final int quality,
+            final OnExportedListener listener) {
+
+        getRenderHandler().post(new Runnable() {
+            @Override
+            public void run() {
+
+                Bitmap bitmap = null;
+
+                try {
+                    bitmap = render(context, factory, data, width, height);
+                    export(bitmap, file, format, quality);
+                    notifyExported(listener, file);
+
+                } catch (IOException e) {
+                    notifyExportFailed(listener, e);
+                } catch (Throwable t) {
+                    notifyExportFailed(listener, asException(t));
+                } finally {
+                    if (bitmap != null)
+                        bitmap.recycle();
+                }
+            }
+        });
+    }
+
+    /**
+     * Compresses the given bitmap and writes it to the given file on the render thread. The
+     * listener is notified on the main thread and may be null.
+     *
+     * @param bitmap   must not be modified until the listener was notified
+     * @param recycle  true to recycle the bitmap after writing
+     * @param file     the file to write, replaced if it exists
+     * @param format   e.g. Bitmap.CompressFormat.PNG
+     * @param quality  e.g. 50, min = 0, max = 100
+     * @param listener
+     */
+    public static void exportAsync(final Bitmap bitmap, final boolean recycle, final File file,
+                                   final Bitmap.CompressFormat format, final int quality,
+                                   final OnExportedListener listener) {
+
+        getRenderHandler().post(new Runnable() {
+            @Override
+            public void run() {
+
+                try {
+                    export(bitmap, file, format, quality);
+                    notifyExported(listener, file);
+
+                } catch (IOException e) {
+                    notifyExportFailed(listener, e);
+                } catch (Throwable t) {
+                    notifyExportFailed(listener, asException(t));
+                } finally {
+                    if (recycle)
+                        bitmap.recycle();
+                }
+            }
+        });
+    }
+
+    /**
+     * Compresses the given bitmap and writes it to the given file on the calling thread.
+     *
+     * @param bitmap
+     * @param file    the file to write, replaced if it exists
+     * @param format  e.g. Bitmap.CompressFormat.PNG
+     * @param quality e.g. 50, min = 0, max = 100
+     * @throws IOException
+     */
+    public static void export(Bitmap bitmap, File file, Bitmap.CompressFormat format, int quality)
+            throws IOException {
+
+        // restrain quality
+        if (quality < 0 || quality > 100)
+            quality = 50;
+
+        OutputStream out = new FileOutputStream(file);
+
+        try {
+            if (!bitmap.compress(format, quality, out))
+                throw new IOException("Could not compress the chart image.");
+
+            out.flush();
+
+        } finally {
+            out.close();
+        }
+    }
+
+    /**
+     * Returns the given throwable if it is an exception, otherwise (e.g. an OutOfMemoryError)
+     * an exception caused by it, to be reported to the listeners.
+     */
+    private static Exception asException(Throwable t) {
+
+        if (t instanceof Exception)
+            return (Exception) t;
+
+        return new RuntimeException(t.toString(), t);
+    }
+
+    private static void notifyRenderFailed(final OnRenderedListener listener, final Exception e) {
+
+        Log.e(LOG_TAG, "Rendering the chart failed: " + e);
+
+        getMainHandler().post(new Runnable() {
+            @Override
+            public void run() {
+                listener.onRenderFailed(e);
+            }
+        });
+    }
+
+    private static void notifyExported(final OnExportedListener listener, final File file) {
+
+        if (listener == null)
+            return;
+
+        getMainHandler().post(new Runnable() {
+            @Override
+            public void run() {
+                listener.onExported(file);
+            }
+        });
+    }
+
+    private static void notifyExportFailed(final OnExportedListener listener, final Exception e) {
+
+        Log.e(LOG_TAG, "Exporting the chart failed: " + e);
+
+        if (listener == null)
+            return;
+
+        getMainHandler().post(new Runnable() {
+            @Override
+            public void run() {
+                listener.onExportFailed(e);
+            }
+        });
+    }
+}
@@ -154,6 +154,16 @@ public class HorizontalBarChart extends BarChart {
         }
     }
 
+    @Override
+    protected void getLabelSpace(float[] out) {
+
+        out[0] = mAxisLeft.needsOffset()
+                ? mAxisLeft.getRequiredHeightSpace(mAxisRendererLeft.getPaintAxisLabels()) : 0f;
+        out[1] = mAxisRight.needsOffset()
+                ? mAxisRight.getRequiredHeightSpace(mAxisRendererRight.getPaintAxisLabels()) : 0f;
+        out[2] = mXAxis.isEnabled() ? mXAxis.mLabelRotatedWidth : 0f;
+    }
+
     @Override
     public void calculateOffsets() {
 
@@ -55,11 +55,12 @@ public class LineChart extends BarLineChartBase<LineData> implements LineDataPro
     }
 
     @Override
-    protected void onDetachedFromWindow() {
+    protected void releaseBitmaps() {
+        super.releaseBitmaps();
+
         // releases the bitmap in the renderer to avoid oom error
         if (mRenderer != null && mRenderer instanceof LineChartRenderer) {
             ((LineChartRenderer) mRenderer).releaseBitmap();
         }
-        super.onDetachedFromWindow();
     }
 }
@@ -29,6 +29,7 @@ import com.github.mikephil.charting.highlight.Highlight;
 import com.github.mikephil.charting.highlight.PieHighlighter;
 import com.github.mikephil.charting.interfaces.datasets.IPieDataSet;
 import com.github.mikephil.charting.renderer.PieChartRenderer;
+import com.github.mikephil.charting.utils.ChartMetrics.Phase;
 import com.github.mikephil.charting.utils.MPPointF;
 import com.github.mikephil.charting.utils.Utils;
 
@@ -144,20 +145,43 @@ public class PieChart extends PieRadarChartBase<PieData> {
         if (mData == null)
             return;
 
-        mRenderer.drawData(canvas);
+        beginFrameMetrics();
+
+        drawRendererData(canvas);
+
+        long start = startPhase();
 
         if (valuesToHighlight())
             mRenderer.drawHighlighted(canvas, mIndicesToHighlight);
 
+        endPhase(Phase.HIGHLIGHTS, start);
+        start = startPhase();
+
         mRenderer.drawExtras(canvas);
 
+        endPhase(Phase.EXTRAS, start);
+        start = startPhase();
+
         mRenderer.drawValues(canvas);
 
+        endPhase(Phase.DRAW_VALUES, start);
+        start = startPhase();
+
         mLegendRenderer.renderLegend(canvas);
 
+        endPhase(Phase.LEGEND, start);
+        start = startPhase();
+
         drawDescription(canvas);
 
+        endPhase(Phase.DESCRIPTION, start);
+        start = startPhase();
+
         drawMarkers(canvas);
+
+        endPhase(Phase.MARKERS, start);
+
+        endFrameMetrics();
     }
 
     @Override
@@ -809,11 +833,12 @@ public class PieChart extends PieRadarChartBase<PieData> {
     }
 
     @Override
-    protected void onDetachedFromWindow() {
+    protected void releaseBitmaps() {
+        super.releaseBitmaps();
+
         // releases the bitmap in the renderer to avoid oom error
         if (mRenderer != null && mRenderer instanceof PieChartRenderer) {
             ((PieChartRenderer) mRenderer).releaseBitmap();
         }
-        super.onDetachedFromWindow();
     }
 }
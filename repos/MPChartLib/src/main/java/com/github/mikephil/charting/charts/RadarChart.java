@@ -29,6 +29,7 @@ import com.github.mikephil.charting.highlight.RadarHighlighter;
 import com.github.mikephil.charting.renderer.RadarChartRenderer;
 import com.github.mikephil.charting.renderer.XAxisRendererRadarChart;
 import com.github.mikephil.charting.renderer.YAxisRendererRadarChart;
+import com.github.mikephil.charting.utils.ChartMetrics.Phase;
 import com.github.mikephil.charting.utils.Utils;
 
 /**
@@ -142,37 +143,73 @@ public class RadarChart extends PieRadarChartBase<RadarData> {
         if (mData == null)
             return;
 
+        beginFrameMetrics();
+
+        long start = startPhase();
+
 //        if (mYAxis.isEnabled())
 //            mYAxisRenderer.computeAxis(mYAxis.mAxisMinimum, mYAxis.mAxisMaximum, mYAxis.isInverted());
 
         if (mXAxis.isEnabled())
             mXAxisRenderer.computeAxis(mXAxis.mAxisMinimum, mXAxis.mAxisMaximum, false);
 
+        endPhase(Phase.COMPUTE_AXIS, start);
+        start = startPhase();
+
         mXAxisRenderer.renderAxisLabels(canvas);
 
+        endPhase(Phase.AXES, start);
+        start = startPhase();
+
         if (mDrawWeb)
             mRenderer.drawExtras(canvas);
 
+        endPhase(Phase.EXTRAS, start);
+        start = startPhase();
+
         if (mYAxis.isEnabled() && mYAxis.isDrawLimitLinesBehindDataEnabled())
             mYAxisRenderer.renderLimitLines(canvas);
 
-        mRenderer.drawData(canvas);
+        endPhase(Phase.AXES, start);
+
+        drawRendererData(canvas);
+
+        start = startPhase();
 
         if (valuesToHighlight())
             mRenderer.drawHighlighted(canvas, mIndicesToHighlight);
 
+        endPhase(Phase.HIGHLIGHTS, start);
+        start = startPhase();
+
         if (mYAxis.isEnabled() && !mYAxis.isDrawLimitLinesBehindDataEnabled())
             mYAxisRenderer.renderLimitLines(canvas);
 
         mYAxisRenderer.renderAxisLabels(canvas);
 
+        endPhase(Phase.AXES, start);
+        start = startPhase();
+
         mRenderer.drawValues(canvas);
 
+        endPhase(Phase.DRAW_VALUES, start);
+        start = startPhase();
+
         mLegendRenderer.renderLegend(canvas);
 
+        endPhase(Phase.LEGEND, start);
+        start = startPhase();
+
         drawDescription(canvas);
 
+        endPhase(Phase.DESCRIPTION, start);
+        start = startPhase();
+
         drawMarkers(canvas);
+
+        endPhase(Phase.MARKERS, start);
+
+        endFrameMetrics();
     }
 
     /**
@@ -60,6 +60,15 @@ public class ScatterChart extends BarLineChartBase<ScatterData> implements Scatt
         return mData;
     }
 
+    @Override
+    protected void onDetachedFromWindow() {
+        // returns the cached shape bitmaps of the renderer to the pool
+        if (mRenderer != null && mRenderer instanceof ScatterChartRenderer) {
+            ((ScatterChartRenderer) mRenderer).releaseSprites();
+        }
+        super.onDetachedFromWindow();
+    }
+
     /**
      * Predefined ScatterShapes that allow the specification of a shape a ScatterDataSet should be drawn with.
      * If a ScatterShape is specified for a ScatterDataSet, the required renderer is set.
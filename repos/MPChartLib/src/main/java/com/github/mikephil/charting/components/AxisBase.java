@@ -22,6 +22,7 @@ import android.util.Log;
 
 import com.github.mikephil.charting.formatter.DefaultAxisValueFormatter;
 import com.github.mikephil.charting.formatter.IAxisValueFormatter;
+import com.github.mikephil.charting.utils.LabelCache;
 import com.github.mikephil.charting.utils.Utils;
 
 import java.util.ArrayList;
@@ -534,7 +535,7 @@ public abstract class AxisBase extends ComponentBase {
         if (index < 0 || index >= mEntries.length)
             return "";
         else
-            return getValueFormatter().getFormattedValue(mEntries[index], this);
+            return LabelCache.getInstance().getFormattedValue(getValueFormatter(), mEntries[index], this);
     }
 
     /**
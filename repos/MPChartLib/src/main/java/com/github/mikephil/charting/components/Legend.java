@@ -18,6 +18,7 @@ package com.github.mikephil.charting.components;
 
 import android.graphics.DashPathEffect;
 import android.graphics.Paint;
+import android.graphics.Typeface;
 
 import com.github.mikephil.charting.utils.ColorTemplate;
 import com.github.mikephil.charting.utils.FSize;
@@ -658,15 +659,107 @@ public class Legend extends ComponentBase {
         return mCalculatedLineSizes;
     }
 
+    /**
+     * entries, paint, available width and spacing the dimensions were last calculated for
+     */
+    private float[] mLayoutKey = new float[0];
+    private float[] mLayoutKeyBuffer = new float[0];
+    private String[] mLayoutLabels = new String[0];
+    private Typeface mLayoutTypeface;
+
+    /**
+     * Forces the next call to calculateDimensions(...) to lay out the legend again, even if
+     * neither the entries nor the paint or the available space changed.
+     */
+    public void invalidateLayout() {
+        mLayoutKey = new float[0];
+    }
+
+    /**
+     * Captures everything the layout of the legend depends on: the labels and forms of the
+     * entries, the text state of the paint, the available width and the spacing. Returns true
+     * if any of it changed since the last call.
+     *
+     * @param labelpaint
+     * @param viewPortHandler
+     * @return
+     */
+    protected boolean updateLayoutKey(Paint labelpaint, ViewPortHandler viewPortHandler) {
+
+        final LegendEntry[] entries = mEntries;
+        final int size = 14 + entries.length * 2;
+
+        if (mLayoutKeyBuffer.length != size)
+            mLayoutKeyBuffer = new float[size];
+
+        float[] key = mLayoutKeyBuffer;
+
+        key[0] = labelpaint.getTextSize();
+        key[1] = labelpaint.getTextScaleX();
+        key[2] = mOrientation.ordinal();
+        key[3] = mWordWrapEnabled ? 1f : 0f;
+        key[4] = viewPortHandler.contentWidth() * mMaxSizePercent;
+        key[5] = mFormSize;
+        key[6] = mStackSpace;
+        key[7] = mFormToTextSpace;
+        key[8] = mXEntrySpace;
+        key[9] = mYEntrySpace;
+        key[10] = mXOffset;
+        key[11] = mYOffset;
+        key[12] = Utils.convertDpToPixel(1f);
+        key[13] = entries.length;
+
+        for (int i = 0; i < entries.length; i++) {
+            key[14 + i * 2] = entries[i].form.ordinal();
+            key[15 + i * 2] = entries[i].formSize;
+        }
+
+        boolean changed = mLayoutKey.length != size
+                || mLayoutLabels.length != entries.length
+                || labelpaint.getTypeface() != mLayoutTypeface;
+
+        for (int i = 0; !changed && i < size; i++) {
+            if (Float.compare(key[i], mLayoutKey[i]) != 0)
+                changed = true;
+        }
+
+        for (int i = 0; !changed && i < entries.length; i++) {
+
+            String label = entries[i].label;
+
+            if (label == null ? mLayoutLabels[i] != null : !label.equals(mLayoutLabels[i]))
+                changed = true;
+        }
+
+        if (changed) {
+
+            mLayoutKeyBuffer = mLayoutKey;
+            mLayoutKey = key;
+            mLayoutTypeface = labelpaint.getTypeface();
+
+            if (mLayoutLabels.length != entries.length)
+                mLayoutLabels = new String[entries.length];
+
+            for (int i = 0; i < entries.length; i++)
+                mLayoutLabels[i] = entries[i].label;
+        }
+
+        return changed;
+    }
+
     /**
      * Calculates the dimensions of the Legend. This includes the maximum width
      * and height of a single entry, as well as the total width and height of
-     * the Legend.
+     * the Legend. The previous layout is kept if neither the entries nor the
+     * paint or the available space changed.
      *
      * @param labelpaint
      */
     public void calculateDimensions(Paint labelpaint, ViewPortHandler viewPortHandler) {
 
+        if (!updateLayoutKey(labelpaint, viewPortHandler))
+            return;
+
         float defaultFormSize = Utils.convertDpToPixel(mFormSize);
         float stackSpace = Utils.convertDpToPixel(mStackSpace);
         float formToTextSpace = Utils.convertDpToPixel(mFormToTextSpace);
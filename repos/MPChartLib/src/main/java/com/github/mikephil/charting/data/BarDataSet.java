@@ -207,6 +207,18 @@ public class BarDataSet extends BarLineScatterCandleBubbleDataSet<BarEntry> impl
         }
     }
 
+    @Override
+    protected float getEntryYMinForIndex(int index) {
+        BarEntry e = mEntries.get(index);
+        return e.getYVals() == null ? e.getY() : -e.getNegativeSum();
+    }
+
+    @Override
+    protected float getEntryYMaxForIndex(int index) {
+        BarEntry e = mEntries.get(index);
+        return e.getYVals() == null ? e.getY() : e.getPositiveSum();
+    }
+
     @Override
     public int getStackSize() {
         return mStackSize;
@@ -137,6 +137,11 @@ public abstract class BaseDataSet<T extends Entry> implements IDataSet<T> {
         calcMinMax();
     }
 
+    @Override
+    public void prepare() {
+        calcMinMax();
+    }
+
 
     /**
      * ###### ###### COLOR GETTING RELATED METHODS ##### ######
@@ -469,6 +474,16 @@ public abstract class BaseDataSet<T extends Entry> implements IDataSet<T> {
         return -1;
     }
 
+    @Override
+    public float getEntryXForIndex(int index) {
+        return getEntryForIndex(index).getX();
+    }
+
+    @Override
+    public float getEntryYForIndex(int index) {
+        return getEntryForIndex(index).getY();
+    }
+
     @Override
     public boolean removeFirst() {
 
@@ -130,6 +130,36 @@ public class CandleDataSet extends LineScatterCandleRadarDataSet<CandleEntry> im
         calcMinMaxX(e);
     }
 
+    @Override
+    protected float getEntryYMinForIndex(int index) {
+        return mEntries.get(index).getLow();
+    }
+
+    @Override
+    protected float getEntryYMaxForIndex(int index) {
+        return mEntries.get(index).getHigh();
+    }
+
+    @Override
+    public float getShadowHighForIndex(int index) {
+        return mEntries.get(index).getHigh();
+    }
+
+    @Override
+    public float getShadowLowForIndex(int index) {
+        return mEntries.get(index).getLow();
+    }
+
+    @Override
+    public float getOpenForIndex(int index) {
+        return mEntries.get(index).getOpen();
+    }
+
+    @Override
+    public float getCloseForIndex(int index) {
+        return mEntries.get(index).getClose();
+    }
+
     @Override
     protected void calcMinMaxY(CandleEntry e) {
 
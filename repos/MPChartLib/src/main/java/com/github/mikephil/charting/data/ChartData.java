@@ -69,6 +69,11 @@ public abstract class ChartData<T extends IDataSet<? extends Entry>> {
      */
     protected List<T> mDataSets;
 
+    /**
+     * modification stamp of this data object, see getVersion()
+     */
+    protected long mVersion = 0;
+
     /**
      * Default constructor.
      */
@@ -119,9 +124,44 @@ public abstract class ChartData<T extends IDataSet<? extends Entry>> {
      * the contained data has changed.
      */
     public void notifyDataChanged() {
+        mVersion = DataSet.nextVersion();
         calcMinMax();
     }
 
+    /**
+     * Prepares all DataSets (see IDataSet.prepare()) and recalculates the min and max values
+     * of this data object. May be called from a background thread as long as the data is not
+     * modified and not drawn at the same time, see Chart.setDataAsync(...).
+     */
+    public void prepare() {
+
+        if (mDataSets != null) {
+            for (int i = 0; i < mDataSets.size(); i++)
+                mDataSets.get(i).prepare();
+        }
+
+        notifyDataChanged();
+    }
+
+    /**
+     * Returns the modification stamp of this data object. It changes whenever DataSets are
+     * added or removed, notifyDataChanged() is called or any of the DataSets is modified.
+     *
+     * @return
+     */
+    public long getVersion() {
+
+        long version = mVersion;
+
+        if (mDataSets == null)
+            return version;
+
+        for (int i = 0; i < mDataSets.size(); i++)
+            version = Math.max(version, mDataSets.get(i).getVersion());
+
+        return version;
+    }
+
     /**
      * Calc minimum and maximum y-values over all DataSets.
      * Tell DataSets to recalculate their min and max y-values, this is only needed for autoScaleMinMax.
@@ -394,6 +434,8 @@ public abstract class ChartData<T extends IDataSet<? extends Entry>> {
         if (d == null)
             return;
 
+        mVersion = DataSet.nextVersion();
+
         calcMinMax(d);
 
         mDataSets.add(d);
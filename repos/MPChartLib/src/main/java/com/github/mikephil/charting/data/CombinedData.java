@@ -178,6 +178,8 @@ public class CombinedData extends BarLineScatterCandleBubbleData<IBarLineScatter
 
     @Override
     public void notifyDataChanged() {
+        mVersion = DataSet.nextVersion();
+
         if (mLineData != null)
             mLineData.notifyDataChanged();
         if (mBarData != null)
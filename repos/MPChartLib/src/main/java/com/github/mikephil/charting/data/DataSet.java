@@ -54,6 +54,38 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
      */
     protected float mXMin = Float.MAX_VALUE;
 
+    /**
+     * index over the y-range of every entry for min/max queries after removals and within
+     * x-windows, created and built lazily
+     */
+    protected MinMaxIndex mMinMaxIndex = null;
+
+    /**
+     * k-d tree over the entry values for touch highlighting, created and built lazily
+     */
+    protected SpatialIndex mSpatialIndex = null;
+
+    /**
+     * if true, the highlighters query the spatial index instead of searching the entries
+     */
+    protected boolean mSpatialIndexEnabled = false;
+
+    /**
+     * modification stamp of this DataSet, see getVersion()
+     */
+    protected long mVersion = nextVersion();
+
+    /**
+     * last modification stamp handed out, shared by all DataSets and ChartData objects
+     */
+    private static long sVersionCounter = 0;
+
+    /**
+     * primitive storage of the values if this DataSet does not keep Entry objects (see
+     * FloatColumns and FloatRingBuffer), null otherwise. The index-based methods read from it
+     * and getEntryForIndex(...) creates the Entry objects on demand.
+     */
+    ValueStore mStore = null;
 
     /**
      * Creates a new DataSet object with the given values (entries) it represents. Also, a
@@ -81,6 +113,14 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
         mXMax = -Float.MAX_VALUE;
         mXMin = Float.MAX_VALUE;
 
+        invalidateIndices();
+
+        if (mStore != null) {
+            for (int i = 0; i < mStore.size(); i++)
+                calcMinMax(i);
+            return;
+        }
+
         if (mEntries == null || mEntries.isEmpty())
             return;
 
@@ -93,19 +133,219 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
     public void calcMinMaxY(float fromX, float toX) {
         mYMax = -Float.MAX_VALUE;
         mYMin = Float.MAX_VALUE;
-        
-        if (mEntries == null || mEntries.isEmpty())
+
+        if (getEntryCount() == 0)
             return;
 
         int indexFrom = getEntryIndex(fromX, Float.NaN, Rounding.DOWN);
         int indexTo = getEntryIndex(toX, Float.NaN, Rounding.UP);
 
-        if (indexTo < indexFrom) return;
+        if (indexFrom < 0 || indexTo < indexFrom) return;
+
+        // O(log n) instead of visiting every entry within the window
+        MinMaxIndex index = getMinMaxIndex();
+
+        mYMin = index.getMin(indexFrom, indexTo);
+        mYMax = index.getMax(indexFrom, indexTo);
+    }
+
+    /**
+     * Returns the lowest y-value the entry at the given index covers, used for the min/max
+     * index. Subclasses that take more than the y-value into account for their y-range
+     * (e.g. stacks or shadows) override this.
+     *
+     * @param index
+     * @return
+     */
+    protected float getEntryYMinForIndex(int index) {
+        return getEntryYForIndex(index);
+    }
+
+    /**
+     * Returns the highest y-value the entry at the given index covers, used for the min/max
+     * index.
+     *
+     * @param index
+     * @return
+     */
+    protected float getEntryYMaxForIndex(int index) {
+        return getEntryYForIndex(index);
+    }
+
+    /**
+     * Returns the min/max index of this DataSet, (re)building it if it is outdated.
+     *
+     * @return
+     */
+    protected MinMaxIndex getMinMaxIndex() {
+
+        if (mMinMaxIndex == null)
+            mMinMaxIndex = new MinMaxIndex();
+
+        if (!mMinMaxIndex.isValid()) {
+
+            final int count = getEntryCount();
+
+            mMinMaxIndex.reset(count);
+
+            for (int i = 0; i < count; i++)
+                mMinMaxIndex.setLeaf(i, getEntryYMinForIndex(i), getEntryYMaxForIndex(i));
+
+            mMinMaxIndex.build();
+        }
+
+        return mMinMaxIndex;
+    }
+
+    /**
+     * Marks the min/max index and the spatial index as outdated, they are rebuilt the next
+     * time they are needed. Subclasses that change their values without calcMinMax() need to
+     * call this.
+     */
+    protected void invalidateIndices() {
+
+        mVersion = nextVersion();
+
+        if (mMinMaxIndex != null)
+            mMinMaxIndex.invalidate();
+
+        if (mSpatialIndex != null)
+            mSpatialIndex.invalidate();
+    }
+
+    /**
+     * Returns a new modification stamp. Stamps are unique and increasing over all DataSets
+     * and ChartData objects, so the highest stamp of a ChartData and its DataSets changes
+     * with every modification of any of them.
+     *
+     * @return
+     */
+    static synchronized long nextVersion() {
+        return ++sVersionCounter;
+    }
+
+    @Override
+    public long getVersion() {
+        return mVersion;
+    }
+
+    /**
+     * Enables / disables the spatial index for touch highlighting. With the index enabled,
+     * finding the entry closest to a touch costs O(log n) instead of searching all entries
+     * around the touched x-value, at the cost of rebuilding the index in O(n log n) after
+     * the values changed. Default: false
+     *
+     * @param enabled
+     */
+    public void setSpatialIndexEnabled(boolean enabled) {
+        mSpatialIndexEnabled = enabled;
+
+        if (!enabled)
+            mSpatialIndex = null;
+    }
+
+    /**
+     * Returns true if the spatial index for touch highlighting is enabled.
+     *
+     * @return
+     */
+    public boolean isSpatialIndexEnabled() {
+        return mSpatialIndexEnabled;
+    }
+
+    @Override
+    public void prepare() {
+        super.prepare();
+
+        getMinMaxIndex();
+        getSpatialIndex();
+    }
+
+    @Override
+    public SpatialIndex getSpatialIndex() {
+
+        if (!mSpatialIndexEnabled)
+            return null;
+
+        if (mSpatialIndex == null)
+            mSpatialIndex = new SpatialIndex();
+
+        if (!mSpatialIndex.isValid())
+            mSpatialIndex.build(this);
+
+        return mSpatialIndex;
+    }
+
+    /**
+     * Keeps the min/max index current after an entry was inserted at the given index. The
+     * min and max values themselves need to be updated by the caller.
+     *
+     * @param index
+     */
+    protected void onEntryAdded(int index) {
+
+        mVersion = nextVersion();
+
+        if (mSpatialIndex != null)
+            mSpatialIndex.invalidate();
+
+        if (mMinMaxIndex == null || !mMinMaxIndex.isValid())
+            return;
+
+        if (index == mMinMaxIndex.size())
+            mMinMaxIndex.append(getEntryYMinForIndex(index), getEntryYMaxForIndex(index));
+        else
+            mMinMaxIndex.invalidate();
+    }
+
+    /**
+     * Updates the min and max values after the entry at the given index was removed. Removing
+     * the first or the last entry costs O(log n), any other index rebuilds the min/max index.
+     * The x-range of a value store is taken from its first and last value, as stores are sorted
+     * by x. Entries in a list may be unsorted, so their x-range is calculated again.
+     *
+     * @param index
+     */
+    protected void onEntryRemoved(int index) {
+
+        mVersion = nextVersion();
+
+        if (mSpatialIndex != null)
+            mSpatialIndex.invalidate();
 
-        for (int i = indexFrom; i <= indexTo; i++) {
+        final int count = getEntryCount();
 
-            // only recalculate y
-            calcMinMaxY(mEntries.get(i));
+        if (count == 0) {
+            calcMinMax();
+            return;
+        }
+
+        if (mMinMaxIndex != null && mMinMaxIndex.isValid()) {
+
+            if (index == 0)
+                mMinMaxIndex.removeFirst();
+            else if (index == count)
+                mMinMaxIndex.removeLast();
+            else
+                mMinMaxIndex.invalidate();
+        }
+
+        MinMaxIndex minMaxIndex = getMinMaxIndex();
+
+        mYMin = minMaxIndex.getMin();
+        mYMax = minMaxIndex.getMax();
+
+        if (mStore != null) {
+            mXMin = mStore.getX(0);
+            mXMax = mStore.getX(count - 1);
+            return;
+        }
+
+        mXMax = -Float.MAX_VALUE;
+        mXMin = Float.MAX_VALUE;
+
+        for (T e : mEntries) {
+            calcMinMaxX(e);
         }
     }
 
@@ -124,6 +364,31 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
         calcMinMaxY(e);
     }
 
+    /**
+     * Updates the min and max x and y value of this DataSet based on the value at the given
+     * index of its store.
+     *
+     * @param index
+     */
+    protected void calcMinMax(int index) {
+
+        final float x = mStore.getX(index);
+        final float low = getEntryYMinForIndex(index);
+        final float high = getEntryYMaxForIndex(index);
+
+        if (x < mXMin)
+            mXMin = x;
+
+        if (x > mXMax)
+            mXMax = x;
+
+        if (low < mYMin)
+            mYMin = low;
+
+        if (high > mYMax)
+            mYMax = high;
+    }
+
     protected void calcMinMaxX(T e) {
 
         if (e.getX() < mXMin)
@@ -144,7 +409,7 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
 
     @Override
     public int getEntryCount() {
-        return mEntries.size();
+        return mStore != null ? mStore.size() : mEntries.size();
     }
 
     /**
@@ -155,16 +420,28 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
      */
     @Deprecated
     public List<T> getValues() {
-        return mEntries;
+        return getEntries();
     }
 
     /**
-     * Returns the array of entries that this DataSet represents.
+     * Returns the array of entries that this DataSet represents. If the DataSet keeps its
+     * values in a primitive store, a new list of Entry objects is created, modifying it has
+     * no effect on the DataSet. INFORMATION: Do not over-use in performance critical
+     * situations.
      *
      * @return
      */
     public List<T> getEntries() {
-        return mEntries;
+
+        if (mStore == null)
+            return mEntries;
+
+        List<T> entries = new ArrayList<>(mStore.size());
+
+        for (int i = 0; i < mStore.size(); i++)
+            entries.add(getEntryForIndex(i));
+
+        return entries;
     }
 
     /**
@@ -207,8 +484,9 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
     public String toString() {
         StringBuffer buffer = new StringBuffer();
         buffer.append(toSimpleString());
-        for (int i = 0; i < mEntries.size(); i++) {
-            buffer.append(mEntries.get(i).toString() + " ");
+        // DataSets that don't keep Entry objects create them on demand
+        for (int i = 0; i < getEntryCount(); i++) {
+            buffer.append(getEntryForIndex(i).toString() + " ");
         }
         return buffer.toString();
     }
@@ -221,7 +499,7 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
      */
     public String toSimpleString() {
         StringBuffer buffer = new StringBuffer();
-        buffer.append("DataSet, label: " + (getLabel() == null ? "" : getLabel()) + ", entries: " + mEntries.size() +
+        buffer.append("DataSet, label: " + (getLabel() == null ? "" : getLabel()) + ", entries: " + getEntryCount() +
                 "\n");
         return buffer.toString();
     }
@@ -252,6 +530,8 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
         if (e == null)
             return;
 
+        checkEntriesAddable();
+
         if (mEntries == null) {
             mEntries = new ArrayList<T>();
         }
@@ -261,14 +541,21 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
         if (mEntries.size() > 0 && mEntries.get(mEntries.size() - 1).getX() > e.getX()) {
             int closestIndex = getEntryIndex(e.getX(), e.getY(), Rounding.UP);
             mEntries.add(closestIndex, e);
+            onEntryAdded(closestIndex);
         } else {
             mEntries.add(e);
+            onEntryAdded(mEntries.size() - 1);
         }
     }
 
     @Override
     public void clear() {
-        mEntries.clear();
+
+        if (mStore != null)
+            mStore.clear();
+        else
+            mEntries.clear();
+
         notifyDataSetChanged();
     }
 
@@ -278,6 +565,8 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
         if (e == null)
             return false;
 
+        checkEntriesAddable();
+
         List<T> values = getEntries();
         if (values == null) {
             values = new ArrayList<>();
@@ -286,7 +575,24 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
         calcMinMax(e);
 
         // add the entry
-        return values.add(e);
+        boolean added = values.add(e);
+
+        if (added && values == mEntries)
+            onEntryAdded(mEntries.size() - 1);
+
+        return added;
+    }
+
+    /**
+     * Entries can only be added to the entry list. A DataSet that keeps its values in a store
+     * has to override addEntry(...) and addEntryOrdered(...), as only the subclass knows how
+     * its entries map onto the store.
+     */
+    private void checkEntriesAddable() {
+
+        if (mStore != null)
+            throw new IllegalStateException(getClass().getSimpleName()
+                    + " keeps its values in a store and does not support adding entries.");
     }
 
     @Override
@@ -295,21 +601,92 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
         if (e == null)
             return false;
 
+        if (mStore != null)
+            return removeEntry(getEntryIndex(e));
+
         if (mEntries == null)
             return false;
 
+        int index = getEntryIndex(e);
+
+        if (index < 0)
+            return false;
+
         // remove the entry
-        boolean removed = mEntries.remove(e);
+        mEntries.remove(index);
+        onEntryRemoved(index);
 
-        if (removed) {
-            calcMinMax();
-        }
+        return true;
+    }
 
-        return removed;
+    @Override
+    public boolean removeEntry(int index) {
+
+        if (mStore == null)
+            return super.removeEntry(index);
+
+        if (index < 0 || index >= mStore.size())
+            return false;
+
+        mStore.remove(index);
+        onEntryRemoved(index);
+
+        return true;
+    }
+
+    @Override
+    public boolean removeFirst() {
+        return mStore != null ? removeEntry(0) : super.removeFirst();
+    }
+
+    @Override
+    public boolean removeLast() {
+        return mStore != null ? removeEntry(mStore.size() - 1) : super.removeLast();
+    }
+
+    /**
+     * Returns true if this DataSet contains the given Entry. For DataSets that keep their
+     * values in a primitive store, any value with the same x- and y-value matches.
+     *
+     * @param e
+     * @return
+     */
+    @Override
+    public boolean contains(T e) {
+        return mStore != null ? getEntryIndex(e) > -1 : super.contains(e);
     }
 
     @Override
-    public int getEntryIndex(Entry e) {
+    public int getEntryIndex(T e) {
+
+        if (e == null)
+            return -1;
+
+        // the store holds no Entry objects, match the values instead
+        if (mStore != null)
+            return mStore.indexOf(e.getX(), e.getY());
+
+        if (mEntries == null || mEntries.isEmpty())
+            return -1;
+
+        // entries are expected to be sorted by x, so narrow the search down with binary search
+        // and only scan the neighbours sharing the same x-value
+        int closest = getEntryIndex(e.getX(), Float.NaN, Rounding.CLOSEST);
+
+        if (closest > -1 && mEntries.get(closest).getX() == e.getX()) {
+
+            for (int i = closest; i >= 0 && mEntries.get(i).getX() == e.getX(); i--) {
+                if (mEntries.get(i) == e)
+                    return i;
+            }
+
+            for (int i = closest + 1; i < mEntries.size() && mEntries.get(i).getX() == e.getX(); i++) {
+                if (mEntries.get(i) == e)
+                    return i;
+            }
+        }
+
+        // fall back to a linear search for unsorted entries
         return mEntries.indexOf(e);
     }
 
@@ -318,7 +695,7 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
 
         int index = getEntryIndex(xValue, closestToY, rounding);
         if (index > -1)
-            return mEntries.get(index);
+            return getEntryForIndex(index);
         return null;
     }
 
@@ -332,21 +709,33 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
         return mEntries.get(index);
     }
 
+    @Override
+    public float getEntryXForIndex(int index) {
+        return mStore != null ? mStore.getX(index) : mEntries.get(index).getX();
+    }
+
+    @Override
+    public float getEntryYForIndex(int index) {
+        return mStore != null ? mStore.getY(index) : mEntries.get(index).getY();
+    }
+
     @Override
     public int getEntryIndex(float xValue, float closestToY, Rounding rounding) {
 
-        if (mEntries == null || mEntries.isEmpty())
+        final int entryCount = getEntryCount();
+
+        if (entryCount == 0)
             return -1;
 
         int low = 0;
-        int high = mEntries.size() - 1;
+        int high = entryCount - 1;
         int closest = high;
 
         while (low < high) {
             int m = (low + high) / 2;
 
-            final float d1 = mEntries.get(m).getX() - xValue,
-                    d2 = mEntries.get(m + 1).getX() - xValue,
+            final float d1 = getEntryXForIndex(m) - xValue,
+                    d2 = getEntryXForIndex(m + 1) - xValue,
                     ad1 = Math.abs(d1), ad2 = Math.abs(d2);
 
             if (ad2 < ad1) {
@@ -373,10 +762,10 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
         }
 
         if (closest != -1) {
-            float closestXValue = mEntries.get(closest).getX();
+            float closestXValue = getEntryXForIndex(closest);
             if (rounding == Rounding.UP) {
                 // If rounding up, and found x-value is lower than specified x, and we can go upper...
-                if (closestXValue < xValue && closest < mEntries.size() - 1) {
+                if (closestXValue < xValue && closest < entryCount - 1) {
                     ++closest;
                 }
             } else if (rounding == Rounding.DOWN) {
@@ -388,23 +777,21 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
 
             // Search by closest to y-value
             if (!Float.isNaN(closestToY)) {
-                while (closest > 0 && mEntries.get(closest - 1).getX() == closestXValue)
+                while (closest > 0 && getEntryXForIndex(closest - 1) == closestXValue)
                     closest -= 1;
 
-                float closestYValue = mEntries.get(closest).getY();
+                float closestYValue = getEntryYForIndex(closest);
                 int closestYIndex = closest;
 
                 while (true) {
                     closest += 1;
-                    if (closest >= mEntries.size())
+                    if (closest >= entryCount)
                         break;
 
-                    final Entry value = mEntries.get(closest);
-
-                    if (value.getX() != closestXValue)
+                    if (getEntryXForIndex(closest) != closestXValue)
                         break;
 
-                    if (Math.abs(value.getY() - closestToY) <= Math.abs(closestYValue - closestToY)) {
+                    if (Math.abs(getEntryYForIndex(closest) - closestToY) <= Math.abs(closestYValue - closestToY)) {
                         closestYValue = closestToY;
                         closestYIndex = closest;
                     }
@@ -423,24 +810,23 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
         List<T> entries = new ArrayList<T>();
 
         int low = 0;
-        int high = mEntries.size() - 1;
+        int high = getEntryCount() - 1;
 
         while (low <= high) {
             int m = (high + low) / 2;
-            T entry = mEntries.get(m);
+            float entryX = getEntryXForIndex(m);
 
             // if we have a match
-            if (xValue == entry.getX()) {
-                while (m > 0 && mEntries.get(m - 1).getX() == xValue)
+            if (xValue == entryX) {
+                while (m > 0 && getEntryXForIndex(m - 1) == xValue)
                     m--;
 
-                high = mEntries.size();
+                high = getEntryCount();
 
                 // loop over all "equal" entries
                 for (; m < high; m++) {
-                    entry = mEntries.get(m);
-                    if (entry.getX() == xValue) {
-                        entries.add(entry);
+                    if (getEntryXForIndex(m) == xValue) {
+                        entries.add(getEntryForIndex(m));
                     } else {
                         break;
                     }
@@ -448,7 +834,7 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
 
                 break;
             } else {
-                if (xValue > entry.getX())
+                if (xValue > entryX)
                     low = m + 1;
                 else
                     high = m - 1;
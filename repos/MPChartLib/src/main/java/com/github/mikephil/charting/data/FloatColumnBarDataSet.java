@@ -0,0 +1,325 @@
+/*
+ * Copyright 2021 The Cashbook Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.mikephil.charting.data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * BarDataSet that keeps its values in primitive float columns instead of one BarEntry object
+ * per bar. For stacked bars, every stack value is held in a column of its own, so all bars of
+ * this DataSet have the same stack size. BarEntry objects are only created on demand.
+ * Values need to be added in ascending x-order (or with addOrdered(...)).
+ */
+public class FloatColumnBarDataSet extends BarDataSet {
+
+    /**
+     * the primitive storage of the values this DataSet represents, holds one additional
+     * column per stack value
+     */
+    protected FloatColumns mColumns;
+
+    /**
+     * Creates a DataSet for bars that are not stacked.
+     *
+     * @param initialCapacity
+     * @param label
+     */
+    public FloatColumnBarDataSet(int initialCapacity, String label) {
+        this(new FloatColumns(initialCapacity), label);
+    }
+
+    /**
+     * Creates a DataSet for stacked bars, each bar holding stackSize values.
+     *
+     * @param stackSize
+     * @param initialCapacity
+     * @param label
+     */
+    public FloatColumnBarDataSet(int stackSize, int initialCapacity, String label) {
+        this(new FloatColumns(stackSize, initialCapacity), label);
+    }
+
+    /**
+     * Creates a new DataSet backed by the given storage. The storage is used as is, not copied.
+     * If it holds additional columns, they are treated as the stack values of each bar.
+     *
+     * @param columns
+     * @param label
+     */
+    public FloatColumnBarDataSet(FloatColumns columns, String label) {
+        super(new ArrayList<BarEntry>(), label);
+        mColumns = columns;
+        mStore = columns;
+
+        calcMinMax();
+    }
+
+    /**
+     * Returns the primitive storage of this DataSet. Call notifyDataSetChanged() after
+     * modifying it directly.
+     *
+     * @return
+     */
+    public FloatColumns getColumns() {
+        return mColumns;
+    }
+
+    /**
+     * Appends a bar that is not stacked to the end of this DataSet.
+     *
+     * @param x
+     * @param y
+     */
+    public void add(float x, float y) {
+
+        if (isStacked())
+            throw new IllegalStateException("This DataSet holds stacked bars, use add(float, float[]).");
+
+        int index = mColumns.add(x, y);
+        calcMinMax(index);
+        onEntryAdded(index);
+    }
+
+    /**
+     * Appends a stacked bar to the end of this DataSet.
+     *
+     * @param x
+     * @param vals the stack values, one per stack column
+     */
+    public void add(float x, float[] vals) {
+
+        int index = mColumns.add(x, 0f);
+        setStackValues(index, vals);
+        calcMinMax(index);
+        onEntryAdded(index);
+    }
+
+    /**
+     * Adds a bar that is not stacked at its appropriate position respective to its x-value.
+     *
+     * @param x
+     * @param y
+     */
+    public void addOrdered(float x, float y) {
+
+        if (isStacked())
+            throw new IllegalStateException("This DataSet holds stacked bars, use addOrdered(float, float[]).");
+
+        int index = mColumns.addOrdered(x, y);
+        calcMinMax(index);
+        onEntryAdded(index);
+    }
+
+    /**
+     * Adds a stacked bar at its appropriate position respective to its x-value.
+     *
+     * @param x
+     * @param vals the stack values, one per stack column
+     */
+    public void addOrdered(float x, float[] vals) {
+
+        int index = mColumns.addOrdered(x, 0f);
+        setStackValues(index, vals);
+        calcMinMax(index);
+        onEntryAdded(index);
+    }
+
+    private void setStackValues(int index, float[] vals) {
+
+        int stackSize = mColumns.getColumnCount();
+
+        if (vals == null || vals.length != stackSize) {
+            mColumns.remove(index);
+            throw new IllegalArgumentException("Expected " + stackSize + " stack values.");
+        }
+
+        float sum = 0f;
+
+        for (int i = 0; i < stackSize; i++) {
+            mColumns.set(i, index, vals[i]);
+            sum += vals[i];
+        }
+
+        // the y-value of a stacked bar is the sum of all its values
+        mColumns.getYValues()[index] = sum;
+    }
+
+    /**
+     * Updates the min and max x and y value of this DataSet based on the bar at the given
+     * index, bars without a valid value don't take part.
+     *
+     * @param index
+     */
+    @Override
+    protected void calcMinMax(int index) {
+
+        float x = mColumns.getXValues()[index];
+        float y = mColumns.getYValues()[index];
+
+        if (Float.isNaN(y))
+            return;
+
+        float min = getEntryYMinForIndex(index);
+        float max = getEntryYMaxForIndex(index);
+
+        if (min < mYMin)
+            mYMin = min;
+
+        if (max > mYMax)
+            mYMax = max;
+
+        if (x < mXMin)
+            mXMin = x;
+
+        if (x > mXMax)
+            mXMax = x;
+    }
+
+    /**
+     * Returns the sum of all negative stack values of the bar at the given index (negated), or
+     * its y-value if this DataSet is not stacked.
+     */
+    @Override
+    protected float getEntryYMinForIndex(int index) {
+
+        if (!isStacked())
+            return mColumns.getY(index);
+
+        float negativeSum = 0f;
+
+        for (int i = 0; i < mColumns.getColumnCount(); i++) {
+
+            float value = mColumns.getColumn(i)[index];
+
+            if (value <= 0f)
+                negativeSum += Math.abs(value);
+        }
+
+        return -negativeSum;
+    }
+
+    /**
+     * Returns the sum of all positive stack values of the bar at the given index, or its
+     * y-value if this DataSet is not stacked.
+     */
+    @Override
+    protected float getEntryYMaxForIndex(int index) {
+
+        if (!isStacked())
+            return mColumns.getY(index);
+
+        float positiveSum = 0f;
+
+        for (int i = 0; i < mColumns.getColumnCount(); i++) {
+
+            float value = mColumns.getColumn(i)[index];
+
+            if (value > 0f)
+                positiveSum += value;
+        }
+
+        return positiveSum;
+    }
+
+    @Override
+    public int getStackSize() {
+        return mColumns == null || mColumns.getColumnCount() == 0 ? 1 : mColumns.getColumnCount();
+    }
+
+    @Override
+    public boolean isStacked() {
+        return mColumns != null && mColumns.getColumnCount() > 0;
+    }
+
+    @Override
+    public int getEntryCountStacks() {
+        return getEntryCount() * getStackSize();
+    }
+
+    /**
+     * Creates a new BarEntry object for the bar at the given index.
+     *
+     * @param index
+     * @return
+     */
+    @Override
+    public BarEntry getEntryForIndex(int index) {
+
+        float x = mColumns.getX(index);
+
+        if (!isStacked())
+            return new BarEntry(x, mColumns.getY(index));
+
+        float[] vals = new float[mColumns.getColumnCount()];
+
+        for (int i = 0; i < vals.length; i++)
+            vals[i] = mColumns.get(i, index);
+
+        return new BarEntry(x, vals);
+    }
+
+    @Override
+    public void setEntries(List<BarEntry> entries) {
+
+        mColumns.clear();
+        mColumns.ensureCapacity(entries.size());
+
+        for (BarEntry e : entries) {
+
+            if (isStacked())
+                setStackValues(mColumns.add(e.getX(), 0f), e.getYVals());
+            else
+                mColumns.add(e.getX(), e.getY());
+        }
+
+        notifyDataSetChanged();
+    }
+
+    @Override
+    public boolean addEntry(BarEntry e) {
+
+        if (e == null)
+            return false;
+
+        if (isStacked())
+            add(e.getX(), e.getYVals());
+        else
+            add(e.getX(), e.getY());
+
+        return true;
+    }
+
+    @Override
+    public void addEntryOrdered(BarEntry e) {
+
+        if (e == null)
+            return;
+
+        if (isStacked())
+            addOrdered(e.getX(), e.getYVals());
+        else
+            addOrdered(e.getX(), e.getY());
+    }
+
+    @Override
+    public DataSet<BarEntry> copy() {
+        FloatColumnBarDataSet copied = new FloatColumnBarDataSet(mColumns.copy(), getLabel());
+        copy(copied);
+        return copied;
+    }
+}
@@ -0,0 +1,197 @@
+/*
+ * Copyright 2021 The Cashbook Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.mikephil.charting.data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * CandleDataSet that keeps its values in primitive float columns (shadow-high, shadow-low,
+ * open and close) instead of one CandleEntry object per candle. CandleEntry objects are only
+ * created on demand. Values need to be added in ascending x-order (or with addOrdered(...)).
+ */
+public class FloatColumnCandleDataSet extends CandleDataSet {
+
+    public static final int COLUMN_SHADOW_HIGH = 0;
+    public static final int COLUMN_SHADOW_LOW = 1;
+    public static final int COLUMN_OPEN = 2;
+    public static final int COLUMN_CLOSE = 3;
+
+    /**
+     * the primitive storage of the values this DataSet represents
+     */
+    protected FloatColumns mColumns;
+
+    public FloatColumnCandleDataSet(String label) {
+        this(16, label);
+    }
+
+    public FloatColumnCandleDataSet(int initialCapacity, String label) {
+        this(new FloatColumns(4, initialCapacity), label);
+    }
+
+    /**
+     * Creates a new DataSet backed by the given storage. The storage is used as is, not copied,
+     * and needs to hold the four columns shadow-high, shadow-low, open and close.
+     *
+     * @param columns
+     * @param label
+     */
+    public FloatColumnCandleDataSet(FloatColumns columns, String label) {
+        super(new ArrayList<CandleEntry>(), label);
+
+        if (columns.getColumnCount() != 4)
+            throw new IllegalArgumentException("Candle data needs exactly 4 columns.");
+
+        mColumns = columns;
+        mStore = columns;
+
+        calcMinMax();
+    }
+
+    /**
+     * Returns the primitive storage of this DataSet. Call notifyDataSetChanged() after
+     * modifying it directly.
+     *
+     * @return
+     */
+    public FloatColumns getColumns() {
+        return mColumns;
+    }
+
+    /**
+     * Appends a candle to the end of this DataSet without creating a CandleEntry object.
+     *
+     * @param x
+     * @param shadowH
+     * @param shadowL
+     * @param open
+     * @param close
+     */
+    public void add(float x, float shadowH, float shadowL, float open, float close) {
+        int index = mColumns.add(x, (shadowH + shadowL) / 2f);
+        setCandleValues(index, shadowH, shadowL, open, close);
+    }
+
+    /**
+     * Adds a candle at its appropriate position respective to its x-value.
+     *
+     * @param x
+     * @param shadowH
+     * @param shadowL
+     * @param open
+     * @param close
+     */
+    public void addOrdered(float x, float shadowH, float shadowL, float open, float close) {
+        int index = mColumns.addOrdered(x, (shadowH + shadowL) / 2f);
+        setCandleValues(index, shadowH, shadowL, open, close);
+    }
+
+    private void setCandleValues(int index, float shadowH, float shadowL, float open, float close) {
+
+        mColumns.set(COLUMN_SHADOW_HIGH, index, shadowH);
+        mColumns.set(COLUMN_SHADOW_LOW, index, shadowL);
+        mColumns.set(COLUMN_OPEN, index, open);
+        mColumns.set(COLUMN_CLOSE, index, close);
+
+        calcMinMax(index);
+        onEntryAdded(index);
+    }
+
+    @Override
+    public float getShadowHighForIndex(int index) {
+        return mColumns.get(COLUMN_SHADOW_HIGH, index);
+    }
+
+    @Override
+    public float getShadowLowForIndex(int index) {
+        return mColumns.get(COLUMN_SHADOW_LOW, index);
+    }
+
+    @Override
+    public float getOpenForIndex(int index) {
+        return mColumns.get(COLUMN_OPEN, index);
+    }
+
+    @Override
+    public float getCloseForIndex(int index) {
+        return mColumns.get(COLUMN_CLOSE, index);
+    }
+
+    @Override
+    protected float getEntryYMinForIndex(int index) {
+        return mColumns.getColumn(COLUMN_SHADOW_LOW)[index];
+    }
+
+    @Override
+    protected float getEntryYMaxForIndex(int index) {
+        return mColumns.getColumn(COLUMN_SHADOW_HIGH)[index];
+    }
+
+    /**
+     * Creates a new CandleEntry object for the candle at the given index.
+     *
+     * @param index
+     * @return
+     */
+    @Override
+    public CandleEntry getEntryForIndex(int index) {
+        return new CandleEntry(mColumns.getX(index),
+                mColumns.get(COLUMN_SHADOW_HIGH, index),
+                mColumns.get(COLUMN_SHADOW_LOW, index),
+                mColumns.get(COLUMN_OPEN, index),
+                mColumns.get(COLUMN_CLOSE, index));
+    }
+
+    @Override
+    public void setEntries(List<CandleEntry> entries) {
+
+        mColumns.clear();
+        mColumns.ensureCapacity(entries.size());
+
+        for (CandleEntry e : entries)
+            add(e.getX(), e.getHigh(), e.getLow(), e.getOpen(), e.getClose());
+
+        notifyDataSetChanged();
+    }
+
+    @Override
+    public boolean addEntry(CandleEntry e) {
+
+        if (e == null)
+            return false;
+
+        add(e.getX(), e.getHigh(), e.getLow(), e.getOpen(), e.getClose());
+        return true;
+    }
+
+    @Override
+    public void addEntryOrdered(CandleEntry e) {
+
+        if (e == null)
+            return;
+
+        addOrdered(e.getX(), e.getHigh(), e.getLow(), e.getOpen(), e.getClose());
+    }
+
+    @Override
+    public DataSet<CandleEntry> copy() {
+        FloatColumnCandleDataSet copied = new FloatColumnCandleDataSet(mColumns.copy(), getLabel());
+        copy(copied);
+        return copied;
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2021 The Cashbook Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.mikephil.charting.data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * LineDataSet that keeps its values in primitive float columns instead of one Entry object
+ * per value. Entry objects are only created on demand (e.g. for highlighting or markers), the
+ * renderers read the values through getEntryXForIndex(...) and getEntryYForIndex(...).
+ * Values need to be added in ascending x-order (or with addOrdered(...)).
+ */
+public class FloatColumnDataSet extends LineDataSet {
+
+    /**
+     * the primitive storage of the values this DataSet represents
+     */
+    protected FloatColumns mColumns;
+
+    public FloatColumnDataSet(String label) {
+        this(16, label);
+    }
+
+    public FloatColumnDataSet(int initialCapacity, String label) {
+        this(new FloatColumns(initialCapacity), label);
+    }
+
+    /**
+     * Creates a new DataSet from the given values, the arrays are copied.
+     *
+     * @param xValues x-values in ascending order
+     * @param yValues y-values, same length as xValues
+     * @param label
+     */
+    public FloatColumnDataSet(float[] xValues, float[] yValues, String label) {
+        this(xValues.length, label);
+
+        if (xValues.length != yValues.length)
+            throw new IllegalArgumentException("x- and y-values need to be of the same length.");
+
+        for (int i = 0; i < xValues.length; i++)
+            mColumns.add(xValues[i], yValues[i]);
+
+        calcMinMax();
+    }
+
+    /**
+     * Creates a new DataSet backed by the given storage. The storage is used as is, not copied.
+     *
+     * @param columns
+     * @param label
+     */
+    public FloatColumnDataSet(FloatColumns columns, String label) {
+        super(new ArrayList<Entry>(), label);
+        mColumns = columns;
+        mStore = columns;
+
+        calcMinMax();
+    }
+
+    /**
+     * Returns the primitive storage of this DataSet. Call notifyDataSetChanged() after
+     * modifying it directly.
+     *
+     * @return
+     */
+    public FloatColumns getColumns() {
+        return mColumns;
+    }
+
+    /**
+     * Appends a value to the end of this DataSet without creating an Entry object.
+     *
+     * @param x
+     * @param y
+     */
+    public void add(float x, float y) {
+        int index = mColumns.add(x, y);
+        calcMinMax(index);
+        onEntryAdded(index);
+    }
+
+    /**
+     * Adds a value at its appropriate position respective to its x-value.
+     *
+     * @param x
+     * @param y
+     */
+    public void addOrdered(float x, float y) {
+        int index = mColumns.addOrdered(x, y);
+        calcMinMax(index);
+        onEntryAdded(index);
+    }
+
+    /**
+     * Creates a new Entry object for the value at the given index.
+     *
+     * @param index
+     * @return
+     */
+    @Override
+    public Entry getEntryForIndex(int index) {
+        return new Entry(mColumns.getX(index), mColumns.getY(index));
+    }
+
+    @Override
+    public void setEntries(List<Entry> entries) {
+
+        mColumns.clear();
+        mColumns.ensureCapacity(entries.size());
+
+        for (Entry e : entries)
+            mColumns.add(e.getX(), e.getY());
+
+        notifyDataSetChanged();
+    }
+
+    @Override
+    public boolean addEntry(Entry e) {
+
+        if (e == null)
+            return false;
+
+        add(e.getX(), e.getY());
+        return true;
+    }
+
+    @Override
+    public void addEntryOrdered(Entry e) {
+
+        if (e == null)
+            return;
+
+        addOrdered(e.getX(), e.getY());
+    }
+
+    @Override
+    public DataSet<Entry> copy() {
+        FloatColumnDataSet copied = new FloatColumnDataSet(mColumns.copy(), getLabel());
+        copy(copied);
+        return copied;
+    }
+}
@@ -0,0 +1,383 @@
+/*
+ * Copyright 2021 The Cashbook Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.mikephil.charting.data;
+
+import java.util.Arrays;
+
+/**
+ * Growable primitive storage for the values of a DataSet, one float array per column. Every
+ * row holds an x- and a y-value, additional columns (e.g. stack values or candle values) can
+ * be requested when creating the object. Rows are expected to be sorted by their x-value.
+ */
+public class FloatColumns implements ValueStore {
+
+    /**
+     * the x-values of all rows
+     */
+    protected float[] mXValues;
+
+    /**
+     * the y-values of all rows
+     */
+    protected float[] mYValues;
+
+    /**
+     * additional columns, each of them holding one value per row
+     */
+    protected float[][] mColumns;
+
+    /**
+     * the number of rows currently stored
+     */
+    protected int mSize = 0;
+
+    /**
+     * Creates storage with no additional columns.
+     *
+     * @param initialCapacity
+     */
+    public FloatColumns(int initialCapacity) {
+        this(0, initialCapacity);
+    }
+
+    /**
+     * Creates storage with the given number of additional columns besides x and y.
+     *
+     * @param columnCount     number of additional columns
+     * @param initialCapacity number of rows to allocate upfront
+     */
+    public FloatColumns(int columnCount, int initialCapacity) {
+
+        initialCapacity = Math.max(initialCapacity, 1);
+
+        mXValues = new float[initialCapacity];
+        mYValues = new float[initialCapacity];
+        mColumns = new float[columnCount][initialCapacity];
+    }
+
+    /**
+     * Creates storage holding the given values, the arrays are used as is, not copied. All
+     * arrays need to be of the same length, which becomes the number of rows.
+     *
+     * @param xValues x-values in ascending order
+     * @param yValues
+     * @param columns the additional columns, may be empty
+     */
+    public FloatColumns(float[] xValues, float[] yValues, float[][] columns) {
+
+        for (float[] column : columns) {
+            if (column.length != xValues.length)
+                throw new IllegalArgumentException("All columns need to be of the same length.");
+        }
+
+        if (yValues.length != xValues.length)
+            throw new IllegalArgumentException("x- and y-values need to be of the same length.");
+
+        mXValues = xValues;
+        mYValues = yValues;
+        mColumns = columns;
+        mSize = xValues.length;
+    }
+
+    /**
+     * Returns the number of rows stored.
+     *
+     * @return
+     */
+    @Override
+    public int size() {
+        return mSize;
+    }
+
+    /**
+     * Returns the number of additional columns besides x and y.
+     *
+     * @return
+     */
+    public int getColumnCount() {
+        return mColumns.length;
+    }
+
+    @Override
+    public float getX(int index) {
+        checkIndex(index);
+        return mXValues[index];
+    }
+
+    @Override
+    public float getY(int index) {
+        checkIndex(index);
+        return mYValues[index];
+    }
+
+    public float get(int column, int index) {
+        checkIndex(index);
+        return mColumns[column][index];
+    }
+
+    public void set(int column, int index, float value) {
+        checkIndex(index);
+        mColumns[column][index] = value;
+    }
+
+    /**
+     * Returns the backing array of x-values. Only the first size() values are valid, the
+     * array is replaced whenever the storage grows.
+     *
+     * @return
+     */
+    public float[] getXValues() {
+        return mXValues;
+    }
+
+    /**
+     * Returns the backing array of y-values. Only the first size() values are valid, the
+     * array is replaced whenever the storage grows.
+     *
+     * @return
+     */
+    public float[] getYValues() {
+        return mYValues;
+    }
+
+    /**
+     * Returns the backing array of the given additional column. Only the first size()
+     * values are valid, the array is replaced whenever the storage grows.
+     *
+     * @param column
+     * @return
+     */
+    public float[] getColumn(int column) {
+        return mColumns[column];
+    }
+
+    /**
+     * Appends a row at the end and returns its index. The values of the additional columns
+     * are set to 0.
+     *
+     * @param x
+     * @param y
+     * @return
+     */
+    public int add(float x, float y) {
+        return insert(mSize, x, y);
+    }
+
+    /**
+     * Inserts a row after all rows with an x-value lower or equal to the given one, keeping
+     * the rows sorted, and returns its index.
+     *
+     * @param x
+     * @param y
+     * @return
+     */
+    public int addOrdered(float x, float y) {
+
+        if (mSize == 0 || mXValues[mSize - 1] <= x)
+            return add(x, y);
+
+        return insert(upperBound(x), x, y);
+    }
+
+    /**
+     * Inserts a row at the given index and returns the index. The values of the additional
+     * columns are set to 0.
+     *
+     * @param index
+     * @param x
+     * @param y
+     * @return
+     */
+    public int insert(int index, float x, float y) {
+
+        if (index < 0 || index > mSize)
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + mSize);
+
+        ensureCapacity(mSize + 1);
+
+        int moved = mSize - index;
+
+        if (moved > 0) {
+            System.arraycopy(mXValues, index, mXValues, index + 1, moved);
+            System.arraycopy(mYValues, index, mYValues, index + 1, moved);
+            for (float[] column : mColumns)
+                System.arraycopy(column, index, column, index + 1, moved);
+        }
+
+        mXValues[index] = x;
+        mYValues[index] = y;
+        for (float[] column : mColumns)
+            column[index] = 0f;
+
+        mSize++;
+
+        return index;
+    }
+
+    /**
+     * Removes the row at the given index.
+     *
+     * @param index
+     */
+    @Override
+    public void remove(int index) {
+
+        checkIndex(index);
+
+        int moved = mSize - index - 1;
+
+        if (moved > 0) {
+            System.arraycopy(mXValues, index + 1, mXValues, index, moved);
+            System.arraycopy(mYValues, index + 1, mYValues, index, moved);
+            for (float[] column : mColumns)
+                System.arraycopy(column, index + 1, column, index, moved);
+        }
+
+        mSize--;
+    }
+
+    /**
+     * Removes all rows, the allocated capacity is kept.
+     */
+    @Override
+    public void clear() {
+        mSize = 0;
+    }
+
+    /**
+     * Returns the index of the first row with the given x- and y-value, or -1 if there is
+     * none.
+     *
+     * @param x
+     * @param y
+     * @return
+     */
+    @Override
+    public int indexOf(float x, float y) {
+
+        for (int i = lowerBound(x); i < mSize && mXValues[i] == x; i++) {
+            if (mYValues[i] == y)
+                return i;
+        }
+
+        return -1;
+    }
+
+    /**
+     * Returns the index of the first row with an x-value greater or equal to the given one.
+     *
+     * @param x
+     * @return
+     */
+    public int lowerBound(float x) {
+
+        int low = 0;
+        int high = mSize;
+
+        while (low < high) {
+            int m = (low + high) >>> 1;
+
+            if (mXValues[m] < x)
+                low = m + 1;
+            else
+                high = m;
+        }
+
+        return low;
+    }
+
+    /**
+     * Returns the index of the first row with an x-value greater than the given one.
+     *
+     * @param x
+     * @return
+     */
+    public int upperBound(float x) {
+
+        int low = 0;
+        int high = mSize;
+
+        while (low < high) {
+            int m = (low + high) >>> 1;
+
+            if (mXValues[m] <= x)
+                low = m + 1;
+            else
+                high = m;
+        }
+
+        return low;
+    }
+
+    /**
+     * Makes sure the storage can hold at least the given number of rows without growing.
+     *
+     * @param minCapacity
+     */
+    public void ensureCapacity(int minCapacity) {
+
+        if (minCapacity <= mXValues.length)
+            return;
+
+        int capacity = Math.max(minCapacity, mXValues.length + (mXValues.length >> 1));
+
+        mXValues = Arrays.copyOf(mXValues, capacity);
+        mYValues = Arrays.copyOf(mYValues, capacity);
+        for (int i = 0; i < mColumns.length; i++)
+            mColumns[i] = Arrays.copyOf(mColumns[i], capacity);
+    }
+
+    /**
+     * Releases the capacity that is not used by any row.
+     */
+    public void trimToSize() {
+
+        int capacity = Math.max(mSize, 1);
+
+        if (capacity == mXValues.length)
+            return;
+
+        mXValues = Arrays.copyOf(mXValues, capacity);
+        mYValues = Arrays.copyOf(mYValues, capacity);
+        for (int i = 0; i < mColumns.length; i++)
+            mColumns[i] = Arrays.copyOf(mColumns[i], capacity);
+    }
+
+    /**
+     * Returns a deep copy of this storage.
+     *
+     * @return
+     */
+    public FloatColumns copy() {
+
+        FloatColumns copied = new FloatColumns(mColumns.length, mSize);
+
+        System.arraycopy(mXValues, 0, copied.mXValues, 0, mSize);
+        System.arraycopy(mYValues, 0, copied.mYValues, 0, mSize);
+        for (int i = 0; i < mColumns.length; i++)
+            System.arraycopy(mColumns[i], 0, copied.mColumns[i], 0, mSize);
+
+        copied.mSize = mSize;
+
+        return copied;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= mSize)
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + mSize);
+    }
+}
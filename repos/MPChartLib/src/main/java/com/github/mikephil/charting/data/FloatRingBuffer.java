@@ -0,0 +1,245 @@
+/*
+ * Copyright 2021 The Cashbook Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.mikephil.charting.data;
+
+/**
+ * Fixed-capacity ring buffer of x- and y-values for streaming data. Appending a value once
+ * the buffer is full evicts the oldest one, both in O(1) and without any allocation. The
+ * x-values need to be appended in ascending order.
+ */
+public class FloatRingBuffer implements ValueStore {
+
+    protected final float[] mXValues;
+    protected final float[] mYValues;
+
+    /**
+     * array position of the oldest value
+     */
+    protected int mHead = 0;
+
+    /**
+     * the number of values currently stored
+     */
+    protected int mSize = 0;
+
+    /**
+     * @param capacity the maximum number of values, the oldest values are evicted beyond it
+     */
+    public FloatRingBuffer(int capacity) {
+
+        if (capacity < 1)
+            throw new IllegalArgumentException("The capacity needs to be at least 1.");
+
+        mXValues = new float[capacity];
+        mYValues = new float[capacity];
+    }
+
+    /**
+     * Returns the number of values stored.
+     *
+     * @return
+     */
+    @Override
+    public int size() {
+        return mSize;
+    }
+
+    public int getCapacity() {
+        return mXValues.length;
+    }
+
+    public boolean isFull() {
+        return mSize == mXValues.length;
+    }
+
+    /**
+     * Returns the x-value at the given index, index 0 is the oldest value.
+     *
+     * @param index
+     * @return
+     */
+    @Override
+    public float getX(int index) {
+        checkIndex(index);
+        return mXValues[position(index)];
+    }
+
+    /**
+     * Returns the y-value at the given index, index 0 is the oldest value.
+     *
+     * @param index
+     * @return
+     */
+    @Override
+    public float getY(int index) {
+        checkIndex(index);
+        return mYValues[position(index)];
+    }
+
+    /**
+     * Appends a value, evicting the oldest one if the buffer is full. Returns true if a value
+     * was evicted.
+     *
+     * @param x needs to be greater or equal to the last x-value
+     * @param y
+     * @return
+     */
+    public boolean add(float x, float y) {
+
+        if (mSize > 0 && x < mXValues[position(mSize - 1)])
+            throw new IllegalArgumentException("The x-values need to be appended in ascending order.");
+
+        boolean evicted = false;
+
+        if (isFull()) {
+            removeFirst();
+            evicted = true;
+        }
+
+        final int position = position(mSize);
+        mXValues[position] = x;
+        mYValues[position] = y;
+        mSize++;
+
+        return evicted;
+    }
+
+    /**
+     * Removes the oldest value.
+     */
+    public void removeFirst() {
+
+        checkIndex(0);
+
+        mHead = mHead + 1 == mXValues.length ? 0 : mHead + 1;
+        mSize--;
+    }
+
+    /**
+     * Removes the newest value.
+     */
+    public void removeLast() {
+        checkIndex(0);
+        mSize--;
+    }
+
+    /**
+     * Removes the value at the given index, all newer values are shifted. O(1) for the oldest
+     * and the newest value, O(n) otherwise.
+     *
+     * @param index
+     */
+    @Override
+    public void remove(int index) {
+
+        checkIndex(index);
+
+        if (index == 0) {
+            removeFirst();
+            return;
+        }
+
+        for (int i = index; i < mSize - 1; i++) {
+            final int to = position(i);
+            final int from = position(i + 1);
+            mXValues[to] = mXValues[from];
+            mYValues[to] = mYValues[from];
+        }
+
+        mSize--;
+    }
+
+    /**
+     * Removes all values.
+     */
+    @Override
+    public void clear() {
+        mHead = 0;
+        mSize = 0;
+    }
+
+    /**
+     * Returns the index of the first value with the given x- and y-value, or -1 if there is
+     * none.
+     *
+     * @param x
+     * @param y
+     * @return
+     */
+    @Override
+    public int indexOf(float x, float y) {
+
+        for (int i = lowerBound(x); i < mSize && mXValues[position(i)] == x; i++) {
+            if (mYValues[position(i)] == y)
+                return i;
+        }
+
+        return -1;
+    }
+
+    /**
+     * Returns the index of the first value with an x-value greater or equal to the given one.
+     *
+     * @param x
+     * @return
+     */
+    public int lowerBound(float x) {
+
+        int low = 0;
+        int high = mSize;
+
+        while (low < high) {
+            int m = (low + high) >>> 1;
+
+            if (mXValues[position(m)] < x)
+                low = m + 1;
+            else
+                high = m;
+        }
+
+        return low;
+    }
+
+    /**
+     * Returns a deep copy of this buffer.
+     *
+     * @return
+     */
+    public FloatRingBuffer copy() {
+
+        FloatRingBuffer copied = new FloatRingBuffer(getCapacity());
+
+        for (int i = 0; i < mSize; i++) {
+            copied.mXValues[i] = mXValues[position(i)];
+            copied.mYValues[i] = mYValues[position(i)];
+        }
+
+        copied.mSize = mSize;
+
+        return copied;
+    }
+
+    private int position(int index) {
+        final int position = mHead + index;
+        return position >= mXValues.length ? position - mXValues.length : position;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= mSize)
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + mSize);
+    }
+}
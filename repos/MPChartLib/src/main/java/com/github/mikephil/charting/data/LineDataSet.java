@@ -21,6 +21,7 @@ import android.graphics.Color;
 import android.graphics.DashPathEffect;
 import android.util.Log;
 
+import com.github.mikephil.charting.data.filter.ApproximationFilter;
 import com.github.mikephil.charting.formatter.DefaultFillFormatter;
 import com.github.mikephil.charting.formatter.IFillFormatter;
 import com.github.mikephil.charting.interfaces.datasets.ILineDataSet;
@@ -79,6 +80,21 @@ public class LineDataSet extends LineRadarDataSet<Entry> implements ILineDataSet
 
     private boolean mDrawCircleHole = true;
 
+    /**
+     * if true, the entries are reduced to min/max per pixel column before drawing
+     */
+    private boolean mDecimationEnabled = false;
+
+    /**
+     * if true, a line with multiple colors is drawn as gradient through the entry colors
+     */
+    private boolean mGradientLineEnabled = false;
+
+    /**
+     * simplifies the entries before drawing, null if disabled
+     */
+    private ApproximationFilter mApproximationFilter = null;
+
 
     public LineDataSet(List<Entry> yVals, String label) {
         super(yVals, label);
@@ -120,6 +136,10 @@ public class LineDataSet extends LineRadarDataSet<Entry> implements ILineDataSet
         lineDataSet.mDrawCircles = mDrawCircleHole;
         lineDataSet.mFillFormatter = mFillFormatter;
         lineDataSet.mMode = mMode;
+        lineDataSet.mDecimationEnabled = mDecimationEnabled;
+        lineDataSet.mGradientLineEnabled = mGradientLineEnabled;
+        lineDataSet.mApproximationFilter = mApproximationFilter == null ? null
+                : new ApproximationFilter(mApproximationFilter.getTolerance());
     }
 
     /**
@@ -423,6 +443,69 @@ public class LineDataSet extends LineRadarDataSet<Entry> implements ILineDataSet
         return mFillFormatter;
     }
 
+    /**
+     * Enables / disables the level-of-detail decimation of this DataSet. If enabled, the
+     * visible entries are reduced to the first, last, lowest and highest entry of every pixel
+     * column before they are drawn, which keeps the look of the line but draws a lot less
+     * segments for dense data. Default: false
+     *
+     * @param enabled
+     */
+    public void setDecimationEnabled(boolean enabled) {
+        mDecimationEnabled = enabled;
+    }
+
+    @Override
+    public boolean isDecimationEnabled() {
+        return mDecimationEnabled;
+    }
+
+    /**
+     * Enables / disables drawing a line with more than one color as a horizontal gradient that
+     * runs through the colors of its entries, the color between two entries is interpolated.
+     * The whole line is drawn with a single call. If disabled, every segment is drawn in the
+     * solid color of its first entry. Only affects LINEAR and STEPPED lines. Default: false
+     *
+     * @param enabled
+     */
+    public void setGradientLineEnabled(boolean enabled) {
+        mGradientLineEnabled = enabled;
+    }
+
+    @Override
+    public boolean isGradientLineEnabled() {
+        return mGradientLineEnabled;
+    }
+
+    /**
+     * Sets a filter that simplifies the entries of this DataSet with the Douglas-Peucker
+     * algorithm before they are drawn. The result is cached per zoom level. Set null to
+     * disable. Takes precedence over decimation. Default: null
+     *
+     * @param filter
+     */
+    public void setApproximationFilter(ApproximationFilter filter) {
+        mApproximationFilter = filter;
+    }
+
+    /**
+     * Enables the Douglas-Peucker simplification of this DataSet with the given tolerance in
+     * pixels, see setApproximationFilter(...).
+     *
+     * @param tolerance
+     */
+    public void setApproximationTolerance(float tolerance) {
+        if (mApproximationFilter == null)
+            mApproximationFilter = new ApproximationFilter(tolerance);
+        else
+            mApproximationFilter.setTolerance(tolerance);
+    }
+
+    @Override
+    public ApproximationFilter getApproximationFilter() {
+        return mApproximationFilter;
+    }
+
     public enum Mode {
         LINEAR,
         STEPPED,
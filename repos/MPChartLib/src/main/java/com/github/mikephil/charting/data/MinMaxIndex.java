@@ -0,0 +1,311 @@
+/*
+ * Copyright 2021 The Cashbook Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.mikephil.charting.data;
+
+/**
+ * Segment tree over the y-range (lowest and highest y-value) of every entry of a DataSet.
+ * Answers min/max queries over the whole DataSet and over any index window in O(log n).
+ * Appending an entry and removing the first or last entry update the tree in O(log n)
+ * (appending is amortized, the tree grows by doubling), any other modification invalidates
+ * it and the owner builds it again from scratch when it is needed the next time.
+ */
+public class MinMaxIndex {
+
+    /** minimum of every node, the leaves start at mCapacity */
+    protected float[] mMin = new float[0];
+
+    /** maximum of every node, the leaves start at mCapacity */
+    protected float[] mMax = new float[0];
+
+    /** number of leaves, always a power of two */
+    protected int mCapacity = 0;
+
+    /** leaf position of the entry at index 0 */
+    protected int mHead = 0;
+
+    /** number of entries in the tree */
+    protected int mSize = 0;
+
+    /** false if the tree no longer matches the DataSet */
+    protected boolean mValid = false;
+
+    /**
+     * Returns true if the index matches the DataSet it was built for.
+     *
+     * @return
+     */
+    public boolean isValid() {
+        return mValid;
+    }
+
+    /**
+     * Marks the index as outdated, it needs to be built again before it can be queried.
+     */
+    public void invalidate() {
+        mValid = false;
+    }
+
+    /**
+     * Returns the number of entries in the index.
+     *
+     * @return
+     */
+    public int size() {
+        return mSize;
+    }
+
+    /**
+     * Prepares the index to be built for the given number of entries. All entries need to be
+     * set with setLeaf(...) followed by a call to build().
+     *
+     * @param size
+     */
+    public void reset(int size) {
+
+        int capacity = 16;
+        while (capacity < size)
+            capacity <<= 1;
+
+        if (mCapacity != capacity) {
+            mCapacity = capacity;
+            mMin = new float[capacity * 2];
+            mMax = new float[capacity * 2];
+        }
+
+        mHead = 0;
+        mSize = size;
+
+        for (int i = size; i < capacity; i++) {
+            mMin[capacity + i] = Float.MAX_VALUE;
+            mMax[capacity + i] = -Float.MAX_VALUE;
+        }
+    }
+
+    /**
+     * Sets the y-range of the entry at the given index without updating the tree, only to be
+     * used between reset(...) and build().
+     *
+     * @param index
+     * @param low
+     * @param high
+     */
+    public void setLeaf(int index, float low, float high) {
+
+        final int leaf = mCapacity + mHead + index;
+
+        // entries without a valid value don't take part
+        mMin[leaf] = Float.isNaN(low) ? Float.MAX_VALUE : low;
+        mMax[leaf] = Float.isNaN(high) ? -Float.MAX_VALUE : high;
+    }
+
+    /**
+     * Calculates all inner nodes from the leaves and marks the index as valid.
+     */
+    public void build() {
+
+        for (int i = mCapacity - 1; i > 0; i--)
+            pull(i);
+
+        mValid = true;
+    }
+
+    /**
+     * Updates the y-range of the entry at the given index.
+     *
+     * @param index
+     * @param low
+     * @param high
+     */
+    public void set(int index, float low, float high) {
+
+        setLeaf(index, low, high);
+
+        for (int i = (mCapacity + mHead + index) >> 1; i > 0; i >>= 1)
+            pull(i);
+    }
+
+    /**
+     * Appends an entry to the end of the index.
+     *
+     * @param low
+     * @param high
+     */
+    public void append(float low, float high) {
+
+        if (mHead + mSize == mCapacity)
+            compact(mSize + 1);
+
+        mSize++;
+        set(mSize - 1, low, high);
+    }
+
+    /**
+     * Removes the entry at index 0, the indices of all other entries shift down by one.
+     */
+    public void removeFirst() {
+
+        if (mSize == 0)
+            return;
+
+        set(0, Float.NaN, Float.NaN);
+        mHead++;
+        mSize--;
+    }
+
+    /**
+     * Removes the entry at the highest index.
+     */
+    public void removeLast() {
+
+        if (mSize == 0)
+            return;
+
+        set(mSize - 1, Float.NaN, Float.NaN);
+        mSize--;
+    }
+
+    /**
+     * Returns the lowest y-value of all entries.
+     *
+     * @return
+     */
+    public float getMin() {
+        return mMin[1];
+    }
+
+    /**
+     * Returns the highest y-value of all entries.
+     *
+     * @return
+     */
+    public float getMax() {
+        return mMax[1];
+    }
+
+    /**
+     * Returns the lowest y-value of the entries from index from to index to (both inclusive).
+     *
+     * @param from
+     * @param to
+     * @return
+     */
+    public float getMin(int from, int to) {
+
+        float min = Float.MAX_VALUE;
+
+        int l = mCapacity + mHead + from;
+        int r = mCapacity + mHead + to + 1;
+
+        while (l < r) {
+
+            if ((l & 1) == 1) {
+                if (mMin[l] < min)
+                    min = mMin[l];
+                l++;
+            }
+
+            if ((r & 1) == 1) {
+                r--;
+                if (mMin[r] < min)
+                    min = mMin[r];
+            }
+
+            l >>= 1;
+            r >>= 1;
+        }
+
+        return min;
+    }
+
+    /**
+     * Returns the highest y-value of the entries from index from to index to (both inclusive).
+     *
+     * @param from
+     * @param to
+     * @return
+     */
+    public float getMax(int from, int to) {
+
+        float max = -Float.MAX_VALUE;
+
+        int l = mCapacity + mHead + from;
+        int r = mCapacity + mHead + to + 1;
+
+        while (l < r) {
+
+            if ((l & 1) == 1) {
+                if (mMax[l] > max)
+                    max = mMax[l];
+                l++;
+            }
+
+            if ((r & 1) == 1) {
+                r--;
+                if (mMax[r] > max)
+                    max = mMax[r];
+            }
+
+            l >>= 1;
+            r >>= 1;
+        }
+
+        return max;
+    }
+
+    private void pull(int i) {
+
+        final int left = i << 1;
+        final int right = left + 1;
+
+        mMin[i] = mMin[left] < mMin[right] ? mMin[left] : mMin[right];
+        mMax[i] = mMax[left] > mMax[right] ? mMax[left] : mMax[right];
+    }
+
+    /**
+     * Moves the leaves to the front of the tree, growing it if needed to hold the given
+     * number of entries, and rebuilds all inner nodes.
+     */
+    private void compact(int minSize) {
+
+        final float[] min = mMin;
+        final float[] max = mMax;
+        final int from = mCapacity + mHead;
+        final int size = mSize;
+
+        // keep at least as much room as there are entries, so that compacting is amortized
+        int capacity = mCapacity;
+        while (capacity < minSize * 2)
+            capacity <<= 1;
+
+        if (capacity != mCapacity) {
+            mCapacity = capacity;
+            mMin = new float[capacity * 2];
+            mMax = new float[capacity * 2];
+        }
+
+        System.arraycopy(min, from, mMin, mCapacity, size);
+        System.arraycopy(max, from, mMax, mCapacity, size);
+
+        for (int i = size; i < mCapacity; i++) {
+            mMin[mCapacity + i] = Float.MAX_VALUE;
+            mMax[mCapacity + i] = -Float.MAX_VALUE;
+        }
+
+        mHead = 0;
+        build();
+    }
+}
@@ -56,6 +56,11 @@ public class ScatterDataSet extends LineScatterCandleRadarDataSet<Entry> impleme
      */
     private int mScatterShapeHoleColor = ColorTemplate.COLOR_NONE;
 
+    /**
+     * if true, the shapes are drawn from cached bitmaps
+     */
+    private boolean mShapeCacheEnabled = false;
+
     public ScatterDataSet(List<Entry> yVals, String label) {
         super(yVals, label);
     }
@@ -77,6 +82,7 @@ public class ScatterDataSet extends LineScatterCandleRadarDataSet<Entry> impleme
         scatterDataSet.mShapeRenderer = mShapeRenderer;
         scatterDataSet.mScatterShapeHoleRadius = mScatterShapeHoleRadius;
         scatterDataSet.mScatterShapeHoleColor = mScatterShapeHoleColor;
+        scatterDataSet.mShapeCacheEnabled = mShapeCacheEnabled;
     }
 
     /**
@@ -148,6 +154,23 @@ public class ScatterDataSet extends LineScatterCandleRadarDataSet<Entry> impleme
         return mScatterShapeHoleColor;
     }
 
+    /**
+     * Enables / disables drawing the shapes from cached bitmaps. If enabled, every shape is
+     * rendered once per color into a small bitmap that is then copied to the position of each
+     * entry, which is a lot faster for DataSets with many entries. Only applies to the default
+     * shapes, a custom IShapeRenderer is always called for every entry. Default: false
+     *
+     * @param enabled
+     */
+    public void setShapeCacheEnabled(boolean enabled) {
+        mShapeCacheEnabled = enabled;
+    }
+
+    @Override
+    public boolean isShapeCacheEnabled() {
+        return mShapeCacheEnabled;
+    }
+
     public static IShapeRenderer getRendererForShape(ScatterChart.ScatterShape shape) {
 
         switch (shape) {
@@ -0,0 +1,246 @@
+/*
+ * Copyright 2021 The Cashbook Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.mikephil.charting.data;
+
+import com.github.mikephil.charting.interfaces.datasets.IDataSet;
+
+/**
+ * A 2D k-d tree over the (x, y) values of the entries of a DataSet, used to find the entry
+ * closest to a touch position in logarithmic time. The tree is stored implicitly in an index
+ * array (the median of every range is its node), so building and querying do not allocate
+ * once the arrays have grown to the entry count. Distances are weighted per axis, with the
+ * weights set to the pixels per value unit, the nearest entry in value space is the nearest
+ * entry on screen.
+ */
+public class SpatialIndex {
+
+    /**
+     * entry indices, ordered as implicit k-d tree
+     */
+    protected int[] mIndices = new int[0];
+
+    protected float[] mX = new float[0];
+    protected float[] mY = new float[0];
+
+    /**
+     * number of indexed entries, entries with NaN values are left out
+     */
+    protected int mSize = 0;
+
+    protected boolean mValid = false;
+
+    // state of the current query
+    private float mQueryX;
+    private float mQueryY;
+    private float mWeightX;
+    private float mWeightY;
+    private float mBestDistance;
+    private int mBest;
+
+    /**
+     * Builds the tree over all entries of the given DataSet.
+     *
+     * @param set
+     */
+    public void build(IDataSet set) {
+
+        final int count = set.getEntryCount();
+
+        if (mIndices.length < count) {
+            mIndices = new int[count];
+            mX = new float[count];
+            mY = new float[count];
+        }
+
+        int size = 0;
+
+        for (int i = 0; i < count; i++) {
+
+            float x = set.getEntryXForIndex(i);
+            float y = set.getEntryYForIndex(i);
+
+            if (Float.isNaN(x) || Float.isNaN(y))
+                continue;
+
+            mIndices[size] = i;
+            mX[i] = x;
+            mY[i] = y;
+            size++;
+        }
+
+        mSize = size;
+
+        build(0, size, true);
+
+        mValid = true;
+    }
+
+    private void build(int from, int to, boolean splitX) {
+
+        while (to - from > 1) {
+
+            int mid = (from + to) >>> 1;
+            select(from, to - 1, mid, splitX);
+
+            // recurse into the smaller half, loop over the larger one
+            if (mid - from < to - mid - 1) {
+                build(from, mid, !splitX);
+                from = mid + 1;
+            } else {
+                build(mid + 1, to, !splitX);
+                to = mid;
+            }
+
+            splitX = !splitX;
+        }
+    }
+
+    /**
+     * Partially sorts mIndices[left..right] so that position k holds the median by the given
+     * coordinate, smaller values before and larger values after it.
+     */
+    private void select(int left, int right, int k, boolean byX) {
+
+        final float[] values = byX ? mX : mY;
+        final int[] indices = mIndices;
+
+        while (right > left) {
+
+            int pivotIndex = (left + right) >>> 1;
+            final int pivotEntry = indices[pivotIndex];
+            final float pivot = values[pivotEntry];
+
+            swap(pivotIndex, right);
+            int store = left;
+
+            for (int i = left; i < right; i++) {
+
+                final int entry = indices[i];
+                final float value = values[entry];
+
+                // equal values are ordered by entry index, this keeps many equal values (e.g.
+                // a flat line) from degrading the selection to quadratic time
+                if (value < pivot || (value == pivot && entry < pivotEntry)) {
+                    swap(store, i);
+                    store++;
+                }
+            }
+
+            swap(store, right);
+
+            if (store == k)
+                return;
+            else if (store < k)
+                left = store + 1;
+            else
+                right = store - 1;
+        }
+    }
+
+    private void swap(int i, int j) {
+        int tmp = mIndices[i];
+        mIndices[i] = mIndices[j];
+        mIndices[j] = tmp;
+    }
+
+    /**
+     * Returns the index of the entry closest to the given values, or -1 if no entry is closer
+     * than the given maximum distance. The distance of two points is
+     * hypot(weightX * dx, weightY * dy). Of several equally close entries the one with the lowest
+     * index is returned.
+     *
+     * @param x
+     * @param y
+     * @param weightX
+     * @param weightY
+     * @param maxDistance
+     * @return
+     */
+    public int nearest(float x, float y, float weightX, float weightY, float maxDistance) {
+
+        if (!mValid || mSize == 0)
+            return -1;
+
+        mQueryX = x;
+        mQueryY = y;
+        mWeightX = weightX;
+        mWeightY = weightY;
+        mBestDistance = maxDistance * maxDistance;
+        mBest = -1;
+
+        search(0, mSize, true);
+
+        return mBest;
+    }
+
+    private void search(int from, int to, boolean splitX) {
+
+        if (to <= from)
+            return;
+
+        final int mid = (from + to) >>> 1;
+        final int entry = mIndices[mid];
+
+        final float dx = (mX[entry] - mQueryX) * mWeightX;
+        final float dy = (mY[entry] - mQueryY) * mWeightY;
+        final float distance = dx * dx + dy * dy;
+
+        // of equally close entries the one with the lowest index wins, independent of the tree
+        // order
+        if (distance < mBestDistance
+                || (distance == mBestDistance && (mBest < 0 || entry < mBest))) {
+            mBestDistance = distance;
+            mBest = entry;
+        }
+
+        final float delta = splitX ? dx : dy;
+
+        // search the side of the query first, the other one only if the splitting line is closer
+        // than the best match
+        if (delta > 0) {
+            search(from, mid, !splitX);
+
+            if (delta * delta <= mBestDistance)
+                search(mid + 1, to, !splitX);
+        } else {
+            search(mid + 1, to, !splitX);
+
+            if (delta * delta <= mBestDistance)
+                search(from, mid, !splitX);
+        }
+    }
+
+    /**
+     * Marks the tree as outdated, it is rebuilt on the next query of the DataSet.
+     */
+    public void invalidate() {
+        mValid = false;
+    }
+
+    public boolean isValid() {
+        return mValid;
+    }
+
+    /**
+     * Returns the number of indexed entries.
+     *
+     * @return
+     */
+    public int size() {
+        return mSize;
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright 2021 The Cashbook Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.mikephil.charting.data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * BarDataSet for realtime data with a fixed capacity, the bar counterpart of
+ * StreamingLineDataSet. The values are kept in a ring buffer, appending a value to a full
+ * DataSet evicts the oldest one in O(1). Stacked bars are not supported. Values need to be
+ * appended in ascending x-order.
+ */
+public class StreamingBarDataSet extends BarDataSet {
+
+    /**
+     * the fixed-capacity storage of the values this DataSet represents
+     */
+    protected FloatRingBuffer mBuffer;
+
+    /**
+     * @param capacity the maximum number of values, the oldest values are evicted beyond it
+     * @param label
+     */
+    public StreamingBarDataSet(int capacity, String label) {
+        this(new FloatRingBuffer(capacity), label);
+    }
+
+    /**
+     * Creates a new DataSet backed by the given storage. The storage is used as is, not copied.
+     *
+     * @param buffer
+     * @param label
+     */
+    public StreamingBarDataSet(FloatRingBuffer buffer, String label) {
+        super(new ArrayList<BarEntry>(), label);
+        mBuffer = buffer;
+        mStore = buffer;
+
+        calcMinMax();
+    }
+
+    /**
+     * Returns the storage of this DataSet. Call notifyDataSetChanged() after modifying it
+     * directly.
+     *
+     * @return
+     */
+    public FloatRingBuffer getBuffer() {
+        return mBuffer;
+    }
+
+    /**
+     * Returns the maximum number of values this DataSet holds.
+     *
+     * @return
+     */
+    public int getCapacity() {
+        return mBuffer.getCapacity();
+    }
+
+    /**
+     * Appends a value to the end of this DataSet. If the DataSet is full, the oldest value is
+     * evicted first. The min and max values are kept current in O(log n).
+     *
+     * @param x needs to be greater or equal to the highest x-value of this DataSet
+     * @param y
+     */
+    public void append(float x, float y) {
+
+        if (mBuffer.size() > 0 && x < mBuffer.getX(mBuffer.size() - 1))
+            throw new IllegalArgumentException("The x-values need to be appended in ascending order.");
+
+        if (mBuffer.isFull()) {
+            mBuffer.removeFirst();
+            onEntryRemoved(0);
+        }
+
+        mBuffer.add(x, y);
+
+        calcMinMax(mBuffer.size() - 1);
+        onEntryAdded(mBuffer.size() - 1);
+    }
+
+    /**
+     * Creates a new BarEntry object for the value at the given index.
+     *
+     * @param index
+     * @return
+     */
+    @Override
+    public BarEntry getEntryForIndex(int index) {
+        return new BarEntry(mBuffer.getX(index), mBuffer.getY(index));
+    }
+
+    /**
+     * Replaces the values of this DataSet, only the last getCapacity() entries are kept.
+     *
+     * @param entries
+     */
+    @Override
+    public void setEntries(List<BarEntry> entries) {
+
+        mBuffer.clear();
+
+        for (int i = Math.max(0, entries.size() - mBuffer.getCapacity()); i < entries.size(); i++)
+            addValue(entries.get(i));
+
+        notifyDataSetChanged();
+    }
+
+    @Override
+    public boolean addEntry(BarEntry e) {
+
+        if (e == null)
+            return false;
+
+        checkEntry(e);
+        append(e.getX(), e.getY());
+        return true;
+    }
+
+    /**
+     * Appends the given Entry, this DataSet only accepts entries in ascending x-order.
+     *
+     * @param e
+     */
+    @Override
+    public void addEntryOrdered(BarEntry e) {
+        addEntry(e);
+    }
+
+    private void addValue(BarEntry e) {
+        checkEntry(e);
+        mBuffer.add(e.getX(), e.getY());
+    }
+
+    private void checkEntry(BarEntry e) {
+        if (e.getYVals() != null)
+            throw new IllegalArgumentException("StreamingBarDataSet does not support stacked bars.");
+    }
+
+    @Override
+    protected float getEntryYMinForIndex(int index) {
+        return mBuffer.getY(index);
+    }
+
+    @Override
+    protected float getEntryYMaxForIndex(int index) {
+        return mBuffer.getY(index);
+    }
+
+    @Override
+    public int getEntryCountStacks() {
+        return getEntryCount();
+    }
+
+    @Override
+    public DataSet<BarEntry> copy() {
+        StreamingBarDataSet copied = new StreamingBarDataSet(mBuffer.copy(), getLabel());
+        copy(copied);
+        return copied;
+    }
+}
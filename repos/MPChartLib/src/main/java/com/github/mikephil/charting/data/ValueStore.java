@@ -0,0 +1,50 @@
+/*
+ * Copyright 2021 The Cashbook Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.mikephil.charting.data;
+
+/**
+ * Primitive storage of the x- and y-values of a DataSet that does not keep Entry objects, see
+ * FloatColumns and FloatRingBuffer. DataSet reads, finds and removes values through it, adding
+ * values is left to the subclasses as it depends on the type of their entries.
+ */
+interface ValueStore {
+
+    /**
+     * Returns the number of values stored.
+     *
+     * @return
+     */
+    int size();
+
+    float getX(int index);
+
+    float getY(int index);
+
+    /**
+     * Returns the index of the first value with the given x- and y-value, or -1 if there is
+     * none.
+     *
+     * @param x
+     * @param y
+     * @return
+     */
+    int indexOf(float x, float y);
+
+    void remove(int index);
+
+    void clear();
+}
@@ -0,0 +1,198 @@
+/*
+ * Copyright 2021 The Cashbook Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.mikephil.charting.data.filter;
+
+import com.github.mikephil.charting.interfaces.datasets.IDataSet;
+
+/**
+ * Pre-render filter that simplifies the entries of a DataSet with the Douglas-Peucker
+ * algorithm. The tolerance is given in pixels and the simplification runs in pixel space, so
+ * the result depends on the zoom level. Only the requested range of entries, widened by its
+ * own length on both sides, is simplified. The result is cached and only computed again if
+ * the scale (pixels per value) or the DataSet (see IDataSet.getVersion()) changes, or if the
+ * requested range leaves the simplified one, so panning by less than a screen reuses it.
+ * <p>
+ * The result is a list of entry indices (ascending) that survived the simplification, the
+ * first and the last entry of the simplified range are always kept.
+ */
+public class ApproximationFilter {
+
+    protected Approximator mApproximator = new Approximator();
+
+    /** tolerance in pixels */
+    protected float mTolerance;
+
+    /** points of the DataSet in pixel space (order: x,y,x,y,...) */
+    protected float[] mPoints = new float[0];
+
+    /** indices of the kept entries, ascending */
+    protected int[] mIndices = new int[0];
+
+    /** number of valid indices in mIndices */
+    protected int mCount = 0;
+
+    /** scale, DataSet version and entry range the cached result was computed for */
+    protected float mScaleX = Float.NaN;
+    protected float mScaleY = Float.NaN;
+    protected long mVersion = -1;
+    protected int mFrom = 0;
+    protected int mTo = -1;
+
+    /**
+     * @param tolerance the maximum distance in pixels an entry may have from the simplified line
+     *                  to be dropped
+     */
+    public ApproximationFilter(float tolerance) {
+        mTolerance = tolerance;
+    }
+
+    public void setTolerance(float tolerance) {
+        if (tolerance != mTolerance) {
+            mTolerance = tolerance;
+            invalidate();
+        }
+    }
+
+    public float getTolerance() {
+        return mTolerance;
+    }
+
+    /**
+     * Drops the cached result, the next call to update(...) simplifies the DataSet again. The
+     * DataSet's version already tells about modifications, this is only needed for DataSets
+     * that change their values without updating it.
+     */
+    public void invalidate() {
+        mVersion = -1;
+    }
+
+    /**
+     * Simplifies all entries of the given DataSet for the given scale, unless the cached
+     * result is still valid.
+     *
+     * @param dataSet
+     * @param scaleX
+     * @param scaleY
+     */
+    public void update(IDataSet dataSet, float scaleX, float scaleY) {
+        update(dataSet, 0, dataSet.getEntryCount() - 1, scaleX, scaleY);
+    }
+
+    /**
+     * Simplifies the entries of the given DataSet around the range from - to (both inclusive)
+     * for the given scale, unless the cached result is still valid and covers the range. The
+     * scales are the number of pixels per value on the x- and y-axis.
+     *
+     * @param dataSet
+     * @param from    index of the first visible entry
+     * @param to      index of the last visible entry
+     * @param scaleX
+     * @param scaleY
+     */
+    public void update(IDataSet dataSet, int from, int to, float scaleX, float scaleY) {
+
+        final long version = dataSet.getVersion();
+
+        if (version == mVersion && scaleX == mScaleX && scaleY == mScaleY
+                && from >= mFrom && to <= mTo)
+            return;
+
+        mVersion = version;
+        mScaleX = scaleX;
+        mScaleY = scaleY;
+
+        final int entryCount = dataSet.getEntryCount();
+        final int range = Math.max(to - from, 0);
+
+        mFrom = Math.max(from - range, 0);
+        mTo = (int) Math.min((long) to + range, entryCount - 1);
+
+        final int pointCount = mTo - mFrom + 1;
+
+        if (pointCount <= 0) {
+            mCount = 0;
+            return;
+        }
+
+        if (mPoints.length < pointCount * 2)
+            mPoints = new float[pointCount * 2];
+
+        if (mIndices.length < pointCount)
+            mIndices = new int[pointCount];
+
+        // relative to the first entry, only distances matter
+        final float x0 = dataSet.getEntryXForIndex(mFrom);
+        final float y0 = dataSet.getEntryYForIndex(mFrom);
+
+        for (int i = 0; i < pointCount; i++) {
+            mPoints[i * 2] = (dataSet.getEntryXForIndex(mFrom + i) - x0) * scaleX;
+            mPoints[i * 2 + 1] = (dataSet.getEntryYForIndex(mFrom + i) - y0) * scaleY;
+        }
+
+        mApproximator.markWithDouglasPeucker(mPoints, pointCount, mTolerance);
+
+        mCount = 0;
+
+        for (int i = 0; i < pointCount; i++) {
+            if (mApproximator.isKept(i))
+                mIndices[mCount++] = mFrom + i;
+        }
+    }
+
+    /**
+     * Returns the position of the first kept entry with an index greater than or equal to the
+     * given entry index, or getCount() if there is none.
+     *
+     * @param entryIndex
+     * @return
+     */
+    public int lowerBound(int entryIndex) {
+
+        int low = 0;
+        int high = mCount;
+
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+
+            if (mIndices[mid] < entryIndex)
+                low = mid + 1;
+            else
+                high = mid;
+        }
+
+        return low;
+    }
+
+    /**
+     * Returns the entry index of the i-th kept entry.
+     *
+     * @param i
+     * @return
+     */
+    public int getIndex(int i) {
+        return mIndices[i];
+    }
+
+    /**
+     * Returns the number of kept entries.
+     *
+     * @return
+     */
+    public int getCount() {
+        return mCount;
+    }
+}
@@ -16,102 +16,163 @@
 
 package com.github.mikephil.charting.data.filter;
 
-import android.annotation.TargetApi;
-import android.os.Build;
-
-import java.util.Arrays;
-
 /**
  * Implemented according to Wiki-Pseudocode {@link}
  * http://en.wikipedia.org/wiki/Ramer�Douglas�Peucker_algorithm
+ * <p>
+ * The simplification runs iteratively with an explicit stack and marks the points to keep
+ * instead of splitting and concatenating arrays, so it neither recurses nor allocates once
+ * its internal buffers have grown to the size of the input.
  *
  * @author Philipp Baldauf & Phliipp Jahoda
  */
 public class Approximator {
 
-    @TargetApi(Build.VERSION_CODES.GINGERBREAD)
-    public float[] reduceWithDouglasPeucker(float[] points, float tolerance) {
+    /** keep-flags of the last simplification, one per point */
+    protected boolean[] mKeep = new boolean[0];
 
-        int greatestIndex = 0;
-        float greatestDistance = 0f;
+    /** stack of the (start, end) point index pairs that still need to be processed */
+    protected int[] mStack = new int[0];
 
-        Line line = new Line(points[0], points[1], points[points.length - 2], points[points.length - 1]);
+    /**
+     * Reduces the given points (order: x,y,x,y,...) and returns the remaining points in a new
+     * array.
+     *
+     * @param points
+     * @param tolerance
+     * @return
+     */
+    public float[] reduceWithDouglasPeucker(float[] points, float tolerance) {
 
-        for (int i = 2; i < points.length - 2; i += 2) {
+        final int pointCount = points.length / 2;
+        final int keptCount = markWithDouglasPeucker(points, pointCount, tolerance);
 
-            float distance = line.distance(points[i], points[i + 1]);
+        float[] reduced = new float[keptCount * 2];
 
-            if (distance > greatestDistance) {
-                greatestDistance = distance;
-                greatestIndex = i;
+        for (int i = 0, j = 0; i < pointCount; i++) {
+            if (mKeep[i]) {
+                reduced[j++] = points[i * 2];
+                reduced[j++] = points[i * 2 + 1];
             }
         }
 
-        if (greatestDistance > tolerance) {
+        return reduced;
+    }
 
-            float[] reduced1 = reduceWithDouglasPeucker(Arrays.copyOfRange(points, 0, greatestIndex + 2), tolerance);
-            float[] reduced2 = reduceWithDouglasPeucker(Arrays.copyOfRange(points, greatestIndex, points.length),
-                    tolerance);
+    /**
+     * Reduces the first pointCount points (order: x,y,x,y,...) of the given array in place.
+     * The remaining points are moved to the front of the array, their number is returned.
+     *
+     * @param points
+     * @param pointCount
+     * @param tolerance
+     * @return
+     */
+    public int reduceInPlace(float[] points, int pointCount, float tolerance) {
 
-            float[] result1 = reduced1;
-            float[] result2 = Arrays.copyOfRange(reduced2, 2, reduced2.length);
+        final int keptCount = markWithDouglasPeucker(points, pointCount, tolerance);
 
-            return concat(result1, result2);
-        } else {
-            return line.getPoints();
+        for (int i = 0, j = 0; i < pointCount; i++) {
+            if (mKeep[i]) {
+                points[j++] = points[i * 2];
+                points[j++] = points[i * 2 + 1];
+            }
         }
+
+        return keptCount;
     }
 
     /**
-     * Combine arrays.
+     * Runs the simplification over the first pointCount points (order: x,y,x,y,...) of the
+     * given array without modifying it. Afterwards isKept(...) tells which points remain.
+     * Returns the number of remaining points.
      *
-     * @param arrays
+     * @param points
+     * @param pointCount
+     * @param tolerance
      * @return
      */
-    float[] concat(float[]... arrays) {
-        int length = 0;
-        for (float[] array : arrays) {
-            length += array.length;
-        }
-        float[] result = new float[length];
-        int pos = 0;
-        for (float[] array : arrays) {
-            for (float element : array) {
-                result[pos] = element;
-                pos++;
-            }
-        }
-        return result;
-    }
+    public int markWithDouglasPeucker(float[] points, int pointCount, float tolerance) {
 
-    private class Line {
+        if (mKeep.length < pointCount)
+            mKeep = new boolean[pointCount];
 
-        private float[] points;
+        if (pointCount <= 0)
+            return 0;
 
-        private float sxey;
-        private float exsy;
+        for (int i = 0; i < pointCount; i++)
+            mKeep[i] = false;
 
-        private float dx;
-        private float dy;
+        // first and last always stay
+        mKeep[0] = true;
+        mKeep[pointCount - 1] = true;
 
-        private float length;
+        int keptCount = pointCount > 1 ? 2 : 1;
 
-        public Line(float x1, float y1, float x2, float y2) {
-            dx = x1 - x2;
-            dy = y1 - y2;
-            sxey = x1 * y2;
-            exsy = x2 * y1;
-            length = (float) Math.sqrt(dx * dx + dy * dy);
+        // the pending segments are disjoint, there can't be more than pointCount of them
+        if (mStack.length < pointCount * 2)
+            mStack = new int[pointCount * 2];
 
-            points = new float[]{x1, y1, x2, y2};
-        }
+        int stackSize = 0;
 
-        public float distance(float x, float y) {
-            return Math.abs(dy * x - dx * y + sxey - exsy) / length;
-        }
+        mStack[stackSize++] = 0;
+        mStack[stackSize++] = pointCount - 1;
 
-        public float[] getPoints() {
-            return points;
+        while (stackSize > 0) {
+
+            final int end = mStack[--stackSize];
+            final int start = mStack[--stackSize];
+
+            if (end - start < 2)
+                continue;
+
+            final float x1 = points[start * 2];
+            final float y1 = points[start * 2 + 1];
+            final float x2 = points[end * 2];
+            final float y2 = points[end * 2 + 1];
+
+            final float dx = x1 - x2;
+            final float dy = y1 - y2;
+            final float sxey = x1 * y2;
+            final float exsy = x2 * y1;
+            final float length = (float) Math.sqrt(dx * dx + dy * dy);
+
+            int greatestIndex = 0;
+            float greatestDistance = 0f;
+
+            for (int i = start + 1; i < end; i++) {
+
+                final float distance = Math.abs(dy * points[i * 2] - dx * points[i * 2 + 1]
+                        + sxey - exsy) / length;
+
+                if (distance > greatestDistance) {
+                    greatestDistance = distance;
+                    greatestIndex = i;
+                }
+            }
+
+            if (greatestDistance > tolerance) {
+
+                mKeep[greatestIndex] = true;
+                keptCount++;
+
+                mStack[stackSize++] = start;
+                mStack[stackSize++] = greatestIndex;
+                mStack[stackSize++] = greatestIndex;
+                mStack[stackSize++] = end;
+            }
         }
+
+        return keptCount;
+    }
+
+    /**
+     * Returns true if the point at the given index survived the last simplification.
+     *
+     * @param index
+     * @return
+     */
+    public boolean isKept(int index) {
+        return mKeep[index];
     }
 }
@@ -0,0 +1,198 @@
+/*
+ * Copyright 2021 The Cashbook Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.mikephil.charting.data.filter;
+
+import com.github.mikephil.charting.interfaces.datasets.IDataSet;
+
+/**
+ * Pixel-bucketed min/max decimation (M4) for line charts. The visible entries are grouped by
+ * the pixel column their x-value falls into and only the first, the last, the lowest and the
+ * highest entry of every column are kept. A polyline through the kept entries covers exactly
+ * the same pixels as a polyline through all of them, while at most four points per column
+ * are left to draw.
+ * <p>
+ * The decimator works on entry indices and keeps its result in a reused int array, so a
+ * decimation pass does not allocate once the array has grown to the needed size. The
+ * entries of the DataSet must be sorted by their x-value.
+ */
+public class MinMaxDecimator {
+
+    /** indices of the kept entries, ascending */
+    protected int[] mIndices = new int[64];
+
+    /** number of valid indices in mIndices */
+    protected int mCount = 0;
+
+    /** width of one bucket in pixels */
+    protected float mBucketWidth = 1f;
+
+    /**
+     * Sets the width of the buckets in pixels, default: 1f. Wider buckets remove more points
+     * at the cost of detail.
+     *
+     * @param width
+     */
+    public void setBucketWidth(float width) {
+        if (width < 1f)
+            width = 1f;
+        mBucketWidth = width;
+    }
+
+    public float getBucketWidth() {
+        return mBucketWidth;
+    }
+
+    /**
+     * Decimates the entries of the given DataSet between from and to (both inclusive). The
+     * x-value of an entry is mapped to pixels relative to the first entry, as
+     * (x - xFrom) * scaleX + pixelFrom, which keeps the precision for large x-values.
+     * If keepFirstLast is false, only the lowest and highest entry of each column are kept,
+     * which suits the cubic modes: the spline runs through every kept entry, so the extremes
+     * survive while the control points stay further apart.
+     * Returns false (and keeps nothing) if the range is small enough to be drawn as it is.
+     *
+     * @param dataSet
+     * @param from
+     * @param to
+     * @param scaleX    pixels per x-value
+     * @param pixelFrom pixel position of the entry at index from
+     * @param keepFirstLast
+     * @return
+     */
+    public boolean decimate(IDataSet dataSet, int from, int to, float scaleX, float pixelFrom,
+                            boolean keepFirstLast) {
+
+        mCount = 0;
+
+        final int pointCount = to - from + 1;
+
+        if (pointCount < 3 || scaleX == 0f || Float.isNaN(scaleX) || Float.isInfinite(scaleX))
+            return false;
+
+        final float scale = scaleX / mBucketWidth;
+        final float offset = pixelFrom / mBucketWidth;
+        final float xFrom = dataSet.getEntryXForIndex(from);
+
+        final float firstBucket = offset;
+        final float lastBucket = (dataSet.getEntryXForIndex(to) - xFrom) * scale + offset;
+        final int pointsPerBucket = keepFirstLast ? 4 : 2;
+
+        // nothing to gain if the buckets could hold all points anyway
+        if (pointCount <= (Math.abs(lastBucket - firstBucket) + 1f) * pointsPerBucket)
+            return false;
+
+        ensureCapacity(Math.min(pointCount,
+                (int) Math.ceil(Math.abs(lastBucket - firstBucket) + 1f) * pointsPerBucket));
+
+        long bucket = (long) Math.floor(firstBucket);
+        int first = from;
+        int last = from;
+        int min = from;
+        int max = from;
+        float minY = dataSet.getEntryYForIndex(from);
+        float maxY = minY;
+
+        for (int i = from + 1; i <= to; i++) {
+
+            final long b = (long) Math.floor((dataSet.getEntryXForIndex(i) - xFrom) * scale + offset);
+            final float y = dataSet.getEntryYForIndex(i);
+
+            if (b != bucket) {
+
+                flush(first, min, max, last, keepFirstLast);
+
+                bucket = b;
+                first = last = min = max = i;
+                minY = maxY = y;
+                continue;
+            }
+
+            last = i;
+
+            if (y < minY) {
+                minY = y;
+                min = i;
+            } else if (y > maxY) {
+                maxY = y;
+                max = i;
+            }
+        }
+
+        flush(first, min, max, last, keepFirstLast);
+
+        return true;
+    }
+
+    /**
+     * Appends the kept entries of one bucket in ascending order, without duplicates.
+     */
+    private void flush(int first, int min, int max, int last, boolean keepFirstLast) {
+
+        int lo = min < max ? min : max;
+        int hi = min < max ? max : min;
+
+        if (keepFirstLast) {
+            add(first);
+            add(lo);
+            add(hi);
+            add(last);
+        } else {
+            add(lo);
+            add(hi);
+        }
+    }
+
+    private void add(int index) {
+
+        if (mCount > 0 && mIndices[mCount - 1] == index)
+            return;
+
+        if (mCount == mIndices.length)
+            ensureCapacity(mCount * 2);
+
+        mIndices[mCount++] = index;
+    }
+
+    private void ensureCapacity(int size) {
+
+        if (mIndices.length >= size)
+            return;
+
+        int[] indices = new int[size];
+        System.arraycopy(mIndices, 0, indices, 0, mCount);
+        mIndices = indices;
+    }
+
+    /**
+     * Returns the index of the i-th kept entry.
+     *
+     * @param i
+     * @return
+     */
+    public int getIndex(int i) {
+        return mIndices[i];
+    }
+
+    /**
+     * Returns the number of entries kept by the last decimation.
+     *
+     * @return
+     */
+    public int getCount() {
+        return mCount;
+    }
+}
@@ -23,7 +23,7 @@ import java.text.DecimalFormat;
 /**
  * Created by philipp on 02/06/16.
  */
-public class DefaultAxisValueFormatter implements IAxisValueFormatter
+public class DefaultAxisValueFormatter implements IAxisValueFormatter, ICacheableFormatter
 {
 
     /**
@@ -69,4 +69,13 @@ public class DefaultAxisValueFormatter implements IAxisValueFormatter
     public int getDecimalDigits() {
         return digits;
     }
+
+    /**
+     * Only instances of this exact class are cached, subclasses may format based on the entry
+     * or axis and have to override this method to opt in.
+     */
+    @Override
+    public boolean isCacheable() {
+        return getClass() == DefaultAxisValueFormatter.class;
+    }
 }
@@ -17,6 +17,8 @@
 package com.github.mikephil.charting.formatter;
 
 import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.utils.DecimalFormatWriter;
+import com.github.mikephil.charting.utils.LabelCache;
 import com.github.mikephil.charting.utils.ViewPortHandler;
 
 import java.text.DecimalFormat;
@@ -27,7 +29,7 @@ import java.text.DecimalFormat;
  *
  * @author Philipp Jahoda
  */
-public class DefaultValueFormatter implements IValueFormatter
+public class DefaultValueFormatter implements IValueFormatter, IBufferedValueFormatter, ICacheableFormatter
 {
 
     /**
@@ -37,6 +39,11 @@ public class DefaultValueFormatter implements IValueFormatter
 
     protected int mDecimalDigits;
 
+    /**
+     * writes the values like mFormat, without allocating
+     */
+    protected DecimalFormatWriter mWriter;
+
     /**
      * Constructor that specifies to how many digits the value should be
      * formatted.
@@ -64,6 +71,9 @@ public class DefaultValueFormatter implements IValueFormatter
         }
 
         mFormat = new DecimalFormat("###,###,###,##0" + b.toString());
+        mWriter = new DecimalFormatWriter(digits, mFormat.getDecimalFormatSymbols());
+
+        LabelCache.getInstance().invalidate(this);
     }
 
     @Override
@@ -75,6 +85,16 @@ public class DefaultValueFormatter implements IValueFormatter
         return mFormat.format(value);
     }
 
+    @Override
+    public int formatValue(float value, Entry entry, int dataSetIndex, ViewPortHandler viewPortHandler, char[] buffer) {
+
+        // subclasses may override getFormattedValue(...), they use the String path
+        if (getClass() != DefaultValueFormatter.class)
+            return -1;
+
+        return mWriter.write(value, buffer, 0);
+    }
+
     /**
      * Returns the number of decimal digits this formatter uses.
      *
@@ -83,4 +103,13 @@ public class DefaultValueFormatter implements IValueFormatter
     public int getDecimalDigits() {
         return mDecimalDigits;
     }
+
+    /**
+     * Only instances of this exact class are cached, subclasses may format based on the entry
+     * or axis and have to override this method to opt in.
+     */
+    @Override
+    public boolean isCacheable() {
+        return getClass() == DefaultValueFormatter.class;
+    }
 }
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2021 The Cashbook Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.mikephil.charting.formatter;
+
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.utils.ViewPortHandler;
+
+/**
+ * Implemented by IValueFormatter classes that can write the formatted value into a reusable
+ * char[] instead of creating a String. Renderers prefer this path, so drawing the values does
+ * not allocate.
+ */
+public interface IBufferedValueFormatter {
+
+    /**
+     * Writes the formatted value into the given buffer starting at index 0 and returns the
+     * number of written chars. Returns -1 if the value cannot be written into the buffer,
+     * the renderer then uses getFormattedValue(...) instead.
+     *
+     * @param value           the value to be formatted
+     * @param entry           the entry the value belongs to - in e.g. BarChart, this is of class BarEntry
+     * @param dataSetIndex    the index of the DataSet the entry in focus belongs to
+     * @param viewPortHandler provides information about the current chart state (scale, translation, ...)
+     * @param buffer          the buffer to write into
+     * @return
+     */
+    int formatValue(float value, Entry entry, int dataSetIndex, ViewPortHandler viewPortHandler, char[] buffer);
+}
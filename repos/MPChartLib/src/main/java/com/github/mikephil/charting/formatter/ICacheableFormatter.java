@@ -0,0 +1,35 @@
+/*
+ * Copyright 2021 The Cashbook Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.mikephil.charting.formatter;
+
+/**
+ * Implemented by IValueFormatter and IAxisValueFormatter classes whose output can depend on the
+ * formatted value only (not on the entry, the axis or any other state that changes between
+ * calls). The formatted labels of such formatters are cached by the LabelCache. Formatters
+ * that change their output later on, e.g. after a setter call, must call
+ * LabelCache.getInstance().invalidate(this).
+ */
+public interface ICacheableFormatter {
+
+    /**
+     * Returns true if the output of this formatter depends on the formatted value only.
+     * Subclasses that format based on the entry or the axis must return false.
+     *
+     * @return
+     */
+    boolean isCacheable();
+}
@@ -18,6 +18,7 @@ package com.github.mikephil.charting.formatter;
 
 import com.github.mikephil.charting.components.AxisBase;
 import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.utils.LabelCache;
 import com.github.mikephil.charting.utils.ViewPortHandler;
 
 import java.text.DecimalFormat;
@@ -32,7 +33,7 @@ import java.text.DecimalFormat;
  * @author Philipp Jahoda
  * @author Oleksandr Tyshkovets <olexandr.tyshkovets@gmail.com>
  */
-public class LargeValueFormatter implements IValueFormatter, IAxisValueFormatter
+public class LargeValueFormatter implements IValueFormatter, IAxisValueFormatter, ICacheableFormatter
 {
 
     private String[] mSuffix = new String[]{
@@ -75,6 +76,7 @@ public class LargeValueFormatter implements IValueFormatter, IAxisValueFormatter
      */
     public void setAppendix(String appendix) {
         this.mText = appendix;
+        LabelCache.getInstance().invalidate(this);
     }
 
     /**
@@ -85,10 +87,12 @@ public class LargeValueFormatter implements IValueFormatter, IAxisValueFormatter
      */
     public void setSuffix(String[] suffix) {
         this.mSuffix = suffix;
+        LabelCache.getInstance().invalidate(this);
     }
 
     public void setMaxLength(int maxLength) {
         this.mMaxLength = maxLength;
+        LabelCache.getInstance().invalidate(this);
     }
 
     /**
@@ -115,4 +119,13 @@ public class LargeValueFormatter implements IValueFormatter, IAxisValueFormatter
     public int getDecimalDigits() {
         return 0;
     }
+
+    /**
+     * Only instances of this exact class are cached, subclasses may format based on the entry
+     * or axis and have to override this method to opt in.
+     */
+    @Override
+    public boolean isCacheable() {
+        return getClass() == LargeValueFormatter.class;
+    }
 }
@@ -18,6 +18,7 @@ package com.github.mikephil.charting.formatter;
 
 import com.github.mikephil.charting.components.AxisBase;
 import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.utils.DecimalFormatWriter;
 import com.github.mikephil.charting.utils.ViewPortHandler;
 
 import java.text.DecimalFormat;
@@ -28,13 +29,20 @@ import java.text.DecimalFormat;
  *
  * @author Philipp Jahoda
  */
-public class PercentFormatter implements IValueFormatter, IAxisValueFormatter
+public class PercentFormatter implements IValueFormatter, IAxisValueFormatter, IBufferedValueFormatter,
+        ICacheableFormatter
 {
 
     protected DecimalFormat mFormat;
 
+    /**
+     * writes the values like the default mFormat without allocating, null for a custom format
+     */
+    protected DecimalFormatWriter mWriter;
+
     public PercentFormatter() {
         mFormat = new DecimalFormat("###,###,##0.0");
+        mWriter = new DecimalFormatWriter(1, mFormat.getDecimalFormatSymbols());
     }
 
     /**
@@ -58,7 +66,34 @@ public class PercentFormatter implements IValueFormatter, IAxisValueFormatter
         return mFormat.format(value) + " %";
     }
 
+    // IBufferedValueFormatter
+    @Override
+    public int formatValue(float value, Entry entry, int dataSetIndex, ViewPortHandler viewPortHandler, char[] buffer) {
+
+        // subclasses may override getFormattedValue(...), they use the String path
+        if (mWriter == null || getClass() != PercentFormatter.class)
+            return -1;
+
+        int length = mWriter.write(value, buffer, 0);
+
+        if (length < 0 || length + 2 > buffer.length)
+            return -1;
+
+        buffer[length] = ' ';
+        buffer[length + 1] = '%';
+        return length + 2;
+    }
+
     public int getDecimalDigits() {
         return 1;
     }
+
+    /**
+     * Only instances of this exact class are cached, subclasses may format based on the entry
+     * or axis and have to override this method to opt in.
+     */
+    @Override
+    public boolean isCacheable() {
+        return getClass() == PercentFormatter.class;
+    }
 }
@@ -18,6 +18,7 @@ package com.github.mikephil.charting.formatter;
 
 import com.github.mikephil.charting.data.BarEntry;
 import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.utils.DecimalFormatWriter;
 import com.github.mikephil.charting.utils.ViewPortHandler;
 
 import java.text.DecimalFormat;
@@ -28,7 +29,7 @@ import java.text.DecimalFormat;
  * A formatter specifically for stacked BarChart that allows to specify whether the all stack values
  * or just the top value should be drawn.
  */
-public class StackedValueFormatter implements IValueFormatter
+public class StackedValueFormatter implements IValueFormatter, IBufferedValueFormatter
 {
 
     /**
@@ -43,6 +44,8 @@ public class StackedValueFormatter implements IValueFormatter
 
     private DecimalFormat mFormat;
 
+    private DecimalFormatWriter mWriter;
+
     /**
      * Constructor.
      *
@@ -62,6 +65,7 @@ public class StackedValueFormatter implements IValueFormatter
         }
 
         this.mFormat = new DecimalFormat("###,###,###,##0" + b.toString());
+        this.mWriter = new DecimalFormatWriter(decimals, mFormat.getDecimalFormatSymbols());
     }
 
     @Override
@@ -88,4 +92,35 @@ public class StackedValueFormatter implements IValueFormatter
         // return the "proposed" value
         return mFormat.format(value) + mAppendix;
     }
+
+    @Override
+    public int formatValue(float value, Entry entry, int dataSetIndex, ViewPortHandler viewPortHandler, char[] buffer) {
+
+        // subclasses may override getFormattedValue(...), they use the String path
+        if (mAppendix == null || getClass() != StackedValueFormatter.class)
+            return -1;
+
+        if (!mDrawWholeStack && entry instanceof BarEntry) {
+
+            BarEntry barEntry = (BarEntry) entry;
+            float[] vals = barEntry.getYVals();
+
+            if (vals != null) {
+
+                // find out if we are on top of the stack
+                if (vals[vals.length - 1] == value)
+                    value = barEntry.getY(); // write the "sum" across all stack values
+                else
+                    return 0; // write nothing
+            }
+        }
+
+        int length = mWriter.write(value, buffer, 0);
+
+        if (length < 0 || length + mAppendix.length() > buffer.length)
+            return -1;
+
+        mAppendix.getChars(0, mAppendix.length(), buffer, length);
+        return length + mAppendix.length();
+    }
 }
@@ -172,6 +172,11 @@ public class BarHighlighter extends ChartHighlighter<BarDataProvider> {
         return Math.abs(x1 - x2);
     }
 
+    @Override
+    protected float getDistanceWeightY() {
+        return 0f;
+    }
+
     @Override
     protected BarLineScatterCandleBubbleData getData() {
         return mChart.getBarData();
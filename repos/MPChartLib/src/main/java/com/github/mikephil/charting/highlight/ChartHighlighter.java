@@ -16,13 +16,17 @@
 
 package com.github.mikephil.charting.highlight;
 
+import android.graphics.Matrix;
+
 import com.github.mikephil.charting.components.YAxis;
 import com.github.mikephil.charting.data.BarLineScatterCandleBubbleData;
 import com.github.mikephil.charting.data.DataSet;
 import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.SpatialIndex;
 import com.github.mikephil.charting.interfaces.dataprovider.BarLineScatterCandleBubbleDataProvider;
 import com.github.mikephil.charting.interfaces.datasets.IDataSet;
 import com.github.mikephil.charting.utils.MPPointD;
+import com.github.mikephil.charting.utils.Transformer;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -43,6 +47,11 @@ public class ChartHighlighter<T extends BarLineScatterCandleBubbleDataProvider>
      */
     protected List<Highlight> mHighlightBuffer = new ArrayList<Highlight>();
 
+    /**
+     * buffer for the values of the value-to-pixel matrix
+     */
+    protected float[] mMatrixBuffer = new float[9];
+
     public ChartHighlighter(T chart) {
         this.mChart = chart;
     }
@@ -158,7 +167,16 @@ public class ChartHighlighter<T extends BarLineScatterCandleBubbleDataProvider>
             if (!dataSet.isHighlightEnabled())
                 continue;
 
-            mHighlightBuffer.addAll(buildHighlights(dataSet, i, xVal, DataSet.Rounding.CLOSEST));
+            SpatialIndex index = dataSet.getSpatialIndex();
+
+            if (index != null) {
+                Highlight high = buildNearestHighlight(dataSet, index, i, x, y);
+
+                if (high != null)
+                    mHighlightBuffer.add(high);
+            } else {
+                mHighlightBuffer.addAll(buildHighlights(dataSet, i, xVal, DataSet.Rounding.CLOSEST));
+            }
         }
 
         return mHighlightBuffer;
@@ -205,6 +223,77 @@ public class ChartHighlighter<T extends BarLineScatterCandleBubbleDataProvider>
         return highlights;
     }
 
+    /**
+     * Returns the Highlight for the entry of the given DataSet that is closest to the touch
+     * position, found with the spatial index of the DataSet. The distance is measured in
+     * pixels the same way as in getDistance(...). Returns null if no entry is within the
+     * maximum highlight distance.
+     *
+     * @param set
+     * @param index
+     * @param dataSetIndex
+     * @param x            touch position
+     * @param y            touch position
+     * @return
+     */
+    protected Highlight buildNearestHighlight(IDataSet set, SpatialIndex index, int dataSetIndex, float x, float y) {
+
+        Transformer trans = mChart.getTransformer(set.getAxisDependency());
+
+        MPPointD vals = trans.getValuesByTouchPoint(x, y);
+        float xVal = (float) vals.x;
+        float yVal = (float) vals.y;
+        MPPointD.recycleInstance(vals);
+
+        // pixels per value unit, the matrix only scales (and for some charts swaps) the axes
+        final float[] m = mMatrixBuffer;
+        trans.getValueToPixelMatrix().getValues(m);
+
+        final float weightX = getDistanceWeightX();
+        final float weightY = getDistanceWeightY();
+
+        float scaleX = (float) Math.hypot(m[Matrix.MSCALE_X] * weightX, m[Matrix.MSKEW_Y] * weightY);
+        float scaleY = (float) Math.hypot(m[Matrix.MSKEW_X] * weightX, m[Matrix.MSCALE_Y] * weightY);
+
+        int entryIndex = index.nearest(xVal, yVal, scaleX, scaleY, mChart.getMaxHighlightDistance());
+
+        if (entryIndex < 0)
+            return null;
+
+        float entryX = set.getEntryXForIndex(entryIndex);
+        float entryY = set.getEntryYForIndex(entryIndex);
+
+        MPPointD pixels = trans.getPixelForValues(entryX, entryY);
+
+        Highlight high = new Highlight(
+                entryX, entryY,
+                (float) pixels.x, (float) pixels.y,
+                dataSetIndex, set.getAxisDependency());
+
+        MPPointD.recycleInstance(pixels);
+
+        return high;
+    }
+
+    /**
+     * Returns how much the horizontal pixel distance counts in getDistance(...), 1 or 0.
+     * Used to measure distances the same way when searching the spatial index.
+     *
+     * @return
+     */
+    protected float getDistanceWeightX() {
+        return 1f;
+    }
+
+    /**
+     * Returns how much the vertical pixel distance counts in getDistance(...), 1 or 0.
+     *
+     * @return
+     */
+    protected float getDistanceWeightY() {
+        return 1f;
+    }
+
     /**
      * Returns the Highlight of the DataSet that contains the closest value on the
      * y-axis.
@@ -20,6 +20,7 @@ import com.github.mikephil.charting.data.BarData;
 import com.github.mikephil.charting.data.BarLineScatterCandleBubbleData;
 import com.github.mikephil.charting.data.ChartData;
 import com.github.mikephil.charting.data.DataSet;
+import com.github.mikephil.charting.data.SpatialIndex;
 import com.github.mikephil.charting.interfaces.dataprovider.BarDataProvider;
 import com.github.mikephil.charting.interfaces.dataprovider.CombinedDataProvider;
 import com.github.mikephil.charting.interfaces.datasets.IDataSet;
@@ -73,6 +74,18 @@ public class CombinedHighlighter extends ChartHighlighter<CombinedDataProvider>
                     if (!dataSet.isHighlightEnabled())
                         continue;
 
+                    SpatialIndex index = dataSet.getSpatialIndex();
+
+                    if (index != null) {
+                        Highlight high = buildNearestHighlight(dataSet, index, j, x, y);
+
+                        if (high != null) {
+                            high.setDataIndex(i);
+                            mHighlightBuffer.add(high);
+                        }
+                        continue;
+                    }
+
                     List<Highlight> highs = buildHighlights(dataSet, j, xVal, DataSet.Rounding.CLOSEST);
                     for (Highlight high : highs)
                     {
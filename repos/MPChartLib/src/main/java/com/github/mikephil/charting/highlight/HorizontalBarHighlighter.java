@@ -16,13 +16,17 @@
 
 package com.github.mikephil.charting.highlight;
 
+import android.graphics.Matrix;
+
 import com.github.mikephil.charting.data.BarData;
 import com.github.mikephil.charting.data.DataSet;
 import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.SpatialIndex;
 import com.github.mikephil.charting.interfaces.dataprovider.BarDataProvider;
 import com.github.mikephil.charting.interfaces.datasets.IBarDataSet;
 import com.github.mikephil.charting.interfaces.datasets.IDataSet;
 import com.github.mikephil.charting.utils.MPPointD;
+import com.github.mikephil.charting.utils.Transformer;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -94,8 +98,58 @@ public class HorizontalBarHighlighter extends BarHighlighter {
 		return highlights;
 	}
 
+	@Override
+	protected Highlight buildNearestHighlight(IDataSet set, SpatialIndex index, int dataSetIndex, float x, float y) {
+
+		Transformer trans = mChart.getTransformer(set.getAxisDependency());
+
+		// the transformer of the horizontal chart works on (y, x) value pairs
+		MPPointD vals = trans.getValuesByTouchPoint(x, y);
+		float xVal = (float) vals.y;
+		float yVal = (float) vals.x;
+		MPPointD.recycleInstance(vals);
+
+		final float[] m = mMatrixBuffer;
+		trans.getValueToPixelMatrix().getValues(m);
+
+		final float weightX = getDistanceWeightX();
+		final float weightY = getDistanceWeightY();
+
+		float scaleX = (float) Math.hypot(m[Matrix.MSKEW_X] * weightX, m[Matrix.MSCALE_Y] * weightY);
+		float scaleY = (float) Math.hypot(m[Matrix.MSCALE_X] * weightX, m[Matrix.MSKEW_Y] * weightY);
+
+		int entryIndex = index.nearest(xVal, yVal, scaleX, scaleY, mChart.getMaxHighlightDistance());
+
+		if (entryIndex < 0)
+			return null;
+
+		float entryX = set.getEntryXForIndex(entryIndex);
+		float entryY = set.getEntryYForIndex(entryIndex);
+
+		MPPointD pixels = trans.getPixelForValues(entryY, entryX);
+
+		Highlight high = new Highlight(
+				entryX, entryY,
+				(float) pixels.x, (float) pixels.y,
+				dataSetIndex, set.getAxisDependency());
+
+		MPPointD.recycleInstance(pixels);
+
+		return high;
+	}
+
 	@Override
 	protected float getDistance(float x1, float y1, float x2, float y2) {
 		return Math.abs(y1 - y2);
 	}
+
+	@Override
+	protected float getDistanceWeightX() {
+		return 0f;
+	}
+
+	@Override
+	protected float getDistanceWeightY() {
+		return 1f;
+	}
 }
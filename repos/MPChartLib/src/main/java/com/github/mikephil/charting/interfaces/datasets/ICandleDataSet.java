@@ -98,4 +98,37 @@ public interface ICandleDataSet extends ILineScatterCandleRadarDataSet<CandleEnt
      * @return
      */
     boolean getShadowColorSameAsCandle();
+
+    /**
+     * Returns the shadow-high value of the Entry at the given index. Prefer this over
+     * getEntryForIndex(...) in performance critical situations.
+     *
+     * @param index
+     * @return
+     */
+    float getShadowHighForIndex(int index);
+
+    /**
+     * Returns the shadow-low value of the Entry at the given index.
+     *
+     * @param index
+     * @return
+     */
+    float getShadowLowForIndex(int index);
+
+    /**
+     * Returns the open value of the Entry at the given index.
+     *
+     * @param index
+     * @return
+     */
+    float getOpenForIndex(int index);
+
+    /**
+     * Returns the close value of the Entry at the given index.
+     *
+     * @param index
+     * @return
+     */
+    float getCloseForIndex(int index);
 }
@@ -24,6 +24,7 @@ import com.github.mikephil.charting.components.Legend;
 import com.github.mikephil.charting.components.YAxis;
 import com.github.mikephil.charting.data.DataSet;
 import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.SpatialIndex;
 import com.github.mikephil.charting.formatter.IValueFormatter;
 import com.github.mikephil.charting.utils.MPPointF;
 
@@ -86,6 +87,14 @@ public interface IDataSet<T extends Entry> {
      */
     void calcMinMaxY(float fromX, float toX);
 
+    /**
+     * Recalculates the min and max values and builds everything else that would otherwise be
+     * computed lazily while drawing or highlighting (e.g. the min/max index and the spatial
+     * index). May be called from a background thread as long as the DataSet is not modified
+     * and not drawn at the same time.
+     */
+    void prepare();
+
     /**
      * Returns the first Entry object found at the given x-value with binary
      * search.
@@ -138,6 +147,43 @@ public interface IDataSet<T extends Entry> {
      */
     T getEntryForIndex(int index);
 
+    /**
+     * Returns the x-value of the Entry at the given index (NOT xIndex) in the values array.
+     * Prefer this over getEntryForIndex(...) in performance critical situations, DataSets that
+     * do not hold Entry objects can answer it without creating one.
+     *
+     * @param index
+     * @return
+     */
+    float getEntryXForIndex(int index);
+
+    /**
+     * Returns the y-value of the Entry at the given index (NOT xIndex) in the values array.
+     * Prefer this over getEntryForIndex(...) in performance critical situations, DataSets that
+     * do not hold Entry objects can answer it without creating one.
+     *
+     * @param index
+     * @return
+     */
+    float getEntryYForIndex(int index);
+
+    /**
+     * Returns the spatial index over the entries of this DataSet, used by the highlighters to
+     * find the entry closest to a touch position. Returns null if the index is disabled.
+     *
+     * @return
+     */
+    SpatialIndex getSpatialIndex();
+
+    /**
+     * Returns the modification stamp of this DataSet. It changes whenever entries are added or
+     * removed or the min and max values are recalculated, which allows callers to cache
+     * results computed from the values.
+     *
+     * @return
+     */
+    long getVersion();
+
     /**
      * Returns the first Entry index found at the given x-value with binary
      * search.
@@ -20,6 +20,7 @@ import android.graphics.DashPathEffect;
 
 import com.github.mikephil.charting.data.Entry;
 import com.github.mikephil.charting.data.LineDataSet;
+import com.github.mikephil.charting.data.filter.ApproximationFilter;
 import com.github.mikephil.charting.formatter.IFillFormatter;
 
 /**
@@ -116,4 +117,27 @@ public interface ILineDataSet extends ILineRadarDataSet<Entry> {
      * @return
      */
     IFillFormatter getFillFormatter();
-}
\ No newline at end of file
+
+    /**
+     * Returns true if the entries of this DataSet are reduced to the minimum and maximum per
+     * pixel column before they are drawn.
+     *
+     * @return
+     */
+    boolean isDecimationEnabled();
+
+    /**
+     * Returns true if a line with more than one color is drawn as one gradient through the
+     * colors of its entries instead of one solid color per segment.
+     *
+     * @return
+     */
+    boolean isGradientLineEnabled();
+
+    /**
+     * Returns the filter that simplifies this DataSet before it is drawn, null if there is none.
+     *
+     * @return
+     */
+    ApproximationFilter getApproximationFilter();
+}
@@ -51,4 +51,11 @@ public interface IScatterDataSet extends ILineScatterCandleRadarDataSet<Entry> {
      * @return
      */
     IShapeRenderer getShapeRenderer();
+
+    /**
+     * Returns true if the shapes of this DataSet are drawn from cached bitmaps.
+     *
+     * @return
+     */
+    boolean isShapeCacheEnabled();
 }
@@ -33,7 +33,7 @@ public class AnimatedMoveViewJob extends AnimatedViewPortJob {
     private static ObjectPool<AnimatedMoveViewJob> pool;
 
     static {
-        pool = ObjectPool.create(4, new AnimatedMoveViewJob(null,0,0,null,null,0,0,0));
+        pool = ObjectPool.createThreadConfined(4, new AnimatedMoveViewJob(null,0,0,null,null,0,0,0));
         pool.setReplenishPercentage(0.5f);
     }
 
@@ -37,7 +37,7 @@ public class AnimatedZoomJob extends AnimatedViewPortJob implements Animator.Ani
     private static ObjectPool<AnimatedZoomJob> pool;
 
     static {
-        pool = ObjectPool.create(8, new AnimatedZoomJob(null,null,null,null,0,0,0,0,0,0,0,0,0,0));
+        pool = ObjectPool.createThreadConfined(8, new AnimatedZoomJob(null,null,null,null,0,0,0,0,0,0,0,0,0,0));
     }
 
     public static AnimatedZoomJob getInstance(ViewPortHandler viewPortHandler, View v, Transformer trans, YAxis axis, float xAxisRange, float scaleX, float scaleY, float xOrigin, float yOrigin, float zoomCenterX, float zoomCenterY, float zoomOriginX, float zoomOriginY, long duration) {
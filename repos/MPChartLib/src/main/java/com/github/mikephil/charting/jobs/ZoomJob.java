@@ -33,7 +33,7 @@ public class ZoomJob extends ViewPortJob {
     private static ObjectPool<ZoomJob> pool;
 
     static {
-        pool = ObjectPool.create(1, new ZoomJob(null, 0, 0, 0, 0, null, null, null));
+        pool = ObjectPool.createThreadConfined(1, new ZoomJob(null, 0, 0, 0, 0, null, null, null));
         pool.setReplenishPercentage(0.5f);
     }
 
@@ -0,0 +1,35 @@
+/*
+ * Copyright 2021 The Cashbook Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.mikephil.charting.listener;
+
+import com.github.mikephil.charting.charts.Chart;
+import com.github.mikephil.charting.utils.ChartMetrics;
+
+/**
+ * Listener that receives the timings and counters of every drawn frame of a chart.
+ */
+public interface OnChartMetricsListener {
+
+    /**
+     * Called at the end of every onDraw(...) of the chart. The metrics object is reused for
+     * the next frame, copy the values that should be kept.
+     *
+     * @param chart
+     * @param metrics
+     */
+    void onFrameDrawn(Chart chart, ChartMetrics metrics);
+}
@@ -20,13 +20,19 @@ import android.graphics.Canvas;
 import android.graphics.Color;
 import android.graphics.Paint;
 import android.graphics.Paint.Style;
+import android.graphics.Path;
+import android.graphics.RectF;
 
 import com.github.mikephil.charting.components.AxisBase;
+import com.github.mikephil.charting.components.LimitLine;
 import com.github.mikephil.charting.utils.MPPointD;
 import com.github.mikephil.charting.utils.Transformer;
 import com.github.mikephil.charting.utils.Utils;
 import com.github.mikephil.charting.utils.ViewPortHandler;
 
+import java.util.Arrays;
+import java.util.List;
+
 /**
  * Baseclass of all axis renderers.
  *
@@ -305,4 +311,192 @@ public abstract class AxisRenderer extends Renderer {
      * @param c
      */
     public abstract void renderLimitLines(Canvas c);
+
+    /**
+     * the enabled LimitLines of the axis and their limits in value space, collected by
+     * getLimitLinePositions(...)
+     */
+    protected LimitLine[] mLimitLineCache = new LimitLine[0];
+    protected float[] mLimitLineValues = new float[0];
+    protected int mLimitLineCount = 0;
+
+    /**
+     * pixel positions of the cached limits, only mapped again if the limits or the
+     * value-to-pixel matrix changed
+     */
+    protected float[] mLimitLinePositions = new float[0];
+
+    private boolean mLimitsOnY;
+    private boolean mLimitLinePositionsValid = false;
+    private float[] mLimitLineMatrix = new float[9];
+    private float[] mLimitLineMatrixBuffer = new float[9];
+
+    protected Path mLimitLineRunPath = new Path();
+    protected RectF mLimitLineClippingRect = new RectF();
+
+    /**
+     * Collects the enabled LimitLines of the given list into the limit line cache and returns
+     * the positions of their limits in pixels, two floats (x, y) per cached LimitLine. The limits
+     * are y-values if limitsOnY is true, x-values otherwise. The positions are reused across
+     * frames and only mapped through the Transformer again if the limits or the viewport changed.
+     *
+     * @param limitLines
+     * @param limitsOnY
+     * @return
+     */
+    protected float[] getLimitLinePositions(List<LimitLine> limitLines, boolean limitsOnY) {
+
+        boolean changed = !mLimitLinePositionsValid || limitsOnY != mLimitsOnY;
+
+        int count = 0;
+
+        for (int i = 0; i < limitLines.size(); i++) {
+
+            LimitLine l = limitLines.get(i);
+
+            if (!l.isEnabled())
+                continue;
+
+            if (count == mLimitLineCache.length) {
+                final int capacity = Math.max(count * 2, 4);
+                mLimitLineCache = Arrays.copyOf(mLimitLineCache, capacity);
+                mLimitLineValues = Arrays.copyOf(mLimitLineValues, capacity);
+                mLimitLinePositions = Arrays.copyOf(mLimitLinePositions, capacity * 2);
+            }
+
+            if (mLimitLineCache[count] != l || mLimitLineValues[count] != l.getLimit()) {
+                mLimitLineCache[count] = l;
+                mLimitLineValues[count] = l.getLimit();
+                changed = true;
+            }
+
+            count++;
+        }
+
+        if (count != mLimitLineCount) {
+
+            // don't keep removed LimitLines alive
+            for (int i = count; i < mLimitLineCount; i++)
+                mLimitLineCache[i] = null;
+
+            mLimitLineCount = count;
+            changed = true;
+        }
+
+        mTrans.getValueToPixelMatrix().getValues(mLimitLineMatrixBuffer);
+
+        if (!Arrays.equals(mLimitLineMatrixBuffer, mLimitLineMatrix)) {
+            float[] matrix = mLimitLineMatrix;
+            mLimitLineMatrix = mLimitLineMatrixBuffer;
+            mLimitLineMatrixBuffer = matrix;
+            changed = true;
+        }
+
+        if (changed) {
+
+            float[] positions = mLimitLinePositions;
+
+            for (int i = 0; i < count; i++) {
+                positions[i * 2] = limitsOnY ? 0f : mLimitLineValues[i];
+                positions[i * 2 + 1] = limitsOnY ? mLimitLineValues[i] : 0f;
+            }
+
+            mTrans.pointValuesToPixel(positions, count * 2);
+
+            mLimitsOnY = limitsOnY;
+            mLimitLinePositionsValid = true;
+        }
+
+        return mLimitLinePositions;
+    }
+
+    /**
+     * Draws the cached LimitLines at the given pixel positions, either as horizontal lines
+     * across the content rect or as vertical ones. Consecutive LimitLines with the same line
+     * color, width and dash effect are drawn as one path, each followed by their labels.
+     *
+     * @param c
+     * @param positions
+     * @param horizontal
+     */
+    protected void drawLimitLines(Canvas c, float[] positions, boolean horizontal) {
+
+        final LimitLine[] limitLines = mLimitLineCache;
+        final Path limitLinePath = mLimitLineRunPath;
+
+        int from = 0;
+
+        while (from < mLimitLineCount) {
+
+            final LimitLine first = limitLines[from];
+
+            int to = from + 1;
+
+            while (to < mLimitLineCount && hasSameLineStyle(first, limitLines[to]))
+                to++;
+
+            int clipRestoreCount = c.save();
+            mLimitLineClippingRect.set(mViewPortHandler.getContentRect());
+
+            if (horizontal)
+                mLimitLineClippingRect.inset(0.f, -first.getLineWidth());
+            else
+                mLimitLineClippingRect.inset(-first.getLineWidth(), 0.f);
+
+            c.clipRect(mLimitLineClippingRect);
+
+            limitLinePath.reset();
+
+            for (int i = from; i < to; i++) {
+
+                if (horizontal) {
+                    limitLinePath.moveTo(mViewPortHandler.contentLeft(), positions[i * 2 + 1]);
+                    limitLinePath.lineTo(mViewPortHandler.contentRight(), positions[i * 2 + 1]);
+                } else {
+                    limitLinePath.moveTo(positions[i * 2], mViewPortHandler.contentTop());
+                    limitLinePath.lineTo(positions[i * 2], mViewPortHandler.contentBottom());
+                }
+            }
+
+            mLimitLinePaint.setStyle(Paint.Style.STROKE);
+            mLimitLinePaint.setColor(first.getLineColor());
+            mLimitLinePaint.setStrokeWidth(first.getLineWidth());
+            mLimitLinePaint.setPathEffect(first.getDashPathEffect());
+
+            // draw a path because lines don't support dashing on lower android versions
+            c.drawPath(limitLinePath, mLimitLinePaint);
+
+            for (int i = from; i < to; i++)
+                drawLimitLineLabel(c, limitLines[i], positions[i * 2], positions[i * 2 + 1]);
+
+            c.restoreToCount(clipRestoreCount);
+
+            from = to;
+        }
+    }
+
+    /**
+     * Returns true if the lines of the two given LimitLines can be drawn with the same paint.
+     *
+     * @param a
+     * @param b
+     * @return
+     */
+    protected boolean hasSameLineStyle(LimitLine a, LimitLine b) {
+        return a.getLineColor() == b.getLineColor()
+                && a.getLineWidth() == b.getLineWidth()
+                && a.getDashPathEffect() == b.getDashPathEffect();
+    }
+
+    /**
+     * Draws the label of the given LimitLine, x and y are the pixel position of its limit. Does
+     * nothing by default.
+     *
+     * @param c
+     * @param limitLine
+     * @param x
+     * @param y
+     */
+    protected void drawLimitLineLabel(Canvas c, LimitLine limitLine, float x, float y) {
+    }
 }
@@ -26,6 +26,7 @@ import com.github.mikephil.charting.animation.ChartAnimator;
 import com.github.mikephil.charting.buffer.BarBuffer;
 import com.github.mikephil.charting.data.BarData;
 import com.github.mikephil.charting.data.BarEntry;
+import com.github.mikephil.charting.data.DataSet;
 import com.github.mikephil.charting.highlight.Highlight;
 import com.github.mikephil.charting.highlight.Range;
 import com.github.mikephil.charting.interfaces.dataprovider.BarDataProvider;
@@ -49,6 +50,12 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
 
     protected BarBuffer[] mBarBuffers;
 
+    /**
+     * number of entries that are fed on both sides of the visible x-range in addition to the
+     * entries that (partially) fall into it
+     */
+    protected int mVisibleRangeMargin = 1;
+
     protected Paint mShadowPaint;
     protected Paint mBarBorderPaint;
 
@@ -78,11 +85,50 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
 
         for (int i = 0; i < mBarBuffers.length; i++) {
             IBarDataSet set = barData.getDataSetByIndex(i);
-            mBarBuffers[i] = new BarBuffer(set.getEntryCount() * 4 * (set.isStacked() ? set.getStackSize() : 1),
-                    barData.getDataSetCount(), set.isStacked());
+            // the buffer grows to the visible window on the first feed
+            mBarBuffers[i] = new BarBuffer(0, barData.getDataSetCount(), set.isStacked());
         }
     }
 
+    /**
+     * Limits the given buffer to the entries of the DataSet that can be visible in the current
+     * viewport. The visible x-range is widened by half a bar on each side so that partially
+     * visible bars are included, plus mVisibleRangeMargin entries.
+     *
+     * @param buffer
+     * @param dataSet
+     */
+    protected void limitBufferToVisibleRange(BarBuffer buffer, IBarDataSet dataSet) {
+
+        final float barWidthHalf = mChart.getBarData().getBarWidth() / 2f;
+
+        int from = dataSet.getEntryIndex(mChart.getLowestVisibleX() - barWidthHalf,
+                Float.NaN, DataSet.Rounding.DOWN);
+        int to = dataSet.getEntryIndex(mChart.getHighestVisibleX() + barWidthHalf,
+                Float.NaN, DataSet.Rounding.UP);
+
+        if (from < 0 || to < 0) {
+            buffer.limitFrom(0);
+            buffer.limitTo(Integer.MAX_VALUE);
+            return;
+        }
+
+        buffer.limitFrom(from - mVisibleRangeMargin);
+        buffer.limitTo(to + mVisibleRangeMargin);
+    }
+
+    /**
+     * Returns the index of the first bar in the buffer as counted over the whole DataSet, used
+     * to look up colors and fills.
+     *
+     * @param buffer
+     * @param dataSet
+     * @return
+     */
+    protected int getBufferColorOffset(BarBuffer buffer, IBarDataSet dataSet) {
+        return dataSet.isStacked() ? buffer.getFrom() * dataSet.getStackSize() : buffer.getFrom();
+    }
+
     @Override
     public void drawData(Canvas c) {
 
@@ -112,6 +158,9 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
         float phaseX = mAnimator.getPhaseX();
         float phaseY = mAnimator.getPhaseY();
 
+        BarBuffer buffer = mBarBuffers[index];
+        limitBufferToVisibleRange(buffer, dataSet);
+
         // draw the bar shadow before the values
         if (mChart.isDrawBarShadowEnabled()) {
             mShadowPaint.setColor(dataSet.getBarShadowColor());
@@ -122,7 +171,7 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
             final float barWidthHalf = barWidth / 2.0f;
             float x;
 
-            for (int i = 0, count = Math.min((int)(Math.ceil((float)(dataSet.getEntryCount()) * phaseX)), dataSet.getEntryCount());
+            for (int i = buffer.getFrom(), count = Math.min((int)(Math.ceil((float)(dataSet.getEntryCount()) * phaseX)), dataSet.getEntryCount());
                 i < count;
                 i++) {
 
@@ -149,7 +198,6 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
         }
 
         // initialize the buffer
-        BarBuffer buffer = mBarBuffers[index];
         buffer.setPhases(phaseX, phaseY);
         buffer.setDataSet(index);
         buffer.setInverted(mChart.isInverted(dataSet.getAxisDependency()));
@@ -157,7 +205,10 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
 
         buffer.feed(dataSet);
 
-        trans.pointValuesToPixel(buffer.buffer);
+        recordEntries(buffer.size() / (dataSet.isStacked() ? 4 * dataSet.getStackSize() : 4),
+                dataSet.getEntryCount());
+
+        trans.pointValuesToPixel(buffer.buffer, buffer.size());
 
         final boolean isCustomFill = dataSet.getFills() != null && !dataSet.getFills().isEmpty();
         final boolean isSingleColor = dataSet.getColors().size() == 1;
@@ -167,7 +218,7 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
             mRenderPaint.setColor(dataSet.getColor());
         }
 
-        for (int j = 0, pos = 0; j < buffer.size(); j += 4, pos++) {
+        for (int j = 0, pos = getBufferColorOffset(buffer, dataSet); j < buffer.size(); j += 4, pos++) {
 
             if (!mViewPortHandler.isInBoundsLeft(buffer.buffer[j + 2]))
                 continue;
@@ -263,7 +314,8 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
                 // if only single values are drawn (sum)
                 if (!dataSet.isStacked()) {
 
-                    for (int j = 0; j < buffer.buffer.length * mAnimator.getPhaseX(); j += 4) {
+                    // the buffer only holds the fed window, it is already limited by the phase
+                    for (int j = 0; j < buffer.size(); j += 4) {
 
                         float x = (buffer.buffer[j] + buffer.buffer[j + 2]) / 2f;
 
@@ -274,7 +326,9 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
                                 || !mViewPortHandler.isInBoundsLeft(x))
                             continue;
 
-                        BarEntry entry = dataSet.getEntryForIndex(j / 4);
+                        final int entryIndex = buffer.getFrom() + j / 4;
+
+                        BarEntry entry = dataSet.getEntryForIndex(entryIndex);
                         float val = entry.getY();
 
                         if (dataSet.isDrawValuesEnabled()) {
@@ -282,7 +336,7 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
                                     val >= 0 ?
                                             (buffer.buffer[j + 1] + posOffset) :
                                             (buffer.buffer[j + 3] + negOffset),
-                                    dataSet.getValueTextColor(j / 4));
+                                    dataSet.getValueTextColor(entryIndex));
                         }
 
                         if (entry.getIcon() != null && dataSet.isDrawIconsEnabled()) {
@@ -313,9 +367,10 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
                     Transformer trans = mChart.getTransformer(dataSet.getAxisDependency());
 
                     int bufferIndex = 0;
-                    int index = 0;
+                    int index = buffer.getFrom();
 
-                    while (index < dataSet.getEntryCount() * mAnimator.getPhaseX()) {
+                    while (index < dataSet.getEntryCount() * mAnimator.getPhaseX()
+                            && bufferIndex < buffer.size()) {
 
                         BarEntry entry = dataSet.getEntryForIndex(index);
 
@@ -18,6 +18,7 @@ package com.github.mikephil.charting.renderer;
 
 import android.graphics.Canvas;
 import android.graphics.Color;
+import android.graphics.Paint;
 import android.graphics.Paint.Style;
 import android.graphics.drawable.Drawable;
 
@@ -28,6 +29,7 @@ import com.github.mikephil.charting.highlight.Highlight;
 import com.github.mikephil.charting.interfaces.dataprovider.BubbleDataProvider;
 import com.github.mikephil.charting.interfaces.datasets.IBubbleDataSet;
 import com.github.mikephil.charting.utils.MPPointF;
+import com.github.mikephil.charting.utils.PointBuffer;
 import com.github.mikephil.charting.utils.Transformer;
 import com.github.mikephil.charting.utils.Utils;
 import com.github.mikephil.charting.utils.ViewPortHandler;
@@ -73,6 +75,16 @@ public class BubbleChartRenderer extends BarLineScatterCandleBubbleRenderer {
     private float[] sizeBuffer = new float[4];
     private float[] pointBuffer = new float[2];
 
+    /**
+     * centers of all visible bubbles, transformed at once
+     */
+    private PointBuffer mCenterBuffer = new PointBuffer();
+
+    /**
+     * centers of a run of bubbles that share color and size
+     */
+    private PointBuffer mRunBuffer = new PointBuffer();
+
     protected float getShapeSize(float entrySize, float maxSize, float reference, boolean normalizeSize) {
         final float factor = normalizeSize ? ((maxSize == 0f) ? 1f : (float) Math.sqrt(entrySize / maxSize)) :
                 entrySize;
@@ -91,6 +103,8 @@ public class BubbleChartRenderer extends BarLineScatterCandleBubbleRenderer {
 
         mXBounds.set(mChart, dataSet);
 
+        recordEntries(mXBounds.range + 1, dataSet.getEntryCount());
+
         sizeBuffer[0] = 0f;
         sizeBuffer[2] = 1f;
 
@@ -103,31 +117,93 @@ public class BubbleChartRenderer extends BarLineScatterCandleBubbleRenderer {
         final float maxBubbleHeight = Math.abs(mViewPortHandler.contentBottom() - mViewPortHandler.contentTop());
         final float referenceSize = Math.min(maxBubbleHeight, maxBubbleWidth);
 
-        for (int j = mXBounds.min; j <= mXBounds.range + mXBounds.min; j++) {
+        final int count = mXBounds.range + 1;
 
-            final BubbleEntry entry = dataSet.getEntryForIndex(j);
+        final float[] centers = mCenterBuffer.obtain(count * 2);
+        final float[] run = mRunBuffer.obtain(count * 2);
 
-            pointBuffer[0] = entry.getX();
-            pointBuffer[1] = (entry.getY()) * phaseY;
-            trans.pointValuesToPixel(pointBuffer);
+        for (int i = 0; i < count; i++) {
+            centers[i * 2] = dataSet.getEntryXForIndex(mXBounds.min + i);
+            centers[i * 2 + 1] = dataSet.getEntryYForIndex(mXBounds.min + i) * phaseY;
+        }
 
-            float shapeHalf = getShapeSize(entry.getSize(), dataSet.getMaxSize(), referenceSize, normalizeSize) / 2f;
+        trans.pointValuesToPixel(centers, count * 2);
 
-            if (!mViewPortHandler.isInBoundsTop(pointBuffer[1] + shapeHalf)
-                    || !mViewPortHandler.isInBoundsBottom(pointBuffer[1] - shapeHalf))
+        // consecutive bubbles of the same color and size are drawn as round points in one call,
+        // this keeps the drawing order of overlapping bubbles intact
+        int runSize = 0;
+        int runColor = 0;
+        float runHalf = 0f;
+
+        for (int i = 0; i < count; i++) {
+
+            final int j = mXBounds.min + i;
+
+            final float x = centers[i * 2];
+            final float y = centers[i * 2 + 1];
+
+            float shapeHalf = getShapeSize(dataSet.getEntryForIndex(j).getSize(), dataSet.getMaxSize(),
+                    referenceSize, normalizeSize) / 2f;
+
+            if (!mViewPortHandler.isInBoundsTop(y + shapeHalf)
+                    || !mViewPortHandler.isInBoundsBottom(y - shapeHalf))
                 continue;
 
-            if (!mViewPortHandler.isInBoundsLeft(pointBuffer[0] + shapeHalf))
+            if (!mViewPortHandler.isInBoundsLeft(x + shapeHalf))
                 continue;
 
-            if (!mViewPortHandler.isInBoundsRight(pointBuffer[0] - shapeHalf))
+            if (!mViewPortHandler.isInBoundsRight(x - shapeHalf))
                 break;
 
             final int color = dataSet.getColor(j);
 
-            mRenderPaint.setColor(color);
-            c.drawCircle(pointBuffer[0], pointBuffer[1], shapeHalf, mRenderPaint);
+            if (runSize > 0 && (color != runColor || shapeHalf != runHalf)) {
+                drawBubbles(c, runSize, runColor, runHalf);
+                runSize = 0;
+            }
+
+            runColor = color;
+            runHalf = shapeHalf;
+            run[runSize++] = x;
+            run[runSize++] = y;
+        }
+
+        if (runSize > 0)
+            drawBubbles(c, runSize, runColor, runHalf);
+    }
+
+    /**
+     * Draws the bubbles collected in the run buffer.
+     *
+     * @param c
+     * @param size      number of floats in the run buffer
+     * @param color
+     * @param shapeHalf radius of the bubbles
+     */
+    private void drawBubbles(Canvas c, int size, int color, float shapeHalf) {
+
+        final float[] run = mRunBuffer.getBuffer();
+
+        mRenderPaint.setColor(color);
+
+        if (size == 2 || !(shapeHalf > 0f)) {
+
+            for (int i = 0; i < size; i += 2)
+                c.drawCircle(run[i], run[i + 1], shapeHalf, mRenderPaint);
+
+            return;
         }
+
+        final Paint.Cap cap = mRenderPaint.getStrokeCap();
+        final float strokeWidth = mRenderPaint.getStrokeWidth();
+
+        mRenderPaint.setStrokeCap(Paint.Cap.ROUND);
+        mRenderPaint.setStrokeWidth(shapeHalf * 2f);
+
+        c.drawPoints(run, 0, size, mRenderPaint);
+
+        mRenderPaint.setStrokeCap(cap);
+        mRenderPaint.setStrokeWidth(strokeWidth);
     }
 
     @Override
@@ -160,8 +236,10 @@ public class BubbleChartRenderer extends BarLineScatterCandleBubbleRenderer {
 
                 mXBounds.set(mChart, dataSet);
 
-                final float[] positions = mChart.getTransformer(dataSet.getAxisDependency())
-                        .generateTransformedValuesBubble(dataSet, phaseY, mXBounds.min, mXBounds.max);
+                final Transformer trans = mChart.getTransformer(dataSet.getAxisDependency());
+                final float[] positions = trans.generateTransformedValues(dataSet, phaseY,
+                        mXBounds.min, mXBounds.max - mXBounds.min + 1);
+                final int size = trans.getTransformedValuesSize();
 
                 final float alpha = phaseX == 1 ? phaseY : phaseX;
 
@@ -169,7 +247,7 @@ public class BubbleChartRenderer extends BarLineScatterCandleBubbleRenderer {
                 iconsOffset.x = Utils.convertDpToPixel(iconsOffset.x);
                 iconsOffset.y = Utils.convertDpToPixel(iconsOffset.y);
 
-                for (int j = 0; j < positions.length; j += 2) {
+                for (int j = 0; j < size; j += 2) {
 
                     int valueTextColor = dataSet.getValueTextColor(j / 2 + mXBounds.min);
                     valueTextColor = Color.argb(Math.round(255.f * alpha), Color.red(valueTextColor),
@@ -29,21 +29,56 @@ import com.github.mikephil.charting.interfaces.datasets.ICandleDataSet;
 import com.github.mikephil.charting.utils.ColorTemplate;
 import com.github.mikephil.charting.utils.MPPointD;
 import com.github.mikephil.charting.utils.MPPointF;
+import com.github.mikephil.charting.utils.PointBuffer;
 import com.github.mikephil.charting.utils.Transformer;
 import com.github.mikephil.charting.utils.Utils;
 import com.github.mikephil.charting.utils.ViewPortHandler;
 
+import java.util.Arrays;
 import java.util.List;
 
 public class CandleStickChartRenderer extends LineScatterCandleRadarRenderer {
 
     protected CandleDataProvider mChart;
 
-    private float[] mShadowBuffers = new float[8];
-    private float[] mBodyBuffers = new float[4];
-    private float[] mRangeBuffers = new float[4];
-    private float[] mOpenBuffers = new float[4];
-    private float[] mCloseBuffers = new float[4];
+    private static final int DECREASING = 0;
+    private static final int INCREASING = 1;
+    private static final int NEUTRAL = 2;
+
+    /**
+     * shadow (or range and tick) segments of all visible candles, 8 (12) floats per candle
+     */
+    private float[] mShadowBuffers = new float[0];
+
+    /**
+     * body rects of all visible candles as two corner points, 4 floats per candle
+     */
+    private float[] mBodyBuffers = new float[0];
+
+    /**
+     * body rects of all visible candles as segments, 4 floats per candle for filled bodies
+     * (the center line, drawn as wide as the body) and 16 for outlined bodies
+     */
+    private float[] mBodyLineBuffers = new float[0];
+
+    private int[] mShadowColors = new int[0];
+    private int[] mBodyColors = new int[0];
+    private int[] mKinds = new int[0];
+
+    /**
+     * segments of the drawn candles grouped by color, each group is drawn with a single
+     * drawLines(...) call
+     */
+    private float[] mDrawBuffer = new float[0];
+
+    /**
+     * the color group of every candle (-1 if not drawn), the color and the end of every group
+     * in mDrawBuffer, and a hash table mapping colors to groups (group + 1, 0 if empty)
+     */
+    private int[] mCandleGroups = new int[0];
+    private int[] mGroupColors = new int[0];
+    private int[] mGroupEnds = new int[0];
+    private int[] mColorTable = new int[0];
 
     public CandleStickChartRenderer(CandleDataProvider chart, ChartAnimator animator,
                                     ViewPortHandler viewPortHandler) {
@@ -79,192 +114,395 @@ public class CandleStickChartRenderer extends LineScatterCandleRadarRenderer {
 
         mXBounds.set(mChart, dataSet);
 
-        mRenderPaint.setStrokeWidth(dataSet.getShadowWidth());
+        final int count = mXBounds.range + 1;
 
-        // draw the body
-        for (int j = mXBounds.min; j <= mXBounds.range + mXBounds.min; j++) {
+        recordEntries(count, dataSet.getEntryCount());
 
-            // get the entry
-            CandleEntry e = dataSet.getEntryForIndex(j);
+        if (count <= 0)
+            return;
 
-            if (e == null)
-                continue;
+        final int shadowFloats = showCandleBar ? 8 : 12;
+
+        ensureCapacity(count, shadowFloats);
+
+        final float[] shadows = mShadowBuffers;
+        final float[] bodies = mBodyBuffers;
+
+        final int shadowColor = dataSet.getShadowColor();
+        final boolean shadowColorSameAsCandle = dataSet.getShadowColorSameAsCandle();
+
+        // collect the geometry of all candles, everything is transformed and drawn at once below
+        for (int i = 0; i < count; i++) {
+
+            final int j = mXBounds.min + i;
 
-            final float xPos = e.getX();
+            final float xPos = dataSet.getEntryXForIndex(j);
 
-            final float open = e.getOpen();
-            final float close = e.getClose();
-            final float high = e.getHigh();
-            final float low = e.getLow();
+            final float open = dataSet.getOpenForIndex(j);
+            final float close = dataSet.getCloseForIndex(j);
+            final float high = dataSet.getShadowHighForIndex(j);
+            final float low = dataSet.getShadowLowForIndex(j);
+
+            final int kind = open > close ? DECREASING : open < close ? INCREASING : NEUTRAL;
+            final int candleColor = getCandleColor(dataSet, j, kind);
+
+            mKinds[i] = kind;
+
+            int s = i * shadowFloats;
 
             if (showCandleBar) {
-                // calculate the shadow
-
-                mShadowBuffers[0] = xPos;
-                mShadowBuffers[2] = xPos;
-                mShadowBuffers[4] = xPos;
-                mShadowBuffers[6] = xPos;
-
-                if (open > close) {
-                    mShadowBuffers[1] = high * phaseY;
-                    mShadowBuffers[3] = open * phaseY;
-                    mShadowBuffers[5] = low * phaseY;
-                    mShadowBuffers[7] = close * phaseY;
-                } else if (open < close) {
-                    mShadowBuffers[1] = high * phaseY;
-                    mShadowBuffers[3] = close * phaseY;
-                    mShadowBuffers[5] = low * phaseY;
-                    mShadowBuffers[7] = open * phaseY;
-                } else {
-                    mShadowBuffers[1] = high * phaseY;
-                    mShadowBuffers[3] = open * phaseY;
-                    mShadowBuffers[5] = low * phaseY;
-                    mShadowBuffers[7] = mShadowBuffers[3];
-                }
 
-                trans.pointValuesToPixel(mShadowBuffers);
-
-                // draw the shadows
-
-                if (dataSet.getShadowColorSameAsCandle()) {
-
-                    if (open > close)
-                        mRenderPaint.setColor(
-                                dataSet.getDecreasingColor() == ColorTemplate.COLOR_NONE ?
-                                        dataSet.getColor(j) :
-                                        dataSet.getDecreasingColor()
-                        );
-
-                    else if (open < close)
-                        mRenderPaint.setColor(
-                                dataSet.getIncreasingColor() == ColorTemplate.COLOR_NONE ?
-                                        dataSet.getColor(j) :
-                                        dataSet.getIncreasingColor()
-                        );
-
-                    else
-                        mRenderPaint.setColor(
-                                dataSet.getNeutralColor() == ColorTemplate.COLOR_NONE ?
-                                        dataSet.getColor(j) :
-                                        dataSet.getNeutralColor()
-                        );
-
-                } else {
-                    mRenderPaint.setColor(
-                            dataSet.getShadowColor() == ColorTemplate.COLOR_NONE ?
-                                    dataSet.getColor(j) :
-                                    dataSet.getShadowColor()
-                    );
-                }
+                // the shadows run from high and low to the body
+                shadows[s++] = xPos;
+                shadows[s++] = high * phaseY;
+                shadows[s++] = xPos;
+                shadows[s++] = Math.max(open, close) * phaseY;
+                shadows[s++] = xPos;
+                shadows[s++] = low * phaseY;
+                shadows[s++] = xPos;
+                shadows[s] = Math.min(open, close) * phaseY;
+
+                if (shadowColorSameAsCandle)
+                    mShadowColors[i] = candleColor;
+                else
+                    mShadowColors[i] = shadowColor == ColorTemplate.COLOR_NONE
+                            ? dataSet.getColor(j)
+                            : shadowColor;
 
-                mRenderPaint.setStyle(Paint.Style.STROKE);
+                final int b = i * 4;
 
-                c.drawLines(mShadowBuffers, mRenderPaint);
+                bodies[b] = xPos - 0.5f + barSpace;
+                bodies[b + 1] = close * phaseY;
+                bodies[b + 2] = xPos + 0.5f - barSpace;
+                bodies[b + 3] = open * phaseY;
 
-                // calculate the body
+                mBodyColors[i] = candleColor;
 
-                mBodyBuffers[0] = xPos - 0.5f + barSpace;
-                mBodyBuffers[1] = close * phaseY;
-                mBodyBuffers[2] = (xPos + 0.5f - barSpace);
-                mBodyBuffers[3] = open * phaseY;
+            } else {
 
-                trans.pointValuesToPixel(mBodyBuffers);
+                // the range
+                shadows[s++] = xPos;
+                shadows[s++] = high * phaseY;
+                shadows[s++] = xPos;
+                shadows[s++] = low * phaseY;
+
+                // the open tick
+                shadows[s++] = xPos - 0.5f + barSpace;
+                shadows[s++] = open * phaseY;
+                shadows[s++] = xPos;
+                shadows[s++] = open * phaseY;
+
+                // the close tick
+                shadows[s++] = xPos + 0.5f - barSpace;
+                shadows[s++] = close * phaseY;
+                shadows[s++] = xPos;
+                shadows[s] = close * phaseY;
+
+                mShadowColors[i] = candleColor;
+            }
+        }
 
-                // draw body differently for increasing and decreasing entry
-                if (open > close) { // decreasing
+        trans.pointValuesToPixel(shadows, count * shadowFloats);
 
-                    if (dataSet.getDecreasingColor() == ColorTemplate.COLOR_NONE) {
-                        mRenderPaint.setColor(dataSet.getColor(j));
-                    } else {
-                        mRenderPaint.setColor(dataSet.getDecreasingColor());
-                    }
+        if (showCandleBar)
+            trans.pointValuesToPixel(bodies, count * 4);
 
-                    mRenderPaint.setStyle(dataSet.getDecreasingPaintStyle());
+        final Paint.Cap cap = mRenderPaint.getStrokeCap();
 
-                    c.drawRect(
-                            mBodyBuffers[0], mBodyBuffers[3],
-                            mBodyBuffers[2], mBodyBuffers[1],
-                            mRenderPaint);
+        mRenderPaint.setStyle(Paint.Style.STROKE);
+        mRenderPaint.setStrokeWidth(dataSet.getShadowWidth());
 
-                } else if (open < close) {
+        // draw the shadows (or ranges and ticks)
+        drawLinesByColor(c, shadows, shadowFloats, mShadowColors, -1, count);
 
-                    if (dataSet.getIncreasingColor() == ColorTemplate.COLOR_NONE) {
-                        mRenderPaint.setColor(dataSet.getColor(j));
-                    } else {
-                        mRenderPaint.setColor(dataSet.getIncreasingColor());
-                    }
+        if (showCandleBar) {
 
-                    mRenderPaint.setStyle(dataSet.getIncreasingPaintStyle());
+            // equal values, the body is a line
+            drawLinesByColor(c, bodies, 4, mBodyColors, NEUTRAL, count);
 
-                    c.drawRect(
-                            mBodyBuffers[0], mBodyBuffers[1],
-                            mBodyBuffers[2], mBodyBuffers[3],
-                            mRenderPaint);
-                } else { // equal values
+            // draw body differently for increasing and decreasing entry
+            drawBodies(c, DECREASING, dataSet.getDecreasingPaintStyle(), dataSet.getShadowWidth(), count);
+            drawBodies(c, INCREASING, dataSet.getIncreasingPaintStyle(), dataSet.getShadowWidth(), count);
+        }
 
-                    if (dataSet.getNeutralColor() == ColorTemplate.COLOR_NONE) {
-                        mRenderPaint.setColor(dataSet.getColor(j));
-                    } else {
-                        mRenderPaint.setColor(dataSet.getNeutralColor());
-                    }
+        mRenderPaint.setStrokeCap(cap);
+    }
 
-                    c.drawLine(
-                            mBodyBuffers[0], mBodyBuffers[1],
-                            mBodyBuffers[2], mBodyBuffers[3],
-                            mRenderPaint);
-                }
-            } else {
+    /**
+     * Returns the color of the candle at the given index, which depends on whether it is
+     * decreasing, increasing or neutral.
+     */
+    private int getCandleColor(ICandleDataSet dataSet, int index, int kind) {
 
-                mRangeBuffers[0] = xPos;
-                mRangeBuffers[1] = high * phaseY;
-                mRangeBuffers[2] = xPos;
-                mRangeBuffers[3] = low * phaseY;
+        final int color;
 
-                mOpenBuffers[0] = xPos - 0.5f + barSpace;
-                mOpenBuffers[1] = open * phaseY;
-                mOpenBuffers[2] = xPos;
-                mOpenBuffers[3] = open * phaseY;
+        if (kind == DECREASING)
+            color = dataSet.getDecreasingColor();
+        else if (kind == INCREASING)
+            color = dataSet.getIncreasingColor();
+        else
+            color = dataSet.getNeutralColor();
 
-                mCloseBuffers[0] = xPos + 0.5f - barSpace;
-                mCloseBuffers[1] = close * phaseY;
-                mCloseBuffers[2] = xPos;
-                mCloseBuffers[3] = close * phaseY;
+        return color == ColorTemplate.COLOR_NONE ? dataSet.getColor(index) : color;
+    }
 
-                trans.pointValuesToPixel(mRangeBuffers);
-                trans.pointValuesToPixel(mOpenBuffers);
-                trans.pointValuesToPixel(mCloseBuffers);
+    private void ensureCapacity(int count, int shadowFloats) {
 
-                // draw the ranges
-                int barColor;
+        if (mShadowBuffers.length < count * shadowFloats)
+            mShadowBuffers = new float[count * shadowFloats];
 
-                if (open > close)
-                    barColor = dataSet.getDecreasingColor() == ColorTemplate.COLOR_NONE
-                            ? dataSet.getColor(j)
-                            : dataSet.getDecreasingColor();
-                else if (open < close)
-                    barColor = dataSet.getIncreasingColor() == ColorTemplate.COLOR_NONE
-                            ? dataSet.getColor(j)
-                            : dataSet.getIncreasingColor();
-                else
-                    barColor = dataSet.getNeutralColor() == ColorTemplate.COLOR_NONE
-                            ? dataSet.getColor(j)
-                            : dataSet.getNeutralColor();
+        if (mBodyBuffers.length < count * 4)
+            mBodyBuffers = new float[count * 4];
 
-                mRenderPaint.setColor(barColor);
-                c.drawLine(
-                        mRangeBuffers[0], mRangeBuffers[1],
-                        mRangeBuffers[2], mRangeBuffers[3],
-                        mRenderPaint);
-                c.drawLine(
-                        mOpenBuffers[0], mOpenBuffers[1],
-                        mOpenBuffers[2], mOpenBuffers[3],
-                        mRenderPaint);
-                c.drawLine(
-                        mCloseBuffers[0], mCloseBuffers[1],
-                        mCloseBuffers[2], mCloseBuffers[3],
+        if (mKinds.length < count) {
+            mShadowColors = new int[count];
+            mBodyColors = new int[count];
+            mKinds = new int[count];
+            mCandleGroups = new int[count];
+            mGroupColors = new int[count];
+            mGroupEnds = new int[count];
+            mColorTable = new int[Integer.highestOneBit(count) * 4];
+        }
+    }
+
+    /**
+     * Draws the bodies of all candles of the given kind. Filled bodies are drawn as line from
+     * the top to the bottom of the body that is as wide as the body, outlined bodies as their
+     * four edges, so that all bodies of one color take a single drawLines(...) call.
+     *
+     * @param c
+     * @param kind
+     * @param style
+     * @param strokeWidth width of the outline
+     * @param count       number of candles
+     */
+    protected void drawBodies(Canvas c, int kind, Paint.Style style, float strokeWidth, int count) {
+
+        final float[] bodies = mBodyBuffers;
+
+        if (style == Paint.Style.FILL_AND_STROKE) {
+
+            // the outline extends the body, draw these one by one
+            mRenderPaint.setStyle(style);
+            mRenderPaint.setStrokeWidth(strokeWidth);
+
+            for (int i = 0; i < count; i++) {
+
+                if (mKinds[i] != kind)
+                    continue;
+
+                final int b = i * 4;
+
+                mRenderPaint.setColor(mBodyColors[i]);
+                c.drawRect(
+                        bodies[b], Math.min(bodies[b + 1], bodies[b + 3]),
+                        bodies[b + 2], Math.max(bodies[b + 1], bodies[b + 3]),
                         mRenderPaint);
             }
+
+            mRenderPaint.setStyle(Paint.Style.STROKE);
+            return;
         }
+
+        final boolean fill = style == Paint.Style.FILL;
+        final int floatsPerBody = fill ? 4 : 16;
+
+        if (mBodyLineBuffers.length < count * floatsPerBody)
+            mBodyLineBuffers = new float[count * floatsPerBody];
+
+        final float[] lines = mBodyLineBuffers;
+        float bodyWidth = 0f;
+
+        for (int i = 0; i < count; i++) {
+
+            if (mKinds[i] != kind)
+                continue;
+
+            final int b = i * 4;
+            final float left = bodies[b];
+            final float top = bodies[b + 1];
+            final float right = bodies[b + 2];
+            final float bottom = bodies[b + 3];
+
+            int l = i * floatsPerBody;
+
+            if (fill) {
+
+                final float center = (left + right) / 2f;
+
+                lines[l++] = center;
+                lines[l++] = top;
+                lines[l++] = center;
+                lines[l] = bottom;
+
+                bodyWidth = Math.abs(right - left);
+
+            } else {
+
+                lines[l++] = left;
+                lines[l++] = top;
+                lines[l++] = right;
+                lines[l++] = top;
+
+                lines[l++] = right;
+                lines[l++] = top;
+                lines[l++] = right;
+                lines[l++] = bottom;
+
+                lines[l++] = right;
+                lines[l++] = bottom;
+                lines[l++] = left;
+                lines[l++] = bottom;
+
+                lines[l++] = left;
+                lines[l++] = bottom;
+                lines[l++] = left;
+                lines[l] = top;
+            }
+        }
+
+        if (fill) {
+
+            // a zero width body is not drawn, a stroke width of 0 would draw a hairline
+            if (!(bodyWidth > 0f))
+                return;
+
+            mRenderPaint.setStrokeCap(Paint.Cap.BUTT);
+            mRenderPaint.setStrokeWidth(bodyWidth);
+        } else {
+
+            // square caps close the corners like the joins of a rect
+            mRenderPaint.setStrokeCap(Paint.Cap.SQUARE);
+            mRenderPaint.setStrokeWidth(strokeWidth);
+        }
+
+        drawLinesByColor(c, lines, floatsPerBody, mBodyColors, kind, count);
+
+        mRenderPaint.setStrokeWidth(strokeWidth);
+    }
+
+    /**
+     * Draws the segments of the given candles with one drawLines(...) call per color. The
+     * candles are grouped by color in linear time: the first pass assigns every candle to
+     * the group of its color and counts the group sizes, the second pass copies the segments
+     * into mDrawBuffer group by group.
+     *
+     * @param c
+     * @param segments        segments of all candles, in pixels
+     * @param floatsPerCandle
+     * @param colors          color of every candle
+     * @param kind            only the candles of this kind are drawn, -1 for all
+     * @param count           number of candles
+     */
+    protected void drawLinesByColor(Canvas c, float[] segments, int floatsPerCandle, int[] colors,
+                                    int kind, int count) {
+
+        final int[] groups = mCandleGroups;
+        final int[] groupColors = mGroupColors;
+        final int[] groupEnds = mGroupEnds;
+        final int[] table = mColorTable;
+        final int mask = table.length - 1;
+
+        Arrays.fill(table, 0);
+
+        int groupCount = 0;
+
+        for (int i = 0; i < count; i++) {
+
+            if (kind != -1 && mKinds[i] != kind) {
+                groups[i] = -1;
+                continue;
+            }
+
+            final int color = colors[i];
+            final int hash = color * 0x9E3779B9;
+            int slot = (hash ^ (hash >>> 16)) & mask;
+
+            while (table[slot] != 0 && groupColors[table[slot] - 1] != color)
+                slot = (slot + 1) & mask;
+
+            if (table[slot] == 0) {
+                groupColors[groupCount] = color;
+                groupEnds[groupCount] = 0;
+                table[slot] = ++groupCount;
+            }
+
+            final int group = table[slot] - 1;
+
+            groups[i] = group;
+            groupEnds[group] += floatsPerCandle;
+        }
+
+        if (groupCount == 0)
+            return;
+
+        // turn the sizes into the start of every group, these are advanced to the ends below
+        int size = 0;
+
+        for (int g = 0; g < groupCount; g++) {
+            final int groupSize = groupEnds[g];
+            groupEnds[g] = size;
+            size += groupSize;
+        }
+
+        if (mDrawBuffer.length < size)
+            mDrawBuffer = new float[count * floatsPerCandle];
+
+        for (int i = 0; i < count; i++) {
+
+            final int group = groups[i];
+
+            if (group == -1)
+                continue;
+
+            System.arraycopy(segments, i * floatsPerCandle, mDrawBuffer, groupEnds[group], floatsPerCandle);
+            groupEnds[group] += floatsPerCandle;
+        }
+
+        int start = 0;
+
+        for (int g = 0; g < groupCount; g++) {
+
+            mRenderPaint.setColor(groupColors[g]);
+            c.drawLines(mDrawBuffer, start, groupEnds[g] - start, mRenderPaint);
+
+            start = groupEnds[g];
+        }
+    }
+
+    /**
+     * positions of the values, at the shadow high of every candle
+     */
+    private PointBuffer mValuePositions = new PointBuffer();
+
+    /**
+     * Writes the pixel positions of the values of count candles, starting at the given index,
+     * into mValuePositions and returns the number of floats written. Like
+     * Transformer.generateTransformedValuesCandle(...), but without allocating when the number
+     * of visible candles changes.
+     */
+    private int generateValuePositions(ICandleDataSet dataSet, Transformer trans, int from, int count) {
+
+        final float phaseY = mAnimator.getPhaseY();
+        final int size = count * 2;
+        final float[] positions = mValuePositions.obtain(size);
+
+        for (int j = 0; j < size; j += 2) {
+
+            final int index = j / 2 + from;
+
+            if (index < dataSet.getEntryCount()) {
+                positions[j] = dataSet.getEntryXForIndex(index);
+                positions[j + 1] = dataSet.getShadowHighForIndex(index) * phaseY;
+            } else {
+                positions[j] = 0;
+                positions[j + 1] = 0;
+            }
+        }
+
+        trans.pointValuesToPixel(positions, size);
+
+        return size;
     }
 
     @Override
@@ -289,8 +527,9 @@ public class CandleStickChartRenderer extends LineScatterCandleRadarRenderer {
 
                 mXBounds.set(mChart, dataSet);
 
-                float[] positions = trans.generateTransformedValuesCandle(
-                        dataSet, mAnimator.getPhaseX(), mAnimator.getPhaseY(), mXBounds.min, mXBounds.max);
+                final int size = generateValuePositions(dataSet, trans, mXBounds.min,
+                        (int) ((mXBounds.max - mXBounds.min) * mAnimator.getPhaseX() + 1));
+                final float[] positions = mValuePositions.getBuffer();
 
                 float yOffset = Utils.convertDpToPixel(5f);
 
@@ -298,7 +537,7 @@ public class CandleStickChartRenderer extends LineScatterCandleRadarRenderer {
                 iconsOffset.x = Utils.convertDpToPixel(iconsOffset.x);
                 iconsOffset.y = Utils.convertDpToPixel(iconsOffset.y);
 
-                for (int j = 0; j < positions.length; j += 2) {
+                for (int j = 0; j < size; j += 2) {
 
                     float x = positions[j];
                     float y = positions[j + 1];
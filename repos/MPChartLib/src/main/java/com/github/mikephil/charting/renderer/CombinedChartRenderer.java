@@ -26,6 +26,7 @@ import com.github.mikephil.charting.data.ChartData;
 import com.github.mikephil.charting.data.CombinedData;
 import com.github.mikephil.charting.highlight.Highlight;
 import com.github.mikephil.charting.interfaces.dataprovider.BarLineScatterCandleBubbleDataProvider;
+import com.github.mikephil.charting.utils.ChartMetrics;
 import com.github.mikephil.charting.utils.ViewPortHandler;
 
 import java.lang.ref.WeakReference;
@@ -89,6 +90,9 @@ public class CombinedChartRenderer extends DataRenderer {
                     break;
             }
         }
+
+        for (DataRenderer renderer : mRenderers)
+            renderer.setMetrics(mMetrics);
     }
 
     @Override
@@ -101,8 +105,25 @@ public class CombinedChartRenderer extends DataRenderer {
     @Override
     public void drawData(Canvas c) {
 
-        for (DataRenderer renderer : mRenderers)
+        for (DataRenderer renderer : mRenderers) {
+
+            if (mMetrics == null) {
+                renderer.drawData(c);
+                continue;
+            }
+
+            long start = System.nanoTime();
             renderer.drawData(c);
+            mMetrics.addRendererTime(renderer, System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public void setMetrics(ChartMetrics metrics) {
+        super.setMetrics(metrics);
+
+        for (DataRenderer renderer : mRenderers)
+            renderer.setMetrics(metrics);
     }
 
     @Override
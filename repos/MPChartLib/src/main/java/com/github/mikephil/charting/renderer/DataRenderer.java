@@ -25,10 +25,13 @@ import android.graphics.drawable.Drawable;
 
 import com.github.mikephil.charting.animation.ChartAnimator;
 import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.formatter.IBufferedValueFormatter;
 import com.github.mikephil.charting.formatter.IValueFormatter;
 import com.github.mikephil.charting.highlight.Highlight;
 import com.github.mikephil.charting.interfaces.dataprovider.ChartInterface;
 import com.github.mikephil.charting.interfaces.datasets.IDataSet;
+import com.github.mikephil.charting.utils.ChartMetrics;
+import com.github.mikephil.charting.utils.LabelCache;
 import com.github.mikephil.charting.utils.MPPointF;
 import com.github.mikephil.charting.utils.Utils;
 import com.github.mikephil.charting.utils.ViewPortHandler;
@@ -63,6 +66,16 @@ public abstract class DataRenderer extends Renderer {
      */
     protected Paint mValuePaint;
 
+    /**
+     * metrics of the frame that is currently drawn, null if no metrics listener is set
+     */
+    protected ChartMetrics mMetrics;
+
+    /**
+     * buffer the values of IBufferedValueFormatter formatters are written into
+     */
+    protected char[] mValueBuffer = new char[64];
+
     public DataRenderer(ChartAnimator animator, ViewPortHandler viewPortHandler) {
         super(viewPortHandler);
         this.mAnimator = animator;
@@ -164,7 +177,20 @@ public abstract class DataRenderer extends Renderer {
      */
     public void drawValue(Canvas c, IValueFormatter formatter, float value, Entry entry, int dataSetIndex, float x, float y, int color) {
         mValuePaint.setColor(color);
-        c.drawText(formatter.getFormattedValue(value, entry, dataSetIndex, mViewPortHandler), x, y, mValuePaint);
+
+        if (formatter instanceof IBufferedValueFormatter) {
+
+            int length = ((IBufferedValueFormatter) formatter).formatValue(value, entry, dataSetIndex,
+                    mViewPortHandler, mValueBuffer);
+
+            if (length >= 0) {
+                c.drawText(mValueBuffer, 0, length, x, y, mValuePaint);
+                return;
+            }
+        }
+
+        c.drawText(LabelCache.getInstance().getFormattedValue(formatter, value, entry, dataSetIndex, mViewPortHandler),
+                x, y, mValuePaint);
     }
 
     /**
@@ -181,4 +207,25 @@ public abstract class DataRenderer extends Renderer {
      * @param indices the highlighted values
      */
     public abstract void drawHighlighted(Canvas c, Highlight[] indices);
+
+    /**
+     * Sets the metrics object the renderer reports to, null to stop reporting.
+     *
+     * @param metrics
+     */
+    public void setMetrics(ChartMetrics metrics) {
+        mMetrics = metrics;
+    }
+
+    /**
+     * Reports the number of drawn entries and the entry count of the drawn DataSet, if metrics
+     * are collected.
+     *
+     * @param drawn
+     * @param total
+     */
+    protected void recordEntries(int drawn, int total) {
+        if (mMetrics != null)
+            mMetrics.addEntries(drawn, total);
+    }
 }
@@ -21,6 +21,7 @@ import android.graphics.DashPathEffect;
 import android.graphics.Paint;
 import android.graphics.Paint.Align;
 import android.graphics.Path;
+import android.graphics.Rect;
 import android.graphics.Typeface;
 
 import com.github.mikephil.charting.components.Legend;
@@ -90,6 +91,52 @@ public class LegendRenderer extends Renderer {
 
     protected List<LegendEntry> computedEntries = new ArrayList<>(16);
 
+    /**
+     * the entries created by computeLegend(...), reused the next time the legend is computed
+     * if their properties did not change. Entries are never modified once they were handed to
+     * the legend, as they are visible through Legend.getEntries().
+     */
+    private List<LegendEntry> mEntryPool = new ArrayList<>(16);
+    private int mEntryPoolIndex = 0;
+
+    /**
+     * Returns a computed legend entry with the given properties. The entry at the same
+     * position of the previous computation is returned if it has the same properties,
+     * otherwise a new entry is created.
+     */
+    protected LegendEntry obtainEntry(String label,
+                                      Legend.LegendForm form,
+                                      float formSize,
+                                      float formLineWidth,
+                                      DashPathEffect formLineDashEffect,
+                                      int formColor) {
+
+        final int index = mEntryPoolIndex++;
+
+        if (index < mEntryPool.size()) {
+
+            LegendEntry entry = mEntryPool.get(index);
+
+            if ((label == null ? entry.label == null : label.equals(entry.label))
+                    && entry.form == form
+                    && Float.compare(entry.formSize, formSize) == 0
+                    && Float.compare(entry.formLineWidth, formLineWidth) == 0
+                    && entry.formLineDashEffect == formLineDashEffect
+                    && entry.formColor == formColor)
+                return entry;
+        }
+
+        LegendEntry entry = new LegendEntry(label, form, formSize, formLineWidth,
+                formLineDashEffect, formColor);
+
+        if (index < mEntryPool.size())
+            mEntryPool.set(index, entry);
+        else
+            mEntryPool.add(entry);
+
+        return entry;
+    }
+
     /**
      * Prepares the legend and calculates all needed forms, labels and colors.
      *
@@ -100,6 +147,7 @@ public class LegendRenderer extends Renderer {
         if (!mLegend.isLegendCustom()) {
 
             computedEntries.clear();
+            mEntryPoolIndex = 0;
 
             // loop for building up the colors and labels used in the legend
             for (int i = 0; i < data.getDataSetCount(); i++) {
@@ -127,7 +175,7 @@ public class LegendRenderer extends Renderer {
                             label = null;
                         }
 
-                        computedEntries.add(new LegendEntry(
+                        computedEntries.add(obtainEntry(
                                 label,
                                 dataSet.getForm(),
                                 dataSet.getFormSize(),
@@ -139,7 +187,7 @@ public class LegendRenderer extends Renderer {
 
                     if (bds.getLabel() != null) {
                         // add the legend description label
-                        computedEntries.add(new LegendEntry(
+                        computedEntries.add(obtainEntry(
                                 dataSet.getLabel(),
                                 Legend.LegendForm.NONE,
                                 Float.NaN,
@@ -155,7 +203,7 @@ public class LegendRenderer extends Renderer {
 
                     for (int j = 0; j < clrs.size() && j < entryCount; j++) {
 
-                        computedEntries.add(new LegendEntry(
+                        computedEntries.add(obtainEntry(
                                 pds.getEntryForIndex(j).getLabel(),
                                 dataSet.getForm(),
                                 dataSet.getFormSize(),
@@ -167,7 +215,7 @@ public class LegendRenderer extends Renderer {
 
                     if (pds.getLabel() != null) {
                         // add the legend description label
-                        computedEntries.add(new LegendEntry(
+                        computedEntries.add(obtainEntry(
                                 dataSet.getLabel(),
                                 Legend.LegendForm.NONE,
                                 Float.NaN,
@@ -183,7 +231,7 @@ public class LegendRenderer extends Renderer {
                     int decreasingColor = ((ICandleDataSet) dataSet).getDecreasingColor();
                     int increasingColor = ((ICandleDataSet) dataSet).getIncreasingColor();
 
-                    computedEntries.add(new LegendEntry(
+                    computedEntries.add(obtainEntry(
                             null,
                             dataSet.getForm(),
                             dataSet.getFormSize(),
@@ -192,7 +240,7 @@ public class LegendRenderer extends Renderer {
                             decreasingColor
                     ));
 
-                    computedEntries.add(new LegendEntry(
+                    computedEntries.add(obtainEntry(
                             dataSet.getLabel(),
                             dataSet.getForm(),
                             dataSet.getFormSize(),
@@ -214,7 +262,7 @@ public class LegendRenderer extends Renderer {
                             label = data.getDataSetByIndex(i).getLabel();
                         }
 
-                        computedEntries.add(new LegendEntry(
+                        computedEntries.add(obtainEntry(
                                 label,
                                 dataSet.getForm(),
                                 dataSet.getFormSize(),
@@ -230,7 +278,9 @@ public class LegendRenderer extends Renderer {
                 Collections.addAll(computedEntries, mLegend.getExtraEntries());
             }
 
-            mLegend.setEntries(computedEntries);
+            // unchanged entries are the same objects, keep the array of the legend then
+            if (!isSameEntries(mLegend.getEntries(), computedEntries))
+                mLegend.setEntries(computedEntries);
         }
 
         Typeface tf = mLegend.getTypeface();
@@ -247,6 +297,24 @@ public class LegendRenderer extends Renderer {
 
     protected Paint.FontMetrics legendFontMetrics = new Paint.FontMetrics();
 
+    private static boolean isSameEntries(LegendEntry[] entries, List<LegendEntry> computed) {
+
+        if (entries == null || entries.length != computed.size())
+            return false;
+
+        for (int i = 0; i < entries.length; i++) {
+            if (entries[i] != computed.get(i))
+                return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * clip bounds of the canvas, entries outside of them are not drawn
+     */
+    private Rect mClipBounds = new Rect();
+
     public void renderLegend(Canvas c) {
 
         if (!mLegend.isEnabled())
@@ -265,6 +333,15 @@ public class LegendRenderer extends Renderer {
                 + Utils.convertDpToPixel(mLegend.getYEntrySpace());
         float formYOffset = labelLineHeight - Utils.calcTextHeight(mLegendLabelPaint, "ABC") / 2.f;
 
+        // only the entries of very long legends that intersect the visible area are drawn
+        float clipTop = Float.NEGATIVE_INFINITY;
+        float clipBottom = Float.POSITIVE_INFINITY;
+
+        if (c.getClipBounds(mClipBounds)) {
+            clipTop = mClipBounds.top;
+            clipBottom = mClipBounds.bottom;
+        }
+
         LegendEntry[] entries = mLegend.getEntries();
 
         float formToTextSpace = Utils.convertDpToPixel(mLegend.getFormToTextSpace());
@@ -367,6 +444,12 @@ public class LegendRenderer extends Renderer {
                         posY += labelLineHeight + labelLineSpacing;
                     }
 
+                    // the following rows are below the visible area
+                    if (posY > clipBottom)
+                        break;
+
+                    final boolean visible = posY + Math.max(labelLineHeight * 2f, formYOffset + formSize) >= clipTop;
+
                     if (posX == originPosX &&
                             horizontalAlignment == Legend.LegendHorizontalAlignment.CENTER &&
                             lineIndex < calculatedLineSizes.size()) {
@@ -382,7 +465,8 @@ public class LegendRenderer extends Renderer {
                         if (direction == Legend.LegendDirection.RIGHT_TO_LEFT)
                             posX -= formSize;
 
-                        drawForm(c, posX, posY + formYOffset, e, mLegend);
+                        if (visible)
+                            drawForm(c, posX, posY + formYOffset, e, mLegend);
 
                         if (direction == Legend.LegendDirection.LEFT_TO_RIGHT)
                             posX += formSize;
@@ -396,7 +480,8 @@ public class LegendRenderer extends Renderer {
                         if (direction == Legend.LegendDirection.RIGHT_TO_LEFT)
                             posX -= calculatedLabelSizes.get(i).width;
 
-                        drawLabel(c, posX, posY + labelLineHeight, e.label);
+                        if (visible)
+                            drawLabel(c, posX, posY + labelLineHeight, e.label);
 
                         if (direction == Legend.LegendDirection.LEFT_TO_RIGHT)
                             posX += calculatedLabelSizes.get(i).width;
@@ -443,6 +528,13 @@ public class LegendRenderer extends Renderer {
                     boolean drawingForm = e.form != Legend.LegendForm.NONE;
                     float formSize = Float.isNaN(e.formSize) ? defaultFormSize : Utils.convertDpToPixel(e.formSize);
 
+                    // the following entries are below the visible area
+                    if (posY > clipBottom)
+                        break;
+
+                    final boolean visible = posY
+                            + Math.max(labelLineHeight * 2f + labelLineSpacing, formYOffset + formSize) >= clipTop;
+
                     float posX = originPosX;
 
                     if (drawingForm) {
@@ -451,7 +543,8 @@ public class LegendRenderer extends Renderer {
                         else
                             posX -= formSize - stack;
 
-                        drawForm(c, posX, posY + formYOffset, e, mLegend);
+                        if (visible)
+                            drawForm(c, posX, posY + formYOffset, e, mLegend);
 
                         if (direction == Legend.LegendDirection.LEFT_TO_RIGHT)
                             posX += formSize;
@@ -465,15 +558,14 @@ public class LegendRenderer extends Renderer {
                         else if (wasStacked)
                             posX = originPosX;
 
-                        if (direction == Legend.LegendDirection.RIGHT_TO_LEFT)
+                        if (direction == Legend.LegendDirection.RIGHT_TO_LEFT && visible)
                             posX -= Utils.calcTextWidth(mLegendLabelPaint, e.label);
 
-                        if (!wasStacked) {
-                            drawLabel(c, posX, posY + labelLineHeight, e.label);
-                        } else {
+                        if (wasStacked)
                             posY += labelLineHeight + labelLineSpacing;
+
+                        if (visible)
                             drawLabel(c, posX, posY + labelLineHeight, e.label);
-                        }
 
                         // make a step down
                         posY += labelLineHeight + labelLineSpacing;
@@ -19,6 +19,7 @@ package com.github.mikephil.charting.renderer;
 import android.graphics.Bitmap;
 import android.graphics.Canvas;
 import android.graphics.Color;
+import android.graphics.LinearGradient;
 import android.graphics.Paint;
 import android.graphics.Path;
 import android.graphics.drawable.Drawable;
@@ -28,18 +29,21 @@ import com.github.mikephil.charting.charts.LineChart;
 import com.github.mikephil.charting.data.Entry;
 import com.github.mikephil.charting.data.LineData;
 import com.github.mikephil.charting.data.LineDataSet;
+import com.github.mikephil.charting.data.filter.ApproximationFilter;
+import com.github.mikephil.charting.data.filter.MinMaxDecimator;
 import com.github.mikephil.charting.highlight.Highlight;
 import com.github.mikephil.charting.interfaces.dataprovider.LineDataProvider;
 import com.github.mikephil.charting.interfaces.datasets.IDataSet;
 import com.github.mikephil.charting.interfaces.datasets.ILineDataSet;
+import com.github.mikephil.charting.utils.BitmapPool;
 import com.github.mikephil.charting.utils.ColorTemplate;
 import com.github.mikephil.charting.utils.MPPointD;
 import com.github.mikephil.charting.utils.MPPointF;
+import com.github.mikephil.charting.utils.PointBuffer;
 import com.github.mikephil.charting.utils.Transformer;
 import com.github.mikephil.charting.utils.Utils;
 import com.github.mikephil.charting.utils.ViewPortHandler;
 
-import java.lang.ref.WeakReference;
 import java.util.HashMap;
 import java.util.List;
 
@@ -54,9 +58,9 @@ public class LineChartRenderer extends LineRadarRenderer {
 
     /**
      * Bitmap object used for drawing the paths (otherwise they are too long if
-     * rendered directly on the canvas)
+     * rendered directly on the canvas), taken from the BitmapPool
      */
-    protected WeakReference<Bitmap> mDrawBitmap;
+    protected Bitmap mDrawBitmap;
 
     /**
      * on this canvas, the paths are rendered, it is initialized with the
@@ -72,6 +76,27 @@ public class LineChartRenderer extends LineRadarRenderer {
     protected Path cubicPath = new Path();
     protected Path cubicFillPath = new Path();
 
+    /**
+     * reduces the visible entries of DataSets that have decimation enabled
+     */
+    protected MinMaxDecimator mDecimator = new MinMaxDecimator();
+
+    /**
+     * true if the entries of the DataSet that is currently drawn come from the decimator
+     */
+    protected boolean mDecimated = false;
+
+    /**
+     * the approximation filter of the DataSet that is currently drawn, if its entries come from
+     * it, null otherwise
+     */
+    protected ApproximationFilter mApproximation = null;
+
+    /**
+     * position of the first visible entry within the approximation filter
+     */
+    protected int mApproximationFrom = 0;
+
     public LineChartRenderer(LineDataProvider chart, ChartAnimator animator,
                              ViewPortHandler viewPortHandler) {
         super(animator, viewPortHandler);
@@ -92,21 +117,23 @@ public class LineChartRenderer extends LineRadarRenderer {
         int width = (int) mViewPortHandler.getChartWidth();
         int height = (int) mViewPortHandler.getChartHeight();
 
-        Bitmap drawBitmap = mDrawBitmap == null ? null : mDrawBitmap.get();
+        Bitmap drawBitmap = mDrawBitmap;
 
         if (drawBitmap == null
+                || drawBitmap.isRecycled()
                 || (drawBitmap.getWidth() != width)
                 || (drawBitmap.getHeight() != height)) {
 
+            releaseDrawBitmap();
+
             if (width > 0 && height > 0) {
-                drawBitmap = Bitmap.createBitmap(width, height, mBitmapConfig);
-                mDrawBitmap = new WeakReference<>(drawBitmap);
+                drawBitmap = BitmapPool.getInstance().obtain(width, height, mBitmapConfig);
+                mDrawBitmap = drawBitmap;
                 mBitmapCanvas = new Canvas(drawBitmap);
             } else
                 return;
-        }
-
-        drawBitmap.eraseColor(Color.TRANSPARENT);
+        } else
+            drawBitmap.eraseColor(Color.TRANSPARENT);
 
         LineData lineData = mChart.getLineData();
 
@@ -146,6 +173,82 @@ public class LineChartRenderer extends LineRadarRenderer {
         mRenderPaint.setPathEffect(null);
     }
 
+    /**
+     * Resolves the entries of the given DataSet that are drawn, mXBounds needs to be set
+     * before. If the DataSet has an approximation filter, the visible entries are taken from
+     * its (cached) result, otherwise if decimation is enabled, they are reduced to min/max per
+     * pixel column. Returns the number of entries to draw, use getVisibleIndex(...) to get
+     * their indices.
+     *
+     * @param dataSet
+     * @param trans
+     * @param keepFirstLast keep the first and last entry of each pixel column as well
+     * @return
+     */
+    protected int prepareVisibleEntries(ILineDataSet dataSet, Transformer trans, boolean keepFirstLast) {
+
+        mDecimated = false;
+        mApproximation = null;
+
+        final ApproximationFilter filter = dataSet.getApproximationFilter();
+
+        if ((filter == null && !dataSet.isDecimationEnabled()) || mXBounds.range <= 1) {
+            return mXBounds.range + 1;
+        }
+
+        final float xFrom = dataSet.getEntryXForIndex(mXBounds.min);
+
+        MPPointD from = trans.getPixelForValues(xFrom, 0f);
+        MPPointD to = trans.getPixelForValues(xFrom + 1f, 1f);
+
+        final float scaleX = (float) (to.x - from.x);
+        final float scaleY = (float) (to.y - from.y);
+        final float pixelFrom = (float) from.x;
+
+        MPPointD.recycleInstance(from);
+        MPPointD.recycleInstance(to);
+
+        if (filter != null) {
+
+            final int last = mXBounds.min + mXBounds.range;
+
+            filter.update(dataSet, mXBounds.min, last, scaleX, scaleY);
+
+            // include the kept entries right outside the range so that the line reaches the edges
+            int first = filter.lowerBound(mXBounds.min);
+            if (first > 0 && (first == filter.getCount() || filter.getIndex(first) > mXBounds.min))
+                first--;
+
+            int end = filter.lowerBound(last);
+            if (end == filter.getCount())
+                end--;
+
+            mApproximation = filter;
+            mApproximationFrom = first;
+            return Math.max(0, end - first + 1);
+        }
+
+        mDecimated = mDecimator.decimate(dataSet, mXBounds.min, mXBounds.min + mXBounds.range,
+                scaleX, pixelFrom, keepFirstLast);
+
+        return mDecimated ? mDecimator.getCount() : mXBounds.range + 1;
+    }
+
+    /**
+     * Returns the DataSet index of the visible entry at the given position, see
+     * prepareVisibleEntries(...).
+     *
+     * @param position
+     * @return
+     */
+    protected int getVisibleIndex(int position) {
+
+        if (mApproximation != null)
+            return mApproximation.getIndex(mApproximationFrom + position);
+
+        return mDecimated ? mDecimator.getIndex(position) : mXBounds.min + position;
+    }
+
     protected void drawHorizontalBezier(ILineDataSet dataSet) {
 
         float phaseY = mAnimator.getPhaseY();
@@ -154,28 +257,37 @@ public class LineChartRenderer extends LineRadarRenderer {
 
         mXBounds.set(mChart, dataSet);
 
+        final int count = prepareVisibleEntries(dataSet, trans, false);
+        recordEntries(count, dataSet.getEntryCount());
+
         cubicPath.reset();
 
         if (mXBounds.range >= 1) {
 
-            Entry prev = dataSet.getEntryForIndex(mXBounds.min);
-            Entry cur = prev;
+            float prevX;
+            float prevY;
+            int index = getVisibleIndex(0);
+            float curX = dataSet.getEntryXForIndex(index);
+            float curY = dataSet.getEntryYForIndex(index);
 
             // let the spline start
-            cubicPath.moveTo(cur.getX(), cur.getY() * phaseY);
+            cubicPath.moveTo(curX, curY * phaseY);
+
+            for (int i = 1; i < count; i++) {
 
-            for (int j = mXBounds.min + 1; j <= mXBounds.range + mXBounds.min; j++) {
+                index = getVisibleIndex(i);
 
-                prev = cur;
-                cur = dataSet.getEntryForIndex(j);
+                prevX = curX;
+                prevY = curY;
+                curX = dataSet.getEntryXForIndex(index);
+                curY = dataSet.getEntryYForIndex(index);
 
-                final float cpx = (prev.getX())
-                        + (cur.getX() - prev.getX()) / 2.0f;
+                final float cpx = prevX + (curX - prevX) / 2.0f;
 
                 cubicPath.cubicTo(
-                        cpx, prev.getY() * phaseY,
-                        cpx, cur.getY() * phaseY,
-                        cur.getX(), cur.getY() * phaseY);
+                        cpx, prevY * phaseY,
+                        cpx, curY * phaseY,
+                        curX, curY * phaseY);
             }
         }
 
@@ -185,7 +297,7 @@ public class LineChartRenderer extends LineRadarRenderer {
             cubicFillPath.reset();
             cubicFillPath.addPath(cubicPath);
             // create a new path, this is bad for performance
-            drawCubicFill(mBitmapCanvas, dataSet, cubicFillPath, trans, mXBounds);
+            drawCubicFill(mBitmapCanvas, dataSet, cubicFillPath, trans, count);
         }
 
         mRenderPaint.setColor(dataSet.getColor());
@@ -209,6 +321,10 @@ public class LineChartRenderer extends LineRadarRenderer {
 
         float intensity = dataSet.getCubicIntensity();
 
+        final int count = prepareVisibleEntries(dataSet, trans, false);
+        recordEntries(count, dataSet.getEntryCount());
+        final int entryCount = dataSet.getEntryCount();
+
         cubicPath.reset();
 
         if (mXBounds.range >= 1) {
@@ -223,37 +339,38 @@ public class LineChartRenderer extends LineRadarRenderer {
             // So in the starting `prev` and `cur`, go -2, -1
             // And in the `lastIndex`, add +1
 
-            final int firstIndex = mXBounds.min + 1;
-            final int lastIndex = mXBounds.min + mXBounds.range;
-
-            Entry prevPrev;
-            Entry prev = dataSet.getEntryForIndex(Math.max(firstIndex - 2, 0));
-            Entry cur = dataSet.getEntryForIndex(Math.max(firstIndex - 1, 0));
-            Entry next = cur;
-            int nextIndex = -1;
-
-            if (cur == null) return;
+            int prevPrevIndex;
+            int curIndex = getVisibleIndex(0);
+            int prevIndex = Math.max(curIndex - 1, 0);
+            int nextIndex;
 
             // let the spline start
-            cubicPath.moveTo(cur.getX(), cur.getY() * phaseY);
+            cubicPath.moveTo(dataSet.getEntryXForIndex(curIndex), dataSet.getEntryYForIndex(curIndex) * phaseY);
 
-            for (int j = mXBounds.min + 1; j <= mXBounds.range + mXBounds.min; j++) {
+            for (int i = 1; i < count; i++) {
 
-                prevPrev = prev;
-                prev = cur;
-                cur = nextIndex == j ? next : dataSet.getEntryForIndex(j);
+                prevPrevIndex = prevIndex;
+                prevIndex = curIndex;
+                curIndex = getVisibleIndex(i);
 
-                nextIndex = j + 1 < dataSet.getEntryCount() ? j + 1 : j;
-                next = dataSet.getEntryForIndex(nextIndex);
+                if (i + 1 < count)
+                    nextIndex = getVisibleIndex(i + 1);
+                else
+                    nextIndex = curIndex + 1 < entryCount ? curIndex + 1 : curIndex;
 
-                prevDx = (cur.getX() - prevPrev.getX()) * intensity;
-                prevDy = (cur.getY() - prevPrev.getY()) * intensity;
-                curDx = (next.getX() - prev.getX()) * intensity;
-                curDy = (next.getY() - prev.getY()) * intensity;
+                final float prevX = dataSet.getEntryXForIndex(prevIndex);
+                final float prevY = dataSet.getEntryYForIndex(prevIndex);
+                final float curX = dataSet.getEntryXForIndex(curIndex);
+                final float curY = dataSet.getEntryYForIndex(curIndex);
 
-                cubicPath.cubicTo(prev.getX() + prevDx, (prev.getY() + prevDy) * phaseY,
-                        cur.getX() - curDx,
-                        (cur.getY() - curDy) * phaseY, cur.getX(), cur.getY() * phaseY);
+                prevDx = (curX - dataSet.getEntryXForIndex(prevPrevIndex)) * intensity;
+                prevDy = (curY - dataSet.getEntryYForIndex(prevPrevIndex)) * intensity;
+                curDx = (dataSet.getEntryXForIndex(nextIndex) - prevX) * intensity;
+                curDy = (dataSet.getEntryYForIndex(nextIndex) - prevY) * intensity;
+
+                cubicPath.cubicTo(prevX + prevDx, (prevY + prevDy) * phaseY,
+                        curX - curDx,
+                        (curY - curDy) * phaseY, curX, curY * phaseY);
             }
         }
 
@@ -263,7 +380,7 @@ public class LineChartRenderer extends LineRadarRenderer {
             cubicFillPath.reset();
             cubicFillPath.addPath(cubicPath);
 
-            drawCubicFill(mBitmapCanvas, dataSet, cubicFillPath, trans, mXBounds);
+            drawCubicFill(mBitmapCanvas, dataSet, cubicFillPath, trans, count);
         }
 
         mRenderPaint.setColor(dataSet.getColor());
@@ -277,13 +394,22 @@ public class LineChartRenderer extends LineRadarRenderer {
         mRenderPaint.setPathEffect(null);
     }
 
-    protected void drawCubicFill(Canvas c, ILineDataSet dataSet, Path spline, Transformer trans, XBounds bounds) {
+    /**
+     * Closes the given spline down to the fill line and draws it filled.
+     *
+     * @param c
+     * @param dataSet
+     * @param spline
+     * @param trans
+     * @param count   number of visible entries, see prepareVisibleEntries(...)
+     */
+    protected void drawCubicFill(Canvas c, ILineDataSet dataSet, Path spline, Transformer trans, int count) {
 
         float fillMin = dataSet.getFillFormatter()
                 .getFillLinePosition(dataSet, mChart);
 
-        spline.lineTo(dataSet.getEntryForIndex(bounds.min + bounds.range).getX(), fillMin);
-        spline.lineTo(dataSet.getEntryForIndex(bounds.min).getX(), fillMin);
+        spline.lineTo(dataSet.getEntryXForIndex(getVisibleIndex(count - 1)), fillMin);
+        spline.lineTo(dataSet.getEntryXForIndex(getVisibleIndex(0)), fillMin);
         spline.close();
 
         trans.pathValueToPixel(spline);
@@ -298,7 +424,150 @@ public class LineChartRenderer extends LineRadarRenderer {
         }
     }
 
-    private float[] mLineBuffer = new float[4];
+    private PointBuffer mLineBuffer = new PointBuffer();
+
+    /**
+     * color of every line segment in mLineBuffer, for DataSets with more than one color
+     */
+    private int[] mSegmentColors = new int[1];
+
+    /**
+     * keeps the gradient shader of the line across frames
+     */
+    private LineGradientCache mGradientCache = new LineGradientCache();
+
+    /**
+     * gradient for the line that is currently drawn, null if there is none
+     */
+    private LinearGradient mGradientShader = null;
+
+    /**
+     * Writes the line segment(s) between every two consecutive visible entries into
+     * mLineBuffer (one segment, or two for stepped lines), transforms them to pixels and
+     * removes the segments that lie outside of the content rect or have zero length. The
+     * color of every remaining pair of entries is written to mSegmentColors. If a gradient is
+     * requested, mGradientShader is created from the entry colors as well. Returns the number
+     * of remaining pairs.
+     *
+     * @param dataSet
+     * @param trans
+     * @param count    number of visible entries
+     * @param stepped
+     * @param gradient
+     * @return
+     */
+    protected int generateColoredSegments(ILineDataSet dataSet, Transformer trans, int count,
+                                          boolean stepped, boolean gradient) {
+
+        mGradientShader = null;
+
+        final int pairs = count - 1;
+
+        if (pairs < 1)
+            return 0;
+
+        final float phaseY = mAnimator.getPhaseY();
+        final int floatsPerPair = stepped ? 8 : 4;
+
+        if (mSegmentColors.length < pairs)
+            mSegmentColors = new int[pairs * 2];
+
+        final float[] buffer = mLineBuffer.obtain(pairs * floatsPerPair);
+        int k = 0;
+
+        float prevX = dataSet.getEntryXForIndex(getVisibleIndex(0));
+        float prevY = dataSet.getEntryYForIndex(getVisibleIndex(0)) * phaseY;
+
+        for (int i = 1; i < count; i++) {
+
+            final int index = getVisibleIndex(i);
+            final float x = dataSet.getEntryXForIndex(index);
+            final float y = dataSet.getEntryYForIndex(index) * phaseY;
+
+            buffer[k++] = prevX;
+            buffer[k++] = prevY;
+
+            if (stepped) {
+                buffer[k++] = x;
+                buffer[k++] = prevY;
+                buffer[k++] = x;
+                buffer[k++] = prevY;
+            }
+
+            buffer[k++] = x;
+            buffer[k++] = y;
+
+            prevX = x;
+            prevY = y;
+        }
+
+        trans.pointValuesToPixel(buffer, k);
+
+        if (gradient)
+            createGradient(dataSet, count, floatsPerPair);
+
+        int kept = 0;
+
+        for (int p = 0; p < pairs; p++) {
+
+            final int offset = p * floatsPerPair;
+
+            final float x1 = buffer[offset];
+            final float y1 = buffer[offset + 1];
+            final float x2 = buffer[offset + floatsPerPair - 2];
+            final float y2 = buffer[offset + floatsPerPair - 1];
+
+            if (x1 == x2 && y1 == y2)
+                continue;
+
+            if (!mViewPortHandler.isInBoundsRight(x1))
+                break;
+
+            // make sure the lines don't do shitty things outside bounds
+            if (!mViewPortHandler.isInBoundsLeft(x2) ||
+                    !mViewPortHandler.isInBoundsTop(Math.max(y1, y2)) ||
+                    !mViewPortHandler.isInBoundsBottom(Math.min(y1, y2)))
+                continue;
+
+            if (kept != p)
+                System.arraycopy(buffer, offset, buffer, kept * floatsPerPair, floatsPerPair);
+
+            // get the color that is set for this line-segment
+            mSegmentColors[kept] = dataSet.getColor(getVisibleIndex(p));
+            kept++;
+        }
+
+        return kept;
+    }
+
+    /**
+     * Sets mGradientShader from the colors and the transformed x-positions of the visible
+     * entries, mLineBuffer needs to hold the transformed segments. The shader is reused from
+     * the previous frame if the gradient did not change, and stays null if the entries do not
+     * span at least one pixel.
+     */
+    private void createGradient(ILineDataSet dataSet, int count, int floatsPerPair) {
+
+        final float[] buffer = mLineBuffer.getBuffer();
+
+        final float left = buffer[0];
+        final float right = buffer[(count - 1) * floatsPerPair - 2];
+        final float width = right - left;
+
+        if (!(width >= 1f))
+            return;
+
+        mGradientCache.reset(count, left, right);
+
+        for (int i = 0; i < count; i++) {
+
+            final float x = i < count - 1 ? buffer[i * floatsPerPair] : right;
+
+            mGradientCache.set(i, dataSet.getColor(getVisibleIndex(i)), x);
+        }
+
+        mGradientShader = mGradientCache.getShader();
+    }
 
     /**
      * Draws a normal line.
@@ -330,122 +599,94 @@ public class LineChartRenderer extends LineRadarRenderer {
 
         mXBounds.set(mChart, dataSet);
 
+        final int count = prepareVisibleEntries(dataSet, trans, true);
+        recordEntries(count, dataSet.getEntryCount());
+
         // if drawing filled is enabled
         if (dataSet.isDrawFilledEnabled() && entryCount > 0) {
-            drawLinearFill(c, dataSet, trans, mXBounds);
+            drawLinearFill(c, dataSet, trans, count);
         }
 
         // more than 1 color
         if (dataSet.getColors().size() > 1) {
 
-            int numberOfFloats = pointsPerEntryPair * 2;
+            final boolean gradient = dataSet.isGradientLineEnabled();
+            final int pairs = generateColoredSegments(dataSet, trans, count, isDrawSteppedEnabled, gradient);
+            final int floatsPerPair = pointsPerEntryPair * 2;
 
-            if (mLineBuffer.length <= numberOfFloats)
-                mLineBuffer = new float[numberOfFloats * 2];
+            if (pairs > 0) {
 
-            int max = mXBounds.min + mXBounds.range;
+                if (gradient && mGradientShader != null) {
 
-            for (int j = mXBounds.min; j < max; j++) {
+                    // the shader provides the colors, only the alpha of the paint is applied
+                    mRenderPaint.setColor(Color.BLACK);
+                    mRenderPaint.setShader(mGradientShader);
 
-                Entry e = dataSet.getEntryForIndex(j);
-                if (e == null) continue;
+                    canvas.drawLines(mLineBuffer.getBuffer(), 0, pairs * floatsPerPair, mRenderPaint);
 
-                mLineBuffer[0] = e.getX();
-                mLineBuffer[1] = e.getY() * phaseY;
-
-                if (j < mXBounds.max) {
-
-                    e = dataSet.getEntryForIndex(j + 1);
-
-                    if (e == null) break;
-
-                    if (isDrawSteppedEnabled) {
-                        mLineBuffer[2] = e.getX();
-                        mLineBuffer[3] = mLineBuffer[1];
-                        mLineBuffer[4] = mLineBuffer[2];
-                        mLineBuffer[5] = mLineBuffer[3];
-                        mLineBuffer[6] = e.getX();
-                        mLineBuffer[7] = e.getY() * phaseY;
-                    } else {
-                        mLineBuffer[2] = e.getX();
-                        mLineBuffer[3] = e.getY() * phaseY;
-                    }
+                    mRenderPaint.setShader(null);
+                    mGradientShader = null;
 
                 } else {
-                    mLineBuffer[2] = mLineBuffer[0];
-                    mLineBuffer[3] = mLineBuffer[1];
-                }
 
-                // Determine the start and end coordinates of the line, and make sure they differ.
-                float firstCoordinateX = mLineBuffer[0];
-                float firstCoordinateY = mLineBuffer[1];
-                float lastCoordinateX = mLineBuffer[numberOfFloats - 2];
-                float lastCoordinateY = mLineBuffer[numberOfFloats - 1];
+                    // one draw call per run of consecutive segments with the same color
+                    int start = 0;
 
-                if (firstCoordinateX == lastCoordinateX &&
-                        firstCoordinateY == lastCoordinateY)
-                    continue;
-
-                trans.pointValuesToPixel(mLineBuffer);
+                    for (int p = 1; p <= pairs; p++) {
 
-                if (!mViewPortHandler.isInBoundsRight(firstCoordinateX))
-                    break;
-
-                // make sure the lines don't do shitty things outside
-                // bounds
-                if (!mViewPortHandler.isInBoundsLeft(lastCoordinateX) ||
-                        !mViewPortHandler.isInBoundsTop(Math.max(firstCoordinateY, lastCoordinateY)) ||
-                        !mViewPortHandler.isInBoundsBottom(Math.min(firstCoordinateY, lastCoordinateY)))
-                    continue;
+                        if (p < pairs && mSegmentColors[p] == mSegmentColors[start])
+                            continue;
 
-                // get the color that is set for this line-segment
-                mRenderPaint.setColor(dataSet.getColor(j));
+                        mRenderPaint.setColor(mSegmentColors[start]);
+                        canvas.drawLines(mLineBuffer.getBuffer(), start * floatsPerPair,
+                                (p - start) * floatsPerPair, mRenderPaint);
 
-                canvas.drawLines(mLineBuffer, 0, pointsPerEntryPair * 2, mRenderPaint);
+                        start = p;
+                    }
+                }
             }
 
         } else { // only one color per dataset
 
-            if (mLineBuffer.length < Math.max((entryCount) * pointsPerEntryPair, pointsPerEntryPair) * 2)
-                mLineBuffer = new float[Math.max((entryCount) * pointsPerEntryPair, pointsPerEntryPair) * 4];
-
-            Entry e1, e2;
+            final float[] lineBuffer = mLineBuffer.obtain(Math.max(count, 1) * pointsPerEntryPair * 2);
 
-            e1 = dataSet.getEntryForIndex(mXBounds.min);
+            int j = 0;
+            int prevIndex = getVisibleIndex(0) == 0 ? 0 : (getVisibleIndex(0) - 1);
 
-            if (e1 != null) {
+            for (int i = 0; i < count; i++) {
 
-                int j = 0;
-                for (int x = mXBounds.min; x <= mXBounds.range + mXBounds.min; x++) {
+                final int x = getVisibleIndex(i);
 
-                    e1 = dataSet.getEntryForIndex(x == 0 ? 0 : (x - 1));
-                    e2 = dataSet.getEntryForIndex(x);
+                if (i > 0)
+                    prevIndex = getVisibleIndex(i - 1);
 
-                    if (e1 == null || e2 == null) continue;
+                final float x1 = dataSet.getEntryXForIndex(prevIndex);
+                final float y1 = dataSet.getEntryYForIndex(prevIndex) * phaseY;
+                final float x2 = dataSet.getEntryXForIndex(x);
+                final float y2 = dataSet.getEntryYForIndex(x) * phaseY;
 
-                    mLineBuffer[j++] = e1.getX();
-                    mLineBuffer[j++] = e1.getY() * phaseY;
-
-                    if (isDrawSteppedEnabled) {
-                        mLineBuffer[j++] = e2.getX();
-                        mLineBuffer[j++] = e1.getY() * phaseY;
-                        mLineBuffer[j++] = e2.getX();
-                        mLineBuffer[j++] = e1.getY() * phaseY;
-                    }
+                lineBuffer[j++] = x1;
+                lineBuffer[j++] = y1;
 
-                    mLineBuffer[j++] = e2.getX();
-                    mLineBuffer[j++] = e2.getY() * phaseY;
+                if (isDrawSteppedEnabled) {
+                    lineBuffer[j++] = x2;
+                    lineBuffer[j++] = y1;
+                    lineBuffer[j++] = x2;
+                    lineBuffer[j++] = y1;
                 }
 
-                if (j > 0) {
-                    trans.pointValuesToPixel(mLineBuffer);
+                lineBuffer[j++] = x2;
+                lineBuffer[j++] = y2;
+            }
 
-                    final int size = Math.max((mXBounds.range + 1) * pointsPerEntryPair, pointsPerEntryPair) * 2;
+            if (j > 0) {
+                trans.pointValuesToPixel(lineBuffer, j);
 
-                    mRenderPaint.setColor(dataSet.getColor());
+                final int size = Math.max(count * pointsPerEntryPair, pointsPerEntryPair) * 2;
 
-                    canvas.drawLines(mLineBuffer, 0, size, mRenderPaint);
-                }
+                mRenderPaint.setColor(dataSet.getColor());
+
+                canvas.drawLines(lineBuffer, 0, size, mRenderPaint);
             }
         }
 
@@ -460,14 +701,15 @@ public class LineChartRenderer extends LineRadarRenderer {
      * @param c
      * @param dataSet
      * @param trans
-     * @param bounds
+     * @param count   number of visible entries, see prepareVisibleEntries(...)
      */
-    protected void drawLinearFill(Canvas c, ILineDataSet dataSet, Transformer trans, XBounds bounds) {
+    protected void drawLinearFill(Canvas c, ILineDataSet dataSet, Transformer trans, int count) {
 
         final Path filled = mGenerateFilledPathBuffer;
 
-        final int startingIndex = bounds.min;
-        final int endingIndex = bounds.range + bounds.min;
+        // positions within the visible (possibly decimated) entries, see getVisibleIndex(...)
+        final int startingIndex = 0;
+        final int endingIndex = count - 1;
         final int indexInterval = 128;
 
         int currentStartIndex = 0;
@@ -505,8 +747,8 @@ public class LineChartRenderer extends LineRadarRenderer {
      * Generates a path that is used for filled drawing.
      *
      * @param dataSet    The dataset from which to read the entries.
-     * @param startIndex The index from which to start reading the dataset
-     * @param endIndex   The index from which to stop reading the dataset
+     * @param startIndex The visible position from which to start reading the dataset
+     * @param endIndex   The visible position at which to stop reading the dataset
      * @param outputPath The path object that will be assigned the chart data.
      * @return
      */
@@ -519,30 +761,34 @@ public class LineChartRenderer extends LineRadarRenderer {
         final Path filled = outputPath;
         filled.reset();
 
-        final Entry entry = dataSet.getEntryForIndex(startIndex);
+        final int first = getVisibleIndex(startIndex);
 
-        filled.moveTo(entry.getX(), fillMin);
-        filled.lineTo(entry.getX(), entry.getY() * phaseY);
+        float previousY = dataSet.getEntryYForIndex(first);
+        float currentX = dataSet.getEntryXForIndex(first);
+
+        filled.moveTo(currentX, fillMin);
+        filled.lineTo(currentX, previousY * phaseY);
 
         // create a new path
-        Entry currentEntry = null;
-        Entry previousEntry = entry;
-        for (int x = startIndex + 1; x <= endIndex; x++) {
+        for (int i = startIndex + 1; i <= endIndex; i++) {
+
+            final int x = getVisibleIndex(i);
 
-            currentEntry = dataSet.getEntryForIndex(x);
+            currentX = dataSet.getEntryXForIndex(x);
+            final float currentY = dataSet.getEntryYForIndex(x);
 
             if (isDrawSteppedEnabled) {
-                filled.lineTo(currentEntry.getX(), previousEntry.getY() * phaseY);
+                filled.lineTo(currentX, previousY * phaseY);
             }
 
-            filled.lineTo(currentEntry.getX(), currentEntry.getY() * phaseY);
+            filled.lineTo(currentX, currentY * phaseY);
 
-            previousEntry = currentEntry;
+            previousY = currentY;
         }
 
         // close up
-        if (currentEntry != null) {
-            filled.lineTo(currentEntry.getX(), fillMin);
+        if (endIndex > startIndex) {
+            filled.lineTo(currentX, fillMin);
         }
 
         filled.close();
@@ -575,14 +821,16 @@ public class LineChartRenderer extends LineRadarRenderer {
 
                 mXBounds.set(mChart, dataSet);
 
-                float[] positions = trans.generateTransformedValuesLine(dataSet, mAnimator.getPhaseX(), mAnimator
-                        .getPhaseY(), mXBounds.min, mXBounds.max);
+                final int count = (int) ((mXBounds.max - mXBounds.min) * mAnimator.getPhaseX()) + 1;
+                float[] positions = trans.generateTransformedValues(dataSet, mAnimator.getPhaseY(),
+                        mXBounds.min, count);
+                final int size = trans.getTransformedValuesSize();
 
                 MPPointF iconsOffset = MPPointF.getInstance(dataSet.getIconsOffset());
                 iconsOffset.x = Utils.convertDpToPixel(iconsOffset.x);
                 iconsOffset.y = Utils.convertDpToPixel(iconsOffset.y);
 
-                for (int j = 0; j < positions.length; j += 2) {
+                for (int j = 0; j < size; j += 2) {
 
                     float x = positions[j];
                     float y = positions[j + 1];
@@ -687,12 +935,8 @@ public class LineChartRenderer extends LineRadarRenderer {
 
             for (int j = mXBounds.min; j <= boundsRangeCount; j++) {
 
-                Entry e = dataSet.getEntryForIndex(j);
-
-                if (e == null) break;
-
-                mCirclesBuffer[0] = e.getX();
-                mCirclesBuffer[1] = e.getY() * phaseY;
+                mCirclesBuffer[0] = dataSet.getEntryXForIndex(j);
+                mCirclesBuffer[1] = dataSet.getEntryYForIndex(j) * phaseY;
 
                 trans.pointValuesToPixel(mCirclesBuffer);
 
@@ -761,19 +1005,25 @@ public class LineChartRenderer extends LineRadarRenderer {
     }
 
     /**
-     * Releases the drawing bitmap. This should be called when {@link LineChart#onDetachedFromWindow()}.
+     * Releases the drawing bitmap and the circle bitmaps to the BitmapPool. This should be called when {@link LineChart#onDetachedFromWindow()}.
      */
     public void releaseBitmap() {
+
+        releaseDrawBitmap();
+
+        for (DataSetImageCache imageCache : mImageCaches.values())
+            imageCache.release();
+
+        mImageCaches.clear();
+    }
+
+    private void releaseDrawBitmap() {
         if (mBitmapCanvas != null) {
             mBitmapCanvas.setBitmap(null);
             mBitmapCanvas = null;
         }
         if (mDrawBitmap != null) {
-            Bitmap drawBitmap = mDrawBitmap.get();
-            if (drawBitmap != null) {
-                drawBitmap.recycle();
-            }
-            mDrawBitmap.clear();
+            BitmapPool.getInstance().release(mDrawBitmap);
             mDrawBitmap = null;
         }
     }
@@ -784,6 +1034,8 @@ public class LineChartRenderer extends LineRadarRenderer {
 
         private Bitmap[] circleBitmaps;
 
+        private Canvas mCircleCanvas = new Canvas();
+
         /**
          * Sets up the cache, returns true if a change of cache was required.
          *
@@ -799,6 +1051,7 @@ public class LineChartRenderer extends LineRadarRenderer {
                 circleBitmaps = new Bitmap[size];
                 changeRequired = true;
             } else if (circleBitmaps.length != size) {
+                release();
                 circleBitmaps = new Bitmap[size];
                 changeRequired = true;
             }
@@ -819,12 +1072,17 @@ public class LineChartRenderer extends LineRadarRenderer {
             float circleRadius = set.getCircleRadius();
             float circleHoleRadius = set.getCircleHoleRadius();
 
+            BitmapPool pool = BitmapPool.getInstance();
+            Canvas canvas = mCircleCanvas;
+
             for (int i = 0; i < colorCount; i++) {
 
+                pool.release(circleBitmaps[i]);
+
                 Bitmap.Config conf = Bitmap.Config.ARGB_4444;
-                Bitmap circleBitmap = Bitmap.createBitmap((int) (circleRadius * 2.1), (int) (circleRadius * 2.1), conf);
+                Bitmap circleBitmap = pool.obtain((int) (circleRadius * 2.1), (int) (circleRadius * 2.1), conf);
 
-                Canvas canvas = new Canvas(circleBitmap);
+                canvas.setBitmap(circleBitmap);
                 circleBitmaps[i] = circleBitmap;
                 mRenderPaint.setColor(set.getCircleColor(i));
 
@@ -875,5 +1133,21 @@ public class LineChartRenderer extends LineRadarRenderer {
         protected Bitmap getBitmap(int index) {
             return circleBitmaps[index % circleBitmaps.length];
         }
+
+        /**
+         * Returns the cached bitmaps to the BitmapPool.
+         */
+        protected void release() {
+
+            mCircleCanvas.setBitmap(null);
+
+            if (circleBitmaps == null)
+                return;
+
+            for (int i = 0; i < circleBitmaps.length; i++) {
+                BitmapPool.getInstance().release(circleBitmaps[i]);
+                circleBitmaps[i] = null;
+            }
+        }
     }
 }
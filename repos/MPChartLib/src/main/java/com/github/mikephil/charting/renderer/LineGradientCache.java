@@ -0,0 +1,143 @@
+/*
+ * Copyright 2021 The Cashbook Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.mikephil.charting.renderer;
+
+import android.graphics.LinearGradient;
+import android.graphics.Matrix;
+import android.graphics.Shader;
+
+/**
+ * Creates the horizontal gradient of a line from the colors and pixel x-positions of its
+ * visible entries. The last shader is kept and reused as long as the colors and the relative
+ * positions of the entries stay the same, which is the case while panning or zooming without
+ * changing the visible entries. Only the local matrix of the shader is updated then, so
+ * drawing a gradient line does not allocate every frame.
+ */
+final class LineGradientCache {
+
+    /**
+     * relative positions may differ by this many pixels before the shader is recreated
+     */
+    private static final float POSITION_TOLERANCE = 0.5f;
+
+    /**
+     * colors and relative positions of the current frame, only the first mCount are valid
+     */
+    private int[] mColors = new int[16];
+    private float[] mPositions = new float[16];
+    private int mCount = 0;
+
+    private float mLeft;
+    private float mWidth;
+
+    /**
+     * the cached shader and the values it was created from, the arrays have the exact
+     * length of the gradient
+     */
+    private LinearGradient mShader = null;
+    private int[] mShaderColors = new int[0];
+    private float[] mShaderPositions = new float[0];
+    private float mShaderLeft;
+    private float mShaderWidth;
+
+    private final Matrix mLocalMatrix = new Matrix();
+
+    /**
+     * Starts a new gradient of the given number of colors, spanning the given pixel range.
+     *
+     * @param count
+     * @param left
+     * @param right
+     */
+    void reset(int count, float left, float right) {
+
+        if (mColors.length < count) {
+            int capacity = Math.max(count, mColors.length + (mColors.length >> 1));
+            mColors = new int[capacity];
+            mPositions = new float[capacity];
+        }
+
+        mCount = count;
+        mLeft = left;
+        mWidth = right - left;
+    }
+
+    /**
+     * Sets the color at the given pixel x-position for the entry at the given position of
+     * the gradient.
+     *
+     * @param position
+     * @param color
+     * @param x
+     */
+    void set(int position, int color, float x) {
+        mColors[position] = color;
+        mPositions[position] = Math.min(1f, Math.max(0f, (x - mLeft) / mWidth));
+    }
+
+    /**
+     * Returns the shader for the colors set since the last reset(...), reusing the cached
+     * one if possible.
+     *
+     * @return
+     */
+    LinearGradient getShader() {
+
+        if (mShader != null && matchesShader()) {
+
+            // map the range the shader was created for onto the current one
+            final float scale = mWidth / mShaderWidth;
+
+            mLocalMatrix.setScale(scale, 1f);
+            mLocalMatrix.postTranslate(mLeft - mShaderLeft * scale, 0f);
+            mShader.setLocalMatrix(mLocalMatrix);
+
+            return mShader;
+        }
+
+        if (mShaderColors.length != mCount) {
+            mShaderColors = new int[mCount];
+            mShaderPositions = new float[mCount];
+        }
+
+        System.arraycopy(mColors, 0, mShaderColors, 0, mCount);
+        System.arraycopy(mPositions, 0, mShaderPositions, 0, mCount);
+
+        mShaderLeft = mLeft;
+        mShaderWidth = mWidth;
+        mShader = new LinearGradient(mLeft, 0f, mLeft + mWidth, 0f,
+                mShaderColors, mShaderPositions, Shader.TileMode.CLAMP);
+
+        return mShader;
+    }
+
+    private boolean matchesShader() {
+
+        if (mShaderColors.length != mCount)
+            return false;
+
+        final float tolerance = POSITION_TOLERANCE / mWidth;
+
+        for (int i = 0; i < mCount; i++) {
+            if (mColors[i] != mShaderColors[i]
+                    || Math.abs(mPositions[i] - mShaderPositions[i]) > tolerance)
+                return false;
+        }
+
+        return true;
+    }
+}
@@ -38,11 +38,11 @@ import com.github.mikephil.charting.data.PieEntry;
 import com.github.mikephil.charting.formatter.IValueFormatter;
 import com.github.mikephil.charting.highlight.Highlight;
 import com.github.mikephil.charting.interfaces.datasets.IPieDataSet;
+import com.github.mikephil.charting.utils.BitmapPool;
 import com.github.mikephil.charting.utils.ColorTemplate;
 import com.github.mikephil.charting.utils.MPPointF;
 import com.github.mikephil.charting.utils.Utils;
 import com.github.mikephil.charting.utils.ViewPortHandler;
-import java.lang.ref.WeakReference;
 import java.util.List;
 
 public class PieChartRenderer extends DataRenderer {
@@ -76,7 +76,7 @@ public class PieChartRenderer extends DataRenderer {
     /**
      * Bitmap for drawing the center hole
      */
-    protected WeakReference<Bitmap> mDrawBitmap;
+    protected Bitmap mDrawBitmap;
 
     protected Canvas mBitmapCanvas;
 
@@ -138,23 +138,26 @@ public class PieChartRenderer extends DataRenderer {
         int width = (int) mViewPortHandler.getChartWidth();
         int height = (int) mViewPortHandler.getChartHeight();
 
-        Bitmap drawBitmap = mDrawBitmap == null ? null : mDrawBitmap.get();
+        Bitmap drawBitmap = mDrawBitmap;
 
         if (drawBitmap == null
+                || drawBitmap.isRecycled()
                 || (drawBitmap.getWidth() != width)
                 || (drawBitmap.getHeight() != height)) {
 
+            releaseBitmap();
+
             if (width > 0 && height > 0) {
-                drawBitmap = Bitmap.createBitmap(width, height, Bitmap.Config.ARGB_4444);
-                mDrawBitmap = new WeakReference<>(drawBitmap);
+                drawBitmap = BitmapPool.getInstance().obtain(width, height, Bitmap.Config.ARGB_4444);
+                mDrawBitmap = drawBitmap;
                 mBitmapCanvas = new Canvas(drawBitmap);
             } else {
                 return;
             }
+        } else {
+            drawBitmap.eraseColor(Color.TRANSPARENT);
         }
 
-        drawBitmap.eraseColor(Color.TRANSPARENT);
-
         PieData pieData = mChart.getData();
 
         for (IPieDataSet set : pieData.getDataSets()) {
@@ -167,6 +170,25 @@ public class PieChartRenderer extends DataRenderer {
 
     private Path mPathBuffer = new Path();
     private RectF mInnerRectBuffer = new RectF();
+    private RectF mRoundedCircleBox = new RectF();
+
+    /**
+     * paths of all slices for a rotation angle of 0, drawn rotated by the current rotation angle
+     */
+    private Path[] mSlicePaths = new Path[0];
+
+    /**
+     * false for the slices of zero values, these are not drawn
+     */
+    private boolean[] mSliceVisible = new boolean[0];
+
+    /**
+     * DataSet, data version, size and style the slice paths were last built for
+     */
+    private IPieDataSet mSliceDataSet;
+    private long mSliceVersion = -1;
+    private float[] mSliceKey = new float[0];
+    private float[] mSliceKeyBuffer = new float[0];
 
     protected float calculateMinimumRadiusForSpacedSlice(
             MPPointF center,
@@ -230,8 +252,111 @@ public class PieChartRenderer extends DataRenderer {
 
     protected void drawDataSet(Canvas c, IPieDataSet dataSet) {
 
+        final int entryCount = dataSet.getEntryCount();
+
+        recordEntries(entryCount, entryCount);
+
+        final MPPointF center = mChart.getCenterCircleBox();
+        final float radius = mChart.getRadius();
+        final boolean drawInnerArc = mChart.isDrawHoleEnabled() && !mChart.isDrawSlicesUnderHoleEnabled();
+        final boolean drawRoundedSlices = drawInnerArc && mChart.isDrawRoundedSlicesEnabled();
+
+        // the slice geometry does not depend on the rotation, it is only rebuilt if the data,
+        // the size or the style of the chart changes
+        if (updateSliceKey(dataSet, center, radius, drawInnerArc, drawRoundedSlices))
+            buildSlicePaths(dataSet, center, radius, drawInnerArc, drawRoundedSlices);
+
+        final int save = mBitmapCanvas.save();
+        mBitmapCanvas.rotate(mChart.getRotationAngle(), center.x, center.y);
+
+        for (int j = 0; j < entryCount; j++) {
+
+            if (!mSliceVisible[j])
+                continue;
+
+            // Don't draw if it's highlighted, unless the chart uses rounded slices
+            if (dataSet.isHighlightEnabled() && mChart.needsHighlight(j) && !drawRoundedSlices)
+                continue;
+
+            mRenderPaint.setColor(dataSet.getColor(j));
+            mBitmapCanvas.drawPath(mSlicePaths[j], mRenderPaint);
+        }
+
+        mBitmapCanvas.restoreToCount(save);
+
+        MPPointF.recycleInstance(center);
+    }
+
+    /**
+     * Captures everything the slice paths of the given DataSet depend on, except for the
+     * rotation angle. Returns true if any of it changed since the paths were last built.
+     *
+     * @param dataSet
+     * @param center
+     * @param radius
+     * @param drawInnerArc
+     * @param drawRoundedSlices
+     * @return
+     */
+    protected boolean updateSliceKey(IPieDataSet dataSet, MPPointF center, float radius,
+                                     boolean drawInnerArc, boolean drawRoundedSlices) {
+
+        final float[] drawAngles = mChart.getDrawAngles();
+        final int entryCount = Math.min(dataSet.getEntryCount(), drawAngles.length);
+        final int size = 10 + entryCount;
+
+        if (mSliceKeyBuffer.length != size)
+            mSliceKeyBuffer = new float[size];
+
+        float[] key = mSliceKeyBuffer;
+
+        key[0] = mAnimator.getPhaseX();
+        key[1] = mAnimator.getPhaseY();
+        key[2] = center.x;
+        key[3] = center.y;
+        key[4] = radius;
+        key[5] = mChart.getHoleRadius();
+        key[6] = drawInnerArc ? 1f : 0f;
+        key[7] = drawRoundedSlices ? 1f : 0f;
+        key[8] = getSliceSpace(dataSet);
+        key[9] = dataSet.getEntryCount();
+
+        System.arraycopy(drawAngles, 0, key, 10, entryCount);
+
+        final long version = mChart.getData().getVersion();
+
+        boolean changed = dataSet != mSliceDataSet || version != mSliceVersion
+                || mSliceKey.length != size;
+
+        for (int i = 0; !changed && i < size; i++) {
+            if (Float.compare(key[i], mSliceKey[i]) != 0)
+                changed = true;
+        }
+
+        if (changed) {
+            mSliceKeyBuffer = mSliceKey;
+            mSliceKey = key;
+            mSliceDataSet = dataSet;
+            mSliceVersion = version;
+        }
+
+        return changed;
+    }
+
+    /**
+     * Builds the paths of all slices of the given DataSet for a rotation angle of 0.
+     *
+     * @param dataSet
+     * @param center
+     * @param radius
+     * @param drawInnerArc
+     * @param drawRoundedSlices
+     */
+    protected void buildSlicePaths(IPieDataSet dataSet, MPPointF center, float radius,
+                                   boolean drawInnerArc, boolean drawRoundedSlices) {
+
         float angle = 0;
-        float rotationAngle = mChart.getRotationAngle();
+        final float rotationAngle = 0f;
 
         float phaseX = mAnimator.getPhaseX();
         float phaseY = mAnimator.getPhaseY();
@@ -240,15 +365,24 @@ public class PieChartRenderer extends DataRenderer {
 
         final int entryCount = dataSet.getEntryCount();
         final float[] drawAngles = mChart.getDrawAngles();
-        final MPPointF center = mChart.getCenterCircleBox();
-        final float radius = mChart.getRadius();
-        final boolean drawInnerArc = mChart.isDrawHoleEnabled() && !mChart.isDrawSlicesUnderHoleEnabled();
+
+        if (mSlicePaths.length < entryCount) {
+
+            Path[] paths = new Path[entryCount];
+            System.arraycopy(mSlicePaths, 0, paths, 0, mSlicePaths.length);
+
+            for (int j = mSlicePaths.length; j < entryCount; j++)
+                paths[j] = new Path();
+
+            mSlicePaths = paths;
+            mSliceVisible = new boolean[entryCount];
+        }
+
         final float userInnerRadius = drawInnerArc
                 ? radius * (mChart.getHoleRadius() / 100.f)
                 : 0.f;
         final float roundedRadius = (radius - (radius * mChart.getHoleRadius() / 100f)) / 2f;
-        final RectF roundedCircleBox = new RectF();
-        final boolean drawRoundedSlices = drawInnerArc && mChart.isDrawRoundedSlicesEnabled();
+        final RectF roundedCircleBox = mRoundedCircleBox;
 
         int visibleAngleCount = 0;
         for (int j = 0; j < entryCount; j++) {
@@ -268,21 +402,15 @@ public class PieChartRenderer extends DataRenderer {
             Entry e = dataSet.getEntryForIndex(j);
 
             // draw only if the value is greater than zero
-            if (!(Math.abs(e.getY()) > Utils.FLOAT_EPSILON)) {
-                angle += sliceAngle * phaseX;
-                continue;
-            }
+            mSliceVisible[j] = Math.abs(e.getY()) > Utils.FLOAT_EPSILON;
 
-            // Don't draw if it's highlighted, unless the chart uses rounded slices
-            if (dataSet.isHighlightEnabled() && mChart.needsHighlight(j) && !drawRoundedSlices) {
+            if (!mSliceVisible[j]) {
                 angle += sliceAngle * phaseX;
                 continue;
             }
 
             final boolean accountForSliceSpacing = sliceSpace > 0.f && sliceAngle <= 180.f;
 
-            mRenderPaint.setColor(dataSet.getColor(j));
-
             final float sliceSpaceAngleOuter = visibleAngleCount == 1 ?
                     0.f :
                     sliceSpace / (Utils.FDEG2RAD * radius);
@@ -292,7 +420,8 @@ public class PieChartRenderer extends DataRenderer {
                 sweepAngleOuter = 0.f;
             }
 
-            mPathBuffer.reset();
+            final Path path = mSlicePaths[j];
+            path.reset();
 
             if (drawRoundedSlices) {
                 float x = center.x + (radius - roundedRadius) * (float) Math.cos(startAngleOuter * Utils.FDEG2RAD);
@@ -305,14 +434,14 @@ public class PieChartRenderer extends DataRenderer {
 
             if (sweepAngleOuter >= 360.f && sweepAngleOuter % 360f <= Utils.FLOAT_EPSILON) {
                 // Android is doing "mod 360"
-                mPathBuffer.addCircle(center.x, center.y, radius, Path.Direction.CW);
+                path.addCircle(center.x, center.y, radius, Path.Direction.CW);
             } else {
 
                 if (drawRoundedSlices) {
-                    mPathBuffer.arcTo(roundedCircleBox, startAngleOuter + 180, -180);
+                    path.arcTo(roundedCircleBox, startAngleOuter + 180, -180);
                 }
 
-                mPathBuffer.arcTo(
+                path.arcTo(
                         circleBox,
                         startAngleOuter,
                         sweepAngleOuter
@@ -356,21 +485,21 @@ public class PieChartRenderer extends DataRenderer {
 
                 if (sweepAngleOuter >= 360.f && sweepAngleOuter % 360f <= Utils.FLOAT_EPSILON) {
                     // Android is doing "mod 360"
-                    mPathBuffer.addCircle(center.x, center.y, innerRadius, Path.Direction.CCW);
+                    path.addCircle(center.x, center.y, innerRadius, Path.Direction.CCW);
                 } else {
 
                     if (drawRoundedSlices) {
                         float x = center.x + (radius - roundedRadius) * (float) Math.cos(endAngleInner * Utils.FDEG2RAD);
                         float y = center.y + (radius - roundedRadius) * (float) Math.sin(endAngleInner * Utils.FDEG2RAD);
                         roundedCircleBox.set(x - roundedRadius, y - roundedRadius, x + roundedRadius, y + roundedRadius);
-                        mPathBuffer.arcTo(roundedCircleBox, endAngleInner, 180);
+                        path.arcTo(roundedCircleBox, endAngleInner, 180);
                     } else {
-                        mPathBuffer.lineTo(
+                        path.lineTo(
                                 center.x + innerRadius * (float) Math.cos(endAngleInner * Utils.FDEG2RAD),
                                 center.y + innerRadius * (float) Math.sin(endAngleInner * Utils.FDEG2RAD));
                     }
 
-                    mPathBuffer.arcTo(
+                    path.arcTo(
                             mInnerRectBuffer,
                             endAngleInner,
                             -sweepAngleInner
@@ -398,12 +527,12 @@ public class PieChartRenderer extends DataRenderer {
                         float arcEndPointY = center.y +
                                 sliceSpaceOffset * (float) Math.sin(angleMiddle * Utils.FDEG2RAD);
 
-                        mPathBuffer.lineTo(
+                        path.lineTo(
                                 arcEndPointX,
                                 arcEndPointY);
 
                     } else {
-                        mPathBuffer.lineTo(
+                        path.lineTo(
                                 center.x,
                                 center.y);
                     }
@@ -411,14 +540,10 @@ public class PieChartRenderer extends DataRenderer {
 
             }
 
-            mPathBuffer.close();
-
-            mBitmapCanvas.drawPath(mPathBuffer, mRenderPaint);
+            path.close();
 
             angle += sliceAngle * phaseX;
         }
-
-        MPPointF.recycleInstance(center);
     }
 
     @Override
@@ -698,7 +823,10 @@ public class PieChartRenderer extends DataRenderer {
     @Override
     public void drawExtras(Canvas c) {
         drawHole(c);
-        c.drawBitmap(mDrawBitmap.get(), 0, 0, null);
+
+        if (mDrawBitmap != null)
+            c.drawBitmap(mDrawBitmap, 0, 0, null);
+
         drawCenterText(c);
     }
 
@@ -1085,7 +1213,7 @@ public class PieChartRenderer extends DataRenderer {
     }
 
     /**
-     * Releases the drawing bitmap. This should be called when { LineChart#onDetachedFromWindow()}.
+     * Releases the drawing bitmap to the BitmapPool. This should be called when { LineChart#onDetachedFromWindow()}.
      */
     public void releaseBitmap() {
         if (mBitmapCanvas != null) {
@@ -1093,11 +1221,7 @@ public class PieChartRenderer extends DataRenderer {
             mBitmapCanvas = null;
         }
         if (mDrawBitmap != null) {
-            Bitmap drawBitmap = mDrawBitmap.get();
-            if (drawBitmap != null) {
-                drawBitmap.recycle();
-            }
-            mDrawBitmap.clear();
+            BitmapPool.getInstance().release(mDrawBitmap);
             mDrawBitmap = null;
         }
     }
@@ -102,6 +102,8 @@ public class RadarChartRenderer extends LineRadarRenderer {
         // pixels
         float factor = mChart.getFactor();
 
+        recordEntries(dataSet.getEntryCount(), dataSet.getEntryCount());
+
         MPPointF center = mChart.getCenterOffsets();
         MPPointF pOut = MPPointF.getInstance(0,0);
         Path surface = mDrawDataSetSurfacePathBuffer;
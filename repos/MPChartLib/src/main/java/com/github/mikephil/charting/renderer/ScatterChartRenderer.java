@@ -16,6 +16,7 @@
 
 package com.github.mikephil.charting.renderer;
 
+import android.graphics.Bitmap;
 import android.graphics.Canvas;
 import android.graphics.drawable.Drawable;
 import android.util.Log;
@@ -27,8 +28,10 @@ import com.github.mikephil.charting.highlight.Highlight;
 import com.github.mikephil.charting.interfaces.dataprovider.ScatterDataProvider;
 import com.github.mikephil.charting.interfaces.datasets.IScatterDataSet;
 import com.github.mikephil.charting.renderer.scatter.IShapeRenderer;
+import com.github.mikephil.charting.renderer.scatter.ShapeSpriteCache;
 import com.github.mikephil.charting.utils.MPPointD;
 import com.github.mikephil.charting.utils.MPPointF;
+import com.github.mikephil.charting.utils.PointBuffer;
 import com.github.mikephil.charting.utils.Transformer;
 import com.github.mikephil.charting.utils.Utils;
 import com.github.mikephil.charting.utils.ViewPortHandler;
@@ -60,7 +63,12 @@ public class ScatterChartRenderer extends LineScatterCandleRadarRenderer {
         }
     }
 
-    float[] mPixelBuffer = new float[2];
+    PointBuffer mPixelBuffer = new PointBuffer();
+
+    /**
+     * bitmaps of the default shapes, for DataSets with the shape cache enabled
+     */
+    protected ShapeSpriteCache mSpriteCache = new ShapeSpriteCache();
 
     protected void drawDataSet(Canvas c, IScatterDataSet dataSet) {
 
@@ -79,34 +87,82 @@ public class ScatterChartRenderer extends LineScatterCandleRadarRenderer {
             return;
         }
 
+        mXBounds.set(mChart, dataSet);
+
         int max = (int)(Math.min(
                 Math.ceil((float)dataSet.getEntryCount() * mAnimator.getPhaseX()),
                 (float)dataSet.getEntryCount()));
 
-        for (int i = 0; i < max; i++) {
+        // only iterate the entries within the visible x-range
+        max = Math.min(max, mXBounds.max + 1);
+
+        final int count = Math.max(0, max - mXBounds.min);
+
+        recordEntries(count, dataSet.getEntryCount());
+
+        if (count == 0)
+            return;
+
+        // transform all visible entries at once
+        final float[] pixels = mPixelBuffer.obtain(count * 2);
+
+        for (int i = 0, j = 0; i < count; i++) {
+            pixels[j++] = dataSet.getEntryXForIndex(mXBounds.min + i);
+            pixels[j++] = dataSet.getEntryYForIndex(mXBounds.min + i) * phaseY;
+        }
+
+        trans.pointValuesToPixel(pixels, count * 2);
+
+        final boolean useSprites = dataSet.isShapeCacheEnabled() && ShapeSpriteCache.isCacheable(renderer);
 
-            Entry e = dataSet.getEntryForIndex(i);
+        // the sprite of the last color, the color rarely changes from one entry to the next
+        Bitmap sprite = null;
+        int spriteColor = 0;
+        boolean spriteResolved = false;
 
-            mPixelBuffer[0] = e.getX();
-            mPixelBuffer[1] = e.getY() * phaseY;
+        for (int i = mXBounds.min, j = 0; i < max; i++, j += 2) {
 
-            trans.pointValuesToPixel(mPixelBuffer);
+            final float x = pixels[j];
+            final float y = pixels[j + 1];
 
-            if (!viewPortHandler.isInBoundsRight(mPixelBuffer[0]))
+            if (!viewPortHandler.isInBoundsRight(x))
                 break;
 
-            if (!viewPortHandler.isInBoundsLeft(mPixelBuffer[0])
-                    || !viewPortHandler.isInBoundsY(mPixelBuffer[1]))
+            if (!viewPortHandler.isInBoundsLeft(x)
+                    || !viewPortHandler.isInBoundsY(y))
                 continue;
 
-            mRenderPaint.setColor(dataSet.getColor(i / 2));
+            final int color = dataSet.getColor(i / 2);
+
+            if (useSprites) {
+
+                if (!spriteResolved || color != spriteColor) {
+                    sprite = mSpriteCache.getSprite(renderer, dataSet, viewPortHandler, color, mRenderPaint);
+                    spriteColor = color;
+                    spriteResolved = true;
+                }
+
+                if (sprite != null) {
+                    c.drawBitmap(sprite, x - sprite.getWidth() / 2f, y - sprite.getHeight() / 2f, null);
+                    continue;
+                }
+            }
+
+            mRenderPaint.setColor(color);
             renderer.renderShape(
                     c, dataSet, mViewPortHandler,
-                    mPixelBuffer[0], mPixelBuffer[1],
+                    x, y,
                     mRenderPaint);
         }
     }
 
+    /**
+     * Returns the cached shape bitmaps to the BitmapPool.
+     */
+    public void releaseSprites() {
+        mSpriteCache.clear();
+    }
+
     @Override
     public void drawValues(Canvas c) {
 
@@ -127,9 +183,11 @@ public class ScatterChartRenderer extends LineScatterCandleRadarRenderer {
 
                 mXBounds.set(mChart, dataSet);
 
-                float[] positions = mChart.getTransformer(dataSet.getAxisDependency())
-                        .generateTransformedValuesScatter(dataSet,
-                                mAnimator.getPhaseX(), mAnimator.getPhaseY(), mXBounds.min, mXBounds.max);
+                Transformer trans = mChart.getTransformer(dataSet.getAxisDependency());
+                final int count = (int) ((mXBounds.max - mXBounds.min) * mAnimator.getPhaseX() + 1);
+                float[] positions = trans.generateTransformedValues(dataSet, mAnimator.getPhaseY(),
+                        mXBounds.min, count);
+                final int size = trans.getTransformedValuesSize();
 
                 float shapeSize = Utils.convertDpToPixel(dataSet.getScatterShapeSize());
 
@@ -137,7 +195,7 @@ public class ScatterChartRenderer extends LineScatterCandleRadarRenderer {
                 iconsOffset.x = Utils.convertDpToPixel(iconsOffset.x);
                 iconsOffset.y = Utils.convertDpToPixel(iconsOffset.y);
 
-                for (int j = 0; j < positions.length; j += 2) {
+                for (int j = 0; j < size; j += 2) {
 
                     if (!mViewPortHandler.isInBoundsRight(positions[j]))
                         break;
@@ -273,10 +273,12 @@ public class XAxisRenderer extends AxisRenderer {
         Path gridLinePath = mRenderGridLinesPath;
         gridLinePath.reset();
 
-        for (int i = 0; i < positions.length; i += 2) {
+        // collect all grid lines in one path and draw it at once, a path because lines don't
+        // support dashing on lower android versions
+        for (int i = 0; i < positions.length; i += 2)
+            addGridLine(gridLinePath, positions[i], positions[i + 1]);
 
-            drawGridLine(c, positions[i], positions[i + 1], gridLinePath);
-        }
+        c.drawPath(gridLinePath, mGridPaint);
 
         c.restoreToCount(clipRestoreCount);
     }
@@ -299,8 +301,7 @@ public class XAxisRenderer extends AxisRenderer {
      */
     protected void drawGridLine(Canvas c, float x, float y, Path gridLinePath) {
 
-        gridLinePath.moveTo(x, mViewPortHandler.contentBottom());
-        gridLinePath.lineTo(x, mViewPortHandler.contentTop());
+        addGridLine(gridLinePath, x, y);
 
         // draw a path because lines don't support dashing on lower android versions
         c.drawPath(gridLinePath, mGridPaint);
@@ -308,8 +309,20 @@ public class XAxisRenderer extends AxisRenderer {
         gridLinePath.reset();
     }
 
+    /**
+     * Adds the grid line at the specified position to the given path.
+     *
+     * @param gridLinePath
+     * @param x
+     * @param y
+     */
+    protected void addGridLine(Path gridLinePath, float x, float y) {
+
+        gridLinePath.moveTo(x, mViewPortHandler.contentBottom());
+        gridLinePath.lineTo(x, mViewPortHandler.contentTop());
+    }
+
     protected float[] mRenderLimitLinesBuffer = new float[2];
-    protected RectF mLimitLineClippingRect = new RectF();
 
     /**
      * Draws the LimitLines associated with this axis to the screen.
@@ -324,26 +337,39 @@ public class XAxisRenderer extends AxisRenderer {
         if (limitLines == null || limitLines.size() <= 0)
             return;
 
-        float[] position = mRenderLimitLinesBuffer;
-        position[0] = 0;
-        position[1] = 0;
+        float[] positions = getLimitLinePositions(limitLines, false);
 
-        for (int i = 0; i < limitLines.size(); i++) {
+        // subclasses may override renderLimitLineLine(...), they get every LimitLine drawn on its own
+        if (getClass() != XAxisRenderer.class) {
+            renderLimitLinesSeparately(c, positions);
+            return;
+        }
 
-            LimitLine l = limitLines.get(i);
+        drawLimitLines(c, positions, false);
+    }
 
-            if (!l.isEnabled())
-                continue;
+    /**
+     * Draws each LimitLine through renderLimitLineLine(...) and renderLimitLineLabel(...), as the
+     * renderer did before LimitLines of the same style were batched into one path.
+     *
+     * @param c
+     * @param positions the pixel positions from getLimitLinePositions(...)
+     */
+    private void renderLimitLinesSeparately(Canvas c, float[] positions) {
+
+        float[] position = mRenderLimitLinesBuffer;
+
+        for (int i = 0; i < mLimitLineCount; i++) {
+
+            LimitLine l = mLimitLineCache[i];
 
             int clipRestoreCount = c.save();
             mLimitLineClippingRect.set(mViewPortHandler.getContentRect());
             mLimitLineClippingRect.inset(-l.getLineWidth(), 0.f);
             c.clipRect(mLimitLineClippingRect);
 
-            position[0] = l.getLimit();
-            position[1] = 0.f;
-
-            mTrans.pointValuesToPixel(position);
+            position[0] = positions[i * 2];
+            position[1] = positions[i * 2 + 1];
 
             renderLimitLineLine(c, l, position);
             renderLimitLineLabel(c, l, position, 2.f + l.getYOffset());
@@ -352,9 +378,27 @@ public class XAxisRenderer extends AxisRenderer {
         }
     }
 
+    @Override
+    protected void drawLimitLineLabel(Canvas c, LimitLine l, float x, float y) {
+
+        float[] position = mRenderLimitLinesBuffer;
+        position[0] = x;
+        position[1] = y;
+
+        renderLimitLineLabel(c, l, position, 2.f + l.getYOffset());
+    }
+
     float[] mLimitLineSegmentsBuffer = new float[4];
     private Path mLimitLinePath = new Path();
 
+    /**
+     * Draws the line of a single LimitLine. Only called for subclasses of this renderer, the
+     * XAxisRenderer itself draws all LimitLines of the same style as one path.
+     *
+     * @param c
+     * @param limitLine
+     * @param position
+     */
     public void renderLimitLineLine(Canvas c, LimitLine limitLine, float[] position) {
         mLimitLineSegmentsBuffer[0] = position[0];
         mLimitLineSegmentsBuffer[1] = mViewPortHandler.contentTop();
@@ -170,13 +170,12 @@ public class YAxisRenderer extends AxisRenderer {
             Path gridLinePath = mRenderGridLinesPath;
             gridLinePath.reset();
 
-            // draw the grid
-            for (int i = 0; i < positions.length; i += 2) {
+            // collect all grid lines in one path and draw it at once, a path because lines don't
+            // support dashing on lower android versions
+            for (int i = 0; i < positions.length; i += 2)
+                linePath(gridLinePath, i, positions);
 
-                // draw a path because lines don't support dashing on lower android versions
-                c.drawPath(linePath(gridLinePath, i, positions), mGridPaint);
-                gridLinePath.reset();
-            }
+            c.drawPath(gridLinePath, mGridPaint);
 
             c.restoreToCount(clipRestoreCount);
         }
@@ -195,7 +194,7 @@ public class YAxisRenderer extends AxisRenderer {
     }
 
     /**
-     * Calculates the path for a grid line.
+     * Adds the grid line at the given position to the given path.
      *
      * @param p
      * @param i
@@ -264,9 +263,18 @@ public class YAxisRenderer extends AxisRenderer {
         c.restoreToCount(clipRestoreCount);
     }
 
+    /**
+     * Deprecated. No longer used, LimitLines are drawn through drawLimitLines(...).
+     */
+    @Deprecated
     protected Path mRenderLimitLines = new Path();
+
+    /**
+     * Deprecated. No longer used, LimitLines are drawn through drawLimitLines(...).
+     */
+    @Deprecated
     protected float[] mRenderLimitLinesBuffer = new float[2];
-    protected RectF mLimitLineClippingRect = new RectF();
+
     /**
      * Draws the LimitLines associated with this axis to the screen.
      *
@@ -280,89 +288,60 @@ public class YAxisRenderer extends AxisRenderer {
         if (limitLines == null || limitLines.size() <= 0)
             return;
 
-        float[] pts = mRenderLimitLinesBuffer;
-        pts[0] = 0;
-        pts[1] = 0;
-        Path limitLinePath = mRenderLimitLines;
-        limitLinePath.reset();
-
-        for (int i = 0; i < limitLines.size(); i++) {
-
-            LimitLine l = limitLines.get(i);
-
-            if (!l.isEnabled())
-                continue;
+        float[] positions = getLimitLinePositions(limitLines, true);
 
-            int clipRestoreCount = c.save();
-            mLimitLineClippingRect.set(mViewPortHandler.getContentRect());
-            mLimitLineClippingRect.inset(0.f, -l.getLineWidth());
-            c.clipRect(mLimitLineClippingRect);
-
-            mLimitLinePaint.setStyle(Paint.Style.STROKE);
-            mLimitLinePaint.setColor(l.getLineColor());
-            mLimitLinePaint.setStrokeWidth(l.getLineWidth());
-            mLimitLinePaint.setPathEffect(l.getDashPathEffect());
-
-            pts[1] = l.getLimit();
-
-            mTrans.pointValuesToPixel(pts);
-
-            limitLinePath.moveTo(mViewPortHandler.contentLeft(), pts[1]);
-            limitLinePath.lineTo(mViewPortHandler.contentRight(), pts[1]);
+        drawLimitLines(c, positions, true);
+    }
 
-            c.drawPath(limitLinePath, mLimitLinePaint);
-            limitLinePath.reset();
-            // c.drawLines(pts, mLimitLinePaint);
+    @Override
+    protected void drawLimitLineLabel(Canvas c, LimitLine l, float x, float y) {
 
-            String label = l.getLabel();
+        String label = l.getLabel();
 
-            // if drawing the limit-value label is enabled
-            if (label != null && !label.equals("")) {
+        // if drawing the limit-value label is enabled
+        if (label != null && !label.equals("")) {
 
-                mLimitLinePaint.setStyle(l.getTextStyle());
-                mLimitLinePaint.setPathEffect(null);
-                mLimitLinePaint.setColor(l.getTextColor());
-                mLimitLinePaint.setTypeface(l.getTypeface());
-                mLimitLinePaint.setStrokeWidth(0.5f);
-                mLimitLinePaint.setTextSize(l.getTextSize());
+            mLimitLinePaint.setStyle(l.getTextStyle());
+            mLimitLinePaint.setPathEffect(null);
+            mLimitLinePaint.setColor(l.getTextColor());
+            mLimitLinePaint.setTypeface(l.getTypeface());
+            mLimitLinePaint.setStrokeWidth(0.5f);
+            mLimitLinePaint.setTextSize(l.getTextSize());
 
-                final float labelLineHeight = Utils.calcTextHeight(mLimitLinePaint, label);
-                float xOffset = Utils.convertDpToPixel(4f) + l.getXOffset();
-                float yOffset = l.getLineWidth() + labelLineHeight + l.getYOffset();
+            final float labelLineHeight = Utils.calcTextHeight(mLimitLinePaint, label);
+            float xOffset = Utils.convertDpToPixel(4f) + l.getXOffset();
+            float yOffset = l.getLineWidth() + labelLineHeight + l.getYOffset();
 
-                final LimitLine.LimitLabelPosition position = l.getLabelPosition();
+            final LimitLine.LimitLabelPosition position = l.getLabelPosition();
 
-                if (position == LimitLine.LimitLabelPosition.RIGHT_TOP) {
+            if (position == LimitLine.LimitLabelPosition.RIGHT_TOP) {
 
-                    mLimitLinePaint.setTextAlign(Align.RIGHT);
-                    c.drawText(label,
-                            mViewPortHandler.contentRight() - xOffset,
-                            pts[1] - yOffset + labelLineHeight, mLimitLinePaint);
+                mLimitLinePaint.setTextAlign(Align.RIGHT);
+                c.drawText(label,
+                        mViewPortHandler.contentRight() - xOffset,
+                        y - yOffset + labelLineHeight, mLimitLinePaint);
 
-                } else if (position == LimitLine.LimitLabelPosition.RIGHT_BOTTOM) {
+            } else if (position == LimitLine.LimitLabelPosition.RIGHT_BOTTOM) {
 
-                    mLimitLinePaint.setTextAlign(Align.RIGHT);
-                    c.drawText(label,
-                            mViewPortHandler.contentRight() - xOffset,
-                            pts[1] + yOffset, mLimitLinePaint);
+                mLimitLinePaint.setTextAlign(Align.RIGHT);
+                c.drawText(label,
+                        mViewPortHandler.contentRight() - xOffset,
+                        y + yOffset, mLimitLinePaint);
 
-                } else if (position == LimitLine.LimitLabelPosition.LEFT_TOP) {
+            } else if (position == LimitLine.LimitLabelPosition.LEFT_TOP) {
 
-                    mLimitLinePaint.setTextAlign(Align.LEFT);
-                    c.drawText(label,
-                            mViewPortHandler.contentLeft() + xOffset,
-                            pts[1] - yOffset + labelLineHeight, mLimitLinePaint);
+                mLimitLinePaint.setTextAlign(Align.LEFT);
+                c.drawText(label,
+                        mViewPortHandler.contentLeft() + xOffset,
+                        y - yOffset + labelLineHeight, mLimitLinePaint);
 
-                } else {
+            } else {
 
-                    mLimitLinePaint.setTextAlign(Align.LEFT);
-                    c.drawText(label,
-                            mViewPortHandler.offsetLeft() + xOffset,
-                            pts[1] + yOffset, mLimitLinePaint);
-                }
+                mLimitLinePaint.setTextAlign(Align.LEFT);
+                c.drawText(label,
+                        mViewPortHandler.offsetLeft() + xOffset,
+                        y + yOffset, mLimitLinePaint);
             }
-
-            c.restoreToCount(clipRestoreCount);
         }
     }
 }
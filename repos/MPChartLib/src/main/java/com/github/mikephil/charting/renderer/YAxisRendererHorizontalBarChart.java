@@ -17,7 +17,6 @@
 package com.github.mikephil.charting.renderer;
 
 import android.graphics.Canvas;
-import android.graphics.Paint;
 import android.graphics.Paint.Align;
 import android.graphics.Path;
 import android.graphics.RectF;
@@ -231,8 +230,18 @@ public class YAxisRendererHorizontalBarChart extends YAxisRenderer {
         c.restoreToCount(clipRestoreCount);
     }
 
+    /**
+     * Deprecated. No longer used, LimitLines are drawn through drawLimitLines(...).
+     */
+    @Deprecated
     protected Path mRenderLimitLinesPathBuffer = new Path();
+
+    /**
+     * Deprecated. No longer used, LimitLines are drawn through drawLimitLines(...).
+     */
+    @Deprecated
     protected float[] mRenderLimitLinesBuffer = new float[4];
+
     /**
      * Draws the LimitLines associated with this axis to the screen.
      * This is the standard XAxis renderer using the YAxis limit lines.
@@ -247,84 +256,50 @@ public class YAxisRendererHorizontalBarChart extends YAxisRenderer {
         if (limitLines == null || limitLines.size() <= 0)
             return;
 
-        float[] pts = mRenderLimitLinesBuffer;
-        pts[0] = 0;
-        pts[1] = 0;
-        pts[2] = 0;
-        pts[3] = 0;
-        Path limitLinePath = mRenderLimitLinesPathBuffer;
-        limitLinePath.reset();
-
-        for (int i = 0; i < limitLines.size(); i++) {
-
-            LimitLine l = limitLines.get(i);
-
-            if (!l.isEnabled())
-                continue;
+        float[] positions = getLimitLinePositions(limitLines, false);
 
-            int clipRestoreCount = c.save();
-            mLimitLineClippingRect.set(mViewPortHandler.getContentRect());
-            mLimitLineClippingRect.inset(-l.getLineWidth(), 0.f);
-            c.clipRect(mLimitLineClippingRect);
-
-            pts[0] = l.getLimit();
-            pts[2] = l.getLimit();
-
-            mTrans.pointValuesToPixel(pts);
-
-            pts[1] = mViewPortHandler.contentTop();
-            pts[3] = mViewPortHandler.contentBottom();
-
-            limitLinePath.moveTo(pts[0], pts[1]);
-            limitLinePath.lineTo(pts[2], pts[3]);
-
-            mLimitLinePaint.setStyle(Paint.Style.STROKE);
-            mLimitLinePaint.setColor(l.getLineColor());
-            mLimitLinePaint.setPathEffect(l.getDashPathEffect());
-            mLimitLinePaint.setStrokeWidth(l.getLineWidth());
+        drawLimitLines(c, positions, false);
+    }
 
-            c.drawPath(limitLinePath, mLimitLinePaint);
-            limitLinePath.reset();
+    @Override
+    protected void drawLimitLineLabel(Canvas c, LimitLine l, float x, float y) {
 
-            String label = l.getLabel();
+        String label = l.getLabel();
 
-            // if drawing the limit-value label is enabled
-            if (label != null && !label.equals("")) {
+        // if drawing the limit-value label is enabled
+        if (label != null && !label.equals("")) {
 
-                mLimitLinePaint.setStyle(l.getTextStyle());
-                mLimitLinePaint.setPathEffect(null);
-                mLimitLinePaint.setColor(l.getTextColor());
-                mLimitLinePaint.setTypeface(l.getTypeface());
-                mLimitLinePaint.setStrokeWidth(0.5f);
-                mLimitLinePaint.setTextSize(l.getTextSize());
+            mLimitLinePaint.setStyle(l.getTextStyle());
+            mLimitLinePaint.setPathEffect(null);
+            mLimitLinePaint.setColor(l.getTextColor());
+            mLimitLinePaint.setTypeface(l.getTypeface());
+            mLimitLinePaint.setStrokeWidth(0.5f);
+            mLimitLinePaint.setTextSize(l.getTextSize());
 
-                float xOffset = l.getLineWidth() + l.getXOffset();
-                float yOffset = Utils.convertDpToPixel(2f) + l.getYOffset();
+            float xOffset = l.getLineWidth() + l.getXOffset();
+            float yOffset = Utils.convertDpToPixel(2f) + l.getYOffset();
 
-                final LimitLine.LimitLabelPosition position = l.getLabelPosition();
+            final LimitLine.LimitLabelPosition position = l.getLabelPosition();
 
-                if (position == LimitLine.LimitLabelPosition.RIGHT_TOP) {
+            if (position == LimitLine.LimitLabelPosition.RIGHT_TOP) {
 
-                    final float labelLineHeight = Utils.calcTextHeight(mLimitLinePaint, label);
-                    mLimitLinePaint.setTextAlign(Align.LEFT);
-                    c.drawText(label, pts[0] + xOffset, mViewPortHandler.contentTop() + yOffset + labelLineHeight, mLimitLinePaint);
-                } else if (position == LimitLine.LimitLabelPosition.RIGHT_BOTTOM) {
+                final float labelLineHeight = Utils.calcTextHeight(mLimitLinePaint, label);
+                mLimitLinePaint.setTextAlign(Align.LEFT);
+                c.drawText(label, x + xOffset, mViewPortHandler.contentTop() + yOffset + labelLineHeight, mLimitLinePaint);
+            } else if (position == LimitLine.LimitLabelPosition.RIGHT_BOTTOM) {
 
-                    mLimitLinePaint.setTextAlign(Align.LEFT);
-                    c.drawText(label, pts[0] + xOffset, mViewPortHandler.contentBottom() - yOffset, mLimitLinePaint);
-                } else if (position == LimitLine.LimitLabelPosition.LEFT_TOP) {
+                mLimitLinePaint.setTextAlign(Align.LEFT);
+                c.drawText(label, x + xOffset, mViewPortHandler.contentBottom() - yOffset, mLimitLinePaint);
+            } else if (position == LimitLine.LimitLabelPosition.LEFT_TOP) {
 
-                    mLimitLinePaint.setTextAlign(Align.RIGHT);
-                    final float labelLineHeight = Utils.calcTextHeight(mLimitLinePaint, label);
-                    c.drawText(label, pts[0] - xOffset, mViewPortHandler.contentTop() + yOffset + labelLineHeight, mLimitLinePaint);
-                } else {
+                mLimitLinePaint.setTextAlign(Align.RIGHT);
+                final float labelLineHeight = Utils.calcTextHeight(mLimitLinePaint, label);
+                c.drawText(label, x - xOffset, mViewPortHandler.contentTop() + yOffset + labelLineHeight, mLimitLinePaint);
+            } else {
 
-                    mLimitLinePaint.setTextAlign(Align.RIGHT);
-                    c.drawText(label, pts[0] - xOffset, mViewPortHandler.contentBottom() - yOffset, mLimitLinePaint);
-                }
+                mLimitLinePaint.setTextAlign(Align.RIGHT);
+                c.drawText(label, x - xOffset, mViewPortHandler.contentBottom() - yOffset, mLimitLinePaint);
             }
-
-            c.restoreToCount(clipRestoreCount);
         }
     }
 }
@@ -0,0 +1,227 @@
+/*
+ * Copyright 2021 The Cashbook Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.mikephil.charting.renderer.scatter;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Paint;
+
+import com.github.mikephil.charting.interfaces.datasets.IScatterDataSet;
+import com.github.mikephil.charting.utils.BitmapPool;
+import com.github.mikephil.charting.utils.Utils;
+import com.github.mikephil.charting.utils.ViewPortHandler;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Caches the shapes of the default IShapeRenderers as small bitmaps (sprites), one per shape,
+ * size, hole and color. Drawing a sprite is a plain bitmap copy, which is a lot cheaper than
+ * building and anti-aliasing the shape again for every point of a dense scatter plot. The
+ * sprite bitmaps are taken from and returned to the shared BitmapPool.
+ */
+public class ShapeSpriteCache {
+
+    /**
+     * sprites larger than this (in pixels) are not cached, the shape is drawn directly
+     */
+    public static final int MAX_SPRITE_SIZE = 256;
+
+    /**
+     * the maximum number of cached sprites, the least recently used ones are released first
+     */
+    private int mMaxSprites = 64;
+
+    private final LinkedHashMap<SpriteKey, Bitmap> mSprites =
+            new LinkedHashMap<SpriteKey, Bitmap>(16, 0.75f, true);
+
+    /**
+     * reused for the lookups, a copy is stored in the map
+     */
+    private final SpriteKey mLookupKey = new SpriteKey();
+
+    private final Canvas mSpriteCanvas = new Canvas();
+
+    /**
+     * Returns true if the shapes of the given renderer can be cached. Only the default
+     * renderers qualify, as their result only depends on the shape size, the hole and the
+     * color. Custom renderers (and subclasses of the default ones) are always drawn directly.
+     *
+     * @param renderer
+     * @return
+     */
+    public static boolean isCacheable(IShapeRenderer renderer) {
+
+        if (renderer == null)
+            return false;
+
+        Class<?> c = renderer.getClass();
+
+        return c == SquareShapeRenderer.class
+                || c == CircleShapeRenderer.class
+                || c == TriangleShapeRenderer.class
+                || c == CrossShapeRenderer.class
+                || c == XShapeRenderer.class
+                || c == ChevronUpShapeRenderer.class
+                || c == ChevronDownShapeRenderer.class;
+    }
+
+    /**
+     * Returns the sprite of the shape the given renderer draws for the DataSet in the given
+     * color, rendering it first if it is not cached yet. The shape is centered in the sprite.
+     * Returns null if the shape is too small or too large to be cached.
+     *
+     * @param renderer
+     * @param dataSet
+     * @param viewPortHandler
+     * @param color
+     * @param paint           paint the shape is rendered with
+     * @return
+     */
+    public Bitmap getSprite(IShapeRenderer renderer, IScatterDataSet dataSet,
+                            ViewPortHandler viewPortHandler, int color, Paint paint) {
+
+        final float shapeSize = dataSet.getScatterShapeSize();
+
+        final SpriteKey key = mLookupKey;
+        key.set(renderer.getClass(), shapeSize, dataSet.getScatterShapeHoleRadius(),
+                dataSet.getScatterShapeHoleColor(), color);
+
+        Bitmap sprite = mSprites.get(key);
+
+        if (sprite != null)
+            return sprite;
+
+        if (!(shapeSize > 0f))
+            return null;
+
+        // room for the stroke of the line shapes and the anti-aliased edges
+        final int padding = (int) Math.ceil(Utils.convertDpToPixel(1f)) + 1;
+        final int size = (int) Math.ceil(shapeSize) + padding * 2;
+
+        if (size > MAX_SPRITE_SIZE)
+            return null;
+
+        sprite = BitmapPool.getInstance().obtain(size, size, Bitmap.Config.ARGB_8888);
+
+        final float center = size / 2f;
+
+        mSpriteCanvas.setBitmap(sprite);
+
+        paint.setColor(color);
+        renderer.renderShape(mSpriteCanvas, dataSet, viewPortHandler, center, center, paint);
+
+        mSpriteCanvas.setBitmap(null);
+
+        mSprites.put(key.copy(), sprite);
+        trimToSize(mMaxSprites);
+
+        return sprite;
+    }
+
+    /**
+     * Sets the maximum number of cached sprites. Default: 64
+     *
+     * @param maxSprites
+     */
+    public void setMaxSprites(int maxSprites) {
+        mMaxSprites = Math.max(1, maxSprites);
+        trimToSize(mMaxSprites);
+    }
+
+    public int getMaxSprites() {
+        return mMaxSprites;
+    }
+
+    /**
+     * Returns the number of cached sprites.
+     *
+     * @return
+     */
+    public int size() {
+        return mSprites.size();
+    }
+
+    private void trimToSize(int maxSprites) {
+
+        Iterator<Map.Entry<SpriteKey, Bitmap>> it = mSprites.entrySet().iterator();
+
+        while (mSprites.size() > maxSprites && it.hasNext()) {
+            BitmapPool.getInstance().release(it.next().getValue());
+            it.remove();
+        }
+    }
+
+    /**
+     * Returns all sprites to the BitmapPool.
+     */
+    public void clear() {
+        trimToSize(0);
+    }
+
+    private static final class SpriteKey {
+
+        private Class<?> mRendererClass;
+        private float mShapeSize;
+        private float mHoleRadius;
+        private int mHoleColor;
+        private int mColor;
+
+        void set(Class<?> rendererClass, float shapeSize, float holeRadius, int holeColor, int color) {
+            mRendererClass = rendererClass;
+            mShapeSize = shapeSize;
+            mHoleRadius = holeRadius;
+            mHoleColor = holeColor;
+            mColor = color;
+        }
+
+        SpriteKey copy() {
+            SpriteKey key = new SpriteKey();
+            key.set(mRendererClass, mShapeSize, mHoleRadius, mHoleColor, mColor);
+            return key;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+
+            if (this == o)
+                return true;
+
+            if (!(o instanceof SpriteKey))
+                return false;
+
+            SpriteKey other = (SpriteKey) o;
+
+            return mRendererClass == other.mRendererClass
+                    && Float.compare(mShapeSize, other.mShapeSize) == 0
+                    && Float.compare(mHoleRadius, other.mHoleRadius) == 0
+                    && mHoleColor == other.mHoleColor
+                    && mColor == other.mColor;
+        }
+
+        @Override
+        public int hashCode() {
+            int result = mRendererClass.hashCode();
+            result = 31 * result + Float.floatToIntBits(mShapeSize);
+            result = 31 * result + Float.floatToIntBits(mHoleRadius);
+            result = 31 * result + mHoleColor;
+            result = 31 * result + mColor;
+            return result;
+        }
+    }
+}
@@ -0,0 +1,315 @@
+/*
+ * Copyright 2021 The Cashbook Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.mikephil.charting.utils;
+
+import android.graphics.Bitmap;
+import android.graphics.Color;
+
+import java.util.ArrayList;
+
+/**
+ * A pool of mutable bitmaps shared by all chart renderers. Released bitmaps are handed out again
+ * instead of allocating new ones, which avoids allocation spikes when many charts are created
+ * and destroyed, e.g. in a RecyclerView. A request is served by a pooled bitmap of identical
+ * width, height and config if there is one, otherwise by the smallest pooled bitmap whose
+ * allocation is large enough (but at most MAX_REUSE_FACTOR times the requested size), which
+ * is reconfigured to the requested size. Charts attach to the pool while they are attached to
+ * a window, once the last chart detaches all pooled bitmaps are recycled.
+ */
+public class BitmapPool {
+
+    /**
+     * a pooled bitmap is only reconfigured for a request if its allocation is at most this
+     * many times the requested size, so that small requests don't hold on to large bitmaps
+     */
+    public static final int MAX_REUSE_FACTOR = 2;
+
+    private static BitmapPool sInstance;
+
+    /**
+     * Returns the pool shared by all charts.
+     *
+     * @return
+     */
+    public static synchronized BitmapPool getInstance() {
+
+        if (sInstance == null)
+            sInstance = new BitmapPool(Math.min(Runtime.getRuntime().maxMemory() / 16, 32L * 1024 * 1024));
+
+        return sInstance;
+    }
+
+    /**
+     * the pooled bitmaps, least recently released first
+     */
+    private final ArrayList<Bitmap> mBitmaps = new ArrayList<>();
+
+    private long mMaxBytes;
+
+    private long mBytesHeld = 0;
+
+    private int mAttachCount = 0;
+
+    private long mHitCount = 0;
+    private long mMissCount = 0;
+    private long mEvictionCount = 0;
+
+    /**
+     * @param maxBytes maximum number of bytes the pooled (not handed out) bitmaps may hold
+     */
+    public BitmapPool(long maxBytes) {
+        mMaxBytes = maxBytes;
+    }
+
+    /**
+     * Returns a cleared mutable bitmap of the given size and config, taken from the pool if one
+     * is available.
+     *
+     * @param width
+     * @param height
+     * @param config
+     * @return
+     */
+    public synchronized Bitmap obtain(int width, int height, Bitmap.Config config) {
+
+        final long bytes = (long) width * height * getBytesPerPixel(config);
+
+        int bestIndex = -1;
+        long bestBytes = Long.MAX_VALUE;
+
+        for (int i = mBitmaps.size() - 1; i >= 0; i--) {
+
+            Bitmap bitmap = mBitmaps.get(i);
+
+            if (bitmap.getWidth() == width
+                    && bitmap.getHeight() == height
+                    && bitmap.getConfig() == config) {
+                bestIndex = i;
+                break;
+            }
+
+            // configs of unknown size (e.g. hardware bitmaps) can't be reconfigured
+            if (bytes <= 0 || getBytesPerPixel(bitmap.getConfig()) <= 0)
+                continue;
+
+            final long allocated = bitmap.getAllocationByteCount();
+
+            if (allocated >= bytes && allocated <= bytes * MAX_REUSE_FACTOR && allocated < bestBytes) {
+                bestIndex = i;
+                bestBytes = allocated;
+            }
+        }
+
+        if (bestIndex < 0) {
+            mMissCount++;
+            return Bitmap.createBitmap(width, height, config);
+        }
+
+        Bitmap bitmap = mBitmaps.remove(bestIndex);
+        mBytesHeld -= bitmap.getAllocationByteCount();
+        mHitCount++;
+
+        if (bitmap.getWidth() != width || bitmap.getHeight() != height || bitmap.getConfig() != config)
+            bitmap.reconfigure(width, height, config);
+
+        bitmap.eraseColor(Color.TRANSPARENT);
+        return bitmap;
+    }
+
+    /**
+     * Returns the number of bytes a pixel of the given config takes, or 0 if it is unknown.
+     *
+     * @param config
+     * @return
+     */
+    private static int getBytesPerPixel(Bitmap.Config config) {
+
+        if (config == null)
+            return 0;
+
+        switch (config) {
+            case ALPHA_8:
+                return 1;
+            case RGB_565:
+            case ARGB_4444:
+                return 2;
+            case ARGB_8888:
+                return 4;
+            default:
+                return 0;
+        }
+    }
+
+    /**
+     * Returns a bitmap to the pool. The caller must not use the bitmap afterwards. If the pool
+     * exceeds its maximum size, the least recently released bitmaps are recycled.
+     *
+     * @param bitmap
+     */
+    public synchronized void release(Bitmap bitmap) {
+
+        if (bitmap == null || bitmap.isRecycled())
+            return;
+
+        int bytes = bitmap.getAllocationByteCount();
+
+        if (mBitmaps.contains(bitmap))
+            return;
+
+        if (!bitmap.isMutable() || bytes > mMaxBytes) {
+            bitmap.recycle();
+            return;
+        }
+
+        mBitmaps.add(bitmap);
+        mBytesHeld += bytes;
+
+        trimToSize(mMaxBytes);
+    }
+
+    /**
+     * Recycles the least recently released bitmaps until the pool holds at most the given
+     * number of bytes.
+     *
+     * @param maxBytes
+     */
+    public synchronized void trimToSize(long maxBytes) {
+
+        while (mBytesHeld > maxBytes && !mBitmaps.isEmpty()) {
+
+            Bitmap bitmap = mBitmaps.remove(0);
+            mBytesHeld -= bitmap.getAllocationByteCount();
+            mEvictionCount++;
+
+            bitmap.recycle();
+        }
+    }
+
+    /**
+     * Sets the maximum number of bytes the pooled bitmaps may hold.
+     *
+     * @param maxBytes
+     */
+    public synchronized void setMaxBytes(long maxBytes) {
+        mMaxBytes = maxBytes;
+        trimToSize(maxBytes);
+    }
+
+    public synchronized long getMaxBytes() {
+        return mMaxBytes;
+    }
+
+    /**
+     * Recycles all pooled bitmaps.
+     */
+    public synchronized void clear() {
+        trimToSize(0);
+    }
+
+    /**
+     * Registers a user of the pool, called when a chart is attached to a window.
+     */
+    public synchronized void attach() {
+        mAttachCount++;
+    }
+
+    /**
+     * Unregisters a user of the pool, called when a chart is detached from its window. Once no
+     * user is left, all pooled bitmaps are recycled.
+     */
+    public synchronized void detach() {
+
+        if (mAttachCount > 0)
+            mAttachCount--;
+
+        if (mAttachCount == 0)
+            clear();
+    }
+
+    /**
+     * Recycles all pooled bitmaps if no chart is attached to the pool, for charts that give
+     * their bitmaps back without ever being attached (e.g. charts rendered offscreen).
+     */
+    public synchronized void clearIfDetached() {
+
+        if (mAttachCount == 0)
+            clear();
+    }
+
+    /**
+     * Returns the number of charts currently attached to the pool.
+     *
+     * @return
+     */
+    public synchronized int getAttachCount() {
+        return mAttachCount;
+    }
+
+    /**
+     * Returns the number of obtain(...) calls served from the pool.
+     *
+     * @return
+     */
+    public synchronized long getHitCount() {
+        return mHitCount;
+    }
+
+    /**
+     * Returns the number of obtain(...) calls that allocated a new bitmap.
+     *
+     * @return
+     */
+    public synchronized long getMissCount() {
+        return mMissCount;
+    }
+
+    /**
+     * Returns the number of pooled bitmaps recycled because the pool exceeded its size.
+     *
+     * @return
+     */
+    public synchronized long getEvictionCount() {
+        return mEvictionCount;
+    }
+
+    /**
+     * Returns the number of bytes held by the pooled bitmaps.
+     *
+     * @return
+     */
+    public synchronized long getBytesHeld() {
+        return mBytesHeld;
+    }
+
+    /**
+     * Returns the number of pooled bitmaps.
+     *
+     * @return
+     */
+    public synchronized int getPooledCount() {
+        return mBitmaps.size();
+    }
+
+    /**
+     * Resets the hit, miss and eviction counters.
+     */
+    public synchronized void resetCounters() {
+        mHitCount = 0;
+        mMissCount = 0;
+        mEvictionCount = 0;
+    }
+}
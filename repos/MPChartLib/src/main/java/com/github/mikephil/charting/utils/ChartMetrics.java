@@ -0,0 +1,302 @@
+/*
+ * Copyright 2021 The Cashbook Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.mikephil.charting.utils;
+
+import com.github.mikephil.charting.renderer.DataRenderer;
+
+import java.util.ArrayList;
+
+/**
+ * Timings and counters of one drawn frame of a chart, reported to an OnChartMetricsListener.
+ * The same instance is reused for every frame of a chart, listeners that keep the values
+ * beyond the callback must copy them.
+ */
+public class ChartMetrics {
+
+    /**
+     * The phases of a frame that are timed separately.
+     */
+    public enum Phase {
+        AUTO_SCALE, COMPUTE_AXIS, AXES, DRAW_DATA, HIGHLIGHTS, EXTRAS, DRAW_VALUES, LEGEND,
+        DESCRIPTION, MARKERS
+    }
+
+    private static final Phase[] PHASES = Phase.values();
+
+    private final long[] mPhaseNanos = new long[PHASES.length];
+
+    private long mFrameNanos;
+
+    private boolean mComposed;
+
+    private final ArrayList<DataRenderer> mRenderers = new ArrayList<>();
+    private long[] mRendererNanos = new long[4];
+
+    private int mEntriesDrawn;
+    private int mEntriesTotal;
+
+    private long mFrameStart;
+
+    private final long[] mPoolStart = new long[6];
+    private final long[] mPoolAllocations = new long[3];
+    private final long[] mPoolObtains = new long[3];
+
+    /**
+     * Resets all values and starts timing a new frame.
+     */
+    public void beginFrame() {
+
+        for (int i = 0; i < mPhaseNanos.length; i++)
+            mPhaseNanos[i] = 0;
+
+        mRenderers.clear();
+        mEntriesDrawn = 0;
+        mEntriesTotal = 0;
+        mComposed = false;
+
+        mPoolStart[0] = MPPointD.getPool().getAllocationCount();
+        mPoolStart[1] = MPPointF.getPool().getAllocationCount();
+        mPoolStart[2] = FSize.getPool().getAllocationCount();
+        mPoolStart[3] = MPPointD.getPool().getObtainCount();
+        mPoolStart[4] = MPPointF.getPool().getObtainCount();
+        mPoolStart[5] = FSize.getPool().getObtainCount();
+
+        mFrameStart = System.nanoTime();
+    }
+
+    /**
+     * Stops timing the current frame.
+     */
+    public void endFrame() {
+
+        mFrameNanos = System.nanoTime() - mFrameStart;
+
+        mPoolAllocations[0] = MPPointD.getPool().getAllocationCount() - mPoolStart[0];
+        mPoolAllocations[1] = MPPointF.getPool().getAllocationCount() - mPoolStart[1];
+        mPoolAllocations[2] = FSize.getPool().getAllocationCount() - mPoolStart[2];
+        mPoolObtains[0] = MPPointD.getPool().getObtainCount() - mPoolStart[3];
+        mPoolObtains[1] = MPPointF.getPool().getObtainCount() - mPoolStart[4];
+        mPoolObtains[2] = FSize.getPool().getObtainCount() - mPoolStart[5];
+    }
+
+    /**
+     * Adds the given duration to the given phase.
+     *
+     * @param phase
+     * @param nanos
+     */
+    public void addPhaseTime(Phase phase, long nanos) {
+        mPhaseNanos[phase.ordinal()] += nanos;
+    }
+
+    /**
+     * Adds the given drawData(...) duration of the given renderer. Sub renderers of combined
+     * charts are reported individually.
+     *
+     * @param renderer
+     * @param nanos
+     */
+    public void addRendererTime(DataRenderer renderer, long nanos) {
+
+        int index = mRenderers.indexOf(renderer);
+
+        if (index < 0) {
+            index = mRenderers.size();
+            mRenderers.add(renderer);
+
+            if (index >= mRendererNanos.length) {
+                long[] nanosBuffer = new long[mRendererNanos.length * 2];
+                System.arraycopy(mRendererNanos, 0, nanosBuffer, 0, mRendererNanos.length);
+                mRendererNanos = nanosBuffer;
+            }
+
+            mRendererNanos[index] = 0;
+        }
+
+        mRendererNanos[index] += nanos;
+    }
+
+    /**
+     * Adds the number of entries a renderer drew and the number of entries of the drawn data sets.
+     *
+     * @param drawn
+     * @param total
+     */
+    public void addEntries(int drawn, int total) {
+        mEntriesDrawn += drawn;
+        mEntriesTotal += total;
+    }
+
+    /**
+     * Marks the frame as composed from cached layers.
+     *
+     * @param composed
+     */
+    public void setComposed(boolean composed) {
+        mComposed = composed;
+    }
+
+    /**
+     * Returns true if the frame was composed from cached layers without drawing the data.
+     *
+     * @return
+     */
+    public boolean isComposed() {
+        return mComposed;
+    }
+
+    /**
+     * Returns the duration of the whole frame in nanoseconds.
+     *
+     * @return
+     */
+    public long getFrameNanos() {
+        return mFrameNanos;
+    }
+
+    /**
+     * Returns the time spent in the given phase in nanoseconds.
+     *
+     * @param phase
+     * @return
+     */
+    public long getPhaseNanos(Phase phase) {
+        return mPhaseNanos[phase.ordinal()];
+    }
+
+    /**
+     * Returns the number of renderers that reported a drawData(...) duration.
+     *
+     * @return
+     */
+    public int getRendererCount() {
+        return mRenderers.size();
+    }
+
+    public DataRenderer getRenderer(int index) {
+        return mRenderers.get(index);
+    }
+
+    /**
+     * Returns the drawData(...) duration of the renderer at the given index in nanoseconds.
+     *
+     * @param index
+     * @return
+     */
+    public long getRendererNanos(int index) {
+        return mRendererNanos[index];
+    }
+
+    /**
+     * Returns the number of entries the renderers drew.
+     *
+     * @return
+     */
+    public int getEntriesDrawn() {
+        return mEntriesDrawn;
+    }
+
+    /**
+     * Returns the number of entries of all drawn data sets.
+     *
+     * @return
+     */
+    public int getEntriesTotal() {
+        return mEntriesTotal;
+    }
+
+    /**
+     * Returns the number of MPPointD instances the pool had to allocate during the frame.
+     *
+     * @return
+     */
+    public long getPointDAllocations() {
+        return mPoolAllocations[0];
+    }
+
+    /**
+     * Returns the number of MPPointF instances the pool had to allocate during the frame.
+     *
+     * @return
+     */
+    public long getPointFAllocations() {
+        return mPoolAllocations[1];
+    }
+
+    /**
+     * Returns the number of FSize instances the pool had to allocate during the frame.
+     *
+     * @return
+     */
+    public long getFSizeAllocations() {
+        return mPoolAllocations[2];
+    }
+
+    /**
+     * Returns the number of MPPointD instances taken from the pool during the frame.
+     *
+     * @return
+     */
+    public long getPointDObtains() {
+        return mPoolObtains[0];
+    }
+
+    /**
+     * Returns the number of MPPointF instances taken from the pool during the frame.
+     *
+     * @return
+     */
+    public long getPointFObtains() {
+        return mPoolObtains[1];
+    }
+
+    /**
+     * Returns the number of FSize instances taken from the pool during the frame.
+     *
+     * @return
+     */
+    public long getFSizeObtains() {
+        return mPoolObtains[2];
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("frame: ").append(mFrameNanos / 1000).append(" us");
+
+        if (mComposed)
+            sb.append(" (composed)");
+
+        for (Phase phase : PHASES) {
+            if (mPhaseNanos[phase.ordinal()] > 0)
+                sb.append(", ").append(phase).append(": ")
+                        .append(mPhaseNanos[phase.ordinal()] / 1000).append(" us");
+        }
+
+        for (int i = 0; i < mRenderers.size(); i++) {
+            sb.append(", ").append(mRenderers.get(i).getClass().getSimpleName()).append(": ")
+                    .append(mRendererNanos[i] / 1000).append(" us");
+        }
+
+        sb.append(", entries: ").append(mEntriesDrawn).append("/").append(mEntriesTotal);
+        sb.append(", pool allocations: ").append(mPoolAllocations[0]).append("/")
+                .append(mPoolAllocations[1]).append("/").append(mPoolAllocations[2]);
+
+        return sb.toString();
+    }
+}
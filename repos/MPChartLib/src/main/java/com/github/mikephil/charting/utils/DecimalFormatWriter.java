@@ -0,0 +1,133 @@
+/*
+ * Copyright 2021 The Cashbook Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.mikephil.charting.utils;
+
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+
+/**
+ * Writes numbers into a char[] the way a DecimalFormat with the pattern
+ * "###,###,###,##0.0..." (grouping by three, a fixed number of decimal digits, half-even
+ * rounding) formats them, without allocating. Uses the symbols of the default locale like
+ * DecimalFormat does.
+ */
+public class DecimalFormatWriter {
+
+    /**
+     * above this, DecimalFormat rounds to 17 significant digits and pads with zeros
+     */
+    private static final double MAX_EXACT_VALUE = 1.0E15;
+
+    private final int mDigits;
+    private final double mScale;
+
+    private final char mZero;
+    private final char mMinus;
+    private final char mGrouping;
+    private final char mDecimal;
+
+    /**
+     * @param digits the number of decimal digits, all are written
+     */
+    public DecimalFormatWriter(int digits) {
+        this(digits, new DecimalFormat().getDecimalFormatSymbols());
+    }
+
+    public DecimalFormatWriter(int digits, DecimalFormatSymbols symbols) {
+
+        if (digits < 0)
+            digits = 0;
+
+        mDigits = digits;
+        mScale = Math.pow(10, digits);
+
+        mZero = symbols.getZeroDigit();
+        mMinus = symbols.getMinusSign();
+        mGrouping = symbols.getGroupingSeparator();
+        mDecimal = symbols.getDecimalSeparator();
+    }
+
+    public int getDigits() {
+        return mDigits;
+    }
+
+    /**
+     * Writes the formatted value into the buffer starting at the given offset and returns the
+     * number of written chars, or -1 if the value cannot be written (NaN, infinite or too large
+     * values, or a too small buffer). Use DecimalFormat.format(...) in that case.
+     *
+     * @param value
+     * @param buffer
+     * @param offset
+     * @return
+     */
+    public int write(double value, char[] buffer, int offset) {
+
+        if (Double.isNaN(value) || Double.isInfinite(value))
+            return -1;
+
+        // DecimalFormat keeps the sign of negative zero and of values rounded to zero
+        boolean negative = value < 0 || (value == 0 && 1 / value < 0);
+
+        double scaled = Math.rint(Math.abs(value) * mScale);
+
+        if (scaled >= MAX_EXACT_VALUE)
+            return -1;
+
+        long digits = (long) scaled;
+
+        // count the integer digits to know the length up front
+        long integer = digits;
+        for (int i = 0; i < mDigits; i++)
+            integer /= 10;
+
+        int integerDigits = 1;
+        for (long i = integer; i >= 10; i /= 10)
+            integerDigits++;
+
+        int length = (negative ? 1 : 0)
+                + integerDigits + (integerDigits - 1) / 3
+                + (mDigits > 0 ? mDigits + 1 : 0);
+
+        if (offset < 0 || offset + length > buffer.length)
+            return -1;
+
+        int index = offset + length - 1;
+
+        for (int i = 0; i < mDigits; i++) {
+            buffer[index--] = (char) (mZero + (int) (digits % 10));
+            digits /= 10;
+        }
+
+        if (mDigits > 0)
+            buffer[index--] = mDecimal;
+
+        for (int i = 0; i < integerDigits; i++) {
+
+            if (i > 0 && i % 3 == 0)
+                buffer[index--] = mGrouping;
+
+            buffer[index--] = (char) (mZero + (int) (digits % 10));
+            digits /= 10;
+        }
+
+        if (negative)
+            buffer[index] = mMinus;
+
+        return length;
+    }
+}
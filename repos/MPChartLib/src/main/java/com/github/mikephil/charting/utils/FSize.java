@@ -32,7 +32,7 @@ public final class FSize extends ObjectPool.Poolable{
     private static ObjectPool<FSize> pool;
 
     static {
-        pool = ObjectPool.create(256, new FSize(0,0));
+        pool = ObjectPool.createThreadConfined(256, new FSize(0,0));
         pool.setReplenishPercentage(0.5f);
     }
 
@@ -56,6 +56,15 @@ public final class FSize extends ObjectPool.Poolable{
         pool.recycle(instances);
     }
 
+    /**
+     * Returns the pool the instances are taken from, for diagnostic purposes.
+     *
+     * @return
+     */
+    public static ObjectPool<FSize> getPool() {
+        return pool;
+    }
+
     public FSize() {
     }
 
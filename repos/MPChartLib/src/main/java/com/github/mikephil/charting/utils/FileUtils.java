@@ -22,6 +22,7 @@ import android.util.Log;
 
 import com.github.mikephil.charting.data.BarEntry;
 import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.FloatColumns;
 
 import java.io.BufferedReader;
 import java.io.BufferedWriter;
@@ -35,7 +36,8 @@ import java.util.List;
 
 /**
  * Utilities class for interacting with the assets and the devices storage to
- * load and save DataSet objects from and to .txt files.
+ * load and save DataSet objects from and to .txt files, or from and to the
+ * binary format of FloatColumnsFile.
  * 
  * @author Philipp Jahoda
  */
@@ -313,4 +315,63 @@ public class FileUtils {
         // DataSet ds = new DataSet(entries, label);
         // return ds;
     }
+
+    /**
+     * Loads the values of a binary chart data file (see FloatColumnsFile) from
+     * the sd-card. The file is memory-mapped and not parsed per value. Returns
+     * empty columns if the file can't be read.
+     *
+     * @param path the name of the file on the sd-card (+ path if needed)
+     * @return
+     */
+    public static FloatColumns loadColumnsFromFile(String path) {
+
+        File sdcard = Environment.getExternalStorageDirectory();
+
+        try {
+            return FloatColumnsFile.read(new File(sdcard, path));
+        } catch (IOException e) {
+            Log.e(LOG, e.toString());
+        }
+
+        return new FloatColumns(0);
+    }
+
+    /**
+     * Loads the values of a binary chart data file (see FloatColumnsFile) from
+     * the assets folder. Returns empty columns if the file can't be read.
+     *
+     * @param am
+     * @param path the name of the file in the assets folder (+ path if needed)
+     * @return
+     */
+    public static FloatColumns loadColumnsFromAssets(AssetManager am, String path) {
+
+        try {
+            return FloatColumnsFile.read(am, path);
+        } catch (IOException e) {
+            Log.e(LOG, e.toString());
+        }
+
+        return new FloatColumns(0);
+    }
+
+    /**
+     * Saves the given values as a binary chart data file (see
+     * FloatColumnsFile) to the specified location on the sdcard. Unlike
+     * saveToSdCard(...), an existing file is replaced.
+     *
+     * @param columns
+     * @param path
+     */
+    public static void saveColumnsToSdCard(FloatColumns columns, String path) {
+
+        File sdcard = Environment.getExternalStorageDirectory();
+
+        try {
+            FloatColumnsFile.write(columns, new File(sdcard, path));
+        } catch (IOException e) {
+            Log.e(LOG, e.toString());
+        }
+    }
 }
@@ -0,0 +1,255 @@
+/*
+ * Copyright 2021 The Cashbook Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.mikephil.charting.utils;
+
+import android.content.res.AssetFileDescriptor;
+import android.content.res.AssetManager;
+
+import com.github.mikephil.charting.data.FloatColumns;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * Reads and writes FloatColumns in a compact binary format, meant for precomputed series that
+ * are shipped with the app or stored on the device. Files are memory-mapped for reading and
+ * each column is copied into its array in one bulk operation, there is no parsing per value.
+ * <p/>
+ * The format is little-endian: a header of four ints (magic number, format version, number of
+ * rows, number of additional columns), followed by all x-values, all y-values and then the
+ * values of each additional column (e.g. the stack values of bars), one float per row each.
+ * The result can be used as is by FloatColumnDataSet, FloatColumnBarDataSet and
+ * FloatColumnCandleDataSet.
+ */
+public class FloatColumnsFile {
+
+    /**
+     * "MPCF"
+     */
+    public static final int MAGIC = 0x4643504D;
+
+    public static final int VERSION = 1;
+
+    public static final int HEADER_SIZE = 16;
+
+    /**
+     * the maximum number of additional columns a file may have, files with more are rejected
+     * before anything is allocated
+     */
+    public static final int MAX_COLUMN_COUNT = 256;
+
+    private FloatColumnsFile() {
+    }
+
+    /**
+     * Returns the number of bytes needed to store the given columns.
+     *
+     * @param columns
+     * @return
+     */
+    public static long getEncodedSize(FloatColumns columns) {
+        return HEADER_SIZE + (long) columns.size() * (2L + columns.getColumnCount()) * 4;
+    }
+
+    /**
+     * Writes the given columns to a new buffer, ready to be read.
+     *
+     * @param columns
+     * @return
+     */
+    public static ByteBuffer encode(FloatColumns columns) {
+
+        final long size = getEncodedSize(columns);
+
+        if (columns.getColumnCount() > MAX_COLUMN_COUNT)
+            throw new IllegalArgumentException("Too many columns to encode: " + columns.getColumnCount());
+
+        if (size > Integer.MAX_VALUE)
+            throw new IllegalArgumentException("Too many values to encode: " + columns.size() + " rows.");
+
+        ByteBuffer buffer = ByteBuffer.allocate((int) size).order(ByteOrder.LITTLE_ENDIAN);
+
+        final int rows = columns.size();
+
+        buffer.putInt(MAGIC);
+        buffer.putInt(VERSION);
+        buffer.putInt(rows);
+        buffer.putInt(columns.getColumnCount());
+
+        FloatBuffer floats = buffer.asFloatBuffer();
+        floats.put(columns.getXValues(), 0, rows);
+        floats.put(columns.getYValues(), 0, rows);
+
+        for (int i = 0; i < columns.getColumnCount(); i++)
+            floats.put(columns.getColumn(i), 0, rows);
+
+        buffer.rewind();
+
+        return buffer;
+    }
+
+    /**
+     * Reads columns from the given buffer, starting at its position. The buffer's byte order is
+     * set to little-endian.
+     *
+     * @param buffer
+     * @return
+     * @throws IOException if the buffer does not hold a complete file of a supported version
+     */
+    public static FloatColumns decode(ByteBuffer buffer) throws IOException {
+
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+
+        if (buffer.remaining() < HEADER_SIZE)
+            throw new IOException("Not a chart data file, the header is missing.");
+
+        final int magic = buffer.getInt();
+        final int version = buffer.getInt();
+        final int rows = buffer.getInt();
+        final int columnCount = buffer.getInt();
+
+        if (magic != MAGIC)
+            throw new IOException("Not a chart data file.");
+
+        if (version != VERSION)
+            throw new IOException("Unsupported chart data file version: " + version);
+
+        if (rows < 0 || columnCount < 0 || columnCount > MAX_COLUMN_COUNT
+                || buffer.remaining() < (long) rows * (2L + columnCount) * 4)
+            throw new IOException("Chart data file is truncated or corrupt.");
+
+        FloatBuffer floats = buffer.asFloatBuffer();
+
+        float[] xValues = new float[rows];
+        float[] yValues = new float[rows];
+        float[][] extra = new float[columnCount][rows];
+
+        floats.get(xValues);
+        floats.get(yValues);
+
+        for (float[] column : extra)
+            floats.get(column);
+
+        return new FloatColumns(xValues, yValues, extra);
+    }
+
+    /**
+     * Writes the given columns to the given file, replacing its content.
+     *
+     * @param columns
+     * @param file
+     * @throws IOException
+     */
+    public static void write(FloatColumns columns, File file) throws IOException {
+
+        ByteBuffer buffer = encode(columns);
+
+        FileOutputStream out = new FileOutputStream(file);
+
+        try {
+            FileChannel channel = out.getChannel();
+
+            while (buffer.hasRemaining())
+                channel.write(buffer);
+
+        } finally {
+            out.close();
+        }
+    }
+
+    /**
+     * Memory-maps the given file and reads the columns it holds.
+     *
+     * @param file
+     * @return
+     * @throws IOException
+     */
+    public static FloatColumns read(File file) throws IOException {
+
+        FileInputStream in = new FileInputStream(file);
+
+        try {
+            FileChannel channel = in.getChannel();
+            return decode(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+
+        } finally {
+            in.close();
+        }
+    }
+
+    /**
+     * Reads the columns of a file in the assets folder. The file is memory-mapped if it is
+     * stored uncompressed in the apk (e.g. "noCompress" in the build configuration), otherwise
+     * it is read into memory first.
+     *
+     * @param am
+     * @param path the name of the file in the assets folder (+ path if needed)
+     * @return
+     * @throws IOException
+     */
+    public static FloatColumns read(AssetManager am, String path) throws IOException {
+
+        AssetFileDescriptor fd;
+
+        try {
+            fd = am.openFd(path);
+        } catch (FileNotFoundException e) {
+            // compressed assets can't be opened as file descriptors
+            return decode(readFully(am.open(path)));
+        }
+
+        try {
+            FileInputStream in = fd.createInputStream();
+
+            try {
+                return decode(in.getChannel().map(FileChannel.MapMode.READ_ONLY,
+                        fd.getStartOffset(), fd.getLength()));
+            } finally {
+                in.close();
+            }
+
+        } finally {
+            fd.close();
+        }
+    }
+
+    private static ByteBuffer readFully(InputStream in) throws IOException {
+
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(in.available(), HEADER_SIZE));
+            byte[] chunk = new byte[8192];
+            int read;
+
+            while ((read = in.read(chunk)) != -1)
+                out.write(chunk, 0, read);
+
+            return ByteBuffer.wrap(out.toByteArray());
+
+        } finally {
+            in.close();
+        }
+    }
+}
@@ -0,0 +1,482 @@
+/*
+ * Copyright 2021 The Cashbook Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.mikephil.charting.utils;
+
+import android.graphics.Paint;
+import android.graphics.Rect;
+import android.graphics.Typeface;
+
+import com.github.mikephil.charting.components.AxisBase;
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.formatter.IAxisValueFormatter;
+import com.github.mikephil.charting.formatter.ICacheableFormatter;
+import com.github.mikephil.charting.formatter.IValueFormatter;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Bounded LRU caches shared by the axis, value and legend rendering: formatted labels of
+ * cacheable formatters (see ICacheableFormatter) by (formatter, value) and measured text sizes by (paint text
+ * state, text). The text state of a paint (text size, typeface, scale, skew, letter spacing,
+ * flags, locale and font features) is part of the key, so a changed paint or typeface simply
+ * misses the cache.
+ * <p>
+ * The label cache is shared by all threads. The text measurements are kept per thread, so the
+ * frequent measuring during layout and drawing takes no lock and charts rendered on a
+ * background thread (see HeadlessChartRenderer) don't contend with the main thread.
+ */
+public class LabelCache {
+
+    private static final LabelCache sInstance = new LabelCache(512, 512);
+
+    /**
+     * Returns the cache shared by all charts.
+     *
+     * @return
+     */
+    public static LabelCache getInstance() {
+        return sInstance;
+    }
+
+    private static final int KIND_VALUE = 0;
+    private static final int KIND_AXIS = 1;
+
+    private final LruMap<LabelKey, String> mLabels;
+
+    private final LabelKey mLabelLookup = new LabelKey();
+
+    /**
+     * the text measurements of every thread that measures text
+     */
+    private final ThreadLocal<TextCache> mTexts;
+
+    private volatile boolean mEnabled = true;
+
+    private long mLabelHits = 0;
+    private long mLabelMisses = 0;
+
+    /**
+     * @param maxLabels maximum number of cached formatted labels
+     * @param maxTexts  maximum number of cached text measurements per thread
+     */
+    public LabelCache(int maxLabels, final int maxTexts) {
+        mLabels = new LruMap<>(maxLabels);
+        mTexts = new ThreadLocal<TextCache>() {
+            @Override
+            protected TextCache initialValue() {
+                return new TextCache(maxTexts);
+            }
+        };
+    }
+
+    /**
+     * Formats the given value with the given value formatter, cached if the formatter is an
+     * ICacheableFormatter.
+     *
+     * @param formatter
+     * @param value
+     * @param entry
+     * @param dataSetIndex
+     * @param viewPortHandler
+     * @return
+     */
+    public synchronized String getFormattedValue(IValueFormatter formatter, float value, Entry entry,
+                                                 int dataSetIndex, ViewPortHandler viewPortHandler) {
+
+        if (!mEnabled || !isCacheable(formatter))
+            return formatter.getFormattedValue(value, entry, dataSetIndex, viewPortHandler);
+
+        String label = mLabels.get(mLabelLookup.set(formatter, KIND_VALUE, value));
+
+        if (label == null) {
+            mLabelMisses++;
+            label = formatter.getFormattedValue(value, entry, dataSetIndex, viewPortHandler);
+            mLabels.put(new LabelKey().set(formatter, KIND_VALUE, value), label);
+        } else
+            mLabelHits++;
+
+        return label;
+    }
+
+    /**
+     * Formats the given axis value with the given axis formatter, cached if the formatter is an
+     * ICacheableFormatter.
+     *
+     * @param formatter
+     * @param value
+     * @param axis
+     * @return
+     */
+    public synchronized String getFormattedValue(IAxisValueFormatter formatter, float value, AxisBase axis) {
+
+        if (!mEnabled || !isCacheable(formatter))
+            return formatter.getFormattedValue(value, axis);
+
+        String label = mLabels.get(mLabelLookup.set(formatter, KIND_AXIS, value));
+
+        if (label == null) {
+            mLabelMisses++;
+            label = formatter.getFormattedValue(value, axis);
+            mLabels.put(new LabelKey().set(formatter, KIND_AXIS, value), label);
+        } else
+            mLabelHits++;
+
+        return label;
+    }
+
+    private static boolean isCacheable(Object formatter) {
+        return formatter instanceof ICacheableFormatter
+                && ((ICacheableFormatter) formatter).isCacheable();
+    }
+
+    /**
+     * Returns the width of the given text measured with the given paint, see Paint.measureText(...).
+     *
+     * @param paint
+     * @param text
+     * @return
+     */
+    public float getTextWidth(Paint paint, String text) {
+
+        if (!mEnabled)
+            return paint.measureText(text);
+
+        TextKey metrics = mTexts.get().get(paint, text);
+
+        if (Float.isNaN(metrics.width))
+            metrics.width = paint.measureText(text);
+
+        return metrics.width;
+    }
+
+    /**
+     * Returns the size of the bounds of the given text measured with the given paint, see
+     * Paint.getTextBounds(...).
+     *
+     * @param paint
+     * @param text
+     * @param outputFSize An output variable, modified by the function.
+     */
+    public void getTextBounds(Paint paint, String text, FSize outputFSize) {
+
+        TextCache texts = mTexts.get();
+
+        if (!mEnabled) {
+            Rect bounds = texts.measureBounds(paint, text);
+            outputFSize.width = bounds.width();
+            outputFSize.height = bounds.height();
+            return;
+        }
+
+        TextKey metrics = texts.getBounds(paint, text);
+
+        outputFSize.width = metrics.boundsWidth;
+        outputFSize.height = metrics.boundsHeight;
+    }
+
+    /**
+     * Returns the height of the bounds of the given text measured with the given paint, see
+     * Paint.getTextBounds(...).
+     *
+     * @param paint
+     * @param text
+     * @return
+     */
+    public float getTextHeight(Paint paint, String text) {
+
+        TextCache texts = mTexts.get();
+
+        if (!mEnabled)
+            return texts.measureBounds(paint, text).height();
+
+        return texts.getBounds(paint, text).boundsHeight;
+    }
+
+    /**
+     * Removes all cached labels of the given formatter, call this when its output changes.
+     *
+     * @param formatter
+     */
+    public synchronized void invalidate(Object formatter) {
+
+        Iterator<LabelKey> it = mLabels.keySet().iterator();
+
+        while (it.hasNext()) {
+            if (it.next().formatter == formatter)
+                it.remove();
+        }
+    }
+
+    /**
+     * Removes all cached labels and the text measurements of the calling thread.
+     */
+    public synchronized void clear() {
+        mLabels.clear();
+        mTexts.get().clear();
+    }
+
+    /**
+     * Enables / disables the caches. If disabled, every call formats and measures again.
+     * Default: true
+     *
+     * @param enabled
+     */
+    public synchronized void setEnabled(boolean enabled) {
+        mEnabled = enabled;
+
+        if (!enabled)
+            clear();
+    }
+
+    public boolean isEnabled() {
+        return mEnabled;
+    }
+
+    public synchronized long getLabelHitCount() {
+        return mLabelHits;
+    }
+
+    public synchronized long getLabelMissCount() {
+        return mLabelMisses;
+    }
+
+    /**
+     * Returns the number of text measurements of the calling thread served from the cache.
+     *
+     * @return
+     */
+    public long getTextHitCount() {
+        return mTexts.get().hits;
+    }
+
+    /**
+     * Returns the number of text measurements of the calling thread that missed the cache.
+     *
+     * @return
+     */
+    public long getTextMissCount() {
+        return mTexts.get().misses;
+    }
+
+    /**
+     * Returns the share of label lookups and text measurements of the calling thread that
+     * were served from the caches, between 0 and 1.
+     *
+     * @return
+     */
+    public synchronized float getHitRate() {
+
+        TextCache texts = mTexts.get();
+
+        long hits = mLabelHits + texts.hits;
+        long total = hits + mLabelMisses + texts.misses;
+
+        return total == 0 ? 0f : (float) hits / total;
+    }
+
+    /**
+     * Resets the hit and miss counters of the labels and of the text measurements of the
+     * calling thread.
+     */
+    public synchronized void resetCounters() {
+
+        TextCache texts = mTexts.get();
+
+        mLabelHits = 0;
+        mLabelMisses = 0;
+        texts.hits = 0;
+        texts.misses = 0;
+    }
+
+    /**
+     * LinkedHashMap in access order that drops its least recently used entry when full.
+     */
+    private static class LruMap<K, V> extends LinkedHashMap<K, V> {
+
+        private final int mMaxSize;
+
+        LruMap(int maxSize) {
+            super(16, 0.75f, true);
+            mMaxSize = maxSize;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+            return size() > mMaxSize;
+        }
+    }
+
+    private static class LabelKey {
+
+        Object formatter;
+        int kind;
+        int valueBits;
+
+        LabelKey set(Object formatter, int kind, float value) {
+            this.formatter = formatter;
+            this.kind = kind;
+            this.valueBits = Float.floatToIntBits(value);
+            return this;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+
+            if (!(o instanceof LabelKey))
+                return false;
+
+            LabelKey other = (LabelKey) o;
+            return formatter == other.formatter && kind == other.kind && valueBits == other.valueBits;
+        }
+
+        @Override
+        public int hashCode() {
+            int result = System.identityHashCode(formatter);
+            result = 31 * result + kind;
+            result = 31 * result + valueBits;
+            return result;
+        }
+    }
+
+    /**
+     * Text measurements of one thread.
+     */
+    private static class TextCache {
+
+        final LruMap<TextKey, TextKey> texts;
+        final TextKey lookup = new TextKey();
+        final Rect boundsBuffer = new Rect();
+
+        long hits = 0;
+        long misses = 0;
+
+        TextCache(int maxTexts) {
+            texts = new LruMap<>(maxTexts);
+        }
+
+        /**
+         * Returns the cached measurements of the given text, a miss adds a single object
+         * that is key and measurements at once.
+         */
+        TextKey get(Paint paint, String text) {
+
+            TextKey metrics = texts.get(lookup.set(paint, text));
+
+            if (metrics == null) {
+                misses++;
+                metrics = new TextKey().set(paint, text);
+                texts.put(metrics, metrics);
+            } else
+                hits++;
+
+            return metrics;
+        }
+
+        TextKey getBounds(Paint paint, String text) {
+
+            TextKey metrics = get(paint, text);
+
+            if (Float.isNaN(metrics.boundsWidth)) {
+                Rect bounds = measureBounds(paint, text);
+                metrics.boundsWidth = bounds.width();
+                metrics.boundsHeight = bounds.height();
+            }
+
+            return metrics;
+        }
+
+        Rect measureBounds(Paint paint, String text) {
+            boundsBuffer.set(0, 0, 0, 0);
+            paint.getTextBounds(text, 0, text.length(), boundsBuffer);
+            return boundsBuffer;
+        }
+
+        void clear() {
+            texts.clear();
+        }
+    }
+
+    /**
+     * The text state of a paint and a text, together with the measurements of the text, which
+     * are NaN until they are measured for the first time.
+     */
+    private static class TextKey {
+
+        String text;
+        float textSize;
+        float textScaleX;
+        float textSkewX;
+        float letterSpacing;
+        int flags;
+        Typeface typeface;
+        Locale textLocale;
+        String fontFeatureSettings;
+
+        float width = Float.NaN;
+        float boundsWidth = Float.NaN;
+        float boundsHeight = Float.NaN;
+
+        TextKey set(Paint paint, String text) {
+            this.text = text;
+            this.textSize = paint.getTextSize();
+            this.textScaleX = paint.getTextScaleX();
+            this.textSkewX = paint.getTextSkewX();
+            this.letterSpacing = paint.getLetterSpacing();
+            this.flags = paint.getFlags();
+            this.typeface = paint.getTypeface();
+            this.textLocale = paint.getTextLocale();
+            this.fontFeatureSettings = paint.getFontFeatureSettings();
+            return this;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+
+            if (!(o instanceof TextKey))
+                return false;
+
+            TextKey other = (TextKey) o;
+            return textSize == other.textSize
+                    && textScaleX == other.textScaleX
+                    && textSkewX == other.textSkewX
+                    && letterSpacing == other.letterSpacing
+                    && flags == other.flags
+                    && typeface == other.typeface
+                    && text.equals(other.text)
+                    && (textLocale == null ? other.textLocale == null : textLocale.equals(other.textLocale))
+                    && (fontFeatureSettings == null ? other.fontFeatureSettings == null
+                    : fontFeatureSettings.equals(other.fontFeatureSettings));
+        }
+
+        @Override
+        public int hashCode() {
+            int result = text.hashCode();
+            result = 31 * result + Float.floatToIntBits(textSize);
+            result = 31 * result + Float.floatToIntBits(textScaleX);
+            result = 31 * result + Float.floatToIntBits(textSkewX);
+            result = 31 * result + Float.floatToIntBits(letterSpacing);
+            result = 31 * result + flags;
+            result = 31 * result + System.identityHashCode(typeface);
+            result = 31 * result + (textLocale == null ? 0 : textLocale.hashCode());
+            result = 31 * result + (fontFeatureSettings == null ? 0 : fontFeatureSettings.hashCode());
+            return result;
+        }
+    }
+}
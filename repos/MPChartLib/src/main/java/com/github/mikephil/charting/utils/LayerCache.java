@@ -0,0 +1,145 @@
+/*
+ * Copyright 2021 The Cashbook Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.mikephil.charting.utils;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Color;
+
+/**
+ * A reusable offscreen bitmap that holds one rendered layer of a chart. The bitmap is taken from
+ * the shared BitmapPool and only exchanged when the requested size changes, so a layer can be rendered once and composed
+ * onto the view canvas for as many frames as its content stays the same.
+ */
+public class LayerCache {
+
+    protected Bitmap mBitmap;
+
+    protected Canvas mCanvas;
+
+    protected Bitmap.Config mConfig = Bitmap.Config.ARGB_8888;
+
+    /**
+     * true if the bitmap holds a completely rendered layer
+     */
+    protected boolean mValid = false;
+
+    /**
+     * Returns a cleared canvas of the given size that draws into the layer bitmap, or null if
+     * the size is empty. The layer is considered invalid until validate() is called.
+     *
+     * @param width
+     * @param height
+     * @return
+     */
+    public Canvas beginRender(int width, int height) {
+
+        mValid = false;
+
+        if (width <= 0 || height <= 0)
+            return null;
+
+        if (mBitmap == null || mBitmap.isRecycled()
+                || mBitmap.getWidth() != width
+                || mBitmap.getHeight() != height) {
+
+            release();
+
+            mBitmap = BitmapPool.getInstance().obtain(width, height, mConfig);
+            mCanvas = new Canvas(mBitmap);
+        } else
+            mBitmap.eraseColor(Color.TRANSPARENT);
+
+        return mCanvas;
+    }
+
+    /**
+     * Marks the layer as completely rendered after beginRender(...).
+     */
+    public void validate() {
+        mValid = mBitmap != null;
+    }
+
+    /**
+     * Marks the layer content as outdated, the bitmap is kept for the next render.
+     */
+    public void invalidate() {
+        mValid = false;
+    }
+
+    /**
+     * Returns true if the layer holds rendered content that can be composed.
+     *
+     * @return
+     */
+    public boolean isValid() {
+        return mValid && mBitmap != null && !mBitmap.isRecycled();
+    }
+
+    /**
+     * Draws the layer bitmap onto the given canvas.
+     *
+     * @param c
+     */
+    public void draw(Canvas c) {
+
+        if (isValid())
+            c.drawBitmap(mBitmap, 0, 0, null);
+    }
+
+    /**
+     * Sets the bitmap config used for the layer, default: ARGB_8888. Changing the config
+     * releases the current bitmap.
+     *
+     * @param config
+     */
+    public void setBitmapConfig(Bitmap.Config config) {
+
+        if (config == mConfig)
+            return;
+
+        mConfig = config;
+        release();
+    }
+
+    /**
+     * Returns the number of bytes held by the layer bitmap.
+     *
+     * @return
+     */
+    public int getByteCount() {
+        return mBitmap == null ? 0 : mBitmap.getByteCount();
+    }
+
+    /**
+     * Returns the layer bitmap to the BitmapPool. The next beginRender(...) obtains a new one.
+     */
+    public void release() {
+
+        mValid = false;
+
+        if (mCanvas != null) {
+            mCanvas.setBitmap(null);
+            mCanvas = null;
+        }
+
+        if (mBitmap != null) {
+            BitmapPool.getInstance().release(mBitmap);
+            mBitmap = null;
+        }
+    }
+}
@@ -28,7 +28,7 @@ public class MPPointD extends ObjectPool.Poolable {
     private static ObjectPool<MPPointD> pool;
 
     static {
-        pool = ObjectPool.create(64, new MPPointD(0,0));
+        pool = ObjectPool.createThreadConfined(64, new MPPointD(0,0));
         pool.setReplenishPercentage(0.5f);
     }
 
@@ -47,6 +47,15 @@ public class MPPointD extends ObjectPool.Poolable {
         pool.recycle(instances);
     }
 
+    /**
+     * Returns the pool the instances are taken from, for diagnostic purposes.
+     *
+     * @return
+     */
+    public static ObjectPool<MPPointD> getPool() {
+        return pool;
+    }
+
     public double x;
     public double y;
 
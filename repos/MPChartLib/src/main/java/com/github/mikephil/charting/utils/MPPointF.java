@@ -32,7 +32,7 @@ public class MPPointF extends ObjectPool.Poolable {
     public float y;
 
     static {
-        pool = ObjectPool.create(32, new MPPointF(0,0));
+        pool = ObjectPool.createThreadConfined(32, new MPPointF(0,0));
         pool.setReplenishPercentage(0.5f);
     }
 
@@ -70,6 +70,15 @@ public class MPPointF extends ObjectPool.Poolable {
         pool.recycle(instances);
     }
 
+    /**
+     * Returns the pool the instances are taken from, for diagnostic purposes.
+     *
+     * @return
+     */
+    public static ObjectPool<MPPointF> getPool() {
+        return pool;
+    }
+
     public static final Parcelable.Creator<MPPointF> CREATOR = new Parcelable.Creator<MPPointF>() {
         /**
          * Return a new point from the data in the specified parcel.
@@ -16,6 +16,8 @@
 
 package com.github.mikephil.charting.utils;
 
+import android.os.Looper;
+
 import java.util.List;
 
 /**
@@ -29,6 +31,10 @@ import java.util.List;
  *   Benefit - The pool can grow as needed, if it is empty
  *   Cost - However, refilling the pool when it is empty might incur a time cost with sufficiently large capacity.  Set the replenishPercentage to a lower number if this is a concern.
  *
+ * A pool created with createThreadConfined(...) keeps a separate stack of objects for the
+ * thread of the main looper (the first thread using the pool if there is none) that is
+ * accessed without acquiring a monitor. All other threads share a synchronized stack.
+ *
  * Created by Tony Patino on 6/20/16.
  */
 public class ObjectPool<T extends ObjectPool.Poolable> {
@@ -36,12 +42,33 @@ public class ObjectPool<T extends ObjectPool.Poolable> {
     private static int ids = 0;
 
     private int poolId;
-    private int desiredCapacity;
-    private Object[] objects;
-    private int objectsPointer;
+    private int initialCapacity;
     private T modelObject;
     private float replenishPercentage;
 
+    /**
+     * true if the owner thread has its own, unsynchronized stack
+     */
+    private final boolean threadConfined;
+
+    /**
+     * the thread that uses the unsynchronized stack of a thread confined pool, set on first use
+     */
+    private volatile Thread ownerThread;
+
+    /**
+     * stack of the owner thread, only used by thread confined pools
+     */
+    private Stack ownerStack;
+
+    /**
+     * stack shared by all threads (but the owner thread of a thread confined pool), only
+     * accessed while holding the monitor of this pool, created on first use by thread
+     * confined pools
+     */
+    private Stack sharedStack;
+
+    private volatile boolean ownershipChecksEnabled = true;
 
     /**
      * Returns the id of the given pool instance.
@@ -60,23 +87,44 @@ public class ObjectPool<T extends ObjectPool.Poolable> {
      * @return
      */
     public static synchronized ObjectPool create(int withCapacity, Poolable object){
-        ObjectPool result = new ObjectPool(withCapacity, object);
+        ObjectPool result = new ObjectPool(withCapacity, object, false);
+        result.poolId = ids;
+        ids++;
+
+        return result;
+    }
+
+    /**
+     * Returns an ObjectPool instance like create(...), that serves the main thread without
+     * acquiring a monitor. Objects must be recycled on the thread they were obtained on to
+     * stay on that thread's side of the pool, recycling them on another thread is allowed
+     * but moves them to the other side.
+     *
+     * @param withCapacity A positive integer value.
+     * @param object An instance of the object that the pool should recycle.
+     * @return
+     */
+    public static synchronized ObjectPool createThreadConfined(int withCapacity, Poolable object){
+        ObjectPool result = new ObjectPool(withCapacity, object, true);
         result.poolId = ids;
         ids++;
 
         return result;
     }
 
-    private ObjectPool(int withCapacity, T object){
+    private ObjectPool(int withCapacity, T object, boolean threadConfined){
         if(withCapacity <= 0){
             throw new IllegalArgumentException("Object Pool must be instantiated with a capacity greater than 0!");
         }
-        this.desiredCapacity = withCapacity;
-        this.objects = new Object[this.desiredCapacity];
-        this.objectsPointer = 0;
         this.modelObject = object;
         this.replenishPercentage = 1.0f;
-        this.refillPool();
+        this.initialCapacity = withCapacity;
+        this.threadConfined = threadConfined;
+        if(threadConfined){
+            this.ownerStack = new Stack(withCapacity);
+        }else {
+            this.sharedStack = new Stack(withCapacity);
+        }
     }
 
     /**
@@ -100,23 +148,55 @@ public class ObjectPool<T extends ObjectPool.Poolable> {
         return replenishPercentage;
     }
 
-    private void refillPool(){
-        this.refillPool(this.replenishPercentage);
+    /**
+     * Returns true if this pool serves its owner thread without acquiring a monitor.
+     *
+     * @return
+     */
+    public boolean isThreadConfined(){
+        return threadConfined;
     }
 
-    private void refillPool(float percentage){
-        int portionOfCapacity = (int) (desiredCapacity * percentage);
+    /**
+     * Enables / disables the checks that throw an IllegalArgumentException if an object is
+     * recycled that is already stored in this or another pool. Disabling them saves a little
+     * time per recycle, but recycling an object twice then corrupts the pool. Default: true
+     *
+     * @param enabled
+     */
+    public void setOwnershipChecksEnabled(boolean enabled){
+        this.ownershipChecksEnabled = enabled;
+    }
+
+    public boolean isOwnershipChecksEnabled(){
+        return ownershipChecksEnabled;
+    }
 
-        if(portionOfCapacity < 1){
-            portionOfCapacity = 1;
-        }else if(portionOfCapacity > desiredCapacity){
-            portionOfCapacity = desiredCapacity;
+    private boolean isOwnerThread(){
+        if(!threadConfined){
+            return false;
+        }
+        Thread owner = ownerThread;
+        if(owner == null){
+            owner = claimOwnerThread();
         }
+        return owner == Thread.currentThread();
+    }
 
-        for(int i = 0 ; i < portionOfCapacity ; i++){
-            this.objects[i] = modelObject.instantiate();
+    private synchronized Thread claimOwnerThread(){
+        if(ownerThread == null){
+            Thread mainThread = null;
+            try{
+                Looper mainLooper = Looper.getMainLooper();
+                if(mainLooper != null){
+                    mainThread = mainLooper.getThread();
+                }
+            }catch(RuntimeException e){
+                // no looper available, e.g. in local unit tests
+            }
+            ownerThread = mainThread != null ? mainThread : Thread.currentThread();
         }
-        objectsPointer = portionOfCapacity - 1;
+        return ownerThread;
     }
 
     /**
@@ -126,17 +206,15 @@ public class ObjectPool<T extends ObjectPool.Poolable> {
      *
      * @return An instance of Poolable object T
      */
-    public synchronized T get(){
+    public T get(){
 
-        if(this.objectsPointer == -1 && this.replenishPercentage > 0.0f){
-            this.refillPool();
+        if(isOwnerThread()){
+            return ownerStack.get();
         }
 
-        T result = (T)objects[this.objectsPointer];
-        result.currentOwnerId = Poolable.NO_OWNER;
-        this.objectsPointer--;
-
-        return result;
+        synchronized (this){
+            return getSharedStack().get();
+        }
     }
 
     /**
@@ -145,23 +223,16 @@ public class ObjectPool<T extends ObjectPool.Poolable> {
      *
      * @param object An object of type T to recycle
      */
-    public synchronized void recycle(T object){
-        if(object.currentOwnerId != Poolable.NO_OWNER){
-            if(object.currentOwnerId == this.poolId){
-                throw new IllegalArgumentException("The object passed is already stored in this pool!");
-            }else {
-                throw new IllegalArgumentException("The object to recycle already belongs to poolId " + object.currentOwnerId + ".  Object cannot belong to two different pool instances simultaneously!");
-            }
-        }
+    public void recycle(T object){
 
-        this.objectsPointer++;
-        if(this.objectsPointer >= objects.length){
-            this.resizePool();
+        if(isOwnerThread()){
+            ownerStack.recycle(object);
+            return;
         }
 
-        object.currentOwnerId = this.poolId;
-        objects[this.objectsPointer] = object;
-
+        synchronized (this){
+            getSharedStack().recycle(object);
+        }
     }
 
     /**
@@ -170,36 +241,23 @@ public class ObjectPool<T extends ObjectPool.Poolable> {
      *
      * @param objects A list of objects of type T to recycle
      */
-    public synchronized void recycle(List<T> objects){
-        while(objects.size() + this.objectsPointer + 1 > this.desiredCapacity){
-            this.resizePool();
+    public void recycle(List<T> objects){
+
+        if(isOwnerThread()){
+            ownerStack.recycle(objects);
+            return;
         }
-        final int objectsListSize = objects.size();
 
-        // Not relying on recycle(T object) because this is more performant.
-        for(int i = 0 ; i < objectsListSize ; i++){
-            T object = objects.get(i);
-            if(object.currentOwnerId != Poolable.NO_OWNER){
-                if(object.currentOwnerId == this.poolId){
-                    throw new IllegalArgumentException("The object passed is already stored in this pool!");
-                }else {
-                    throw new IllegalArgumentException("The object to recycle already belongs to poolId " + object.currentOwnerId + ".  Object cannot belong to two different pool instances simultaneously!");
-                }
-            }
-            object.currentOwnerId = this.poolId;
-            this.objects[this.objectsPointer + 1 + i] = object;
+        synchronized (this){
+            getSharedStack().recycle(objects);
         }
-        this.objectsPointer += objectsListSize;
     }
 
-    private void resizePool() {
-        final int oldCapacity = this.desiredCapacity;
-        this.desiredCapacity *= 2;
-        Object[] temp = new Object[this.desiredCapacity];
-        for(int i = 0 ; i < oldCapacity ; i++){
-            temp[i] = this.objects[i];
+    private Stack getSharedStack(){
+        if(sharedStack == null){
+            sharedStack = new Stack(initialCapacity);
         }
-        this.objects = temp;
+        return sharedStack;
     }
 
     /**
@@ -210,7 +268,14 @@ public class ObjectPool<T extends ObjectPool.Poolable> {
      * @return The capacity of the pool.
      */
     public int getPoolCapacity(){
-        return this.objects.length;
+        int capacity = 0;
+        if(ownerStack != null){
+            capacity += ownerStack.objects.length;
+        }
+        if(sharedStack != null){
+            capacity += sharedStack.objects.length;
+        }
+        return capacity;
     }
 
     /**
@@ -219,7 +284,186 @@ public class ObjectPool<T extends ObjectPool.Poolable> {
      * @return The number of objects remaining in the pool.
      */
     public int getPoolCount(){
-        return this.objectsPointer + 1;
+        int count = 0;
+        if(ownerStack != null){
+            count += ownerStack.objectsPointer + 1;
+        }
+        if(sharedStack != null){
+            count += sharedStack.objectsPointer + 1;
+        }
+        return count;
+    }
+
+    /**
+     * Returns the number of objects this pool has instantiated since its creation, for diagnostic purposes.
+     *
+     * @return The number of instantiated objects.
+     */
+    public long getAllocationCount(){
+        long count = 0;
+        if(ownerStack != null){
+            count += ownerStack.allocationCount;
+        }
+        if(sharedStack != null){
+            count += sharedStack.allocationCount;
+        }
+        return count;
+    }
+
+    /**
+     * Returns the number of objects handed out by get() since the creation of this pool, for diagnostic purposes.
+     *
+     * @return The number of get() calls.
+     */
+    public long getObtainCount(){
+        long count = 0;
+        if(ownerStack != null){
+            count += ownerStack.obtainCount;
+        }
+        if(sharedStack != null){
+            count += sharedStack.obtainCount;
+        }
+        return count;
+    }
+
+    /**
+     * Returns the number of get() calls that found the pool empty and had to instantiate new
+     * objects, for diagnostic purposes.
+     *
+     * @return The number of misses.
+     */
+    public long getMissCount(){
+        long count = 0;
+        if(ownerStack != null){
+            count += ownerStack.missCount;
+        }
+        if(sharedStack != null){
+            count += sharedStack.missCount;
+        }
+        return count;
+    }
+
+    /**
+     * Returns the number of objects given back by recycle(...) since the creation of this pool, for diagnostic purposes.
+     *
+     * @return The number of recycled objects.
+     */
+    public long getRecycleCount(){
+        long count = 0;
+        if(ownerStack != null){
+            count += ownerStack.recycleCount;
+        }
+        if(sharedStack != null){
+            count += sharedStack.recycleCount;
+        }
+        return count;
+    }
+
+    /**
+     * The stored objects of one side of the pool, not synchronized.
+     */
+    private final class Stack {
+
+        private int desiredCapacity;
+        private Object[] objects;
+        private int objectsPointer;
+        private long allocationCount;
+        private long obtainCount;
+        private long missCount;
+        private long recycleCount;
+
+        private Stack(int withCapacity){
+            this.desiredCapacity = withCapacity;
+            this.objects = new Object[this.desiredCapacity];
+            this.objectsPointer = 0;
+            this.refillPool(1.0f);
+        }
+
+        private void refillPool(float percentage){
+            int portionOfCapacity = (int) (desiredCapacity * percentage);
+
+            if(portionOfCapacity < 1){
+                portionOfCapacity = 1;
+            }else if(portionOfCapacity > desiredCapacity){
+                portionOfCapacity = desiredCapacity;
+            }
+
+            for(int i = 0 ; i < portionOfCapacity ; i++){
+                this.objects[i] = modelObject.instantiate();
+            }
+            allocationCount += portionOfCapacity;
+            objectsPointer = portionOfCapacity - 1;
+        }
+
+        private T get(){
+
+            if(this.objectsPointer == -1 && replenishPercentage > 0.0f){
+                this.refillPool(replenishPercentage);
+                this.missCount++;
+            }
+
+            T result = (T)objects[this.objectsPointer];
+            result.currentOwnerId = Poolable.NO_OWNER;
+            this.objectsPointer--;
+            this.obtainCount++;
+
+            return result;
+        }
+
+        private void checkOwner(T object){
+            if(object.currentOwnerId != Poolable.NO_OWNER){
+                if(object.currentOwnerId == poolId){
+                    throw new IllegalArgumentException("The object passed is already stored in this pool!");
+                }else {
+                    throw new IllegalArgumentException("The object to recycle already belongs to poolId " + object.currentOwnerId + ".  Object cannot belong to two different pool instances simultaneously!");
+                }
+            }
+        }
+
+        private void recycle(T object){
+            if(ownershipChecksEnabled){
+                checkOwner(object);
+            }
+
+            this.objectsPointer++;
+            if(this.objectsPointer >= objects.length){
+                this.resizePool();
+            }
+
+            object.currentOwnerId = poolId;
+            objects[this.objectsPointer] = object;
+            this.recycleCount++;
+        }
+
+        private void recycle(List<T> objects){
+            while(objects.size() + this.objectsPointer + 1 > this.desiredCapacity){
+                this.resizePool();
+            }
+            final int objectsListSize = objects.size();
+            final boolean checkOwner = ownershipChecksEnabled;
+
+            // Not relying on recycle(T object) because this is more performant.
+            for(int i = 0 ; i < objectsListSize ; i++){
+                T object = objects.get(i);
+                if(checkOwner){
+                    checkOwner(object);
+                }
+                object.currentOwnerId = poolId;
+                this.objects[this.objectsPointer + 1 + i] = object;
+            }
+            this.objectsPointer += objectsListSize;
+            this.recycleCount += objectsListSize;
+        }
+
+        private void resizePool() {
+            final int oldCapacity = this.desiredCapacity;
+            this.desiredCapacity *= 2;
+            Object[] temp = new Object[this.desiredCapacity];
+            for(int i = 0 ; i < oldCapacity ; i++){
+                temp[i] = this.objects[i];
+            }
+            this.objects = temp;
+        }
     }
 
 
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2021 The Cashbook Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.mikephil.charting.utils;
+
+/**
+ * A reusable float array for point and line coordinates whose required size changes from
+ * frame to frame (e.g. the visible entries while zooming). The array only grows, by at least
+ * half of its capacity, and is only shrunk after it was requested at a fraction of its
+ * capacity for a number of consecutive times, so changing sizes do not allocate every frame.
+ * Only the first size() floats of the array are valid.
+ */
+public class PointBuffer {
+
+    /**
+     * the array is shrunk if less than 1 / SHRINK_FACTOR of it was needed ...
+     */
+    private static final int SHRINK_FACTOR = 4;
+
+    /**
+     * ... for this number of consecutive requests
+     */
+    private static final int SHRINK_REQUESTS = 120;
+
+    private static final int MIN_CAPACITY = 16;
+
+    private float[] mBuffer = new float[0];
+
+    private int mSize = 0;
+
+    /**
+     * number of consecutive requests that needed less than 1 / SHRINK_FACTOR of the array
+     */
+    private int mSmallRequests = 0;
+
+    /**
+     * Returns an array that can hold at least the given number of floats and sets the size of
+     * this buffer. The content of the array is undefined if it had to be reallocated.
+     *
+     * @param size
+     * @return
+     */
+    public float[] obtain(int size) {
+
+        final int capacity = mBuffer.length;
+
+        if (size > capacity) {
+
+            mBuffer = new float[Math.max(Math.max(size, capacity + capacity / 2), MIN_CAPACITY)];
+            mSmallRequests = 0;
+
+        } else if (size < capacity / SHRINK_FACTOR && capacity > MIN_CAPACITY) {
+
+            if (++mSmallRequests >= SHRINK_REQUESTS) {
+                mBuffer = new float[Math.max(size * 2, MIN_CAPACITY)];
+                mSmallRequests = 0;
+            }
+
+        } else
+            mSmallRequests = 0;
+
+        mSize = size;
+
+        return mBuffer;
+    }
+
+    /**
+     * Returns the array of this buffer, only the first size() floats are valid.
+     *
+     * @return
+     */
+    public float[] getBuffer() {
+        return mBuffer;
+    }
+
+    /**
+     * Returns the number of valid floats, as requested by the last call to obtain(...).
+     *
+     * @return
+     */
+    public int size() {
+        return mSize;
+    }
+
+    /**
+     * Returns the current capacity of this buffer.
+     *
+     * @return
+     */
+    public int capacity() {
+        return mBuffer.length;
+    }
+}
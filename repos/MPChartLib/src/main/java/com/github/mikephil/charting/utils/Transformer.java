@@ -20,10 +20,9 @@ import android.graphics.Matrix;
 import android.graphics.Path;
 import android.graphics.RectF;
 
-import com.github.mikephil.charting.data.CandleEntry;
-import com.github.mikephil.charting.data.Entry;
 import com.github.mikephil.charting.interfaces.datasets.IBubbleDataSet;
 import com.github.mikephil.charting.interfaces.datasets.ICandleDataSet;
+import com.github.mikephil.charting.interfaces.datasets.IDataSet;
 import com.github.mikephil.charting.interfaces.datasets.ILineDataSet;
 import com.github.mikephil.charting.interfaces.datasets.IScatterDataSet;
 
@@ -101,6 +100,51 @@ public class Transformer {
         }
     }
 
+    /**
+     * buffer for the values transformed by generateTransformedValues(...), shared by all
+     * renderers that use this transformer
+     */
+    protected PointBuffer mValueBuffer = new PointBuffer();
+
+    /**
+     * Writes the x- and y-values of count entries of the given DataSet, starting at the given
+     * index, into the value buffer of this transformer and transforms them into pixels in one
+     * pass. The y-values are multiplied with phaseY. Returns the buffer, only the first
+     * count * 2 floats are valid (see getTransformedValuesSize()). The buffer is reused by the
+     * next call, unlike the array returned by the chart specific generateTransformedValues...
+     * methods it can be longer than the values.
+     *
+     * @param data
+     * @param phaseY
+     * @param from
+     * @param count
+     * @return
+     */
+    public float[] generateTransformedValues(IDataSet<?> data, float phaseY, int from, int count) {
+
+        final int size = Math.max(count, 0) * 2;
+        final float[] valuePoints = mValueBuffer.obtain(size);
+
+        for (int j = 0; j < size; j += 2) {
+            valuePoints[j] = data.getEntryXForIndex(j / 2 + from);
+            valuePoints[j + 1] = data.getEntryYForIndex(j / 2 + from) * phaseY;
+        }
+
+        getValueToPixelMatrix().mapPoints(valuePoints, 0, valuePoints, 0, size / 2);
+
+        return valuePoints;
+    }
+
+    /**
+     * Returns the number of valid floats in the array returned by the last call to
+     * generateTransformedValues(...).
+     *
+     * @return
+     */
+    public int getTransformedValuesSize() {
+        return mValueBuffer.size();
+    }
+
     protected float[] valuePointsForGenerateTransformedValuesScatter = new float[1];
 
     /**
@@ -121,16 +165,8 @@ public class Transformer {
         float[] valuePoints = valuePointsForGenerateTransformedValuesScatter;
 
         for (int j = 0; j < count; j += 2) {
-
-            Entry e = data.getEntryForIndex(j / 2 + from);
-
-            if (e != null) {
-                valuePoints[j] = e.getX();
-                valuePoints[j + 1] = e.getY() * phaseY;
-            } else {
-                valuePoints[j] = 0;
-                valuePoints[j + 1] = 0;
-            }
+            valuePoints[j] = data.getEntryXForIndex(j / 2 + from);
+            valuePoints[j + 1] = data.getEntryYForIndex(j / 2 + from) * phaseY;
         }
 
         getValueToPixelMatrix().mapPoints(valuePoints);
@@ -157,16 +193,8 @@ public class Transformer {
         float[] valuePoints = valuePointsForGenerateTransformedValuesBubble;
 
         for (int j = 0; j < count; j += 2) {
-
-            Entry e = data.getEntryForIndex(j / 2 + from);
-
-            if (e != null) {
-                valuePoints[j] = e.getX();
-                valuePoints[j + 1] = e.getY() * phaseY;
-            } else {
-                valuePoints[j] = 0;
-                valuePoints[j + 1] = 0;
-            }
+            valuePoints[j] = data.getEntryXForIndex(j / 2 + from);
+            valuePoints[j + 1] = data.getEntryYForIndex(j / 2 + from) * phaseY;
         }
 
         getValueToPixelMatrix().mapPoints(valuePoints);
@@ -195,16 +223,8 @@ public class Transformer {
         float[] valuePoints = valuePointsForGenerateTransformedValuesLine;
 
         for (int j = 0; j < count; j += 2) {
-
-            Entry e = data.getEntryForIndex(j / 2 + min);
-
-            if (e != null) {
-                valuePoints[j] = e.getX();
-                valuePoints[j + 1] = e.getY() * phaseY;
-            } else {
-                valuePoints[j] = 0;
-                valuePoints[j + 1] = 0;
-            }
+            valuePoints[j] = data.getEntryXForIndex(j / 2 + min);
+            valuePoints[j + 1] = data.getEntryYForIndex(j / 2 + min) * phaseY;
         }
 
         getValueToPixelMatrix().mapPoints(valuePoints);
@@ -233,11 +253,11 @@ public class Transformer {
 
         for (int j = 0; j < count; j += 2) {
 
-            CandleEntry e = data.getEntryForIndex(j / 2 + from);
+            final int index = j / 2 + from;
 
-            if (e != null) {
-                valuePoints[j] = e.getX();
-                valuePoints[j + 1] = e.getHigh() * phaseY;
+            if (index < data.getEntryCount()) {
+                valuePoints[j] = data.getEntryXForIndex(index);
+                valuePoints[j + 1] = data.getShadowHighForIndex(index) * phaseY;
             } else {
                 valuePoints[j] = 0;
                 valuePoints[j + 1] = 0;
@@ -287,6 +307,22 @@ public class Transformer {
         mMatrixOffset.mapPoints(pts);
     }
 
+    /**
+     * Transform the first count floats (count / 2 points) of the given array with all
+     * matrices, the rest of the array is left untouched.
+     *
+     * @param pts
+     * @param count
+     */
+    public void pointValuesToPixel(float[] pts, int count) {
+
+        final int pointCount = count / 2;
+
+        mMatrixValueToPx.mapPoints(pts, 0, pts, 0, pointCount);
+        mViewPortHandler.getMatrixTouch().mapPoints(pts, 0, pts, 0, pointCount);
+        mMatrixOffset.mapPoints(pts, 0, pts, 0, pointCount);
+    }
+
     /**
      * Transform a rectangle with all matrices.
      *
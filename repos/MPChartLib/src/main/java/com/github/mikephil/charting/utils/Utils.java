@@ -152,38 +152,48 @@ public abstract class Utils {
     }
 
     /**
-     * calculates the approximate width of a text, depending on a demo text
-     * avoid repeated calls (e.g. inside drawing methods)
+     * calculates the approximate width of a text, depending on a demo text,
+     * the result is cached by the LabelCache
      *
      * @param paint
      * @param demoText
      * @return
      */
     public static int calcTextWidth(Paint paint, String demoText) {
-        return (int) paint.measureText(demoText);
+        return (int) LabelCache.getInstance().getTextWidth(paint, demoText);
     }
 
-    private static Rect mCalcTextHeightRect = new Rect();
     /**
-     * calculates the approximate height of a text, depending on a demo text
-     * avoid repeated calls (e.g. inside drawing methods)
+     * calculates the approximate height of a text, depending on a demo text,
+     * the result is cached by the LabelCache
      *
      * @param paint
      * @param demoText
      * @return
      */
     public static int calcTextHeight(Paint paint, String demoText) {
+        return (int) LabelCache.getInstance().getTextHeight(paint, demoText);
+    }
 
-        Rect r = mCalcTextHeightRect;
-        r.set(0,0,0,0);
-        paint.getTextBounds(demoText, 0, demoText.length(), r);
-        return r.height();
+    /**
+     * scratch objects for measuring and drawing text and drawables, one set per thread, as
+     * charts may be rendered on a background thread (see HeadlessChartRenderer)
+     */
+    private static final class Buffers {
+        final Paint.FontMetrics fontMetrics = new Paint.FontMetrics();
+        final Rect textBounds = new Rect();
+        final Rect drawableBounds = new Rect();
     }
 
-    private static Paint.FontMetrics mFontMetrics = new Paint.FontMetrics();
+    private static final ThreadLocal<Buffers> mBuffers = new ThreadLocal<Buffers>() {
+        @Override
+        protected Buffers initialValue() {
+            return new Buffers();
+        }
+    };
 
     public static float getLineHeight(Paint paint) {
-        return getLineHeight(paint, mFontMetrics);
+        return getLineHeight(paint, mBuffers.get().fontMetrics);
     }
 
     public static float getLineHeight(Paint paint, Paint.FontMetrics fontMetrics){
@@ -192,7 +202,7 @@ public abstract class Utils {
     }
 
     public static float getLineSpacing(Paint paint) {
-        return getLineSpacing(paint, mFontMetrics);
+        return getLineSpacing(paint, mBuffers.get().fontMetrics);
     }
 
     public static float getLineSpacing(Paint paint, Paint.FontMetrics fontMetrics){
@@ -216,23 +226,16 @@ public abstract class Utils {
         return result;
     }
 
-    private static Rect mCalcTextSizeRect = new Rect();
     /**
-     * calculates the approximate size of a text, depending on a demo text
-     * avoid repeated calls (e.g. inside drawing methods)
+     * calculates the approximate size of a text, depending on a demo text,
+     * the result is cached by the LabelCache
      *
      * @param paint
      * @param demoText
      * @param outputFSize An output variable, modified by the function.
      */
     public static void calcTextSize(Paint paint, String demoText, FSize outputFSize) {
-
-        Rect r = mCalcTextSizeRect;
-        r.set(0,0,0,0);
-        paint.getTextBounds(demoText, 0, demoText.length(), r);
-        outputFSize.width = r.width();
-        outputFSize.height = r.height();
-
+        LabelCache.getInstance().getTextBounds(paint, demoText, outputFSize);
     }
 
 
@@ -286,11 +289,38 @@ public abstract class Utils {
 
         char[] out = new char[35];
 
-        boolean neg = false;
+        int length = formatNumber(number, digitCount, separateThousands, separateChar, out);
+
+        // use this instead of "new String(...)" because of issue < Android 4.0
+        return String.valueOf(out, 0, length);
+    }
+
+    /**
+     * Formats the given number to the given number of decimals into the given buffer, starting
+     * at index 0, and returns the number of written chars, or -1 if the buffer is too small.
+     * Does not allocate, 35 chars are sufficient for every number.
+     *
+     * @param number
+     * @param digitCount
+     * @param separateThousands set this to true to separate thousands values
+     * @param separateChar      a caracter to be paced between the "thousands"
+     * @param out               the buffer to write into
+     * @return
+     */
+    public static int formatNumber(float number, int digitCount, boolean separateThousands,
+                                   char separateChar, char[] out) {
+
         if (number == 0) {
-            return "0";
+
+            if (out.length < 1)
+                return -1;
+
+            out[0] = '0';
+            return 1;
         }
 
+        boolean neg = false;
+
         boolean zero = false;
         if (number < 1 && number > -1) {
             zero = true;
@@ -311,7 +341,12 @@ public abstract class Utils {
         int charCount = 0;
         boolean decimalPointAdded = false;
 
+        // the chars are written right aligned and moved to the start of the buffer afterwards
         while (lval != 0 || charCount < (digitCount + 1)) {
+
+            if (ind < 0)
+                return -1;
+
             int digit = (int) (lval % 10);
             lval = lval / 10;
             out[ind--] = (char) (digit + '0');
@@ -319,6 +354,10 @@ public abstract class Utils {
 
             // add decimal point
             if (charCount == digitCount) {
+
+                if (ind < 0)
+                    return -1;
+
                 out[ind--] = ',';
                 charCount++;
                 decimalPointAdded = true;
@@ -329,6 +368,10 @@ public abstract class Utils {
                 if (decimalPointAdded) {
 
                     if ((charCount - digitCount) % 4 == 0) {
+
+                        if (ind < 0)
+                            return -1;
+
                         out[ind--] = separateChar;
                         charCount++;
                     }
@@ -336,6 +379,10 @@ public abstract class Utils {
                 } else {
 
                     if ((charCount - digitCount) % 4 == 3) {
+
+                        if (ind < 0)
+                            return -1;
+
                         out[ind--] = separateChar;
                         charCount++;
                     }
@@ -345,20 +392,29 @@ public abstract class Utils {
 
         // if number around zero (between 1 and -1)
         if (zero) {
+
+            if (ind < 0)
+                return -1;
+
             out[ind--] = '0';
             charCount += 1;
         }
 
         // if the number is negative
         if (neg) {
+
+            if (ind < 0)
+                return -1;
+
             out[ind--] = '-';
             charCount += 1;
         }
 
         int start = out.length - charCount;
 
-        // use this instead of "new String(...)" because of issue < Android 4.0
-        return String.valueOf(out, start, out.length - start);
+        System.arraycopy(out, start, out, 0, charCount);
+
+        return charCount;
     }
 
     /**
@@ -540,8 +596,6 @@ public abstract class Utils {
         return angle % 360.f;
     }
 
-    private static Rect mDrawableBoundsCache = new Rect();
-
     public static void drawImage(Canvas canvas,
                                  Drawable drawable,
                                  int x, int y,
@@ -551,12 +605,14 @@ public abstract class Utils {
         drawOffset.x = x - (width / 2);
         drawOffset.y = y - (height / 2);
 
-        drawable.copyBounds(mDrawableBoundsCache);
+        final Rect bounds = mBuffers.get().drawableBounds;
+
+        drawable.copyBounds(bounds);
         drawable.setBounds(
-                mDrawableBoundsCache.left,
-                mDrawableBoundsCache.top,
-                mDrawableBoundsCache.left + width,
-                mDrawableBoundsCache.top + width);
+                bounds.left,
+                bounds.top,
+                bounds.left + width,
+                bounds.top + width);
 
         int saveId = canvas.save();
         // translate to the correct position and draw
@@ -565,26 +621,27 @@ public abstract class Utils {
         canvas.restoreToCount(saveId);
     }
 
-    private static Rect mDrawTextRectBuffer = new Rect();
-    private static Paint.FontMetrics mFontMetricsBuffer = new Paint.FontMetrics();
-
     public static void drawXAxisValue(Canvas c, String text, float x, float y,
                                       Paint paint,
                                       MPPointF anchor, float angleDegrees) {
 
+        final Buffers buffers = mBuffers.get();
+        final Rect textBounds = buffers.textBounds;
+        final Paint.FontMetrics fontMetrics = buffers.fontMetrics;
+
         float drawOffsetX = 0.f;
         float drawOffsetY = 0.f;
 
-        final float lineHeight = paint.getFontMetrics(mFontMetricsBuffer);
-        paint.getTextBounds(text, 0, text.length(), mDrawTextRectBuffer);
+        final float lineHeight = paint.getFontMetrics(fontMetrics);
+        paint.getTextBounds(text, 0, text.length(), textBounds);
 
         // Android sometimes has pre-padding
-        drawOffsetX -= mDrawTextRectBuffer.left;
+        drawOffsetX -= textBounds.left;
 
         // Android does not snap the bounds to line boundaries,
         //  and draws from bottom to top.
         // And we want to normalize it.
-        drawOffsetY += -mFontMetricsBuffer.ascent;
+        drawOffsetY += -fontMetrics.ascent;
 
         // To have a consistent point of reference, we always draw left-aligned
         Paint.Align originalTextAlign = paint.getTextAlign();
@@ -593,7 +650,7 @@ public abstract class Utils {
         if (angleDegrees != 0.f) {
 
             // Move the text drawing rect in a way that it always rotates around its center
-            drawOffsetX -= mDrawTextRectBuffer.width() * 0.5f;
+            drawOffsetX -= textBounds.width() * 0.5f;
             drawOffsetY -= lineHeight * 0.5f;
 
             float translateX = x;
@@ -602,7 +659,7 @@ public abstract class Utils {
             // Move the "outer" rect relative to the anchor, assuming its centered
             if (anchor.x != 0.5f || anchor.y != 0.5f) {
                 final FSize rotatedSize = getSizeOfRotatedRectangleByDegrees(
-                        mDrawTextRectBuffer.width(),
+                        textBounds.width(),
                         lineHeight,
                         angleDegrees);
 
@@ -621,7 +678,7 @@ public abstract class Utils {
         } else {
             if (anchor.x != 0.f || anchor.y != 0.f) {
 
-                drawOffsetX -= mDrawTextRectBuffer.width() * anchor.x;
+                drawOffsetX -= textBounds.width() * anchor.x;
                 drawOffsetY -= lineHeight * anchor.y;
             }
 
@@ -639,18 +696,21 @@ public abstract class Utils {
                                          TextPaint paint,
                                          MPPointF anchor, float angleDegrees) {
 
+        final Buffers buffers = mBuffers.get();
+        final Rect textBounds = buffers.textBounds;
+
         float drawOffsetX = 0.f;
         float drawOffsetY = 0.f;
         float drawWidth;
         float drawHeight;
 
-        final float lineHeight = paint.getFontMetrics(mFontMetricsBuffer);
+        final float lineHeight = paint.getFontMetrics(buffers.fontMetrics);
 
         drawWidth = textLayout.getWidth();
         drawHeight = textLayout.getLineCount() * lineHeight;
 
         // Android sometimes has pre-padding
-        drawOffsetX -= mDrawTextRectBuffer.left;
+        drawOffsetX -= textBounds.left;
 
         // Android does not snap the bounds to line boundaries,
         //  and draws from bottom to top.
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2021 The Cashbook Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.mikephil.charting.components;
+
+import android.graphics.Paint;
+
+import com.github.mikephil.charting.utils.TestData;
+import com.github.mikephil.charting.utils.ViewPortHandler;
+
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class LegendTest {
+
+    @Test
+    public void updateLayoutKey_keepsTheLayoutOfEqualEntries() {
+
+        Legend legend = new Legend();
+        legend.setEntries(TestData.legendEntries("a", "b"));
+        Paint paint = new Paint();
+        ViewPortHandler viewPortHandler = new ViewPortHandler();
+
+        assertTrue(legend.updateLayoutKey(paint, viewPortHandler));
+        assertFalse(legend.updateLayoutKey(paint, viewPortHandler));
+
+        // new entries with equal labels and forms, like after notifyDataSetChanged()
+        legend.setEntries(TestData.legendEntries(new String("a"), "b"));
+        assertFalse(legend.updateLayoutKey(paint, viewPortHandler));
+    }
+
+    @Test
+    public void updateLayoutKey_detectsChangedEntriesAndSpacing() {
+
+        Legend legend = new Legend();
+        legend.setEntries(TestData.legendEntries("a", "b"));
+        Paint paint = new Paint();
+        ViewPortHandler viewPortHandler = new ViewPortHandler();
+
+        legend.updateLayoutKey(paint, viewPortHandler);
+
+        legend.setEntries(TestData.legendEntries("a", "c"));
+        assertTrue(legend.updateLayoutKey(paint, viewPortHandler));
+
+        legend.setEntries(TestData.legendEntries("a", "c", "d"));
+        assertTrue(legend.updateLayoutKey(paint, viewPortHandler));
+
+        List<LegendEntry> resized = TestData.legendEntries("a", "c", "d");
+        resized.get(1).formSize = 12f;
+        legend.setEntries(resized);
+        assertTrue(legend.updateLayoutKey(paint, viewPortHandler));
+
+        legend.setXEntrySpace(20f);
+        assertTrue(legend.updateLayoutKey(paint, viewPortHandler));
+        assertFalse(legend.updateLayoutKey(paint, viewPortHandler));
+
+        legend.invalidateLayout();
+        assertTrue(legend.updateLayoutKey(paint, viewPortHandler));
+    }
+}
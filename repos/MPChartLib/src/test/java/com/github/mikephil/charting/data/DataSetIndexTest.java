@@ -0,0 +1,149 @@
+/*
+ * Copyright 2021 The Cashbook Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.mikephil.charting.data;
+
+import com.github.mikephil.charting.utils.TestData;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks that resolving the visible x-range of a DataSet costs O(log n) entry lookups, so the
+ * per-frame cost stays flat as the number of entries grows.
+ */
+public class DataSetIndexTest {
+
+    /**
+     * list that counts the lookups of its elements
+     */
+    private static class CountingList extends ArrayList<Entry> {
+
+        long gets = 0;
+
+        CountingList(Collection<Entry> entries) {
+            super(entries);
+        }
+
+        @Override
+        public Entry get(int index) {
+            gets++;
+            return super.get(index);
+        }
+
+        @Override
+        public int indexOf(Object o) {
+            int index = super.indexOf(o);
+            gets += index < 0 ? size() : index + 1;
+            return index;
+        }
+    }
+
+    @Test
+    public void getEntryIndex_roundsTowardsTheVisibleRange() {
+
+        LineDataSet set = TestData.lineDataSet(100, "");
+
+        assertEquals(10, set.getEntryIndex(10.5f, Float.NaN, DataSet.Rounding.DOWN));
+        assertEquals(11, set.getEntryIndex(10.5f, Float.NaN, DataSet.Rounding.UP));
+        assertEquals(0, set.getEntryIndex(-5f, Float.NaN, DataSet.Rounding.DOWN));
+        assertEquals(99, set.getEntryIndex(500f, Float.NaN, DataSet.Rounding.UP));
+    }
+
+    @Test
+    public void getEntryIndexOfEntry_findsEntriesSharingAnXValue() {
+
+        ArrayList<Entry> entries = new ArrayList<>();
+
+        for (int i = 0; i < 10; i++) {
+            entries.add(new Entry(i, 1f));
+            entries.add(new Entry(i, 2f));
+            entries.add(new Entry(i, 3f));
+        }
+
+        LineDataSet set = new LineDataSet(entries, "");
+
+        for (int i = 0; i < entries.size(); i++)
+            assertEquals(i, set.getEntryIndex(entries.get(i)));
+
+        assertEquals(-1, set.getEntryIndex(new Entry(4, 2f)));
+    }
+
+    @Test
+    public void removeEntry_keepsTheXRangeOfUnsortedEntries() {
+
+        List<Entry> entries = TestData.entries(new float[]{5f, 1f, 9f, 3f}, new float[4]);
+        Entry first = entries.get(0);
+        Entry highest = entries.get(2);
+        LineDataSet set = new LineDataSet(entries, "");
+
+        // neither the first nor the last entry hold the lowest or highest x-value
+        assertTrue(set.removeEntry(first));
+        assertEquals(1f, set.getXMin(), 0f);
+        assertEquals(9f, set.getXMax(), 0f);
+
+        assertTrue(set.removeEntry(highest));
+        assertEquals(1f, set.getXMin(), 0f);
+        assertEquals(3f, set.getXMax(), 0f);
+
+        assertTrue(set.removeLast());
+        assertEquals(1f, set.getXMin(), 0f);
+        assertEquals(1f, set.getXMax(), 0f);
+    }
+
+    @Test
+    public void visibleRangeLookups_growLogarithmically() {
+
+        final int[] sizes = {1000, 100000, 1000000};
+
+        for (int size : sizes) {
+
+            CountingList entries = new CountingList(TestData.entries(
+                    TestData.sequence(size, 1f), TestData.sine(size, 0.01, 1f)));
+            LineDataSet set = new LineDataSet(entries, "");
+
+            final int frames = 100;
+            entries.gets = 0;
+
+            // pan a window of 1% of the entries across the data, like XBounds.set() each frame
+            for (int f = 0; f < frames; f++) {
+
+                float low = (size - size / 100f) * f / frames;
+                float high = low + size / 100f;
+
+                int from = set.getEntryIndex(low, Float.NaN, DataSet.Rounding.DOWN);
+                int to = set.getEntryIndex(high, Float.NaN, DataSet.Rounding.UP);
+
+                assertEquals(from, set.getEntryIndex(set.getEntryForIndex(from)));
+                assertEquals(to, set.getEntryIndex(set.getEntryForIndex(to)));
+            }
+
+            final double log2 = Math.log(size) / Math.log(2);
+            final double perFrame = entries.gets / (double) frames;
+
+            // two binary searches over x and two index lookups of an Entry, each of them
+            // touching about 2 * log2(n) entries, the linear scan would touch n
+            assertTrue("entries touched per frame for " + size + " entries: " + perFrame,
+                    perFrame <= 4 * (2 * log2 + 4));
+        }
+    }
+}
@@ -0,0 +1,192 @@
+/*
+ * Copyright 2021 The Cashbook Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.mikephil.charting.data;
+
+import com.github.mikephil.charting.utils.TestData;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class FloatColumnsTest {
+
+    @Test
+    public void add_growsAllColumns() {
+
+        FloatColumns columns = TestData.columns(TestData.sequence(5, 1f), 1);
+
+        assertEquals(5, columns.size());
+        assertEquals(1, columns.getColumnCount());
+        for (int i = 0; i < 5; i++) {
+            assertEquals(i, columns.getX(i), 0f);
+            assertEquals(i * 10f, columns.getY(i), 0f);
+            assertEquals(i * 100f, columns.get(0, i), 0f);
+        }
+    }
+
+    @Test
+    public void addOrdered_keepsRowsSortedAfterEqualXValues() {
+
+        FloatColumns columns = TestData.columns(new float[]{0f, 2f, 2f, 4f}, 1);
+
+        assertEquals(3, columns.addOrdered(2f, -1f));
+        assertEquals(0, columns.addOrdered(-1f, -2f));
+        assertEquals(6, columns.addOrdered(5f, -3f));
+
+        assertArrayEquals(new float[]{-1f, 0f, 2f, 2f, 2f, 4f, 5f},
+                Arrays.copyOf(columns.getXValues(), columns.size()), 0f);
+        assertEquals(-1f, columns.getY(4), 0f);
+        // new rows start with 0 in the additional columns
+        assertEquals(0f, columns.get(0, 4), 0f);
+        assertEquals(200f, columns.get(0, 3), 0f);
+    }
+
+    @Test
+    public void remove_shiftsFollowingRows() {
+
+        FloatColumns columns = TestData.columns(TestData.sequence(4, 1f), 1);
+
+        columns.remove(1);
+
+        assertEquals(3, columns.size());
+        assertEquals(2f, columns.getX(1), 0f);
+        assertEquals(20f, columns.getY(1), 0f);
+        assertEquals(300f, columns.get(0, 2), 0f);
+    }
+
+    @Test
+    public void bounds_matchSortedSearch() {
+
+        FloatColumns columns = TestData.columns(new float[]{0f, 1f, 1f, 1f, 3f}, 1);
+
+        assertEquals(1, columns.lowerBound(1f));
+        assertEquals(4, columns.upperBound(1f));
+        assertEquals(4, columns.lowerBound(2f));
+        assertEquals(4, columns.upperBound(2f));
+        assertEquals(0, columns.lowerBound(-5f));
+        assertEquals(5, columns.upperBound(5f));
+
+        assertEquals(1, columns.indexOf(1f, 10f));
+        assertEquals(-1, columns.indexOf(1f, 11f));
+        assertEquals(-1, columns.indexOf(2f, 20f));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void getX_rejectsIndicesBeyondSize() {
+
+        FloatColumns columns = TestData.columns(TestData.sequence(2, 1f), 1);
+
+        // the capacity is larger than the size, the row must not be readable anyway
+        columns.ensureCapacity(10);
+        columns.getX(2);
+    }
+
+    @Test
+    public void clear_keepsCapacity() {
+
+        FloatColumns columns = TestData.columns(TestData.sequence(3, 1f), 1);
+        float[] xValues = columns.getXValues();
+
+        columns.clear();
+
+        assertEquals(0, columns.size());
+        assertTrue(xValues == columns.getXValues());
+        assertEquals(0, columns.add(7f, 8f));
+    }
+
+    @Test
+    public void copy_isIndependent() {
+
+        FloatColumns columns = TestData.columns(TestData.sequence(3, 1f), 1);
+        FloatColumns copied = columns.copy();
+
+        columns.set(0, 0, -1f);
+        columns.remove(2);
+
+        assertEquals(3, copied.size());
+        assertEquals(0f, copied.get(0, 0), 0f);
+        assertEquals(2f, copied.getX(2), 0f);
+        assertNotSame(columns.getColumn(0), copied.getColumn(0));
+    }
+
+    @Test
+    public void trimToSize_releasesUnusedCapacity() {
+
+        FloatColumns columns = TestData.columns(TestData.sequence(3, 1f), 1);
+        columns.ensureCapacity(100);
+
+        columns.trimToSize();
+
+        assertEquals(3, columns.getXValues().length);
+        assertEquals(3, columns.getColumn(0).length);
+        assertEquals(2f, columns.getX(2), 0f);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void wrappingConstructor_rejectsColumnsOfDifferentLength() {
+        new FloatColumns(new float[3], new float[3], new float[][]{new float[2]});
+    }
+
+    @Test
+    public void dataSet_exposesColumnRowsThroughTheEntryApi() {
+
+        FloatColumnDataSet set = new FloatColumnDataSet(
+                TestData.sequence(3, 1f), new float[]{5f, 6f, 7f}, "columns");
+
+        @SuppressWarnings("deprecation")
+        List<Entry> values = set.getValues();
+
+        assertEquals(3, values.size());
+        assertEquals(6f, values.get(1).getY(), 0f);
+        assertTrue(set.toSimpleString().contains("entries: 3"));
+        assertTrue(set.toString().contains(new Entry(2f, 7f).toString()));
+    }
+
+    @Test
+    public void addEntry_isRejectedForStoresWithoutAnOverride() {
+
+        // a DataSet backed by a store that does not override the methods adding entries
+        LineDataSet set = new LineDataSet(new ArrayList<Entry>(), "columns");
+        set.mStore = TestData.columns(TestData.sequence(3, 1f), 0);
+        set.calcMinMax();
+
+        try {
+            set.addEntry(new Entry(5f, 1f));
+            fail();
+        } catch (IllegalStateException e) {
+            // expected
+        }
+
+        try {
+            set.addEntryOrdered(new Entry(1.5f, 1f));
+            fail();
+        } catch (IllegalStateException e) {
+            // expected
+        }
+
+        assertEquals(3, set.getEntryCount());
+        assertEquals(2f, set.getXMax(), 0f);
+    }
+}
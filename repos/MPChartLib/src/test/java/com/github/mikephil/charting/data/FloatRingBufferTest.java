@@ -0,0 +1,197 @@
+/*
+ * Copyright 2021 The Cashbook Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.mikephil.charting.data;
+
+import com.github.mikephil.charting.utils.Allocations;
+
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class FloatRingBufferTest {
+
+    @Test
+    public void add_evictsTheOldestValueWhenFull() {
+
+        FloatRingBuffer buffer = new FloatRingBuffer(3);
+
+        assertFalse(buffer.add(0f, 0f));
+        assertFalse(buffer.add(1f, 10f));
+        assertFalse(buffer.add(2f, 20f));
+        assertTrue(buffer.isFull());
+
+        assertTrue(buffer.add(3f, 30f));
+        assertTrue(buffer.add(4f, 40f));
+
+        assertEquals(3, buffer.size());
+        assertEquals(2f, buffer.getX(0), 0f);
+        assertEquals(40f, buffer.getY(2), 0f);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void add_rejectsDescendingXValues() {
+
+        FloatRingBuffer buffer = new FloatRingBuffer(3);
+        buffer.add(1f, 0f);
+        buffer.add(0f, 0f);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void getX_rejectsIndicesBeyondSize() {
+
+        FloatRingBuffer buffer = new FloatRingBuffer(3);
+        buffer.add(1f, 0f);
+        buffer.getX(1);
+    }
+
+    @Test
+    public void remove_shiftsNewerValuesAcrossTheWrap() {
+
+        FloatRingBuffer buffer = new FloatRingBuffer(4);
+
+        // head at array position 2, values wrap around the end of the array
+        for (int i = 0; i < 6; i++)
+            buffer.add(i, i * 10f);
+
+        buffer.remove(1);
+
+        assertEquals(3, buffer.size());
+        assertEquals(2f, buffer.getX(0), 0f);
+        assertEquals(4f, buffer.getX(1), 0f);
+        assertEquals(50f, buffer.getY(2), 0f);
+
+        buffer.removeLast();
+        buffer.removeFirst();
+
+        assertEquals(1, buffer.size());
+        assertEquals(4f, buffer.getX(0), 0f);
+    }
+
+    @Test
+    public void indexOf_findsValuesAcrossTheWrap() {
+
+        FloatRingBuffer buffer = new FloatRingBuffer(5);
+
+        for (int i = 0; i < 8; i++)
+            buffer.add(i / 2, i);
+
+        // x: 1 2 2 3 3, y: 3 4 5 6 7
+        assertEquals(0, buffer.lowerBound(1f));
+        assertEquals(1, buffer.lowerBound(2f));
+        assertEquals(5, buffer.lowerBound(9f));
+        assertEquals(2, buffer.indexOf(2f, 5f));
+        assertEquals(4, buffer.indexOf(3f, 7f));
+        assertEquals(-1, buffer.indexOf(2f, 6f));
+        assertEquals(-1, buffer.indexOf(0f, 0f));
+    }
+
+    @Test
+    public void copy_keepsTheOrderOfAWrappedBuffer() {
+
+        FloatRingBuffer buffer = new FloatRingBuffer(3);
+
+        for (int i = 0; i < 5; i++)
+            buffer.add(i, i);
+
+        FloatRingBuffer copied = buffer.copy();
+        buffer.clear();
+
+        assertEquals(3, copied.size());
+        for (int i = 0; i < 3; i++)
+            assertEquals(i + 2f, copied.getX(i), 0f);
+    }
+
+    @Test
+    public void streamingDataSet_keepsMinMaxCurrentWhileEvicting() {
+
+        StreamingLineDataSet set = new StreamingLineDataSet(100, "stream");
+
+        for (int i = 0; i < 1_000; i++) {
+
+            // a spike every 150 values, so the max changes as spikes are evicted
+            set.append(i, i % 150 == 0 ? 1_000f + i : i % 10);
+
+            float max = -Float.MAX_VALUE;
+            float min = Float.MAX_VALUE;
+            for (int j = 0; j < set.getEntryCount(); j++) {
+                max = Math.max(max, set.getEntryYForIndex(j));
+                min = Math.min(min, set.getEntryYForIndex(j));
+            }
+
+            assertEquals(max, set.getYMax(), 0f);
+            assertEquals(min, set.getYMin(), 0f);
+            assertEquals(set.getEntryXForIndex(0), set.getXMin(), 0f);
+            assertEquals(i, set.getXMax(), 0f);
+        }
+
+        assertEquals(100, set.getEntryCount());
+    }
+
+    @Test
+    public void streamingDataSet_appendDoesNotAllocate() {
+
+        final StreamingLineDataSet set = new StreamingLineDataSet(1_000, "stream");
+
+        for (int i = 0; i < 2_000; i++)
+            set.append(i, i % 17);
+
+        final float[] x = {2_000f};
+
+        long bytes = Allocations.measure(new Runnable() {
+            @Override
+            public void run() {
+                for (int i = 0; i < 10_000; i++) {
+                    set.append(x[0], x[0] % 13);
+                    x[0]++;
+                }
+            }
+        });
+
+        assertEquals(0L, bytes);
+    }
+
+    @Test
+    public void streamingDataSet_exposesTheBufferThroughTheEntryApi() {
+
+        StreamingBarDataSet set = new StreamingBarDataSet(3, "stream");
+
+        for (int i = 0; i < 4; i++)
+            set.addEntry(new BarEntry(i, i * 2f));
+
+        List<BarEntry> entries = set.getEntries();
+
+        assertEquals(3, entries.size());
+        assertEquals(1f, entries.get(0).getX(), 0f);
+        assertTrue(set.contains(new BarEntry(2f, 4f)));
+        assertFalse(set.contains(new BarEntry(0f, 0f)));
+
+        assertTrue(set.removeEntry(new BarEntry(2f, 4f)));
+        assertEquals(2, set.getEntryCount());
+        assertEquals(6f, set.getYMax(), 0f);
+
+        assertTrue(set.removeLast());
+        assertEquals(2f, set.getYMax(), 0f);
+
+        set.clear();
+        assertEquals(0, set.getEntryCount());
+        assertFalse(set.removeFirst());
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright 2021 The Cashbook Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.mikephil.charting.data;
+
+import com.github.mikephil.charting.utils.TestData;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class MinMaxIndexTest {
+
+    private static float min(List<Float> values, int from, int to) {
+        float min = Float.MAX_VALUE;
+        for (int i = from; i <= to; i++)
+            min = Math.min(min, values.get(i));
+        return min;
+    }
+
+    private static float max(List<Float> values, int from, int to) {
+        float max = -Float.MAX_VALUE;
+        for (int i = from; i <= to; i++)
+            max = Math.max(max, values.get(i));
+        return max;
+    }
+
+    private static void assertMatches(List<Float> values, MinMaxIndex index, Random random) {
+
+        assertEquals(values.size(), index.size());
+
+        if (values.isEmpty())
+            return;
+
+        assertEquals(min(values, 0, values.size() - 1), index.getMin(), 0f);
+        assertEquals(max(values, 0, values.size() - 1), index.getMax(), 0f);
+
+        for (int q = 0; q < 10; q++) {
+            int from = random.nextInt(values.size());
+            int to = from + random.nextInt(values.size() - from);
+
+            assertEquals(min(values, from, to), index.getMin(from, to), 0f);
+            assertEquals(max(values, from, to), index.getMax(from, to), 0f);
+        }
+    }
+
+    @Test
+    public void build_answersWindowQueries() {
+
+        Random random = new Random(1);
+        List<Float> values = new ArrayList<>();
+        MinMaxIndex index = new MinMaxIndex();
+
+        index.reset(1_000);
+        for (int i = 0; i < 1_000; i++) {
+            float value = random.nextFloat() * 200f - 100f;
+            values.add(value);
+            index.setLeaf(i, value, value);
+        }
+        index.build();
+
+        assertTrue(index.isValid());
+        assertMatches(values, index, random);
+    }
+
+    @Test
+    public void incrementalUpdates_matchAFullScan() {
+
+        Random random = new Random(2);
+        List<Float> values = new ArrayList<>();
+        MinMaxIndex index = new MinMaxIndex();
+
+        index.reset(0);
+        index.build();
+
+        // streaming usage: append at the end, drop from the front, edit single values
+        for (int step = 0; step < 5_000; step++) {
+
+            int op = random.nextInt(10);
+
+            if (op < 6 || values.isEmpty()) {
+                float value = random.nextFloat() * 200f - 100f;
+                values.add(value);
+                index.append(value, value);
+            } else if (op < 8) {
+                values.remove(0);
+                index.removeFirst();
+            } else if (op < 9) {
+                values.remove(values.size() - 1);
+                index.removeLast();
+            } else {
+                int i = random.nextInt(values.size());
+                float value = random.nextFloat() * 200f - 100f;
+                values.set(i, value);
+                index.set(i, value, value);
+            }
+
+            if (step % 50 == 0)
+                assertMatches(values, index, random);
+        }
+
+        assertMatches(values, index, random);
+    }
+
+    @Test
+    public void nanValues_doNotTakePart() {
+
+        MinMaxIndex index = new MinMaxIndex();
+
+        index.reset(3);
+        index.setLeaf(0, 1f, 2f);
+        index.setLeaf(1, Float.NaN, Float.NaN);
+        index.setLeaf(2, -1f, 5f);
+        index.build();
+
+        assertEquals(-1f, index.getMin(), 0f);
+        assertEquals(5f, index.getMax(), 0f);
+        assertEquals(Float.MAX_VALUE, index.getMin(1, 1), 0f);
+        assertEquals(2f, index.getMax(0, 1), 0f);
+    }
+
+    @Test
+    public void invalidate_requiresARebuild() {
+
+        MinMaxIndex index = new MinMaxIndex();
+        index.reset(1);
+        index.build();
+
+        index.invalidate();
+
+        assertFalse(index.isValid());
+    }
+
+    @Test
+    public void calcMinMaxY_matchesAFullScanOfTheWindow() {
+
+        Random random = new Random(3);
+        List<Entry> entries = TestData.entries(
+                TestData.sequence(2_000, 1f), TestData.random(2_000, 50f, 4));
+
+        LineDataSet set = new LineDataSet(entries, "line");
+
+        for (int q = 0; q < 50; q++) {
+
+            int from = random.nextInt(2_000);
+            int to = from + random.nextInt(2_000 - from);
+
+            float min = Float.MAX_VALUE;
+            float max = -Float.MAX_VALUE;
+            for (int i = from; i <= to; i++) {
+                min = Math.min(min, entries.get(i).getY());
+                max = Math.max(max, entries.get(i).getY());
+            }
+
+            set.calcMinMaxY(from, to);
+
+            assertEquals(min, set.getYMin(), 0f);
+            assertEquals(max, set.getYMax(), 0f);
+        }
+
+        // modifying an entry is picked up after notifyDataSetChanged()
+        entries.get(10).setY(1_000f);
+        set.notifyDataSetChanged();
+        set.calcMinMaxY(0, 20);
+
+        assertEquals(1_000f, set.getYMax(), 0f);
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2021 The Cashbook Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.mikephil.charting.data;
+
+import com.github.mikephil.charting.utils.Allocations;
+import com.github.mikephil.charting.utils.TestData;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class SpatialIndexTest {
+
+    private static float distance(FloatColumnDataSet set, int index, float x, float y, float wx, float wy) {
+        float dx = (set.getEntryXForIndex(index) - x) * wx;
+        float dy = (set.getEntryYForIndex(index) - y) * wy;
+        return dx * dx + dy * dy;
+    }
+
+    @Test
+    public void nearest_matchesABruteForceSearch() {
+
+        FloatColumnDataSet set = new FloatColumnDataSet(TestData.sequence(5_000, 0.5f),
+                TestData.random(5_000, 100f, 1), "scatter");
+        set.setSpatialIndexEnabled(true);
+        SpatialIndex index = set.getSpatialIndex();
+        Random random = new Random(2);
+
+        assertEquals(5_000, index.size());
+
+        for (int q = 0; q < 500; q++) {
+
+            float x = random.nextFloat() * 2_600f - 50f;
+            float y = random.nextFloat() * 120f - 10f;
+            // pixels per value, the x-axis is zoomed out compared to the y-axis
+            float wx = 0.2f + random.nextFloat();
+            float wy = 2f + random.nextFloat() * 5f;
+
+            float best = Float.MAX_VALUE;
+            int bestIndex = -1;
+            for (int i = 0; i < set.getEntryCount(); i++) {
+                float distance = distance(set, i, x, y, wx, wy);
+                if (distance < best) {
+                    best = distance;
+                    bestIndex = i;
+                }
+            }
+
+            assertEquals(bestIndex, index.nearest(x, y, wx, wy, Float.MAX_VALUE / 4f));
+        }
+    }
+
+    @Test
+    public void nearest_returnsTheLowestIndexOfEquallyCloseEntries() {
+
+        FloatColumnDataSet set = new FloatColumnDataSet(
+                TestData.sequence(7, 10f), new float[7], "scatter");
+        set.setSpatialIndexEnabled(true);
+        SpatialIndex index = set.getSpatialIndex();
+
+        assertEquals(0, index.nearest(5f, 0f, 1f, 1f, 10f));
+        assertEquals(3, index.nearest(35f, 0f, 1f, 1f, 10f));
+        assertEquals(5, index.nearest(55f, 0f, 1f, 1f, 10f));
+        // exactly at the maximum distance
+        assertEquals(5, index.nearest(55f, 0f, 1f, 1f, 5f));
+
+        FloatColumnDataSet stacked = new FloatColumnDataSet(
+                new float[] { 2f, 2f, 2f, 2f, 2f }, new float[5], "scatter");
+        stacked.setSpatialIndexEnabled(true);
+
+        assertEquals(0, stacked.getSpatialIndex().nearest(2f, 1f, 1f, 1f, 10f));
+    }
+
+    @Test
+    public void nearest_respectsTheMaximumDistance() {
+
+        FloatColumnDataSet set = new FloatColumnDataSet(
+                TestData.sequence(2, 10f), new float[2], "scatter");
+        set.setSpatialIndexEnabled(true);
+        SpatialIndex index = set.getSpatialIndex();
+
+        assertEquals(1, index.nearest(7f, 0f, 1f, 1f, 3f));
+        assertEquals(-1, index.nearest(5f, 0f, 1f, 1f, 4.9f));
+        // the weights scale the distance to pixels
+        assertEquals(0, index.nearest(2f, 0f, 2f, 2f, 4f));
+        assertEquals(-1, index.nearest(2f, 0f, 3f, 3f, 4f));
+    }
+
+    @Test
+    public void dataSet_rebuildsTheIndexAfterModifications() {
+
+        FloatColumnDataSet set = new FloatColumnDataSet(TestData.sequence(100, 0.5f),
+                TestData.random(100, 100f, 3), "scatter");
+        set.setSpatialIndexEnabled(true);
+        SpatialIndex index = set.getSpatialIndex();
+
+        set.add(1_000f, 50f);
+
+        assertTrue(!index.isValid());
+        assertEquals(100, set.getSpatialIndex().nearest(990f, 50f, 1f, 1f, 20f));
+
+        set.setSpatialIndexEnabled(false);
+        assertNull(set.getSpatialIndex());
+    }
+
+    @Test
+    public void nearest_doesNotAllocate() {
+
+        FloatColumnDataSet set = new FloatColumnDataSet(TestData.sequence(10_000, 0.5f),
+                TestData.random(10_000, 100f, 4), "scatter");
+        set.setSpatialIndexEnabled(true);
+        final SpatialIndex index = set.getSpatialIndex();
+
+        assertNotNull(index);
+
+        long bytes = Allocations.measure(new Runnable() {
+            @Override
+            public void run() {
+                for (int q = 0; q < 1_000; q++)
+                    index.nearest(q * 5f, q % 100, 1f, 1f, 50f);
+            }
+        });
+
+        assertEquals(0L, bytes);
+    }
+}
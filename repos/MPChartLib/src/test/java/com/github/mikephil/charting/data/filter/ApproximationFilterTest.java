@@ -0,0 +1,143 @@
+/*
+ * Copyright 2021 The Cashbook Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.mikephil.charting.data.filter;
+
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.FloatColumnDataSet;
+import com.github.mikephil.charting.data.LineDataSet;
+import com.github.mikephil.charting.utils.TestData;
+
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ApproximationFilterTest {
+
+    private static int[] keptIndices(ApproximationFilter filter) {
+
+        int[] indices = new int[filter.getCount()];
+
+        for (int i = 0; i < indices.length; i++)
+            indices[i] = filter.getIndex(i);
+
+        return indices;
+    }
+
+    /**
+     * Simplifies the given range of entries the way the filter is expected to.
+     */
+    private static int[] reference(LineDataSet set, int from, int to, float tolerance) {
+
+        float[] points = new float[(to - from + 1) * 2];
+
+        for (int i = from; i <= to; i++) {
+            points[(i - from) * 2] = set.getEntryXForIndex(i) - set.getEntryXForIndex(from);
+            points[(i - from) * 2 + 1] = set.getEntryYForIndex(i) - set.getEntryYForIndex(from);
+        }
+
+        Approximator approximator = new Approximator();
+        int[] indices = new int[approximator.markWithDouglasPeucker(points, to - from + 1, tolerance)];
+
+        for (int i = 0, j = 0; i <= to - from; i++) {
+            if (approximator.isKept(i))
+                indices[j++] = from + i;
+        }
+
+        return indices;
+    }
+
+    @Test
+    public void update_matchesTheSimplificationOfAllEntries() {
+
+        LineDataSet set = TestData.lineDataSet(1_000, "line");
+        ApproximationFilter filter = new ApproximationFilter(1f);
+
+        filter.update(set, 1f, 1f);
+
+        assertArrayEquals(reference(set, 0, 999, 1f), keptIndices(filter));
+    }
+
+    @Test
+    public void update_simplifiesAroundTheVisibleRangeOnly() {
+
+        LineDataSet set = TestData.lineDataSet(10_000, "line");
+        ApproximationFilter filter = new ApproximationFilter(1f);
+
+        filter.update(set, 5_000, 5_099, 1f, 1f);
+
+        // the visible range widened by its length on both sides
+        assertArrayEquals(reference(set, 4_901, 5_198, 1f), keptIndices(filter));
+        assertTrue(filter.getIndex(filter.lowerBound(5_000)) <= 5_099);
+    }
+
+    @Test
+    public void update_reusesTheResultWhilePanningWithinTheRange() {
+
+        LineDataSet set = TestData.lineDataSet(10_000, "line");
+        ApproximationFilter filter = new ApproximationFilter(1f);
+
+        filter.update(set, 5_000, 5_099, 1f, 1f);
+        int[] kept = keptIndices(filter);
+
+        filter.update(set, 4_950, 5_049, 1f, 1f);
+        assertArrayEquals(kept, keptIndices(filter));
+
+        // leaving the simplified range computes it again
+        filter.update(set, 6_000, 6_099, 1f, 1f);
+        assertArrayEquals(reference(set, 5_901, 6_198, 1f), keptIndices(filter));
+    }
+
+    @Test
+    public void update_detectsChangedValuesOfTheSameCount() {
+
+        LineDataSet set = TestData.lineDataSet(100, "line");
+        List<Entry> entries = set.getEntries();
+        ApproximationFilter filter = new ApproximationFilter(1f);
+
+        filter.update(set, 1f, 1f);
+
+        for (Entry e : entries)
+            e.setY(0f);
+        entries.get(50).setY(100f);
+        set.notifyDataSetChanged();
+
+        filter.update(set, 1f, 1f);
+
+        assertArrayEquals(new int[]{0, 49, 50, 51, 99}, keptIndices(filter));
+    }
+
+    @Test
+    public void update_detectsChangedColumnValues() {
+
+        FloatColumnDataSet set = new FloatColumnDataSet(
+                TestData.sequence(100, 1f), new float[100], "columns");
+        ApproximationFilter filter = new ApproximationFilter(1f);
+
+        filter.update(set, 1f, 1f);
+        assertEquals(2, filter.getCount());
+
+        set.getColumns().getYValues()[30] = 50f;
+        set.notifyDataSetChanged();
+
+        filter.update(set, 1f, 1f);
+        assertArrayEquals(new int[]{0, 29, 30, 31, 99}, keptIndices(filter));
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2021 The Cashbook Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.mikephil.charting.data.filter;
+
+import com.github.mikephil.charting.utils.TestData;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ApproximatorTest {
+
+    /**
+     * The recursive implementation the iterative one replaced, kept as reference.
+     */
+    private static float[] reduceRecursively(float[] points, float tolerance) {
+
+        final float x1 = points[0];
+        final float y1 = points[1];
+        final float x2 = points[points.length - 2];
+        final float y2 = points[points.length - 1];
+
+        final float dx = x1 - x2;
+        final float dy = y1 - y2;
+        final float sxey = x1 * y2;
+        final float exsy = x2 * y1;
+        final float length = (float) Math.sqrt(dx * dx + dy * dy);
+
+        int greatestIndex = 0;
+        float greatestDistance = 0f;
+
+        for (int i = 2; i < points.length - 2; i += 2) {
+
+            float distance = Math.abs(dy * points[i] - dx * points[i + 1] + sxey - exsy) / length;
+
+            if (distance > greatestDistance) {
+                greatestDistance = distance;
+                greatestIndex = i;
+            }
+        }
+
+        if (greatestDistance > tolerance) {
+
+            float[] reduced1 = reduceRecursively(Arrays.copyOfRange(points, 0, greatestIndex + 2), tolerance);
+            float[] reduced2 = reduceRecursively(Arrays.copyOfRange(points, greatestIndex, points.length), tolerance);
+
+            float[] result = new float[reduced1.length + reduced2.length - 2];
+            System.arraycopy(reduced1, 0, result, 0, reduced1.length);
+            System.arraycopy(reduced2, 2, result, reduced1.length, reduced2.length - 2);
+            return result;
+        }
+
+        return new float[]{x1, y1, x2, y2};
+    }
+
+    @Test
+    public void reduceWithDouglasPeucker_matchesTheRecursiveImplementation() {
+
+        Approximator approximator = new Approximator();
+
+        for (long seed = 0; seed < 20; seed++) {
+            for (float tolerance : new float[]{0f, 0.5f, 2f, 10f}) {
+
+                int count = 2 + (int) (seed * 97 % 2000);
+                float[] points = TestData.interleave(
+                        TestData.sequence(count, 0.5f), TestData.randomWalk(count, seed));
+
+                assertArrayEquals("seed " + seed + ", tolerance " + tolerance,
+                        reduceRecursively(points, tolerance),
+                        approximator.reduceWithDouglasPeucker(points, tolerance), 0f);
+            }
+        }
+    }
+
+    @Test
+    public void reduceInPlace_movesTheKeptPointsToTheFront() {
+
+        Approximator approximator = new Approximator();
+        float[] points = TestData.interleave(
+                TestData.sequence(500, 0.5f), TestData.randomWalk(500, 42));
+        float[] expected = reduceRecursively(points, 1f);
+
+        int kept = approximator.reduceInPlace(points, 500, 1f);
+
+        assertEquals(expected.length / 2, kept);
+        assertArrayEquals(expected, Arrays.copyOf(points, kept * 2), 0f);
+    }
+
+    @Test
+    public void markWithDouglasPeucker_keepsFirstAndLast() {
+
+        Approximator approximator = new Approximator();
+        float[] line = {0f, 0f, 1f, 1f, 2f, 2f, 3f, 3f};
+
+        assertEquals(2, approximator.markWithDouglasPeucker(line, 4, 0.01f));
+        assertTrue(approximator.isKept(0));
+        assertTrue(approximator.isKept(3));
+
+        assertEquals(1, approximator.markWithDouglasPeucker(line, 1, 0.01f));
+        assertEquals(0, approximator.markWithDouglasPeucker(line, 0, 0.01f));
+    }
+
+    @Test
+    public void markWithDouglasPeucker_keepsEveryCornerOfLargeInputs() {
+
+        final int count = 200_000;
+        float[] points = new float[count * 2];
+
+        // zigzag, no point lies on the line between its neighbours
+        for (int i = 0; i < count; i++) {
+            points[i * 2] = i;
+            points[i * 2 + 1] = i % 2;
+        }
+
+        Approximator approximator = new Approximator();
+
+        assertEquals(count, approximator.markWithDouglasPeucker(points, count, 0.1f));
+        assertEquals(2, approximator.markWithDouglasPeucker(points, count, 1f));
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright 2021 The Cashbook Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.mikephil.charting.data.filter;
+
+import com.github.mikephil.charting.data.FloatColumnDataSet;
+import com.github.mikephil.charting.utils.Allocations;
+import com.github.mikephil.charting.utils.TestData;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class MinMaxDecimatorTest {
+
+    /** width of the simulated content rect in pixels */
+    private static final int WIDTH = 1000;
+
+    /**
+     * Checks that the lowest and highest y-value of every pixel column are kept.
+     */
+    private static void assertExtremesKept(FloatColumnDataSet set, MinMaxDecimator decimator,
+                                           float scaleX) {
+
+        int count = set.getEntryCount();
+        int kept = 0;
+        int column = -1;
+        float minY = 0f, maxY = 0f, keptMin = 0f, keptMax = 0f;
+
+        for (int i = 0; i <= count; i++) {
+
+            int c = i < count ? (int) Math.floor(set.getEntryXForIndex(i) * scaleX) : -2;
+
+            if (c != column) {
+                if (column != -1) {
+                    assertEquals(minY, keptMin, 0f);
+                    assertEquals(maxY, keptMax, 0f);
+                }
+                if (i == count)
+                    break;
+                column = c;
+                minY = maxY = set.getEntryYForIndex(i);
+                keptMin = Float.MAX_VALUE;
+                keptMax = -Float.MAX_VALUE;
+            }
+
+            float y = set.getEntryYForIndex(i);
+            minY = Math.min(minY, y);
+            maxY = Math.max(maxY, y);
+
+            if (kept < decimator.getCount() && decimator.getIndex(kept) == i) {
+                keptMin = Math.min(keptMin, y);
+                keptMax = Math.max(keptMax, y);
+                kept++;
+            }
+        }
+
+        assertEquals(decimator.getCount(), kept);
+    }
+
+    @Test
+    public void decimate_keepsMinAndMaxOfEveryPixelColumn() {
+
+        FloatColumnDataSet set = new FloatColumnDataSet(TestData.sequence(50_000, 1f),
+                TestData.noisySine(50_000, 0.001, 100f, 100), "decimated");
+        MinMaxDecimator decimator = new MinMaxDecimator();
+        float scaleX = WIDTH / 50_000f;
+
+        assertTrue(decimator.decimate(set, 0, 49_999, scaleX, 0f, true));
+        assertExtremesKept(set, decimator, scaleX);
+
+        assertTrue(decimator.decimate(set, 0, 49_999, scaleX, 0f, false));
+        assertExtremesKept(set, decimator, scaleX);
+    }
+
+    @Test
+    public void decimate_keepsIndicesAscending() {
+
+        FloatColumnDataSet set = new FloatColumnDataSet(TestData.sequence(10_000, 1f),
+                TestData.noisySine(10_000, 0.001, 100f, 100), "decimated");
+        MinMaxDecimator decimator = new MinMaxDecimator();
+
+        assertTrue(decimator.decimate(set, 100, 9_000, WIDTH / 10_000f, 0f, true));
+
+        assertEquals(100, decimator.getIndex(0));
+        assertEquals(9_000, decimator.getIndex(decimator.getCount() - 1));
+        for (int i = 1; i < decimator.getCount(); i++)
+            assertTrue(decimator.getIndex(i - 1) < decimator.getIndex(i));
+    }
+
+    @Test
+    public void decimate_skipsRangesThatFitIntoTheColumns() {
+
+        FloatColumnDataSet set = new FloatColumnDataSet(TestData.sequence(1_000, 1f),
+                TestData.noisySine(1_000, 0.001, 100f, 100), "decimated");
+        MinMaxDecimator decimator = new MinMaxDecimator();
+
+        // 1000 entries on 1000 pixels
+        assertFalse(decimator.decimate(set, 0, 999, 1f, 0f, true));
+        assertEquals(0, decimator.getCount());
+
+        assertFalse(decimator.decimate(set, 0, 999, Float.NaN, 0f, true));
+        assertFalse(decimator.decimate(set, 5, 6, 0.001f, 0f, true));
+    }
+
+    @Test
+    public void decimate_bucketWidthReducesPoints() {
+
+        FloatColumnDataSet set = new FloatColumnDataSet(TestData.sequence(100_000, 1f),
+                TestData.noisySine(100_000, 0.001, 100f, 100), "decimated");
+        MinMaxDecimator decimator = new MinMaxDecimator();
+
+        decimator.decimate(set, 0, 99_999, WIDTH / 100_000f, 0f, true);
+        int narrow = decimator.getCount();
+
+        decimator.setBucketWidth(4f);
+        decimator.decimate(set, 0, 99_999, WIDTH / 100_000f, 0f, true);
+
+        assertTrue(decimator.getCount() < narrow);
+        assertTrue(decimator.getCount() <= 4 * (WIDTH / 4 + 1));
+    }
+
+    /**
+     * The number of points left to draw is bound by the width of the chart, not by the
+     * number of entries, for 10k, 100k and 1M entries.
+     */
+    @Test
+    public void decimate_drawnPointsStayBoundByWidth() {
+
+        for (int count : new int[]{10_000, 100_000, 1_000_000}) {
+
+            FloatColumnDataSet set = new FloatColumnDataSet(TestData.sequence(count, 1f),
+                    TestData.noisySine(count, 0.001, 100f, 100), "decimated");
+            MinMaxDecimator decimator = new MinMaxDecimator();
+
+            assertTrue(decimator.decimate(set, 0, count - 1, (float) WIDTH / count, 0f, true));
+            assertTrue("entries: " + count + ", kept: " + decimator.getCount(),
+                    decimator.getCount() <= 4 * (WIDTH + 1));
+        }
+    }
+
+    /**
+     * Repeated decimation passes, as done for every frame while panning, do not allocate once
+     * the index array has grown, for 10k, 100k and 1M entries.
+     */
+    @Test
+    public void decimate_doesNotAllocatePerFrame() {
+
+        for (int count : new int[]{10_000, 100_000, 1_000_000}) {
+
+            final FloatColumnDataSet set = new FloatColumnDataSet(TestData.sequence(count, 1f),
+                    TestData.noisySine(count, 0.001, 100f, 100), "decimated");
+            final MinMaxDecimator decimator = new MinMaxDecimator();
+            final float scaleX = (float) WIDTH / count * 2f;
+
+            long bytes = Allocations.measure(new Runnable() {
+                @Override
+                public void run() {
+                    // pan over the second half of the entries
+                    for (int from = 0; from <= count / 2; from += count / 20)
+                        decimator.decimate(set, from, from + count / 2 - 1, scaleX, -from * scaleX, true);
+                }
+            });
+
+            assertEquals("entries: " + count, 0L, bytes);
+        }
+    }
+}
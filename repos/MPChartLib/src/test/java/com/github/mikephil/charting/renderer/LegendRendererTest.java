@@ -0,0 +1,98 @@
+/*
+ * Copyright 2021 The Cashbook Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.mikephil.charting.renderer;
+
+import com.github.mikephil.charting.components.Legend;
+import com.github.mikephil.charting.components.LegendEntry;
+import com.github.mikephil.charting.data.LineData;
+import com.github.mikephil.charting.data.LineDataSet;
+import com.github.mikephil.charting.utils.TestData;
+import com.github.mikephil.charting.utils.ViewPortHandler;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+public class LegendRendererTest {
+
+    @Test
+    public void computeLegend_keepsTheEntriesIfNothingChanged() {
+
+        Legend legend = new Legend();
+        LegendRenderer renderer = new LegendRenderer(new ViewPortHandler(), legend);
+        LineData data = new LineData(TestData.lineDataSet(2, "a"), TestData.lineDataSet(2, "b"));
+
+        renderer.computeLegend(data);
+        LegendEntry[] entries = legend.getEntries();
+
+        renderer.computeLegend(data);
+
+        assertSame(entries, legend.getEntries());
+        assertEquals(2, entries.length);
+        assertEquals("a", entries[0].label);
+        assertEquals("b", entries[1].label);
+    }
+
+    @Test
+    public void computeLegend_doesNotModifyPreviousEntries() {
+
+        Legend legend = new Legend();
+        LegendRenderer renderer = new LegendRenderer(new ViewPortHandler(), legend);
+        LineDataSet first = TestData.lineDataSet(2, "a");
+        first.setColor(0xffff0000);
+        LineData data = new LineData(first, TestData.lineDataSet(2, "b"));
+
+        renderer.computeLegend(data);
+        LegendEntry[] entries = legend.getEntries();
+
+        first.setLabel("c");
+        first.setColor(0xff0000ff);
+        renderer.computeLegend(data);
+
+        // the entries handed out before keep their values
+        assertEquals("a", entries[0].label);
+        assertEquals(0xffff0000, entries[0].formColor);
+
+        LegendEntry[] changed = legend.getEntries();
+
+        assertNotSame(entries[0], changed[0]);
+        assertEquals("c", changed[0].label);
+        assertEquals(0xff0000ff, changed[0].formColor);
+        assertSame(entries[1], changed[1]);
+    }
+
+    @Test
+    public void computeLegend_doesNotModifyEntriesIfTheCountChanges() {
+
+        Legend legend = new Legend();
+        LegendRenderer renderer = new LegendRenderer(new ViewPortHandler(), legend);
+        LineData data = new LineData(TestData.lineDataSet(2, "a"), TestData.lineDataSet(2, "b"));
+
+        renderer.computeLegend(data);
+        LegendEntry[] entries = legend.getEntries();
+
+        data.removeDataSet(0);
+        renderer.computeLegend(data);
+
+        assertEquals("a", entries[0].label);
+        assertEquals("b", entries[1].label);
+        assertEquals(1, legend.getEntries().length);
+        assertEquals("b", legend.getEntries()[0].label);
+    }
+}
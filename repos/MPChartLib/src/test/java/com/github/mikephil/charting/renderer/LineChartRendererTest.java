@@ -0,0 +1,285 @@
+/*
+ * Copyright 2021 The Cashbook Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.github.mikephil.charting.renderer;
+
+import android.graphics.Canvas;
+import android.graphics.Paint;
+import android.graphics.RectF;
+
+import com.github.mikephil.charting.animation.ChartAnimator;
+import com.github.mikephil.charting.components.YAxis;
+import com.github.mikephil.charting.data.LineData;
+import com.github.mikephil.charting.data.LineDataSet;
+import com.github.mikephil.charting.formatter.IValueFormatter;
+import com.github.mikephil.charting.interfaces.dataprovider.LineDataProvider;
+import com.github.mikephil.charting.utils.Allocations;
+import com.github.mikephil.charting.utils.MPPointF;
+import com.github.mikephil.charting.utils.TestData;
+import com.github.mikephil.charting.utils.Transformer;
+import com.github.mikephil.charting.utils.ViewPortHandler;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+public class LineChartRendererTest {
+
+    private static final int[] COLORS = {0xffff0000, 0xff00ff00, 0xff0000ff, 0xffffff00};
+
+    /**
+     * chart with a single LineData and a transformer that leaves the values unmapped
+     */
+    private static class TestChart implements LineDataProvider {
+
+        final ViewPortHandler viewPortHandler = new ViewPortHandler();
+        final Transformer transformer = new Transformer(viewPortHandler);
+        final LineData data;
+
+        TestChart(LineData data) {
+            this.data = data;
+
+            // the values are drawn as pixels, the content rect has to contain them
+            RectF content = viewPortHandler.getContentRect();
+            content.left = -10f;
+            content.top = -100f;
+            content.right = 10_000f;
+            content.bottom = 100f;
+        }
+
+        @Override
+        public LineData getLineData() {
+            return data;
+        }
+
+        @Override
+        public YAxis getAxis(YAxis.AxisDependency dependency) {
+            return null;
+        }
+
+        @Override
+        public Transformer getTransformer(YAxis.AxisDependency axis) {
+            return transformer;
+        }
+
+        @Override
+        public boolean isInverted(YAxis.AxisDependency axis) {
+            return false;
+        }
+
+        @Override
+        public float getLowestVisibleX() {
+            return data.getXMin();
+        }
+
+        @Override
+        public float getHighestVisibleX() {
+            return data.getXMax();
+        }
+
+        @Override
+        public LineData getData() {
+            return data;
+        }
+
+        @Override
+        public float getXChartMin() {
+            return data.getXMin();
+        }
+
+        @Override
+        public float getXChartMax() {
+            return data.getXMax();
+        }
+
+        @Override
+        public float getXRange() {
+            return data.getXMax() - data.getXMin();
+        }
+
+        @Override
+        public float getYChartMin() {
+            return data.getYMin();
+        }
+
+        @Override
+        public float getYChartMax() {
+            return data.getYMax();
+        }
+
+        @Override
+        public float getMaxHighlightDistance() {
+            return 0f;
+        }
+
+        @Override
+        public int getWidth() {
+            return 0;
+        }
+
+        @Override
+        public int getHeight() {
+            return 0;
+        }
+
+        @Override
+        public MPPointF getCenterOfView() {
+            return null;
+        }
+
+        @Override
+        public MPPointF getCenterOffsets() {
+            return null;
+        }
+
+        @Override
+        public RectF getContentRect() {
+            return viewPortHandler.getContentRect();
+        }
+
+        @Override
+        public IValueFormatter getDefaultValueFormatter() {
+            return null;
+        }
+
+        @Override
+        public int getMaxVisibleCount() {
+            return Integer.MAX_VALUE;
+        }
+    }
+
+    /**
+     * canvas that records the offset and length of every drawLines(...) call
+     */
+    private static class LinesCanvas extends Canvas {
+
+        final List<int[]> calls = new ArrayList<>();
+
+        @Override
+        public void drawLines(float[] pts, int offset, int count, Paint paint) {
+            calls.add(new int[] { offset, count });
+        }
+    }
+
+    /**
+     * Returns a LineChartActivityColored-like set with one color per entry, the color changes
+     * after every runLength entries.
+     */
+    private static LineDataSet coloredSet(int count, int runLength) {
+
+        LineDataSet set = TestData.lineDataSet(count, "colored");
+        List<Integer> colors = new ArrayList<>();
+
+        for (int i = 0; i < count; i++)
+            colors.add(COLORS[(i / runLength) % COLORS.length]);
+
+        set.setColors(colors);
+        return set;
+    }
+
+    private static LineChartRenderer renderer(TestChart chart) {
+        return new LineChartRenderer(chart, new ChartAnimator(), chart.viewPortHandler);
+    }
+
+    /**
+     * Asserts that the calls draw the given number of segments each, one after the other.
+     */
+    private static void assertRuns(LinesCanvas canvas, int... segments) {
+
+        assertEquals(segments.length, canvas.calls.size());
+
+        int offset = 0;
+
+        for (int i = 0; i < segments.length; i++) {
+            assertEquals(offset, canvas.calls.get(i)[0]);
+            assertEquals(segments[i] * 4, canvas.calls.get(i)[1]);
+            offset += segments[i] * 4;
+        }
+    }
+
+    @Test
+    public void drawLinear_drawsEveryRunOfEqualColorsAtOnce() {
+
+        LineDataSet set = coloredSet(35, 10);
+        TestChart chart = new TestChart(new LineData(set));
+        LinesCanvas canvas = new LinesCanvas();
+
+        renderer(chart).drawDataSet(canvas, set);
+
+        // the segment leaving the last entry of a run has the color of that entry, so every run
+        // but the last one has as many segments as entries
+        assertRuns(canvas, 10, 10, 10, 4);
+    }
+
+    @Test
+    public void drawLinear_keepsTheSegmentsAtEveryColorBoundary() {
+
+        LineDataSet set = coloredSet(6, 1);
+        TestChart chart = new TestChart(new LineData(set));
+        LinesCanvas canvas = new LinesCanvas();
+
+        renderer(chart).drawDataSet(canvas, set);
+
+        assertRuns(canvas, 1, 1, 1, 1, 1);
+    }
+
+    @Test
+    public void drawLinear_mergesColorsThatAreEqual() {
+
+        LineDataSet set = TestData.lineDataSet(100, "colored");
+        set.setColors(COLORS[0], COLORS[0], COLORS[0]);
+        TestChart chart = new TestChart(new LineData(set));
+        LinesCanvas canvas = new LinesCanvas();
+
+        renderer(chart).drawDataSet(canvas, set);
+
+        assertRuns(canvas, 99);
+    }
+
+    @Test
+    public void drawLinear_needsOneDrawCallPerColorRun() {
+
+        LineDataSet set = coloredSet(10_000, 25);
+        TestChart chart = new TestChart(new LineData(set));
+        LinesCanvas canvas = new LinesCanvas();
+
+        renderer(chart).drawDataSet(canvas, set);
+
+        assertEquals(400, canvas.calls.size());
+    }
+
+    @Test
+    public void drawLinear_doesNotAllocateForManyColors() {
+
+        final LineDataSet set = coloredSet(10_000, 3);
+        final LineChartRenderer renderer = renderer(new TestChart(new LineData(set)));
+        final Canvas canvas = new Canvas();
+
+        long bytes = Allocations.measure(new Runnable() {
+            @Override
+            public void run() {
+                for (int frame = 0; frame < 20; frame++)
+                    renderer.drawDataSet(canvas, set);
+            }
+        });
+
+        assertEquals(0L, bytes);
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2021 The Cashbook Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.mikephil.charting.renderer;
+
+import android.graphics.LinearGradient;
+
+import com.github.mikephil.charting.utils.Allocations;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+public class LineGradientCacheTest {
+
+    private static final int[] COLORS = {0xffff0000, 0xff00ff00, 0xff0000ff};
+
+    /**
+     * Sets a gradient of count entries spread evenly over the given pixel range.
+     */
+    private static LinearGradient gradient(LineGradientCache cache, int count, float left, float right) {
+
+        cache.reset(count, left, right);
+
+        for (int i = 0; i < count; i++)
+            cache.set(i, COLORS[i % COLORS.length], left + (right - left) * i / (count - 1));
+
+        return cache.getShader();
+    }
+
+    @Test
+    public void getShader_reusesTheShaderWhilePanningAndZooming() {
+
+        LineGradientCache cache = new LineGradientCache();
+
+        LinearGradient shader = gradient(cache, 100, 0f, 500f);
+
+        assertSame(shader, gradient(cache, 100, 0f, 500f));
+        assertSame(shader, gradient(cache, 100, -120f, 380f));
+        assertSame(shader, gradient(cache, 100, -300f, 1700f));
+    }
+
+    @Test
+    public void getShader_recreatesTheShaderIfTheGradientChanged() {
+
+        LineGradientCache cache = new LineGradientCache();
+
+        LinearGradient shader = gradient(cache, 100, 0f, 500f);
+
+        // different number of entries
+        LinearGradient other = gradient(cache, 101, 0f, 500f);
+        assertNotSame(shader, other);
+
+        // different color
+        cache.reset(101, 0f, 500f);
+        for (int i = 0; i < 101; i++)
+            cache.set(i, i == 50 ? 0xffffffff : COLORS[i % COLORS.length], i * 5f);
+        LinearGradient recolored = cache.getShader();
+        assertNotSame(other, recolored);
+
+        // moved entry
+        cache.reset(101, 0f, 500f);
+        for (int i = 0; i < 101; i++)
+            cache.set(i, i == 50 ? 0xffffffff : COLORS[i % COLORS.length], i == 50 ? 260f : i * 5f);
+        assertNotSame(recolored, cache.getShader());
+    }
+
+    @Test
+    public void getShader_toleratesSubPixelDifferences() {
+
+        LineGradientCache cache = new LineGradientCache();
+
+        LinearGradient shader = gradient(cache, 3, 0f, 100f);
+
+        cache.reset(3, 0f, 100f);
+        cache.set(0, COLORS[0], 0f);
+        cache.set(1, COLORS[1], 50.3f);
+        cache.set(2, COLORS[2], 100f);
+
+        assertSame(shader, cache.getShader());
+    }
+
+    @Test
+    public void getShader_doesNotAllocateWhilePanning() {
+
+        final LineGradientCache cache = new LineGradientCache();
+
+        gradient(cache, 1_000, 0f, 2_000f);
+
+        long bytes = Allocations.measure(new Runnable() {
+            @Override
+            public void run() {
+                for (int frame = 0; frame < 500; frame++)
+                    gradient(cache, 1_000, -frame, 2_000f - frame);
+            }
+        });
+
+        assertEquals(0L, bytes);
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2021 The Cashbook Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.github.mikephil.charting.renderer;
+
+import android.graphics.Canvas;
+
+import com.github.mikephil.charting.components.LimitLine;
+import com.github.mikephil.charting.components.XAxis;
+import com.github.mikephil.charting.utils.Transformer;
+import com.github.mikephil.charting.utils.ViewPortHandler;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class XAxisRendererTest {
+
+    @Test
+    public void renderLimitLines_callsTheLineOverrideOfSubclasses() {
+
+        ViewPortHandler viewPortHandler = new ViewPortHandler();
+        XAxis xAxis = new XAxis();
+        LimitLine first = new LimitLine(1f, "first");
+        LimitLine disabled = new LimitLine(2f);
+        LimitLine last = new LimitLine(3f);
+        disabled.setEnabled(false);
+        xAxis.addLimitLine(first);
+        xAxis.addLimitLine(disabled);
+        xAxis.addLimitLine(last);
+
+        final List<LimitLine> rendered = new ArrayList<>();
+
+        XAxisRenderer renderer = new XAxisRenderer(viewPortHandler, xAxis,
+                new Transformer(viewPortHandler)) {
+            @Override
+            public void renderLimitLineLine(Canvas c, LimitLine limitLine, float[] position) {
+                rendered.add(limitLine);
+            }
+        };
+
+        renderer.renderLimitLines(new Canvas());
+
+        assertEquals(2, rendered.size());
+        assertSame(first, rendered.get(0));
+        assertSame(last, rendered.get(1));
+    }
+}
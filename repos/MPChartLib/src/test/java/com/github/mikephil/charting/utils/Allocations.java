@@ -0,0 +1,73 @@
+/*
+ * Copyright 2021 The Cashbook Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.mikephil.charting.utils;
+
+import org.junit.Assume;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Measures the heap allocations of the current thread, for tests that check that a code
+ * path runs without allocating. Tests using it are skipped on VMs that cannot measure them.
+ */
+public final class Allocations {
+
+    private static final int RUNS = 3;
+
+    private Allocations() {
+    }
+
+    /**
+     * Returns the number of bytes the given code allocated on the current thread. Skips the
+     * calling test if the VM does not support allocation measurement.
+     *
+     * @param runnable
+     * @return
+     */
+    public static long measure(Runnable runnable) {
+
+        Assume.assumeTrue(ManagementFactory.getThreadMXBean()
+                instanceof com.sun.management.ThreadMXBean);
+
+        com.sun.management.ThreadMXBean bean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+        Assume.assumeTrue(bean.isThreadAllocatedMemorySupported());
+        bean.setThreadAllocatedMemoryEnabled(true);
+
+        final long id = Thread.currentThread().getId();
+
+        // warm up once, so class loading and lazily grown buffers are not counted
+        runnable.run();
+
+        // the VM may allocate now and then on the thread (e.g. when recompiling a method), take
+        // the least of a few runs, code that allocates does so on every run
+        long least = Long.MAX_VALUE;
+
+        for (int run = 0; run < RUNS; run++) {
+
+            long before = bean.getThreadAllocatedBytes(id);
+            runnable.run();
+            long after = bean.getThreadAllocatedBytes(id);
+
+            least = Math.min(least, after - before);
+        }
+
+        // the measurement itself may allocate a few bytes for boxing the result
+        return Math.max(0L, least - 64L);
+    }
+}
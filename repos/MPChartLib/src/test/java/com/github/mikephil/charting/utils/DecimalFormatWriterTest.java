@@ -0,0 +1,138 @@
+/*
+ * Copyright 2021 The Cashbook Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.mikephil.charting.utils;
+
+import com.github.mikephil.charting.formatter.DefaultValueFormatter;
+
+import org.junit.Test;
+
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+public class DecimalFormatWriterTest {
+
+    private static String pattern(int digits) {
+
+        StringBuilder b = new StringBuilder("###,###,###,##0");
+        for (int i = 0; i < digits; i++)
+            b.append(i == 0 ? ".0" : "0");
+
+        return b.toString();
+    }
+
+    private static String write(DecimalFormatWriter writer, double value) {
+
+        char[] buffer = new char[64];
+        int length = writer.write(value, buffer, 0);
+
+        return length < 0 ? null : new String(buffer, 0, length);
+    }
+
+    @Test
+    public void write_matchesDecimalFormat() {
+
+        Random random = new Random(7);
+
+        for (Locale locale : new Locale[]{Locale.US, Locale.GERMANY, Locale.FRANCE, new Locale("de", "CH")}) {
+            for (int digits = 0; digits <= 4; digits++) {
+
+                DecimalFormatSymbols symbols = DecimalFormatSymbols.getInstance(locale);
+                DecimalFormat format = new DecimalFormat(pattern(digits), symbols);
+                DecimalFormatWriter writer = new DecimalFormatWriter(digits, symbols);
+
+                for (int i = 0; i < 2_000; i++) {
+
+                    // floats like the chart values, spread over many magnitudes
+                    float value = (float) ((random.nextDouble() - 0.5) * Math.pow(10, random.nextInt(12) - 3));
+
+                    assertEquals(locale + ", " + digits + " digits, " + value,
+                            format.format(value), write(writer, value));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void write_matchesDecimalFormatForEdgeValues() {
+
+        DecimalFormatSymbols symbols = DecimalFormatSymbols.getInstance(Locale.US);
+
+        float[] values = {0f, -0f, 0.5f, 1.5f, 2.5f, -0.4f, 999f, 1000f, 999_999.9f, 0.125f, 0.375f,
+                -1_234_567f, 1e-7f, -1e-7f, 123_456_789_000f};
+
+        for (int digits = 0; digits <= 3; digits++) {
+
+            DecimalFormat format = new DecimalFormat(pattern(digits), symbols);
+            DecimalFormatWriter writer = new DecimalFormatWriter(digits, symbols);
+
+            for (float value : values)
+                assertEquals(digits + " digits, " + value, format.format(value), write(writer, value));
+        }
+    }
+
+    @Test
+    public void write_rejectsValuesItCannotWrite() {
+
+        DecimalFormatWriter writer = new DecimalFormatWriter(2, DecimalFormatSymbols.getInstance(Locale.US));
+        char[] buffer = new char[8];
+
+        assertEquals(-1, writer.write(Double.NaN, buffer, 0));
+        assertEquals(-1, writer.write(Double.POSITIVE_INFINITY, buffer, 0));
+        assertEquals(-1, writer.write(1e20, new char[64], 0));
+
+        // "12,345.67" needs 9 chars
+        assertEquals(-1, writer.write(12_345.67, buffer, 0));
+        assertEquals(4, writer.write(1.5, buffer, 4));
+        assertEquals("1.50", new String(buffer, 4, 4));
+        assertEquals(-1, writer.write(1.5, buffer, 5));
+    }
+
+    @Test
+    public void write_doesNotAllocate() {
+
+        final DecimalFormatWriter writer = new DecimalFormatWriter(2, DecimalFormatSymbols.getInstance(Locale.US));
+        final char[] buffer = new char[64];
+
+        long bytes = Allocations.measure(new Runnable() {
+            @Override
+            public void run() {
+                for (int i = 0; i < 10_000; i++)
+                    writer.write(i * 1.37 - 5_000, buffer, 0);
+            }
+        });
+
+        assertEquals(0L, bytes);
+    }
+
+    @Test
+    public void defaultValueFormatter_writesWhatItFormats() {
+
+        DefaultValueFormatter formatter = new DefaultValueFormatter(1);
+        char[] buffer = new char[64];
+
+        for (float value : new float[]{0f, -3.25f, 1_234.56f, 7.05f}) {
+
+            int length = formatter.formatValue(value, null, 0, null, buffer);
+
+            assertEquals(formatter.getFormattedValue(value, null, 0, null), new String(buffer, 0, length));
+        }
+    }
+}
@@ -0,0 +1,206 @@
+/*
+ * Copyright 2021 The Cashbook Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.mikephil.charting.utils;
+
+import com.github.mikephil.charting.data.FloatColumns;
+
+import org.junit.Test;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class FloatColumnsFileTest {
+
+    private static void assertColumnsEqual(FloatColumns expected, FloatColumns actual) {
+
+        assertEquals(expected.size(), actual.size());
+        assertEquals(expected.getColumnCount(), actual.getColumnCount());
+
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.getX(i), actual.getX(i), 0f);
+            assertEquals(expected.getY(i), actual.getY(i), 0f);
+
+            for (int c = 0; c < expected.getColumnCount(); c++)
+                assertEquals(expected.get(c, i), actual.get(c, i), 0f);
+        }
+    }
+
+    private static ByteBuffer header(int magic, int version, int rows, int columnCount, int capacity) {
+
+        ByteBuffer buffer = ByteBuffer.allocate(capacity).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(magic);
+        buffer.putInt(version);
+        buffer.putInt(rows);
+        buffer.putInt(columnCount);
+        buffer.rewind();
+        return buffer;
+    }
+
+    private static void assertRejected(ByteBuffer buffer) {
+        try {
+            FloatColumnsFile.decode(buffer);
+            fail();
+        } catch (IOException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void decode_readsWhatWasEncoded() throws IOException {
+
+        // plain x/y values, stacked bars and an empty series
+        for (FloatColumns columns : new FloatColumns[]{
+                TestData.columns(TestData.sequence(1_000, 0.5f), 0), TestData.columns(TestData.sequence(500, 0.5f), 3), TestData.columns(TestData.sequence(0, 0.5f), 2)}) {
+
+            ByteBuffer buffer = FloatColumnsFile.encode(columns);
+
+            assertEquals(FloatColumnsFile.getEncodedSize(columns), buffer.remaining());
+            assertColumnsEqual(columns, FloatColumnsFile.decode(buffer));
+        }
+    }
+
+    @Test
+    public void encode_writesOnlyTheUsedRows() throws IOException {
+
+        FloatColumns columns = new FloatColumns(1, 100);
+        columns.add(1f, 2f);
+        columns.set(0, 0, 3f);
+
+        FloatColumns decoded = FloatColumnsFile.decode(FloatColumnsFile.encode(columns));
+
+        assertEquals(1, decoded.size());
+        assertArrayEquals(new float[]{3f}, decoded.getColumn(0), 0f);
+    }
+
+    @Test
+    public void read_readsAWrittenFile() throws IOException {
+
+        FloatColumns columns = TestData.columns(TestData.sequence(10_000, 0.5f), 2);
+        File file = File.createTempFile("columns", ".bin");
+
+        try {
+            FloatColumnsFile.write(columns, file);
+
+            assertEquals(FloatColumnsFile.getEncodedSize(columns), file.length());
+            assertColumnsEqual(columns, FloatColumnsFile.read(file));
+        } finally {
+            file.delete();
+        }
+    }
+
+    @Test
+    public void decode_rejectsInvalidFiles() {
+
+        // missing header
+        assertRejected(ByteBuffer.allocate(8));
+
+        // wrong magic number and version
+        assertRejected(header(0x12345678, FloatColumnsFile.VERSION, 0, 0, 16));
+        assertRejected(header(FloatColumnsFile.MAGIC, FloatColumnsFile.VERSION + 1, 0, 0, 16));
+
+        // negative sizes
+        assertRejected(header(FloatColumnsFile.MAGIC, FloatColumnsFile.VERSION, -1, 0, 16));
+        assertRejected(header(FloatColumnsFile.MAGIC, FloatColumnsFile.VERSION, 0, -1, 16));
+    }
+
+    @Test
+    public void decode_rejectsTruncatedFiles() {
+
+        ByteBuffer encoded = FloatColumnsFile.encode(TestData.columns(TestData.sequence(100, 0.5f), 1));
+
+        for (int size : new int[]{16, 20, encoded.remaining() / 2, encoded.remaining() - 1}) {
+
+            ByteBuffer truncated = encoded.duplicate();
+            truncated.limit(size);
+
+            assertRejected(truncated.slice());
+        }
+    }
+
+    @Test
+    public void decode_rejectsHugeColumnCountsBeforeAllocating() {
+
+        // no rows passes the size check for any number of columns, which must not be allocated
+        assertRejected(header(FloatColumnsFile.MAGIC, FloatColumnsFile.VERSION,
+                0, Integer.MAX_VALUE, 16));
+        assertRejected(header(FloatColumnsFile.MAGIC, FloatColumnsFile.VERSION,
+                0, FloatColumnsFile.MAX_COLUMN_COUNT + 1, 16));
+
+        // 2 + columnCount overflowed int before, making the required size negative
+        assertRejected(header(FloatColumnsFile.MAGIC, FloatColumnsFile.VERSION,
+                1, Integer.MAX_VALUE - 1, 16));
+    }
+
+    /**
+     * Parses "y#x" lines like FileUtils.loadEntriesFromAssets(...).
+     */
+    private static FloatColumns parseText(String text) throws IOException {
+
+        BufferedReader reader = new BufferedReader(new StringReader(text));
+        FloatColumns columns = new FloatColumns(16);
+        String line;
+
+        while ((line = reader.readLine()) != null) {
+            String[] split = line.split("#");
+            columns.add(Float.parseFloat(split[1]), Float.parseFloat(split[0]));
+        }
+
+        return columns;
+    }
+
+    @Test
+    public void decode_loadsFasterThanParsingText() throws IOException {
+
+        final FloatColumns columns = TestData.columns(TestData.sequence(200_000, 0.5f), 0);
+
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < columns.size(); i++)
+            text.append(columns.getY(i)).append('#').append(columns.getX(i)).append('\n');
+
+        final String textFile = text.toString();
+        final ByteBuffer binaryFile = FloatColumnsFile.encode(columns);
+
+        long textNanos = Long.MAX_VALUE;
+        long binaryNanos = Long.MAX_VALUE;
+
+        // best of several runs, the first ones warm up the JIT
+        for (int run = 0; run < 5; run++) {
+
+            long start = System.nanoTime();
+            FloatColumns parsed = parseText(textFile);
+            textNanos = Math.min(textNanos, System.nanoTime() - start);
+
+            start = System.nanoTime();
+            FloatColumns decoded = FloatColumnsFile.decode(binaryFile.duplicate());
+            binaryNanos = Math.min(binaryNanos, System.nanoTime() - start);
+
+            assertColumnsEqual(parsed, decoded);
+        }
+
+        assertTrue("text: " + textNanos / 1000 + "us, binary: " + binaryNanos / 1000 + "us",
+                binaryNanos * 2 < textNanos);
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2021 The Cashbook Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.mikephil.charting.utils;
+
+import android.graphics.Paint;
+
+import org.junit.Test;
+
+import java.util.Locale;
+
+import static org.junit.Assert.assertEquals;
+
+public class LabelCacheTest {
+
+    /**
+     * paint that measures every character as wide as the text size and counts its calls
+     */
+    private static class CountingPaint extends Paint {
+
+        int measureCount = 0;
+        float size = 10f;
+        Locale locale = Locale.US;
+        String features = null;
+
+        @Override
+        public float measureText(String text) {
+            measureCount++;
+            return text.length() * size;
+        }
+
+        @Override
+        public float getTextSize() {
+            return size;
+        }
+
+        @Override
+        public Locale getTextLocale() {
+            return locale;
+        }
+
+        @Override
+        public String getFontFeatureSettings() {
+            return features;
+        }
+    }
+
+    @Test
+    public void getTextWidth_measuresEveryTextStateOnce() {
+
+        LabelCache cache = new LabelCache(16, 16);
+        CountingPaint paint = new CountingPaint();
+
+        assertEquals(30f, cache.getTextWidth(paint, "abc"), 0f);
+        assertEquals(30f, cache.getTextWidth(paint, "abc"), 0f);
+        assertEquals(1, paint.measureCount);
+
+        paint.size = 20f;
+        assertEquals(60f, cache.getTextWidth(paint, "abc"), 0f);
+        assertEquals(2, paint.measureCount);
+    }
+
+    @Test
+    public void getTextWidth_missesForOtherLocalesAndFontFeatures() {
+
+        LabelCache cache = new LabelCache(16, 16);
+        CountingPaint paint = new CountingPaint();
+
+        cache.getTextWidth(paint, "abc");
+
+        paint.locale = Locale.JAPAN;
+        cache.getTextWidth(paint, "abc");
+        assertEquals(2, paint.measureCount);
+
+        paint.features = "smcp";
+        cache.getTextWidth(paint, "abc");
+        assertEquals(3, paint.measureCount);
+
+        paint.locale = Locale.US;
+        paint.features = null;
+        cache.getTextWidth(paint, "abc");
+        assertEquals(3, paint.measureCount);
+        assertEquals(3, cache.getTextMissCount());
+    }
+
+    @Test
+    public void getTextWidth_keepsTheMeasurementsPerThread() throws InterruptedException {
+
+        final LabelCache cache = new LabelCache(16, 16);
+        final CountingPaint paint = new CountingPaint();
+
+        cache.getTextWidth(paint, "abc");
+
+        Thread thread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                cache.getTextWidth(paint, "abc");
+                cache.getTextWidth(paint, "abc");
+            }
+        });
+        thread.start();
+        thread.join();
+
+        // the other thread measured once on its own and did not touch this thread's counters
+        assertEquals(2, paint.measureCount);
+        assertEquals(1, cache.getTextMissCount());
+        assertEquals(0, cache.getTextHitCount());
+    }
+
+    @Test
+    public void getTextWidth_dropsTheLeastRecentlyUsedTexts() {
+
+        LabelCache cache = new LabelCache(16, 2);
+        CountingPaint paint = new CountingPaint();
+
+        cache.getTextWidth(paint, "a");
+        cache.getTextWidth(paint, "b");
+        cache.getTextWidth(paint, "a");
+        cache.getTextWidth(paint, "c");
+
+        // "b" was evicted, "a" is still cached
+        cache.getTextWidth(paint, "a");
+        assertEquals(3, paint.measureCount);
+        cache.getTextWidth(paint, "b");
+        assertEquals(4, paint.measureCount);
+    }
+
+    @Test
+    public void setEnabled_measuresEveryCall() {
+
+        LabelCache cache = new LabelCache(16, 16);
+        CountingPaint paint = new CountingPaint();
+
+        cache.setEnabled(false);
+        cache.getTextWidth(paint, "abc");
+        cache.getTextWidth(paint, "abc");
+
+        assertEquals(2, paint.measureCount);
+    }
+}
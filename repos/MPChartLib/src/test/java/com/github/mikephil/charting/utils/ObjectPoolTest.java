@@ -0,0 +1,243 @@
+/*
+ * Copyright 2021 The Cashbook Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.mikephil.charting.utils;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+@SuppressWarnings("unchecked")
+public class ObjectPoolTest {
+
+    private static class Item extends ObjectPool.Poolable {
+
+        @Override
+        protected ObjectPool.Poolable instantiate() {
+            return new Item();
+        }
+    }
+
+    @Test
+    public void get_returnsRecycledObjects() {
+
+        for (ObjectPool<Item> pool : new ObjectPool[]{
+                ObjectPool.create(4, new Item()), ObjectPool.createThreadConfined(4, new Item())}) {
+
+            Item item = pool.get();
+            pool.recycle(item);
+
+            assertSame(item, pool.get());
+            assertEquals(4, pool.getAllocationCount());
+            assertEquals(2, pool.getObtainCount());
+            assertEquals(1, pool.getRecycleCount());
+        }
+    }
+
+    @Test
+    public void recycle_rejectsObjectsThatAreAlreadyStored() {
+
+        ObjectPool<Item> pool = ObjectPool.createThreadConfined(4, new Item());
+        Item item = pool.get();
+        pool.recycle(item);
+
+        try {
+            pool.recycle(item);
+            fail();
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+
+        ObjectPool<Item> other = ObjectPool.createThreadConfined(4, new Item());
+
+        try {
+            other.recycle(item);
+            fail();
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void get_replenishesAnEmptyPool() {
+
+        ObjectPool<Item> pool = ObjectPool.createThreadConfined(2, new Item());
+        pool.setReplenishPercentage(0.5f);
+
+        List<Item> items = new ArrayList<>();
+
+        for (int i = 0; i < 5; i++)
+            items.add(pool.get());
+
+        assertEquals(5, pool.getAllocationCount());
+        assertEquals(3, pool.getMissCount());
+
+        pool.recycle(items);
+
+        assertEquals(5, pool.getPoolCount());
+    }
+
+    @Test
+    public void threadConfinedPool_servesOtherThreadsFromASharedStack() throws InterruptedException {
+
+        final ObjectPool<Item> pool = ObjectPool.createThreadConfined(4, new Item());
+
+        // the first thread using the pool owns it if there is no main looper
+        final Item owned = pool.get();
+        pool.recycle(owned);
+
+        final Item[] obtained = new Item[1];
+
+        Thread thread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                obtained[0] = pool.get();
+                pool.recycle(obtained[0]);
+            }
+        });
+        thread.start();
+        thread.join();
+
+        assertNotSame(owned, obtained[0]);
+        assertSame(owned, pool.get());
+        assertEquals(8, pool.getAllocationCount());
+    }
+
+    /**
+     * A fling converts touch points to values and values to pixels for every frame, each
+     * conversion takes a point from the pool and recycles it. Once warmed up, no points
+     * are allocated any more.
+     */
+    @Test
+    public void flingWorkload_doesNotAllocate() {
+
+        final Transformer trans = new Transformer(new ViewPortHandler());
+        final ObjectPool<MPPointD> pool = MPPointD.getPool();
+
+        final Runnable fling = new Runnable() {
+            @Override
+            public void run() {
+                for (int frame = 0; frame < 600; frame++) {
+
+                    MPPointD value = trans.getValuesByTouchPoint(frame, 100f);
+                    MPPointD pixel = trans.getPixelForValues((float) value.x, (float) value.y);
+                    MPPointD low = MPPointD.getInstance(0, 0);
+                    trans.getValuesByTouchPoint(0f, 0f, low);
+
+                    MPPointD.recycleInstance(low);
+                    MPPointD.recycleInstance(pixel);
+                    MPPointD.recycleInstance(value);
+                }
+            }
+        };
+
+        fling.run();
+
+        final long allocated = pool.getAllocationCount();
+        final long misses = pool.getMissCount();
+
+        assertEquals(0L, Allocations.measure(fling));
+        assertEquals(allocated, pool.getAllocationCount());
+        assertEquals(misses, pool.getMissCount());
+    }
+
+    /**
+     * Runs the given number of fling frames against the given pool, every frame takes three
+     * objects, like the conversions between touch points and values, and gives them back.
+     */
+    private static void flingFrames(ObjectPool<Item> pool, int frames) {
+        for (int frame = 0; frame < frames; frame++) {
+            Item first = pool.get();
+            Item second = pool.get();
+            Item third = pool.get();
+            pool.recycle(third);
+            pool.recycle(second);
+            pool.recycle(first);
+        }
+    }
+
+    @Test
+    public void flingWorkload_behavesTheSameForSynchronizedAndThreadConfinedPools() {
+
+        final ObjectPool<Item> shared = ObjectPool.create(8, new Item());
+        final ObjectPool<Item> confined = ObjectPool.createThreadConfined(8, new Item());
+
+        for (final ObjectPool<Item> pool : new ObjectPool[]{shared, confined}) {
+
+            flingFrames(pool, 100);
+
+            long bytes = Allocations.measure(new Runnable() {
+                @Override
+                public void run() {
+                    flingFrames(pool, 10_000);
+                }
+            });
+
+            assertEquals(0L, bytes);
+            assertEquals(8, pool.getAllocationCount());
+            assertEquals(0, pool.getMissCount());
+            assertEquals(8, pool.getPoolCount());
+        }
+
+        assertEquals(shared.getObtainCount(), confined.getObtainCount());
+        assertEquals(shared.getRecycleCount(), confined.getRecycleCount());
+    }
+
+    @Test(timeout = 10_000)
+    public void threadConfinedPool_doesNotWaitForTheMonitorOnTheOwnerThread() throws InterruptedException {
+
+        final ObjectPool<Item> pool = ObjectPool.createThreadConfined(8, new Item());
+
+        // claim the pool for this thread
+        pool.recycle(pool.get());
+
+        final CountDownLatch locked = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+
+        Thread holder = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                synchronized (pool) {
+                    locked.countDown();
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            }
+        });
+        holder.start();
+        locked.await();
+
+        try {
+            // a synchronized pool would block here until the other thread releases the monitor
+            flingFrames(pool, 10_000);
+        } finally {
+            release.countDown();
+            holder.join();
+        }
+
+        assertEquals(8, pool.getPoolCount());
+    }
+}
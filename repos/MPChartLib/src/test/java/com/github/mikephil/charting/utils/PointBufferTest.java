@@ -0,0 +1,111 @@
+/*
+ * Copyright 2021 The Cashbook Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.mikephil.charting.utils;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class PointBufferTest {
+
+    @Test
+    public void obtain_growsToTheRequestedSize() {
+
+        PointBuffer buffer = new PointBuffer();
+
+        float[] array = buffer.obtain(10);
+
+        assertTrue(array.length >= 10);
+        assertEquals(10, buffer.size());
+        assertSame(array, buffer.getBuffer());
+
+        float[] grown = buffer.obtain(1_000);
+
+        assertTrue(grown.length >= 1_000);
+        assertEquals(1_000, buffer.size());
+    }
+
+    @Test
+    public void obtain_growsByAtLeastHalfOfTheCapacity() {
+
+        PointBuffer buffer = new PointBuffer();
+
+        buffer.obtain(1_000);
+        final int capacity = buffer.capacity();
+
+        buffer.obtain(capacity + 1);
+
+        assertTrue(buffer.capacity() >= capacity + capacity / 2);
+    }
+
+    @Test
+    public void obtain_keepsTheArrayForSmallerAndChangingSizes() {
+
+        PointBuffer buffer = new PointBuffer();
+
+        float[] array = buffer.obtain(1_000);
+
+        // sizes changing every frame while zooming
+        for (int i = 0; i < 1_000; i++) {
+            assertSame(array, buffer.obtain(300 + (i * 37) % 700));
+            assertEquals(300 + (i * 37) % 700, buffer.size());
+        }
+    }
+
+    @Test
+    public void obtain_shrinksOnlyAfterRepeatedSmallRequests() {
+
+        PointBuffer buffer = new PointBuffer();
+
+        float[] array = buffer.obtain(10_000);
+
+        for (int i = 0; i < 119; i++)
+            assertSame(array, buffer.obtain(100));
+
+        // a single larger request resets the count
+        assertSame(array, buffer.obtain(5_000));
+
+        for (int i = 0; i < 119; i++)
+            assertSame(array, buffer.obtain(100));
+
+        float[] shrunk = buffer.obtain(100);
+
+        assertNotSame(array, shrunk);
+        assertTrue(shrunk.length >= 100);
+        assertTrue(shrunk.length < 10_000 / 4);
+    }
+
+    @Test
+    public void obtain_doesNotAllocateForRecurringSizes() {
+
+        final PointBuffer buffer = new PointBuffer();
+        buffer.obtain(4_000);
+
+        long bytes = Allocations.measure(new Runnable() {
+            @Override
+            public void run() {
+                for (int i = 0; i < 10_000; i++)
+                    buffer.obtain(1_000 + (i * 13) % 3_000);
+            }
+        });
+
+        assertEquals(0L, bytes);
+    }
+}
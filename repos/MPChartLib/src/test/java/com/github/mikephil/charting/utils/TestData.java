@@ -0,0 +1,216 @@
+/*
+ * Copyright 2021 The Cashbook Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.mikephil.charting.utils;
+
+import com.github.mikephil.charting.components.Legend;
+import com.github.mikephil.charting.components.LegendEntry;
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.FloatColumns;
+import com.github.mikephil.charting.data.LineDataSet;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Creates the values, entries and data sets the tests run on, so that every test builds its
+ * data the same way.
+ */
+public final class TestData {
+
+    private TestData() {
+    }
+
+    /**
+     * Returns count ascending values, starting at 0 and step apart, e.g. for the x-values.
+     *
+     * @param count
+     * @param step
+     * @return
+     */
+    public static float[] sequence(int count, float step) {
+
+        float[] values = new float[count];
+
+        for (int i = 0; i < count; i++)
+            values[i] = i * step;
+
+        return values;
+    }
+
+    /**
+     * Returns count values of a sine, advancing by the given frequency per value.
+     *
+     * @param count
+     * @param frequency
+     * @param amplitude
+     * @return
+     */
+    public static float[] sine(int count, double frequency, float amplitude) {
+        return noisySine(count, frequency, amplitude, 0);
+    }
+
+    /**
+     * Returns count values of a sine with deterministic noise of up to noise / 2 in either
+     * direction, so neighbouring values differ.
+     *
+     * @param count
+     * @param frequency
+     * @param amplitude
+     * @param noise
+     * @return
+     */
+    public static float[] noisySine(int count, double frequency, float amplitude, int noise) {
+
+        float[] values = new float[count];
+
+        for (int i = 0; i < count; i++) {
+            values[i] = (float) (Math.sin(i * frequency) * amplitude
+                    + (i * 7919L) % (noise + 1) - noise / 2);
+        }
+
+        return values;
+    }
+
+    /**
+     * Returns count random values between 0 and range.
+     *
+     * @param count
+     * @param range
+     * @param seed
+     * @return
+     */
+    public static float[] random(int count, float range, long seed) {
+
+        Random random = new Random(seed);
+        float[] values = new float[count];
+
+        for (int i = 0; i < count; i++)
+            values[i] = random.nextFloat() * range;
+
+        return values;
+    }
+
+    /**
+     * Returns count values of a random walk starting at 0, each value moves up to 5 away from
+     * the one before.
+     *
+     * @param count
+     * @param seed
+     * @return
+     */
+    public static float[] randomWalk(int count, long seed) {
+
+        Random random = new Random(seed);
+        float[] values = new float[count];
+        float value = 0f;
+
+        for (int i = 0; i < count; i++) {
+            value += random.nextFloat() * 10f - 5f;
+            values[i] = value;
+        }
+
+        return values;
+    }
+
+    /**
+     * Returns the given x- and y-values as points, in the x, y, x, y... layout the renderers
+     * and filters use.
+     *
+     * @param x
+     * @param y
+     * @return
+     */
+    public static float[] interleave(float[] x, float[] y) {
+
+        float[] points = new float[x.length * 2];
+
+        for (int i = 0; i < x.length; i++) {
+            points[i * 2] = x[i];
+            points[i * 2 + 1] = y[i];
+        }
+
+        return points;
+    }
+
+    /**
+     * Returns an Entry for each of the given x- and y-values.
+     *
+     * @param x
+     * @param y
+     * @return
+     */
+    public static List<Entry> entries(float[] x, float[] y) {
+
+        List<Entry> entries = new ArrayList<>(x.length);
+
+        for (int i = 0; i < x.length; i++)
+            entries.add(new Entry(x[i], y[i]));
+
+        return entries;
+    }
+
+    /**
+     * Returns a LineDataSet of count entries along a sine, one entry per x-value.
+     *
+     * @param count
+     * @param label
+     * @return
+     */
+    public static LineDataSet lineDataSet(int count, String label) {
+        return new LineDataSet(entries(sequence(count, 1f), sine(count, 0.05, 20f)), label);
+    }
+
+    /**
+     * Returns columns with a row for each of the given x-values. The y-value of a row is 10 times
+     * its x-value, the additional columns hold 100 times the x-value times the column number.
+     *
+     * @param x
+     * @param columnCount number of additional columns
+     * @return
+     */
+    public static FloatColumns columns(float[] x, int columnCount) {
+
+        FloatColumns columns = new FloatColumns(columnCount, x.length);
+
+        for (float value : x) {
+
+            int index = columns.add(value, value * 10f);
+
+            for (int c = 0; c < columnCount; c++)
+                columns.set(c, index, value * 100f * (c + 1));
+        }
+
+        return columns;
+    }
+
+    /**
+     * Returns a legend entry with a square form for each of the given labels.
+     *
+     * @param labels
+     * @return
+     */
+    public static List<LegendEntry> legendEntries(String... labels) {
+
+        List<LegendEntry> entries = new ArrayList<>(labels.length);
+
+        for (String label : labels)
+            entries.add(new LegendEntry(label, Legend.LegendForm.SQUARE, 8f, 3f, null, 0xff000000));
+
+        return entries;
+    }
+}
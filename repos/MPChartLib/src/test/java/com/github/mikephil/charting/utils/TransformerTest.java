@@ -0,0 +1,139 @@
+/*
+ * Copyright 2021 The Cashbook Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.mikephil.charting.utils;
+
+import android.graphics.Matrix;
+
+import com.github.mikephil.charting.data.LineDataSet;
+import com.github.mikephil.charting.data.ScatterDataSet;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class TransformerTest {
+
+    /**
+     * transformer that leaves the values unmapped, the arrays show the values before the
+     * transformation
+     */
+    private static class ValueTransformer extends Transformer {
+
+        private final Matrix mIgnoringMatrix = new Matrix() {
+            @Override
+            public void mapPoints(float[] pts) {
+            }
+
+            @Override
+            public void mapPoints(float[] dst, int dstIndex, float[] src, int srcIndex, int pointCount) {
+            }
+        };
+
+        ValueTransformer() {
+            super(new ViewPortHandler());
+        }
+
+        @Override
+        public Matrix getValueToPixelMatrix() {
+            return mIgnoringMatrix;
+        }
+    }
+
+    private static void assertValues(LineDataSet set, float phaseY, int from, float[] values, int size) {
+        for (int j = 0; j < size; j += 2) {
+            assertEquals(set.getEntryXForIndex(from + j / 2), values[j], 0f);
+            assertEquals(set.getEntryYForIndex(from + j / 2) * phaseY, values[j + 1], 0f);
+        }
+    }
+
+    @Test
+    public void generateTransformedValuesLine_returnsAnArrayOfTheExactLength() {
+
+        Transformer trans = new Transformer(new ViewPortHandler());
+        LineDataSet set = TestData.lineDataSet(100, "line");
+
+        assertEquals(22, trans.generateTransformedValuesLine(set, 1f, 1f, 10, 20).length);
+        assertEquals(12, trans.generateTransformedValuesLine(set, 0.5f, 1f, 10, 20).length);
+        assertEquals(200, trans.generateTransformedValuesLine(set, 1f, 1f, 0, 99).length);
+    }
+
+    @Test
+    public void generateTransformedValuesScatter_returnsAnArrayOfTheExactLength() {
+
+        Transformer trans = new Transformer(new ViewPortHandler());
+        ScatterDataSet set = new ScatterDataSet(
+                TestData.entries(TestData.sequence(100, 1f), TestData.sequence(100, 2f)), "scatter");
+
+        assertEquals(22, trans.generateTransformedValuesScatter(set, 1f, 1f, 10, 20).length);
+        assertEquals(2, trans.generateTransformedValuesScatter(set, 1f, 1f, 5, 5).length);
+    }
+
+    @Test
+    public void generateTransformedValues_reusesItsBuffer() {
+
+        Transformer trans = new Transformer(new ViewPortHandler());
+        LineDataSet set = TestData.lineDataSet(100, "line");
+
+        float[] positions = trans.generateTransformedValues(set, 1f, 0, 100);
+
+        assertEquals(200, trans.getTransformedValuesSize());
+
+        float[] fewer = trans.generateTransformedValues(set, 1f, 10, 20);
+
+        assertSame(positions, fewer);
+        assertEquals(40, trans.getTransformedValuesSize());
+        assertTrue(fewer.length >= 40);
+
+        trans.generateTransformedValues(set, 1f, 0, 0);
+        assertEquals(0, trans.getTransformedValuesSize());
+    }
+
+    @Test
+    public void generateTransformedValues_writesTheValuesOfTheWindow() {
+
+        Transformer trans = new ValueTransformer();
+        LineDataSet set = TestData.lineDataSet(100, "line");
+
+        float[] values = trans.generateTransformedValues(set, 0.5f, 10, 20);
+
+        assertEquals(40, trans.getTransformedValuesSize());
+        assertEquals(10f, values[0], 0f);
+        assertEquals(29f, values[38], 0f);
+        assertValues(set, 0.5f, 10, values, 40);
+    }
+
+    @Test
+    public void generateTransformedValuesLine_writesTheValuesOfTheWindow() {
+
+        Transformer trans = new ValueTransformer();
+        LineDataSet set = TestData.lineDataSet(100, "line");
+
+        float[] values = trans.generateTransformedValuesLine(set, 1f, 0.5f, 10, 20);
+
+        assertEquals(10f, values[0], 0f);
+        assertEquals(20f, values[20], 0f);
+        assertValues(set, 0.5f, 10, values, values.length);
+
+        // the x-phase shortens the window from its start
+        values = trans.generateTransformedValuesLine(set, 0.5f, 1f, 10, 20);
+
+        assertEquals(15f, values[10], 0f);
+        assertValues(set, 1f, 10, values, values.length);
+    }
+}